@@ -9,6 +9,7 @@ import com.delivery.justonebite.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -34,4 +35,9 @@ public class AiRequestHistoryService {
         Page<AiRequestHistory> histories = aiRequestHistoryRepository.findAllByUser(user, pageable);
         return histories.map(AiRequestHistoryResponse::from);
     }
+
+    // slice 모드 : 전체 개수 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    public Slice<AiRequestHistoryResponse> getHistorySlice(User user, Pageable pageable) {
+        return aiRequestHistoryRepository.findSliceByUser(user, pageable).map(AiRequestHistoryResponse::from);
+    }
 }
@@ -1,5 +1,6 @@
 package com.delivery.justonebite.ai_history.domain.entity;
 
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import com.delivery.justonebite.user.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Table(name = "h_ai_request_history")
 public class AiRequestHistory {
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,10 +4,14 @@ import com.delivery.justonebite.ai_history.domain.entity.AiRequestHistory;
 import com.delivery.justonebite.user.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
 
 public interface AiRequestHistoryRepository extends JpaRepository<AiRequestHistory, UUID> {
     Page<AiRequestHistory> findAllByUser(User user, Pageable pageable);
+
+    // COUNT 쿼리 없이 size + 1 건 조회
+    Slice<AiRequestHistory> findSliceByUser(User user, Pageable pageable);
 }
@@ -10,9 +10,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -51,7 +51,7 @@ public class AiRequestHistoryController {
 
     @Operation(
         summary = "전체 기록 조회 요청 API",
-        description = "사용자의 기록을 전부 조회합니다.",
+        description = "사용자의 기록을 전부 조회합니다. slice=true 이면 전체 개수 조회 없이 다음 페이지 존재 여부(last)만 응답합니다.",
         security = @SecurityRequirement(name = "Authorization"),
         responses = {
             @ApiResponse(responseCode = "200", description = "기록 목록 조회에 성공하였습니다."),
@@ -59,11 +59,14 @@ public class AiRequestHistoryController {
         }
     )
     @GetMapping
-    public ResponseEntity<Page<AiRequestHistoryResponse>> getHistories(@RequestParam(name = "page", defaultValue = "0") int page,
-                                                                       @RequestParam(name = "size", defaultValue = "10") int size,
-                                                                       @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
-                                                                       @AuthenticationPrincipal UserDetailsImpl user) {
+    public ResponseEntity<Slice<AiRequestHistoryResponse>> getHistories(@RequestParam(name = "page", defaultValue = "0") int page,
+                                                                        @RequestParam(name = "size", defaultValue = "10") int size,
+                                                                        @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
+                                                                        @RequestParam(name = "slice", defaultValue = "false") boolean slice,
+                                                                        @AuthenticationPrincipal UserDetailsImpl user) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-        return ResponseEntity.ok(aiRequestHistoryService.getHistories(user.getUser(), pageable));
+        return ResponseEntity.ok(slice
+            ? aiRequestHistoryService.getHistorySlice(user.getUser(), pageable)
+            : aiRequestHistoryService.getHistories(user.getUser(), pageable));
     }
 }
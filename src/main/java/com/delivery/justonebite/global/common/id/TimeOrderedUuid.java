@@ -0,0 +1,18 @@
+package com.delivery.justonebite.global.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * UUID 식별자를 시간 순서(UUIDv7)로 생성한다.
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)} 대신 {@code @Id} 필드에 사용하며,
+ * 생성 전략을 바꿀 때는 이 어노테이션의 {@link IdGeneratorType} 만 교체하면 된다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
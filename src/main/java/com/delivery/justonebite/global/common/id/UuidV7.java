@@ -0,0 +1,66 @@
+package com.delivery.justonebite.global.common.id;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서로 정렬되는 UUID (RFC 9562 UUIDv7) 생성 유틸리티.
+ * <pre>
+ *  0                   1                   2                   3
+ * |          unix_ts_ms (48)          | ver(4) | seq (12) |
+ * | var(2) |                  rand (62)                    |
+ * </pre>
+ * 상위 48bit 가 밀리초 타임스탬프이므로 PK B-tree 의 오른쪽 끝에만 INSERT 가 발생하여
+ * 랜덤 UUID(v4) 대비 페이지 분할과 캐시 미스가 줄어든다.
+ * 같은 밀리초 안에서는 12bit 시퀀스를 증가시켜 한 JVM 내 단조 증가를 보장한다. (RFC 9562 6.2 Method 1)
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7L << 12;
+    private static final long VARIANT_RFC = 0x2L << 62;
+    private static final long RANDOM_MASK = (1L << 62) - 1;
+
+    // (unix_ts_ms << 12) | seq : 마지막으로 발급한 값
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long next = nextTimestampAndSequence();
+        long msb = ((next >>> SEQUENCE_BITS) << 16) | VERSION_7 | (next & SEQUENCE_MASK);
+        long lsb = VARIANT_RFC | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    // UUIDv7 에 기록된 생성 시각 (밀리초 단위)
+    public static Instant extractInstant(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUIDv7 이 아닙니다: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    // 주어진 시각 이후에 생성된 모든 UUIDv7 보다 작거나 같은 값 (범위 조회 하한)
+    public static UUID lowerBound(Instant instant) {
+        long msb = (instant.toEpochMilli() << 16) | VERSION_7;
+        return new UUID(msb, VARIANT_RFC);
+    }
+
+    private static long nextTimestampAndSequence() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = LAST.get();
+            // 같은 밀리초(또는 시계가 뒤로 간 경우)에는 직전 값 + 1 사용
+            // 시퀀스가 넘치면 다음 밀리초로 자연스럽게 올라가므로 순서는 유지된다
+            long next = Math.max(now, last + 1);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.delivery.justonebite.global.common.id;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * {@link TimeOrderedUuid} 가 붙은 식별자에 UUIDv7 을 할당하는 Hibernate 생성기.
+ * persist 시점에 애플리케이션에서 값을 만들기 때문에 IDENTITY 와 달리 JDBC batch INSERT 가 유지된다.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+        EventType eventType) {
+        return UuidV7.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,248 @@
+package com.delivery.justonebite.global.common.idempotency;
+
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.global.exception.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * 주문 생성 / 결제 승인 요청의 Idempotency-Key 처리.
+ * <p>
+ * 같은 사용자가 같은 키로 보낸 요청은 최초 한 번만 실행하고, 이후 요청에는 저장된 최초 응답을 그대로 돌려준다.
+ * 최초 요청이 아직 처리 중이면 다시 실행하지 않고 완료될 때까지 기다렸다가 같은 응답을 돌려주며,
+ * 최초 요청이 실패(5xx 또는 예외)하면 키를 삭제하여 재시도가 다시 처리되도록 한다.
+ * 헤더가 없는 요청은 기존과 동일하게 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // Idempotency-Key 를 적용하는 POST 요청 경로
+    private static final Set<String> TARGET_PATHS = Set.of(
+        "/v1/orders", "/v1/payments/confirm", "/v1/payments/confirm/batch");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    // 처리 중인 최초 요청의 완료를 기다리는 최대 시간
+    @Value("${idempotency.wait-timeout-millis:10000}")
+    private long waitTimeoutMillis;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !TARGET_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // 헤더가 없거나 인증되지 않은 요청은 그대로 진행 (인증 실패는 이후 인가 단계에서 처리)
+        if (idempotencyKey == null || authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        // 키는 사용자 + 요청 경로 범위에서만 유효
+        String key = authentication.getName() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(cachedRequest.body);
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+
+        while (true) {
+            if (idempotencyStore.tryStart(key, fingerprint, owner)) {
+                execute(key, owner, fingerprint, cachedRequest, response, chain);
+                return;
+            }
+
+            Optional<IdempotencyRecord> existing = idempotencyStore.find(key);
+            if (existing.isEmpty()) {
+                // 최초 요청이 실패하여 키가 삭제된 경우 다시 선점 시도
+                continue;
+            }
+            IdempotencyRecord record = existing.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+            if (record.isCompleted()) {
+                replay(response, record);
+                return;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+            sleep();
+        }
+    }
+
+    private void execute(String key, String owner, String fingerprint, HttpServletRequest request,
+        HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, responseWrapper);
+
+            // 서버 오류는 저장하지 않음 (재시도 시 다시 처리)
+            if (responseWrapper.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                boolean owned = idempotencyStore.complete(key, owner, IdempotencyRecord.completed(
+                    fingerprint,
+                    responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8)
+                ));
+                if (!owned) {
+                    // 처리 시간이 선점 시간(lock-ttl-seconds)을 넘긴 경우 : 다른 요청이 선점한 키는 덮어쓰지 않음
+                    log.warn("Idempotency 선점 만료로 응답 미저장 key={}", key);
+                }
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(key, owner);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.status());
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.body() != null) {
+            response.getOutputStream().write(record.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("utf-8");
+        objectMapper.writeValue(response.getWriter(), new ErrorResponse(errorCode));
+    }
+
+    private String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Idempotency 대기 중 인터럽트", e);
+        }
+    }
+
+    // 본문 해시 계산 후에도 컨트롤러에서 본문을 다시 읽을 수 있도록 미리 읽어 둔 요청
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 원본 스트림은 이미 끝까지 읽었으므로 원본 리스너에 위임할 수 없음
+                // 본문 전체가 메모리에 있어 항상 읽기 가능하므로 바로 읽기 가능 / 읽기 완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
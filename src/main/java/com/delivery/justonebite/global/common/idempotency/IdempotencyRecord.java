@@ -0,0 +1,33 @@
+package com.delivery.justonebite.global.common.idempotency;
+
+/**
+ * Idempotency-Key 별로 Redis 에 저장되는 처리 상태 및 최초 응답
+ *
+ * @param fingerprint 요청 본문 해시 (같은 키로 다른 요청을 보낸 경우 구분)
+ * @param owner       처리 중 상태를 선점한 요청의 토큰 (완료 / 해제 시 선점이 유지되고 있는지 확인)
+ */
+public record IdempotencyRecord(
+    State state,
+    String fingerprint,
+    String owner,
+    int status,
+    String contentType,
+    String body
+) {
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    public static IdempotencyRecord inProgress(String fingerprint, String owner) {
+        return new IdempotencyRecord(State.IN_PROGRESS, fingerprint, owner, 0, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, String body) {
+        return new IdempotencyRecord(State.COMPLETED, fingerprint, null, status, contentType, body);
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+}
@@ -0,0 +1,92 @@
+package com.delivery.justonebite.global.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    // 처리 중 상태를 선점한 요청만 완료 / 해제 가능 : 선점 시간이 지나 다른 요청이 선점한 키를 덮어쓰거나 삭제하지 않음
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if not current or cjson.decode(current).owner ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if not current or cjson.decode(current).owner ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('DEL', KEYS[1])
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.prefix.idempotency:idempotency:}")
+    private String keyPrefix;
+
+    // 처리 중 상태 유지 시간 : 원 요청이 비정상 종료되어도 이 시간이 지나면 같은 키로 다시 처리 가능
+    @Value("${idempotency.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+
+    // 최초 응답 보관 시간
+    @Value("${idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    // 처리 시작 선점 (SET NX) : 이미 키가 있으면 false
+    public boolean tryStart(String key, String fingerprint, String owner) {
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(
+            keyPrefix + key, write(IdempotencyRecord.inProgress(fingerprint, owner)), Duration.ofSeconds(lockTtlSeconds));
+        return Boolean.TRUE.equals(started);
+    }
+
+    public Optional<IdempotencyRecord> find(String key) {
+        String value = redisTemplate.opsForValue().get(keyPrefix + key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 역직렬화 실패 key=" + key, e);
+        }
+    }
+
+    /**
+     * 최초 응답 저장 (처리 중 상태를 아직 선점하고 있는 경우에만)
+     * @return 선점 시간이 지나 키가 만료되었거나 다른 요청이 선점한 경우 false
+     */
+    public boolean complete(String key, String owner, IdempotencyRecord record) {
+        Long stored = redisTemplate.execute(COMPLETE_SCRIPT, List.of(keyPrefix + key),
+            owner, write(record), String.valueOf(Duration.ofHours(retentionHours).toMillis()));
+        return stored != null && stored == 1;
+    }
+
+    // 처리 실패 시 키 삭제 : 대기 중이던 중복 요청 또는 이후 재시도가 다시 처리 (선점하고 있는 경우에만)
+    public void release(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + key), owner);
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 직렬화 실패", e);
+        }
+    }
+}
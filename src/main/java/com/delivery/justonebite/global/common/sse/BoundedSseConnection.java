@@ -0,0 +1,104 @@
+package com.delivery.justonebite.global.common.sse;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 버퍼 크기가 정해진 SSE 연결 하나.
+ * <p>
+ * 수신 메시지는 크기가 정해진 버퍼에만 쌓고, 실제 전송은 연결마다 하나씩 있는 전송 스레드(가상 스레드)가 담당한다.
+ * 느린 클라이언트 하나가 Redis 수신 스레드나 다른 구독자의 전송을 막지 않으며,
+ * 버퍼가 가득 차면 메시지를 더 쌓지 않고 연결을 종료한다. (클라이언트는 재연결 후 현재 상태를 다시 받음)
+ * 마지막 메시지(isLast)를 전송하면 스트림을 종료한다.
+ */
+@Slf4j
+class BoundedSseConnection<M> implements Runnable {
+
+    private final String name;
+    @Getter
+    private final UUID key;
+    private final SseEmitter emitter;
+    private final BlockingQueue<M> buffer;
+    private final long heartbeatIntervalMillis;
+    private final Function<M, SseEventBuilder> toEvent;
+    private final Predicate<M> isLast;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread sender;
+
+    BoundedSseConnection(String name, UUID key, SseEmitter emitter, int bufferSize, long heartbeatIntervalMillis,
+                         Function<M, SseEventBuilder> toEvent, Predicate<M> isLast) {
+        this.name = name;
+        this.key = key;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.toEvent = toEvent;
+        this.isLast = isLast;
+    }
+
+    // 버퍼에 여유가 없으면 false 반환 후 연결 종료 (호출 스레드는 대기하지 않음)
+    boolean offer(M message) {
+        if (closed.get()) {
+            return false;
+        }
+        if (buffer.offer(message)) {
+            return true;
+        }
+        log.info("SSE 전송 지연으로 연결 종료 stream={}, key={}, buffered={}", name, key, buffer.size());
+        close();
+        return false;
+    }
+
+    @Override
+    public void run() {
+        sender = Thread.currentThread();
+        try {
+            while (!closed.get()) {
+                M message = buffer.poll(heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    // 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊어진 연결 확인
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                emitter.send(toEvent.apply(message));
+                if (isLast.test(message)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 종료 stream={}, key={}", name, key);
+        } finally {
+            closed.set(true);
+            buffer.clear();
+            // emitter 종료는 전송 스레드에서만 수행 (전송 중인 emitter 를 다른 스레드에서 종료하면 해당 스레드도 대기하게 됨)
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+
+    // 전송 스레드를 깨워 종료 (실제 emitter 종료는 전송 스레드에서 수행)
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            Thread current = sender;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+    }
+}
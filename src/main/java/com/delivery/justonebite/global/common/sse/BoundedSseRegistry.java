@@ -0,0 +1,118 @@
+package com.delivery.justonebite.global.common.sse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 이 노드에 연결된 SSE 구독자 관리 (구독 대상 ID 별)
+ * <p>
+ * Redis 로 수신한 메시지는 대상 ID 의 연결별 버퍼에만 추가하고, 전송은 연결마다 하나씩 있는 전송 스레드가 수행한다.
+ * (BoundedSseConnection 참고)
+ *
+ * @param <M> 전송 메시지 타입
+ */
+public class BoundedSseRegistry<M> {
+
+    private final Map<UUID, Set<BoundedSseConnection<M>>> connections = new ConcurrentHashMap<>();
+    private final String name;
+    private final ThreadFactory senderFactory;
+    private final int bufferSize;
+    private final long heartbeatIntervalMillis;
+    private final Function<M, UUID> keyOf;
+    private final Function<M, SseEventBuilder> toEvent;
+    private final Predicate<M> isLast;
+
+    /**
+     * @param name                    전송 스레드 이름 / 로그에 사용
+     * @param bufferSize              연결당 최대 미전송 메시지 수
+     * @param heartbeatIntervalMillis 메시지가 없을 때 heartbeat 전송 간격
+     * @param keyOf                   메시지의 구독 대상 ID
+     * @param toEvent                 메시지를 SSE 이벤트(이벤트 이름 / ID / 데이터)로 변환
+     * @param isLast                  전송 후 스트림을 종료할 메시지 여부
+     */
+    public BoundedSseRegistry(String name, int bufferSize, long heartbeatIntervalMillis, Function<M, UUID> keyOf,
+                              Function<M, SseEventBuilder> toEvent, Predicate<M> isLast) {
+        this.name = name;
+        this.senderFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.bufferSize = bufferSize;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.keyOf = keyOf;
+        this.toEvent = toEvent;
+        this.isLast = isLast;
+    }
+
+    // 구독 등록 (첫 이벤트 없음)
+    public SseEmitter register(UUID key, SseEmitter emitter) {
+        return register(key, emitter, null);
+    }
+
+    /**
+     * 구독 등록 후 initial 을 첫 이벤트로 전송
+     * <p>
+     * initial 조회보다 등록이 먼저이므로 조회 직전/직후에 발행된 메시지도 전달된다.
+     * initial 조회가 실패하면 구독을 해제하고 예외를 그대로 전달한다.
+     */
+    public SseEmitter register(UUID key, SseEmitter emitter, Supplier<M> initial) {
+        BoundedSseConnection<M> connection = new BoundedSseConnection<>(
+            name, key, emitter, bufferSize, heartbeatIntervalMillis, toEvent, isLast);
+        connections.compute(key, (id, set) -> {
+            Set<BoundedSseConnection<M>> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(connection);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        if (initial != null) {
+            try {
+                connection.offer(initial.get());
+            } catch (RuntimeException e) {
+                remove(connection);
+                throw e;
+            }
+        }
+        senderFactory.newThread(connection).start();
+        return emitter;
+    }
+
+    // 메시지를 구독 대상의 연결별 버퍼에 추가 (버퍼가 가득 찬 연결은 종료)
+    public void broadcast(M message) {
+        Set<BoundedSseConnection<M>> targets = connections.get(keyOf.apply(message));
+        if (targets == null) {
+            return;
+        }
+        for (BoundedSseConnection<M> connection : targets) {
+            if (!connection.offer(message)) {
+                remove(connection);
+            }
+        }
+    }
+
+    public int countConnections(UUID key) {
+        Set<BoundedSseConnection<M>> targets = connections.get(key);
+        return targets == null ? 0 : targets.size();
+    }
+
+    public void shutdown() {
+        connections.values().forEach(targets -> targets.forEach(BoundedSseConnection::close));
+        connections.clear();
+    }
+
+    private void remove(BoundedSseConnection<M> connection) {
+        connection.close();
+        connections.computeIfPresent(connection.getKey(), (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
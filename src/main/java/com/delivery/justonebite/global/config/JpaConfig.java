@@ -0,0 +1,24 @@
+package com.delivery.justonebite.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    // flush 시점에 쌓인 INSERT/UPDATE 를 JDBC batch 로 묶어서 전송
+    // application.yml 에 spring.jpa.properties.hibernate.* 로 값을 지정한 경우 해당 값이 우선 적용됨
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            // 엔티티 타입별로 INSERT/UPDATE 를 정렬해야 서로 다른 테이블이 섞여도 batch 가 끊기지 않음
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
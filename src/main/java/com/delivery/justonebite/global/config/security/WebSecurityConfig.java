@@ -1,7 +1,9 @@
 package com.delivery.justonebite.global.config.security;
 
+import com.delivery.justonebite.global.common.idempotency.IdempotencyFilter;
 import com.delivery.justonebite.global.common.jwt.JwtAuthorizationFilter;
 import com.delivery.justonebite.user.application.service.AuthService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -24,13 +26,16 @@ public class WebSecurityConfig {
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
     private final AuthService authService;
     private final CustomAuthenticationEntryPoint  authenticationEntryPoint;
+    private final IdempotencyFilter idempotencyFilter;
 
     public WebSecurityConfig(
             JwtAuthorizationFilter jwtAuthorizationFilter,
-            @Lazy AuthService authService, CustomAuthenticationEntryPoint authenticationEntryPoint) {
+            @Lazy AuthService authService, CustomAuthenticationEntryPoint authenticationEntryPoint,
+            IdempotencyFilter idempotencyFilter) {
         this.jwtAuthorizationFilter = jwtAuthorizationFilter;
         this.authService = authService;
         this.authenticationEntryPoint = authenticationEntryPoint;
+        this.idempotencyFilter = idempotencyFilter;
     }
 
     @Bean
@@ -42,6 +47,8 @@ public class WebSecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .rememberMe(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("v1/auth/**").permitAll()
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("v1/auth/logout").authenticated()
@@ -60,6 +67,8 @@ public class WebSecurityConfig {
                                 response.setStatus(HttpServletResponse.SC_OK))
                 )
                 .addFilterBefore(jwtAuthorizationFilter, LogoutFilter.class)
+                // 사용자별 Idempotency-Key 범위 지정을 위해 JWT 인증 이후에 처리
+                .addFilterAfter(idempotencyFilter, JwtAuthorizationFilter.class)
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(authenticationEntryPoint)
                 );
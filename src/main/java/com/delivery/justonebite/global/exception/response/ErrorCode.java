@@ -39,6 +39,10 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("서버 오류입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     METHOD_NOT_ALLOWED("지원하지 않는 HTTP 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
     USER_NOT_FOUND("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_CURSOR("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_IDEMPOTENCY_KEY("유효하지 않은 Idempotency-Key 입니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 Idempotency-Key 입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
 
     // 상품 AI 응답 생성 에러
     INVALID_AI_RESPONSE("AI API 서버의 에러가 존재합니다. 다시 시도하거나 상품에 대한 프롬프트를 입력해주세요.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -81,6 +85,7 @@ public enum ErrorCode {
     INVALID_CANCEL_STATUS_VALUE("취소 요청 상태는 ORDER_CANCELLED 여야 합니다.", HttpStatus.BAD_REQUEST),
     CANCEL_AMOUNT_NOT_MATCH("취소 요청 금액이 총 결제 금액과 일치하지 않습니다.",HttpStatus.BAD_REQUEST),
     ORDER_CANCEL_FAILED("주문 취소에 실패했습니다.",HttpStatus.INTERNAL_SERVER_ERROR),
+    ORDER_STATUS_CONFLICT("현재 주문 상태에서 요청한 상태로 변경할 수 없습니다. (다른 요청에 의해 변경되었을 수 있습니다)", HttpStatus.CONFLICT),
 
 
     //결제
@@ -0,0 +1,106 @@
+package com.delivery.justonebite.global.partition;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 단위 범위 파티션 관리 (db/patch/005_monthly_partitions.sql)
+ * <p>
+ * 파티션 이름은 {@code <부모 테이블>_pYYYYMM} 이며, 이 형식의 파티션만 생성 / detach 대상이다.
+ * 범위가 겹치는 파티션(전환 시점의 legacy 파티션 등)이 이미 있는 달은 건너뛴다.
+ * DDL 은 auto-commit(JdbcTemplate)으로 실행하며, DETACH ... CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // 범위가 기존 파티션과 겹침
+    private static final String INVALID_OBJECT_DEFINITION = "42P17";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * from 이 속한 달부터 monthsAhead 개월 뒤까지 파티션이 없으면 생성
+     * @return 새로 생성한 파티션 수
+     */
+    public int createAhead(String table, YearMonth from, int monthsAhead) {
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            if (create(table, from.plusMonths(i))) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * before 이전 달의 월 파티션을 부모 테이블에서 분리 (테이블은 삭제하지 않으므로 별도로 보관 / 삭제)
+     * @return 분리한 파티션 이름
+     */
+    public List<String> detachBefore(String table, YearMonth before) {
+        Pattern pattern = Pattern.compile(Pattern.quote(table) + "_p(\\d{6})");
+        List<String> detached = findPartitions(table).stream()
+            .filter(partition -> {
+                Matcher matcher = pattern.matcher(partition);
+                return matcher.matches() && YearMonth.parse(matcher.group(1), SUFFIX).isBefore(before);
+            })
+            .toList();
+
+        for (String partition : detached) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + " CONCURRENTLY");
+            log.info("[Partition] detach {} (보관 후 DROP TABLE {} 필요)", partition, partition);
+        }
+        return detached;
+    }
+
+    public List<String> findPartitions(String table) {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = ?::regclass
+            ORDER BY c.relname
+            """, String.class, table);
+    }
+
+    private boolean create(String table, YearMonth month) {
+        String partition = table + "_p" + month.format(SUFFIX);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+            log.info("[Partition] create {} [{}, {})", partition, start, end);
+            return true;
+        } catch (DataAccessException e) {
+            if (isOverlap(e)) {
+                log.debug("[Partition] {} 범위가 기존 파티션에 포함되어 건너뜀", partition);
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isOverlap(DataAccessException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException sqlException
+            && INVALID_OBJECT_DEFINITION.equals(sqlException.getSQLState());
+    }
+}
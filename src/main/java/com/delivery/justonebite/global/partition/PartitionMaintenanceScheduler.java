@@ -0,0 +1,58 @@
+package com.delivery.justonebite.global.partition;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 파티션 유지 작업 : 기동 시 / 매일 새벽에 실행
+ * 1) 이번 달부터 premake-months 개월 뒤까지 파티션을 미리 생성 (INSERT 시점에 파티션이 없어 실패하지 않도록)
+ * 2) retention-months 가 0 보다 크면 그 이전 달 파티션을 분리 (분리된 테이블은 보관 후 삭제)
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintenanceScheduler {
+
+    private static final String MAINTENANCE_JOB = "partition-maintenance";
+    // 월 단위 범위 파티션 테이블 (db/patch/005_monthly_partitions.sql)
+    private static final List<String> PARTITIONED_TABLES = List.of("h_order_history", "h_transaction");
+
+    private final MonthlyPartitionManager monthlyPartitionManager;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${partition.premake-months:3}")
+    private int premakeMonths;
+
+    // 0 이면 분리하지 않음
+    @Value("${partition.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void maintain() {
+        clusterJobRunner.run(MAINTENANCE_JOB, Duration.ofMinutes(1), this::maintainPartitions);
+    }
+
+    private long maintainPartitions() {
+        YearMonth now = YearMonth.now();
+        long changed = 0;
+        for (String table : PARTITIONED_TABLES) {
+            changed += monthlyPartitionManager.createAhead(table, now, premakeMonths);
+            if (retentionMonths > 0) {
+                changed += monthlyPartitionManager.detachBefore(table, now.minusMonths(retentionMonths)).size();
+            }
+        }
+        return changed;
+    }
+}
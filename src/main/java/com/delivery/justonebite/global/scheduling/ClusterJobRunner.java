@@ -0,0 +1,123 @@
+package com.delivery.justonebite.global.scheduling;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 애플리케이션 노드에서 같은 {@code @Scheduled} 작업이 동시에 실행되지 않도록 조정.
+ * <p>
+ * 작업마다 PostgreSQL 세션 advisory lock 을 선점한 노드 한 곳에서만 실행하고,
+ * 작업 기록(h_scheduled_job)의 최근 시작 시각으로 같은 주기(minInterval 이내)에 다른 노드가 이미 실행한 경우도 건너뛴다.
+ * 최근 시작 시각은 잠금 전에 먼저 조회하므로, 이미 실행된 주기에는 잠금 커넥션을 잡거나 기록을 쓰지 않는다.
+ * 잠금은 작업 본문의 트랜잭션과 분리된 별도 커넥션에서 잡으므로 작업 안에서 트랜잭션을 여러 번 나눠도 되며,
+ * 노드가 비정상 종료되면 커넥션과 함께 잠금도 해제된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobRunner {
+
+    private static final String NODE = resolveNodeName();
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DataSource dataSource;
+    private final ScheduledJobRepository scheduledJobRepository;
+
+    /**
+     * @param jobName     작업 이름 (잠금 키 및 실행 기록 키)
+     * @param minInterval 클러스터 전체에서 이 간격 안에 다시 실행하지 않음 (스케줄 주기보다 약간 짧게 지정)
+     * @param job         작업 본문, 변경된 행 수 반환
+     * @return 이 노드에서 실행했는지 여부
+     */
+    public boolean run(String jobName, Duration minInterval, LongSupplier job) {
+        try {
+            if (scheduledJobRepository.isStartedAfter(jobName, LocalDateTime.now().minus(minInterval))) {
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[ClusterJobRunner] 실행 기록 조회 실패 job={}", jobName, e);
+            return false;
+        }
+
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection, jobName)) {
+                return false;
+            }
+            try {
+                return runLocked(jobName, minInterval, job);
+            } finally {
+                unlock(lockConnection, jobName);
+            }
+        } catch (SQLException e) {
+            log.warn("[ClusterJobRunner] 잠금 처리 실패 job={}", jobName, e);
+            return false;
+        }
+    }
+
+    // 실행 기록에 남기는 현재 노드 이름
+    public static String node() {
+        return NODE;
+    }
+
+    private boolean runLocked(String jobName, Duration minInterval, LongSupplier job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!scheduledJobRepository.markStarted(jobName, startedAt, startedAt.minus(minInterval), NODE)) {
+            return false;
+        }
+
+        long t0 = System.nanoTime();
+        try {
+            long rows = job.getAsLong();
+            scheduledJobRepository.markSucceeded(jobName, LocalDateTime.now(), elapsedMillis(t0), rows);
+        } catch (Exception e) {
+            log.error("[ClusterJobRunner] 작업 실패 job={}", jobName, e);
+            scheduledJobRepository.markFailed(jobName, LocalDateTime.now(), elapsedMillis(t0), abbreviate(e));
+        }
+        return true;
+    }
+
+    private boolean tryLock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+            statement.setString(1, jobName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+            statement.setString(1, jobName);
+            statement.execute();
+        }
+    }
+
+    private long elapsedMillis(long t0) {
+        return (System.nanoTime() - t0) / 1_000_000;
+    }
+
+    private String abbreviate(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String resolveNodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
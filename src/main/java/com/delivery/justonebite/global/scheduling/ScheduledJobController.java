@@ -0,0 +1,42 @@
+package com.delivery.justonebite.global.scheduling;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Scheduled Job API", description = "스케줄 작업 실행 지표 조회")
+@RestController
+@RequestMapping("/v1/admin/jobs")
+@RequiredArgsConstructor
+public class ScheduledJobController {
+
+    private final ScheduledJobRepository scheduledJobRepository;
+
+    @Operation(
+        summary = "스케줄 작업 실행 지표 조회 API",
+        description = "작업별 최근 실행 시각, 소요 시간, 변경된 행 수, 실행 노드 및 누적 실행/실패 횟수를 조회합니다. MANAGER, MASTER만 가능합니다.",
+        security = @SecurityRequirement(name = "Authorization"),
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회에 성공하였습니다.",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = ScheduledJobStatus.class)))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다. (JWT 토큰 누락 또는 만료)", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다. (MANAGER, MASTER 아님)", content = @Content(mediaType = "application/json"))
+        }
+    )
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    @GetMapping
+    public ResponseEntity<List<ScheduledJobStatus>> getJobs() {
+        return ResponseEntity.ok(scheduledJobRepository.findAll());
+    }
+}
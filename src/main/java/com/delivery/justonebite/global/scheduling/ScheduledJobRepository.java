@@ -0,0 +1,81 @@
+package com.delivery.justonebite.global.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스케줄 작업 실행 기록 (h_scheduled_job, db/patch/003_scheduled_job.sql)
+ * 작업 본문의 트랜잭션과 관계없이 바로 반영되도록 JdbcTemplate(auto-commit)으로 기록한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobRepository {
+
+    private static final RowMapper<ScheduledJobStatus> ROW_MAPPER = (rs, rowNum) -> new ScheduledJobStatus(
+        rs.getString("job_name"),
+        rs.getObject("last_started_at", LocalDateTime.class),
+        rs.getObject("last_finished_at", LocalDateTime.class),
+        rs.getObject("last_duration_ms", Long.class),
+        rs.getObject("last_rows", Long.class),
+        rs.getString("last_status"),
+        rs.getString("last_error"),
+        rs.getString("last_node"),
+        rs.getLong("run_count"),
+        rs.getLong("failure_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 최근 실행 시작 시각이 since 이후인지 (잠금 / 기록 쓰기 전 확인용 조회)
+    public boolean isStartedAfter(String jobName, LocalDateTime since) {
+        Boolean started = jdbcTemplate.queryForObject("""
+            SELECT EXISTS (SELECT 1 FROM h_scheduled_job WHERE job_name = ? AND last_started_at > ?)
+            """, Boolean.class, jobName, since);
+        return Boolean.TRUE.equals(started);
+    }
+
+    /**
+     * 최근 실행 시작 시각이 notStartedSince 이전(또는 기록 없음)일 때만 실행 시작으로 기록
+     * @return 실행 시작 여부 (false 면 다른 노드가 이번 주기에 이미 실행함)
+     */
+    public boolean markStarted(String jobName, LocalDateTime now, LocalDateTime notStartedSince, String node) {
+        int updated = jdbcTemplate.update("""
+            INSERT INTO h_scheduled_job (job_name, last_started_at, last_status, last_node, run_count)
+            VALUES (?, ?, 'RUNNING', ?, 1)
+            ON CONFLICT (job_name) DO UPDATE
+            SET last_started_at = EXCLUDED.last_started_at,
+                last_finished_at = NULL,
+                last_status = 'RUNNING',
+                last_error = NULL,
+                last_node = EXCLUDED.last_node,
+                run_count = h_scheduled_job.run_count + 1
+            WHERE h_scheduled_job.last_started_at <= ?
+            """, jobName, now, node, notStartedSince);
+        return updated > 0;
+    }
+
+    public void markSucceeded(String jobName, LocalDateTime finishedAt, long durationMs, long rows) {
+        jdbcTemplate.update("""
+            UPDATE h_scheduled_job
+            SET last_finished_at = ?, last_duration_ms = ?, last_rows = ?, last_status = 'SUCCESS'
+            WHERE job_name = ?
+            """, finishedAt, durationMs, rows, jobName);
+    }
+
+    public void markFailed(String jobName, LocalDateTime finishedAt, long durationMs, String error) {
+        jdbcTemplate.update("""
+            UPDATE h_scheduled_job
+            SET last_finished_at = ?, last_duration_ms = ?, last_rows = NULL, last_status = 'FAILED',
+                last_error = ?, failure_count = failure_count + 1
+            WHERE job_name = ?
+            """, finishedAt, durationMs, error, jobName);
+    }
+
+    public List<ScheduledJobStatus> findAll() {
+        return jdbcTemplate.query("SELECT * FROM h_scheduled_job ORDER BY job_name", ROW_MAPPER);
+    }
+}
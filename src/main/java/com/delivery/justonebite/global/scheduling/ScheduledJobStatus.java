@@ -0,0 +1,29 @@
+package com.delivery.justonebite.global.scheduling;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "스케줄 작업 실행 지표 (클러스터 전체 기준 최근 실행)")
+public record ScheduledJobStatus(
+    @Schema(description = "작업 이름", example = "payment-expiration-recovery")
+    String jobName,
+    @Schema(description = "최근 실행 시작 시각", example = "2025-10-13T06:00:00")
+    LocalDateTime lastStartedAt,
+    @Schema(description = "최근 실행 종료 시각", example = "2025-10-13T06:00:01")
+    LocalDateTime lastFinishedAt,
+    @Schema(description = "최근 실행 소요 시간 (ms)", example = "842")
+    Long lastDurationMs,
+    @Schema(description = "최근 실행에서 변경된 행 수", example = "1520")
+    Long lastRows,
+    @Schema(description = "최근 실행 결과 (RUNNING / SUCCESS / FAILED)", example = "SUCCESS")
+    String lastStatus,
+    @Schema(description = "최근 실패 메시지")
+    String lastError,
+    @Schema(description = "최근 실행 노드", example = "app-1")
+    String lastNode,
+    @Schema(description = "누적 실행 횟수", example = "42")
+    long runCount,
+    @Schema(description = "누적 실패 횟수", example = "0")
+    long failureCount
+) {
+}
@@ -13,13 +13,16 @@ import com.delivery.justonebite.item.application.dto.response.ItemDetailResponse
 import com.delivery.justonebite.item.application.dto.response.ItemOwnerDetailResponse;
 import com.delivery.justonebite.item.application.dto.response.ItemResponse;
 import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.shop.domain.event.ShopSearchDocumentChangedEvent;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import com.delivery.justonebite.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,8 @@ public class ItemService {
 
     private final AiRequestHistoryRepository aiRequestHistoryRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public ItemResponse createItem(Long userId, UserRole role, ItemRequest request) {
         Shop shop = checkValidRequestWithShop(userId, role, UUID.fromString(request.shopId()));
@@ -51,6 +56,7 @@ public class ItemService {
         } else {
             itemRepository.save(item);
         }
+        publishSearchDocumentChanged(shop.getId());
 
         return ItemResponse.from(item);
     }
@@ -77,11 +83,23 @@ public class ItemService {
         return itemRepository.findAllByShopIdWithoutHidden(shopId, pageable).map(ItemResponse::from);
     }
 
+    // slice 모드 : 전체 개수 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    public Slice<ItemResponse> getItemSliceByShopFromOwner(Long userId, UserRole role, UUID shopId, Pageable pageable) {
+        checkValidRequestWithShop(userId, role, shopId);
+
+        return itemRepository.findSliceByShopIdWithNativeQuery(shopId, pageable).map(ItemResponse::from);
+    }
+
+    public Slice<ItemResponse> getItemSliceByShopFromCustomer(UUID shopId, Pageable pageable) {
+        return itemRepository.findSliceByShopIdWithoutHidden(shopId, pageable).map(ItemResponse::from);
+    }
+
     @Transactional
     public ItemResponse updateItem(Long userId, UserRole role, UUID itemId, ItemUpdateRequest request) {
         Item item = checkValidRequestWithItem(userId, role, itemId);
 
         item.updateItem(request);
+        publishSearchDocumentChanged(item.getShop().getId());
 
         if (request.aiGenerated()) {
             String response = generateAiResponse(item, request.description());
@@ -96,6 +114,7 @@ public class ItemService {
         Item item = checkValidRequestWithItem(userId, role, itemId);
 
         item.softDelete(userId);
+        publishSearchDocumentChanged(item.getShop().getId());
     }
 
     @Transactional
@@ -103,6 +122,7 @@ public class ItemService {
         Item item = checkValidRequestWithItem(userId, role, itemId);
 
         item.restore();
+        publishSearchDocumentChanged(item.getShop().getId());
     }
 
     @Transactional
@@ -110,6 +130,12 @@ public class ItemService {
         Item item = checkValidRequestWithItem(userId, role, itemId);
 
         item.toggleIsHidden();
+        publishSearchDocumentChanged(item.getShop().getId());
+    }
+
+    // 상품명은 가게 검색 대상이므로 커밋 이후 가게 검색 인덱스 갱신
+    private void publishSearchDocumentChanged(UUID shopId) {
+        eventPublisher.publishEvent(new ShopSearchDocumentChangedEvent(shopId));
     }
 
     private String generateAiResponse(Item item, String prompt) {
@@ -1,6 +1,7 @@
 package com.delivery.justonebite.item.domain.entity;
 
 import com.delivery.justonebite.global.common.entity.BaseEntity;
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import com.delivery.justonebite.item.application.dto.request.ItemUpdateRequest;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import jakarta.persistence.*;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class Item extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "item_id")
     private UUID itemId;
 
@@ -4,6 +4,7 @@ import com.delivery.justonebite.item.domain.entity.Item;
 import com.delivery.justonebite.review.repository.SoftDeleteRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,9 +23,17 @@ public interface ItemRepository extends SoftDeleteRepository<Item, UUID> {
     @Query("SELECT i FROM Item i WHERE i.shop.id = :shop_id and i.isHidden = false")
     Page<Item> findAllByShopIdWithoutHidden(@Param("shop_id") UUID shopId, Pageable pageable);
 
+    // COUNT 쿼리 없이 size + 1 건 조회
+    @Query("SELECT i FROM Item i WHERE i.shop.id = :shop_id and i.isHidden = false")
+    Slice<Item> findSliceByShopIdWithoutHidden(@Param("shop_id") UUID shopId, Pageable pageable);
+
     @Query(value = "SELECT * from h_item WHERE item_id = :item_id", nativeQuery = true)
     Optional<Item> findByItemIdWithNativeQuery(@Param("item_id") UUID itemId);
 
     @Query(value = "SELECT * FROM h_item WHERE shop_id = :shop_id", nativeQuery = true)
     Page<Item> findAllByShopIdWithNativeQuery(@Param("shop_id") UUID shopId, Pageable pageable);
+
+    // COUNT 쿼리 없이 size + 1 건 조회
+    @Query(value = "SELECT * FROM h_item WHERE shop_id = :shop_id", nativeQuery = true)
+    Slice<Item> findSliceByShopIdWithNativeQuery(@Param("shop_id") UUID shopId, Pageable pageable);
 }
\ No newline at end of file
@@ -15,9 +15,9 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -107,7 +107,8 @@ public class ItemController {
             @Parameter(name = "shop-id", description = "조회할 가게의 id value"),
             @Parameter(name = "page", description = "조회할 목록의 페이지 번호", required = true),
             @Parameter(name = "size", description = "페이지 당 조회 개수", required = true),
-            @Parameter(name = "sort-by", description = "상품 생성 시점 기준 정렬")
+            @Parameter(name = "sort-by", description = "상품 생성 시점 기준 정렬"),
+            @Parameter(name = "slice", description = "true 이면 전체 개수 조회 없이 다음 페이지 존재 여부(last)만 응답")
         },
         responses = {
             @ApiResponse(responseCode = "200", description = "상품 목록 조회에 성공하였습니다."),
@@ -118,14 +119,16 @@ public class ItemController {
     )
     @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
     @GetMapping("/owner/shop/{shop-id}") // owner 용, fix : 추후 권한에 따라서 다른 service를 쓰도록 할 것 같음
-    public ResponseEntity<Page<ItemResponse>> getItemsByShopFromOwner(@PathVariable("shop-id") String shopId,
-                                                                      @RequestParam(name = "page", defaultValue = "0") int page,
-                                                                      @RequestParam(name = "size", defaultValue = "10") int size,
-                                                                      @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
-                                                                      @AuthenticationPrincipal UserDetailsImpl user) {
+    public ResponseEntity<Slice<ItemResponse>> getItemsByShopFromOwner(@PathVariable("shop-id") String shopId,
+                                                                       @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                       @RequestParam(name = "size", defaultValue = "10") int size,
+                                                                       @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
+                                                                       @RequestParam(name = "slice", defaultValue = "false") boolean slice,
+                                                                       @AuthenticationPrincipal UserDetailsImpl user) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(changeSnakeCase(sortBy)));
-        return ResponseEntity.status(HttpStatus.OK).body(
-            itemService.getItemsByShopFromOwner(user.getUserId(), user.getUserRole(), UUID.fromString(shopId), pageable)
+        return ResponseEntity.status(HttpStatus.OK).body(slice
+            ? itemService.getItemSliceByShopFromOwner(user.getUserId(), user.getUserRole(), UUID.fromString(shopId), pageable)
+            : itemService.getItemsByShopFromOwner(user.getUserId(), user.getUserRole(), UUID.fromString(shopId), pageable)
         );
     }
 
@@ -137,7 +140,8 @@ public class ItemController {
             @Parameter(name = "shop-id", description = "조회할 가게의 id value"),
             @Parameter(name = "page", description = "조회할 목록의 페이지 번호", required = true),
             @Parameter(name = "size", description = "페이지 당 조회 개수", required = true),
-            @Parameter(name = "sort-by", description = "상품 생성 시점 기준 정렬")
+            @Parameter(name = "sort-by", description = "상품 생성 시점 기준 정렬"),
+            @Parameter(name = "slice", description = "true 이면 전체 개수 조회 없이 다음 페이지 존재 여부(last)만 응답")
         },
         responses = {
             @ApiResponse(responseCode = "200", description = "상품 목록 조회에 성공하였습니다."),
@@ -146,13 +150,15 @@ public class ItemController {
         }
     )
     @GetMapping("/shop/{shop-id}") // customer 용
-    public ResponseEntity<Page<ItemResponse>> getItemsByShopFromCustomer(@PathVariable("shop-id") String shopId,
-                                                                          @RequestParam(name = "page", defaultValue = "0") int page,
-                                                                          @RequestParam(name = "size", defaultValue = "10") int size,
-                                                                          @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy) {
+    public ResponseEntity<Slice<ItemResponse>> getItemsByShopFromCustomer(@PathVariable("shop-id") String shopId,
+                                                                           @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                           @RequestParam(name = "size", defaultValue = "10") int size,
+                                                                           @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
+                                                                           @RequestParam(name = "slice", defaultValue = "false") boolean slice) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-        return ResponseEntity.status(HttpStatus.OK).body(
-            itemService.getItemsByShopFromCustomer(UUID.fromString(shopId), pageable)
+        return ResponseEntity.status(HttpStatus.OK).body(slice
+            ? itemService.getItemSliceByShopFromCustomer(UUID.fromString(shopId), pageable)
+            : itemService.getItemsByShopFromCustomer(UUID.fromString(shopId), pageable)
         );
     }
 
@@ -0,0 +1,75 @@
+package com.delivery.justonebite.order.application.service;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.user.domain.entity.User;
+import com.delivery.justonebite.user.domain.entity.UserRole;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 주문 접근 권한 검증.
+ * <p>
+ * 요청 사용자(User)는 같은 요청에서 JwtAuthorizationFilter 가 이미 조회(탈퇴 여부 포함)한 엔티티이므로 다시 조회하지 않고,
+ * 주문 소유 여부만 인덱스를 타는 exists 조회 한 번으로 확인한다. (관리자는 조회 없음)
+ * 같은 요청 안에서 이미 허용된 (주문, 사용자) 조합은 요청 속성에 기억해 두고 다시 조회하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderAccessAuthorizer {
+
+    private static final String GRANTED_ATTRIBUTE = OrderAccessAuthorizer.class.getName() + ".GRANTED";
+
+    private final OrderRepository orderRepository;
+
+    public void authorize(UUID orderId, User user) {
+        String grant = orderId + ":" + user.getId();
+        Set<String> granted = grantedInCurrentRequest();
+        if (granted != null && granted.contains(grant)) {
+            return;
+        }
+
+        if (!hasAccess(orderId, user)) {
+            throw new CustomException(ErrorCode.FORBIDDEN_ACCESS);
+        }
+
+        if (granted != null) {
+            granted.add(grant);
+        }
+    }
+
+    private boolean hasAccess(UUID orderId, User user) {
+        UserRole userRole = user.getUserRole();
+        if (userRole.isAdmin()) {
+            return true;
+        }
+        if (userRole.isCustomer()) {
+            return orderRepository.existsByIdAndCustomer_Id(orderId, user.getId());
+        }
+        if (userRole.isOwner()) {
+            return orderRepository.existsByIdAndShop_OwnerId(orderId, user.getId());
+        }
+        return false;
+    }
+
+    // HTTP 요청 밖(스케줄러, 테스트 등)에서는 기억하지 않음
+    @SuppressWarnings("unchecked")
+    private Set<String> grantedInCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Set<String> granted = (Set<String>) attributes.getAttribute(GRANTED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (granted == null) {
+            granted = new HashSet<>();
+            attributes.setAttribute(GRANTED_ATTRIBUTE, granted, RequestAttributes.SCOPE_REQUEST);
+        }
+        return granted;
+    }
+}
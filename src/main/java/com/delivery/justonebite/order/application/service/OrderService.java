@@ -4,6 +4,8 @@ import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.item.domain.entity.Item;
 import com.delivery.justonebite.item.domain.repository.ItemRepository;
+import com.delivery.justonebite.order.application.stream.OrderStatusMessage;
+import com.delivery.justonebite.order.application.stream.OrderStatusStreamRegistry;
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.entity.OrderHistory;
 import com.delivery.justonebite.order.domain.entity.OrderItem;
@@ -12,11 +14,14 @@ import com.delivery.justonebite.order.domain.factory.OrderFactory;
 import com.delivery.justonebite.order.domain.repository.OrderHistoryRepository;
 import com.delivery.justonebite.order.domain.repository.OrderItemRepository;
 import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.domain.repository.OrderWriter;
+import com.delivery.justonebite.order.presentation.dto.OrderCursor;
 import com.delivery.justonebite.order.presentation.dto.OrderItemDto;
 import com.delivery.justonebite.order.presentation.dto.request.CancelOrderRequest;
 import com.delivery.justonebite.order.presentation.dto.request.CreateOrderRequest;
 import com.delivery.justonebite.order.presentation.dto.request.UpdateOrderStatusRequest;
 import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderResponse;
+import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderScrollResponse;
 import com.delivery.justonebite.order.presentation.dto.response.GetOrderStatusResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderCancelResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderDetailsResponse;
@@ -29,6 +34,7 @@ import com.delivery.justonebite.payment.presentation.dto.request.PaymentCancelRe
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentRequest;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentCancelResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentFailResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentPendingResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentSuccessResponse;
 import com.delivery.justonebite.user.domain.entity.Address;
@@ -36,7 +42,6 @@ import com.delivery.justonebite.order.presentation.dto.response.OrderDetailsResp
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import com.delivery.justonebite.user.domain.repository.AddressRepository;
-import com.delivery.justonebite.user.domain.repository.UserRepository;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import java.time.LocalDateTime;
@@ -46,15 +51,21 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
@@ -65,16 +76,62 @@ public class OrderService {
     private final OrderHistoryRepository orderHistoryRepository;
     private final ItemRepository itemRepository;
     private final OrderItemRepository orderItemRepository;
-    private final UserRepository userRepository;
+    private final OrderWriter orderWriter;
+    private final OrderStatusTransitioner orderStatusTransitioner;
+    private final OrderStatusStreamRegistry orderStatusStreamRegistry;
+    private final OrderAccessAuthorizer orderAccessAuthorizer;
     private final PaymentRepository paymentRepository;
     private final AddressRepository addressRepository;
     private final OrderFactory orderFactory;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    private static final int MAX_SCROLL_SIZE = 50;
+
+    // 주문 저장을 먼저 커밋한 뒤 트랜잭션 밖에서 결제 요청 (PG 응답을 기다리는 동안 DB 커넥션을 점유하지 않음)
     public PaymentResponse createOrder(CreateOrderRequest request, User user) {
         // 유저 Role 권한 검증
         authorizeCustomer(user);
 
+        Order order = transactionTemplate.execute(status -> placeOrder(request, user));
+
+        // 결제 요청
+        PaymentResponse paymentResponse;
+        try {
+            paymentResponse = requestPayment(order);
+        } catch (RuntimeException e) {
+            // 결제 요청 중 예외 : 결제는 PaymentService 에서 실패 처리, 결제 대기 중인 주문은 취소 후 예외 전파
+            cancelUnpaidOrder(order.getId(), user.getId(), e);
+            throw e;
+        }
+
+        if (paymentResponse instanceof PaymentPendingResponse) {
+            // PG 처리 결과 미확인 : 결과가 확정될 때까지 주문은 PENDING 유지 (PaymentOutcomeScheduler)
+            return paymentResponse;
+        }
+        if (!(paymentResponse instanceof PaymentSuccessResponse)) {
+            // 결제 요청 실패 시 (카드 거절, 취소) : 결제 대기 중인 주문 취소 및 이력 추가
+            // 시스템 취소이므로 고객 취소 가능 시간 제한 없음 (PG 응답이 늦어도 취소됨)
+            orderStatusTransitioner.cancelUnpaid(order.getId(), user.getId());
+            return new PaymentFailResponse(order.getId(), HttpStatusCode.valueOf(500).toString(), ErrorCode.PAYMENT_REQUEST_FAIL.getDescription());
+        }
+
+        // 결제 요청 성공 시, 주문 상태는 PENDING 유지
+        return paymentResponse;
+    }
+
+    // 결제 실패 처리와 함께 이미 취소되었으면 (PaymentExpirationWriter.close) 변경 없이 넘어감
+    // DB 장애 등으로 취소하지 못한 주문은 READY 결제 정리 시 함께 취소됨 (PaymentOutcomeScheduler)
+    private void cancelUnpaidOrder(UUID orderId, Long actorId, RuntimeException cause) {
+        try {
+            orderStatusTransitioner.cancelUnpaid(orderId, actorId);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.debug("결제 요청 실패 주문 취소 건너뜀 orderId={}", orderId, e);
+        }
+    }
+
+    // 주문 / 주문 상품 / 결제 대기(PENDING) 이력 저장
+    private Order placeOrder(CreateOrderRequest request, User user) {
         Address address = addressRepository.findByUser_IdAndIsDefaultTrue(user.getId())
             .orElseThrow(() -> new CustomException(ErrorCode.ADDRESS_NOT_FOUND));
 
@@ -92,24 +149,12 @@ public class OrderService {
         // 총 금액 검증
         validateOrderTotalPrice(request, order.getTotalPrice());
 
-        // 주문 저장
-        orderRepository.save(order);
+        // 주문 저장 (merge 없이 persist 만 수행, INSERT 는 커밋 시점에 batch 로 전송)
+        orderWriter.insert(order);
         // OrderFactory가 생성한 OrderItem 리스트를 가져와 저장
-        orderItemRepository.saveAll(orderFactory.getOrderItems(order, request.orderItems(), itemMap));
-
-        // 결제 요청
-        PaymentResponse paymentResponse = requestPayment(order);
-
-        if (paymentResponse instanceof PaymentSuccessResponse) {
-            // 결제 요청 성공 시, 주문 상태는 PENDING 유지
-            orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.PENDING));
-        } else {
-            // 결제 요청 실패 시 (카드 거절, 취소)
-            orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.ORDER_CANCELLED));
-            return new PaymentFailResponse(order.getId(), HttpStatusCode.valueOf(500).toString(), ErrorCode.PAYMENT_REQUEST_FAIL.getDescription());
-        }
-
-        return paymentResponse;
+        orderWriter.insertItems(orderFactory.getOrderItems(order, request.orderItems(), itemMap));
+        orderWriter.appendHistory(order, OrderStatus.PENDING);
+        return order;
     }
 
     @Transactional(readOnly = true)
@@ -121,13 +166,51 @@ public class OrderService {
         Sort sort = Sort.by(dir, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        return orderRepository.findAll(pageable)
+        // 로그인한 고객의 주문만 조회
+        return orderRepository.findAllByCustomer_Id(user.getId(), pageable)
             .map(CustomerOrderResponse::toDto);
     }
 
+    // slice 모드 : 전체 개수 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    @Transactional(readOnly = true)
+    public Slice<CustomerOrderResponse> getCustomerOrderSlice(int page, int size, String sortBy, User user) {
+        authorizeCustomer(user);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, sortBy));
+        return orderRepository.findSliceByCustomer_Id(user.getId(), pageable)
+            .map(CustomerOrderResponse::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerOrderScrollResponse scrollCustomerOrders(String cursor, int size, User user) {
+        authorizeCustomer(user);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        // 다음 목록 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 대체)
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Order> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findFirstCustomerOrders(user.getId(), limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findCustomerOrdersAfter(user.getId(), after.createdAt(), after.orderId(), limit);
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> content = hasNext ? orders.subList(0, pageSize) : orders;
+        String nextCursor = hasNext ? OrderCursor.from(content.getLast()).encode() : null;
+
+        return CustomerOrderScrollResponse.of(
+            content.stream().map(CustomerOrderResponse::toDto).toList(),
+            pageSize,
+            nextCursor
+        );
+    }
+
     @Transactional(readOnly = true)
     public OrderDetailsResponse getOrderDetails(UUID orderId, User user) {
-        authorizeUser(user);
+        orderAccessAuthorizer.authorize(orderId, user);
 
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
@@ -155,19 +238,14 @@ public class OrderService {
         // 유저 Role 권한 검증 : 가게 주인(OWNER)만 가능
         authorizeOwner(user);
 
-        Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
-
-        order.updateCurrentStatus(OrderStatus.of(request.newStatus()));
-
-        // OrderHistory 엔티티에는 새로운 상태와 함께 생성 시간이 기록되어야 함 (점이력)
-        orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.of(request.newStatus())));
+        // 현재 상태가 유효한 이전 상태일 때만 변경하는 조건부 UPDATE + 이력 추가 (점이력)
+        // 동시에 들어온 상태 변경 요청 중 하나만 성공하고 나머지는 ORDER_STATUS_CONFLICT
+        orderStatusTransitioner.transition(orderId, OrderStatus.of(request.newStatus()), user.getId());
     }
 
     @Transactional(readOnly = true)
     public GetOrderStatusResponse getOrderStatusHistories(UUID orderId, User user) {
-        authorizeUser(user);
-        if (!isAuthorizedUserRole(orderId, user)) { throw new CustomException(ErrorCode.FORBIDDEN_ACCESS); }
+        orderAccessAuthorizer.authorize(orderId, user);
 
         // 주문에 해당하는 주문 상태 기록 내역을 최신 순으로 정렬
         List<OrderHistory> histories = orderHistoryRepository.findAllByOrder_IdOrderByCreatedAtDesc(orderId);
@@ -179,6 +257,18 @@ public class OrderService {
         return GetOrderStatusResponse.toDto(orderId, histories);
     }
 
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeOrderStatus(UUID orderId, User user) {
+        // 권한 검증은 연결 시점에 한 번만 수행 (이후 상태 변경은 Redis pub/sub 으로 전달받아 push)
+        orderAccessAuthorizer.authorize(orderId, user);
+
+        // 최신 상태 조회는 구독 등록 이후에 수행 (조회와 등록 사이에 발행된 상태 변경을 놓치지 않도록)
+        return orderStatusStreamRegistry.subscribe(orderId, () -> orderHistoryRepository
+            .findTopByOrder_IdOrderByCreatedAtDesc(orderId)
+            .map(OrderStatusMessage::from)
+            .orElseThrow(() -> new CustomException(ErrorCode.ORDER_STATUS_NOT_FOUND)));
+    }
+
     @Transactional
     public OrderCancelResponse cancelOrder(CancelOrderRequest request, UUID orderId, User user) {
         // 취소 요청만 허용
@@ -207,19 +297,17 @@ public class OrderService {
             throw new CustomException(ErrorCode.ORDER_USER_NOT_MATCH);
         }
 
-        // 결제 취소 요청
+        // 주문 상태를 먼저 조건부 변경 (PENDING + 취소 가능 시간 이내일 때만)
+        // 사장님의 주문 접수와 동시에 요청되어도 둘 중 하나만 성공하므로, 접수된 주문이 환불되는 일이 없음
+        orderStatusTransitioner.transition(orderId, OrderStatus.ORDER_CANCELLED, user.getId());
+
+        // 결제 취소 요청 (실패 시 예외로 트랜잭션 롤백 → 주문 상태 변경도 함께 취소)
         PaymentCancelResponse paymentCancelResponse = requestPaymentCancel(request);
         if (!PaymentStatus.CANCELED.name().equals(paymentCancelResponse.status().name())) {
             throw new CustomException(ErrorCode.ORDER_CANCEL_FAILED);
         }
 
-        // Order의 currentStatus 업데이트 (모든 비즈니스 규칙 위임)
-        order.updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
-
-        // 트랜잭션 종료 시점 변경 내용 반영 (상태 동기화)
-        orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.ORDER_CANCELLED));
-
-        return OrderCancelResponse.toDto(order, LocalDateTime.now());
+        return OrderCancelResponse.toDto(order, OrderStatus.ORDER_CANCELLED, LocalDateTime.now());
     }
 
     private PaymentResponse requestPayment(Order order) {
@@ -243,7 +331,6 @@ public class OrderService {
     }
 
     private void authorizeOwner(User user) {
-        authorizeUser(user);
         if (!(user.getUserRole().equals(UserRole.OWNER))) {
             throw new CustomException(ErrorCode.FORBIDDEN_ACCESS);
         }
@@ -271,25 +358,4 @@ public class OrderService {
             throw new CustomException(ErrorCode.TOTAL_PRICE_NOT_MATCH);
         }
     }
-
-    private void authorizeUser(User user) {
-        // DB에 User로 존재하는지 유효성 검사
-        userRepository.findById(user.getId())
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-    }
-
-    private boolean isAuthorizedUserRole(UUID orderId, User user) {
-        // 유저 접근 권한 확인
-        UserRole userRole = user.getUserRole();
-        if (userRole.isAdmin()) {
-            return true;
-        }
-        if (userRole.isCustomer()) {
-            return orderRepository.existsByIdAndCustomer_Id(orderId, user.getId());
-        }
-        if (userRole.isOwner()) {
-            return orderRepository.existsByIdAndShop_OwnerId(orderId, user.getId());
-        }
-        return false;
-    }
 }
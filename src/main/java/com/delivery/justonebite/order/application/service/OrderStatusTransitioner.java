@@ -0,0 +1,92 @@
+package com.delivery.justonebite.order.application.service;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.entity.Order;
+import com.delivery.justonebite.order.domain.entity.OrderHistory;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.domain.repository.OrderWriter;
+import com.delivery.justonebite.order.projection.OrderStatusProjection;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 상태 전이 처리.
+ * <p>
+ * 주문을 조회해서 메모리에서 검증 후 변경하면, 동시에 들어온 두 요청(사장님 접수 / 고객 취소 등)이
+ * 모두 검증을 통과할 수 있다. 대신 "현재 상태가 유효한 이전 상태일 때만" 변경하는 조건부 UPDATE 한 번으로 처리하여
+ * 동시 요청 중 하나만 성공하고, 나머지는 실패 사유를 조회하여 예외로 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusTransitioner {
+
+    private final OrderRepository orderRepository;
+    private final OrderWriter orderWriter;
+
+    @Transactional
+    public OrderHistory transition(UUID orderId, OrderStatus nextStatus, Long actorId) {
+        Set<OrderStatus> allowedStatuses = OrderStatus.predecessorsOf(nextStatus);
+        if (allowedStatuses.isEmpty()) {
+            // PENDING 등 어떤 상태에서도 전이할 수 없는 상태
+            throw new CustomException(ErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = nextStatus == OrderStatus.ORDER_CANCELLED
+            ? orderRepository.updateStatusIfCurrentInAndCreatedAfter(
+                orderId, allowedStatuses, nextStatus, now.minus(Order.CANCEL_LIMIT), now, actorId)
+            : orderRepository.updateStatusIfCurrentIn(orderId, allowedStatuses, nextStatus, now, actorId);
+
+        if (updated == 0) {
+            throw resolveFailure(orderId, nextStatus, now);
+        }
+
+        // 상태 변경에 성공한 경우에만 이력 추가 (Order 는 프록시 참조만 사용하여 추가 조회 없음)
+        return orderWriter.appendHistory(orderRepository.getReferenceById(orderId), nextStatus);
+    }
+
+    /**
+     * 결제 실패로 인한 시스템 취소 : 고객 취소 가능 시간(CANCEL_LIMIT)과 관계없이 결제 대기(PENDING) 중인 주문 취소
+     * (결제 만료 / 실패 처리 시 주문 취소와 같은 조건 : PaymentExpirationWriter 참고)
+     * @return 취소 여부 (false 면 이미 취소되었거나 결제 대기 중이 아님)
+     */
+    @Transactional
+    public boolean cancelUnpaid(UUID orderId, Long actorId) {
+        int updated = orderRepository.updateStatusIfCurrentIn(
+            orderId, Set.of(OrderStatus.PENDING), OrderStatus.ORDER_CANCELLED, LocalDateTime.now(), actorId);
+        if (updated == 0) {
+            return false;
+        }
+        orderWriter.appendHistory(orderRepository.getReferenceById(orderId), OrderStatus.ORDER_CANCELLED);
+        return true;
+    }
+
+    // 변경된 행이 없을 때 DB 의 현재 상태를 기준으로 실패 사유 결정
+    private CustomException resolveFailure(UUID orderId, OrderStatus nextStatus, LocalDateTime now) {
+        OrderStatusProjection current = orderRepository.findStatusById(orderId)
+            .orElse(null);
+
+        if (current == null) {
+            return new CustomException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        if (nextStatus == OrderStatus.ORDER_CANCELLED) {
+            if (current.getCurrentStatus() != OrderStatus.PENDING) {
+                return new CustomException(ErrorCode.ORDER_STATUS_CANCEL_NOT_ALLOWED);
+            }
+            if (!current.getCreatedAt().isAfter(now.minus(Order.CANCEL_LIMIT))) {
+                return new CustomException(ErrorCode.ORDER_CANCEL_TIME_EXCEEDED);
+            }
+        } else if (!OrderStatus.predecessorsOf(nextStatus).contains(current.getCurrentStatus())) {
+            // 현재 상태에서 전이할 수 없는 상태 (예 : PENDING → DELIVERING), 기존 Order 검증과 같은 400 응답
+            return new CustomException(ErrorCode.INVALID_ORDER_STATUS);
+        }
+        // 유효한 전이였으나 UPDATE 와 조회 사이에 다른 요청이 상태를 변경함
+        return new CustomException(ErrorCode.ORDER_STATUS_CONFLICT);
+    }
+}
@@ -0,0 +1,38 @@
+package com.delivery.justonebite.order.application.stream;
+
+import com.delivery.justonebite.order.domain.event.OrderHistoryAppendedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 상태 이력 추가 이벤트를 Redis 채널로 발행.
+ * 커밋된 변경만 전파되도록 AFTER_COMMIT 에서 발행하며, 모든 애플리케이션 노드가 같은 채널을 구독한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusEventPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.channel.order_status:order:status}")
+    private String orderStatusChannel;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(OrderHistoryAppendedEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(OrderStatusMessage.from(event));
+            redisTemplate.convertAndSend(orderStatusChannel, payload);
+        } catch (Exception e) {
+            // 실시간 알림 실패가 이미 커밋된 주문 처리에 영향을 주지 않도록 로그만 남김
+            log.warn("주문 상태 알림 발행 실패 orderId={}, status={}", event.orderId(), event.status(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.delivery.justonebite.order.application.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채널의 주문 상태 메시지를 수신하여 이 노드에 연결된 SSE 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusEventSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final OrderStatusStreamRegistry orderStatusStreamRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.channel.order_status:order:status}")
+    private String orderStatusChannel;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(orderStatusChannel));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            orderStatusStreamRegistry.broadcast(objectMapper.readValue(payload, OrderStatusMessage.class));
+        } catch (Exception e) {
+            log.warn("주문 상태 알림 수신 처리 실패", e);
+        }
+    }
+}
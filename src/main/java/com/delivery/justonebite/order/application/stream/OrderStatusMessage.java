@@ -0,0 +1,42 @@
+package com.delivery.justonebite.order.application.stream;
+
+import com.delivery.justonebite.order.domain.entity.OrderHistory;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.domain.event.OrderHistoryAppendedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "주문 상태 실시간 알림 메시지 (Redis pub/sub 및 SSE 공통)")
+public record OrderStatusMessage(
+    @Schema(description = "주문 고유 ID", example = "a1b2c3d4-e5f6-7890-a1b2-c3d4e5f67890")
+    UUID orderId,
+    @Schema(description = "주문 상태 이력 ID")
+    UUID historyId,
+    @Schema(description = "변경된 주문 상태", example = "ORDER_ACCEPTED")
+    OrderStatus status,
+    @Schema(description = "주문 상태 설명", example = "주문 접수 완료")
+    String description,
+    @Schema(description = "상태 변경 시각", example = "2025-10-13T16:00:00")
+    LocalDateTime changedAt
+) {
+    public static OrderStatusMessage from(OrderHistoryAppendedEvent event) {
+        return new OrderStatusMessage(
+            event.orderId(),
+            event.historyId(),
+            event.status(),
+            event.status().getDescription(),
+            event.createdAt()
+        );
+    }
+
+    public static OrderStatusMessage from(OrderHistory history) {
+        return new OrderStatusMessage(
+            history.getOrder().getId(),
+            history.getId(),
+            history.getStatus(),
+            history.getStatus().getDescription(),
+            history.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.delivery.justonebite.order.application.stream;
+
+import com.delivery.justonebite.global.common.sse.BoundedSseRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 노드에 연결된 주문 상태 SSE 구독자 관리 (주문 ID 별)
+ * <p>
+ * 더 이상 변경될 수 없는 상태(취소/거절/배달 완료)를 전송하면 스트림을 종료한다.
+ */
+@Component
+public class OrderStatusStreamRegistry {
+
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final String EVENT_NAME = "order-status";
+
+    private final BoundedSseRegistry<OrderStatusMessage> registry;
+
+    // bufferSize : 연결당 최대 미전송 메시지 수
+    public OrderStatusStreamRegistry(
+        @Value("${order.status-stream.buffer-size:16}") int bufferSize,
+        @Value("${order.status-stream.heartbeat-interval-millis:20000}") long heartbeatIntervalMillis) {
+        this.registry = new BoundedSseRegistry<>("order-status-stream", bufferSize, heartbeatIntervalMillis,
+            OrderStatusMessage::orderId,
+            message -> SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(message.historyId()))
+                .data(message, MediaType.APPLICATION_JSON),
+            message -> message.status().isFinal());
+    }
+
+    /**
+     * 구독 등록 후 현재 상태를 조회하여 첫 이벤트로 전송
+     * <p>
+     * 조회보다 등록이 먼저이므로 조회 직전/직후에 발행된 상태 변경도 전달된다.
+     * 같은 상태가 중복 전송될 수 있으며, 클라이언트는 이벤트 ID(주문 상태 이력 ID)로 중복을 무시한다.
+     */
+    public SseEmitter subscribe(UUID orderId, Supplier<OrderStatusMessage> current) {
+        return register(orderId, new SseEmitter(TIMEOUT_MILLIS), current);
+    }
+
+    SseEmitter register(UUID orderId, SseEmitter emitter, Supplier<OrderStatusMessage> current) {
+        return registry.register(orderId, emitter, current);
+    }
+
+    // Redis 로 수신한 메시지를 해당 주문의 구독자 버퍼에 추가 (전송은 연결별 전송 스레드가 수행)
+    public void broadcast(OrderStatusMessage message) {
+        registry.broadcast(message);
+    }
+
+    int countConnections(UUID orderId) {
+        return registry.countConnections(orderId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        registry.shutdown();
+    }
+}
@@ -1,6 +1,7 @@
 package com.delivery.justonebite.order.domain.entity;
 
 import com.delivery.justonebite.global.common.entity.BaseEntity;
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
@@ -12,12 +13,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
@@ -27,14 +28,23 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "h_order")
+@Table(
+    name = "h_order",
+    indexes = {
+        // 고객별 주문 목록 커서 조회용 (src/main/resources/db/patch/001_order_customer_created_index.sql)
+        @Index(name = "idx_h_order_customer_created", columnList = "user_id, created_at DESC, order_id DESC")
+    }
+)
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
+    // 주문 취소 제한 시간 (주문 생성 시점으로부터 5분)
+    public static final Duration CANCEL_LIMIT = Duration.ofMinutes(5);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "order_id")
     private UUID id;
 
@@ -119,7 +129,7 @@ public class Order extends BaseEntity {
     private void validateCancellationTime(OrderStatus status) {
         // 취소 가능한 시간 검증
         // 취소 제한 시간 (5분)
-        final long CANCEL_LIMIT_SECONDS = 5 * 60;
+        final long CANCEL_LIMIT_SECONDS = CANCEL_LIMIT.toSeconds();
         LocalDateTime now = LocalDateTime.now();
 
         // 현재 시간과 주문 생성 시간의 차이 계산
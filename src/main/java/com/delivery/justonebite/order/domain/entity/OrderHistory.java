@@ -1,5 +1,7 @@
 package com.delivery.justonebite.order.domain.entity;
 
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
+import com.delivery.justonebite.global.common.id.UuidV7;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,13 +9,13 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -28,8 +30,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderHistory {
 
+    // 서버 간 시계 차이 여유
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    // UUIDv7 적용 이전에 생성된 주문은 생성 시각을 알 수 없으므로 하한 없음
+    private static final LocalDateTime UNBOUNDED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "order_history_id")
     private UUID id;
 
@@ -54,4 +61,12 @@ public class OrderHistory {
         return new OrderHistory(order, status);
     }
 
+    // 이력 생성 시각의 하한 : 이력은 주문 생성 이후에만 추가되므로 주문 ID(UUIDv7)의 생성 시각을 사용
+    // created_at 월 파티션 pruning 에 사용 (db/patch/005_monthly_partitions.sql)
+    public static LocalDateTime createdAtLowerBound(UUID orderId) {
+        if (orderId.version() != 7) {
+            return UNBOUNDED;
+        }
+        return LocalDateTime.ofInstant(UuidV7.extractInstant(orderId), ZoneId.systemDefault()).minus(CLOCK_SKEW);
+    }
 }
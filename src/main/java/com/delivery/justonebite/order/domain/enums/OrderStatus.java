@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -50,4 +51,16 @@ public enum OrderStatus {
     public boolean isValidNextStatus(OrderStatus status) {
         return this.nextValidStatuses.contains(status);
     }
+
+    // 더 이상 다른 상태로 변경될 수 없는 최종 상태인지 (주문 거절/취소, 배달 완료)
+    public boolean isFinal() {
+        return this.nextValidStatuses.isEmpty();
+    }
+
+    // 해당 상태로 전이할 수 있는 이전 상태 목록 (조건부 UPDATE 의 WHERE current_status IN (...) 에 사용)
+    public static Set<OrderStatus> predecessorsOf(OrderStatus status) {
+        return Arrays.stream(OrderStatus.values())
+            .filter(s -> s.isValidNextStatus(status))
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(OrderStatus.class)));
+    }
 }
\ No newline at end of file
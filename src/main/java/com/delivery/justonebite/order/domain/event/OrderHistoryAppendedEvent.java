@@ -0,0 +1,17 @@
+package com.delivery.justonebite.order.domain.event;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 상태 이력(OrderHistory)이 추가되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 실시간 알림 등에 사용
+ */
+public record OrderHistoryAppendedEvent(
+    UUID orderId,
+    UUID historyId,
+    OrderStatus status,
+    LocalDateTime createdAt
+) {
+}
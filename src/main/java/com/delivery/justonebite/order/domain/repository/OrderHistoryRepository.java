@@ -2,6 +2,7 @@ package com.delivery.justonebite.order.domain.repository;
 
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.entity.OrderHistory;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,9 +12,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface OrderHistoryRepository extends JpaRepository<OrderHistory, UUID> {
     // 최신 상태 하나를 반환
-    Optional<OrderHistory> findTopByOrder_IdOrderByCreatedAtDesc(UUID orderId);
-    // 전체 목록을 최신순으로 반환
-    List<OrderHistory> findAllByOrder_IdOrderByCreatedAtDesc(UUID orderId);
+    // h_order_history 는 created_at 월 파티션 테이블이므로 주문 생성 시각을 하한으로 함께 조건에 넣어 이전 달 파티션은 읽지 않음
+    default Optional<OrderHistory> findTopByOrder_IdOrderByCreatedAtDesc(UUID orderId) {
+        return findTopByOrder_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            orderId, OrderHistory.createdAtLowerBound(orderId));
+    }
+    // 전체 목록을 최신순으로 반환 (파티션 pruning 은 위와 동일)
+    default List<OrderHistory> findAllByOrder_IdOrderByCreatedAtDesc(UUID orderId) {
+        return findAllByOrder_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            orderId, OrderHistory.createdAtLowerBound(orderId));
+    }
+    Optional<OrderHistory> findTopByOrder_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(UUID orderId, LocalDateTime createdAt);
+    List<OrderHistory> findAllByOrder_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(UUID orderId, LocalDateTime createdAt);
     // 가게에서 완료되지 않은 배달 주문이 있는지 확인
     boolean existsByOrder_Shop_IdAndStatusNot(UUID shopId, OrderStatus status);
 
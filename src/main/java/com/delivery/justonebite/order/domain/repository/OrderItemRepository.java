@@ -3,9 +3,18 @@ package com.delivery.justonebite.order.domain.repository;
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.entity.OrderItem;
 import com.delivery.justonebite.order.domain.entity.OrderItemId;
+import com.delivery.justonebite.order.projection.OrderItemNameProjection;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
     List<OrderItem> findAllByOrder(Order order);
+
+    // 여러 주문의 상품명을 한 번에 조회 (주문 시점에 저장된 itemName 사용, Item 조인 없음)
+    @Query("SELECT oi.order.id AS orderId, oi.itemName AS itemName FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    List<OrderItemNameProjection> findItemNamesByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
 }
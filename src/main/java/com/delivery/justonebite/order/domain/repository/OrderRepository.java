@@ -2,25 +2,130 @@ package com.delivery.justonebite.order.domain.repository;
 
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.projection.OrderStatusProjection;
+import com.delivery.justonebite.order.projection.OrderSummaryProjection;
+import com.delivery.justonebite.order.projection.ShopOrderFeedProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 
+    // 가게별 주문 요약 조회 쿼리 (findSummariesByShopId / findSummarySliceByShopId 공용)
+    String SHOP_ORDER_SUMMARY_QUERY = """
+        SELECT o.id AS orderId, o.currentStatus AS currentStatus,
+               o.createdAt AS createdAt, o.totalPrice AS totalPrice
+        FROM Order o
+        WHERE o.shop.id = :shopId
+        """;
+
     boolean existsByIdAndCustomer_Id(UUID id, Long userId);
 
     boolean existsByIdAndShop_OwnerId(UUID id, Long userId);
 
+    // 고객별 주문 목록 조회 (OFFSET 페이징)
+    @EntityGraph(attributePaths = "shop")
+    Page<Order> findAllByCustomer_Id(Long customerId, Pageable pageable);
+
+    // 고객별 주문 목록 (OFFSET 페이징, Slice) : COUNT 쿼리 없이 size + 1 건 조회
+    @EntityGraph(attributePaths = "shop")
+    Slice<Order> findSliceByCustomer_Id(Long customerId, Pageable pageable);
+
+    /**
+     * 고객별 주문 목록 커서(keyset) 조회 : (created_at, order_id) 내림차순
+     * idx_h_order_customer_created (user_id, created_at DESC, order_id DESC) 인덱스 범위 스캔으로
+     * 몇 번째 페이지든 limit 건만 읽으며, 전체 건수 COUNT 쿼리를 실행하지 않는다.
+     */
+    @Query("""
+        SELECT o FROM Order o JOIN FETCH o.shop
+        WHERE o.customer.id = :customerId
+        ORDER BY o.createdAt DESC, o.id DESC
+        """)
+    List<Order> findFirstCustomerOrders(@Param("customerId") Long customerId, Limit limit);
+
+    @Query("""
+        SELECT o FROM Order o JOIN FETCH o.shop
+        WHERE o.customer.id = :customerId
+          AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId))
+        ORDER BY o.createdAt DESC, o.id DESC
+        """)
+    List<Order> findCustomerOrdersAfter(@Param("customerId") Long customerId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("orderId") UUID orderId,
+        Limit limit);
+
     //가게별 리뷰 목록 조회
     Page<Order> findAllByShop_Id(UUID shopId, Pageable pageable);
 
+    // 가게별 주문 목록 (사장님 주문 현황) : 엔티티 대신 필요한 컬럼만 조회
+    // 정렬 조건(sortBy)은 select 절의 alias 로 적용됨
+    @Query(value = SHOP_ORDER_SUMMARY_QUERY,
+        countQuery = "SELECT COUNT(o) FROM Order o WHERE o.shop.id = :shopId")
+    Page<OrderSummaryProjection> findSummariesByShopId(@Param("shopId") UUID shopId, Pageable pageable);
+
+    // 가게별 주문 목록 (Slice) : COUNT 쿼리 없이 size + 1 건 조회
+    @Query(SHOP_ORDER_SUMMARY_QUERY)
+    Slice<OrderSummaryProjection> findSummarySliceByShopId(@Param("shopId") UUID shopId, Pageable pageable);
+
+    // 가게 실시간 주문 피드 : 주문 요약 + 가게 식별 정보 단건 조회
+    @Query("""
+        SELECT o.id AS orderId, o.currentStatus AS currentStatus,
+               o.createdAt AS createdAt, o.totalPrice AS totalPrice,
+               s.id AS shopId, s.name AS shopName
+        FROM Order o
+        JOIN o.shop s
+        WHERE o.id = :orderId
+        """)
+    Optional<ShopOrderFeedProjection> findFeedSummaryById(@Param("orderId") UUID orderId);
+
+    /**
+     * 주문 상태 조건부 변경 : 현재 상태가 allowedStatuses(유효한 이전 상태) 중 하나일 때만 변경
+     * 조회 후 검증/변경(read-modify-write) 대신 한 번의 UPDATE 로 처리하여 동시 요청 중 하나만 성공
+     * @return 변경된 행 수 (0 이면 상태가 이미 바뀌었거나 전이 불가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.currentStatus = :nextStatus, o.updatedAt = :now, o.updatedBy = :actorId
+        WHERE o.id = :orderId AND o.currentStatus IN :allowedStatuses
+        """)
+    int updateStatusIfCurrentIn(@Param("orderId") UUID orderId,
+        @Param("allowedStatuses") Collection<OrderStatus> allowedStatuses,
+        @Param("nextStatus") OrderStatus nextStatus,
+        @Param("now") LocalDateTime now,
+        @Param("actorId") Long actorId);
+
+    // 주문 취소용 : 상태 조건 + 주문 생성 시각이 createdAfter 이후(취소 가능 시간 이내)인 경우에만 변경
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.currentStatus = :nextStatus, o.updatedAt = :now, o.updatedBy = :actorId
+        WHERE o.id = :orderId AND o.currentStatus IN :allowedStatuses AND o.createdAt > :createdAfter
+        """)
+    int updateStatusIfCurrentInAndCreatedAfter(@Param("orderId") UUID orderId,
+        @Param("allowedStatuses") Collection<OrderStatus> allowedStatuses,
+        @Param("nextStatus") OrderStatus nextStatus,
+        @Param("createdAfter") LocalDateTime createdAfter,
+        @Param("now") LocalDateTime now,
+        @Param("actorId") Long actorId);
+
+    // 영속성 컨텍스트를 거치지 않고 DB 의 현재 상태 조회 (상태 변경 실패 사유 확인용)
+    @Query("SELECT o.currentStatus AS currentStatus, o.createdAt AS createdAt FROM Order o WHERE o.id = :orderId")
+    Optional<OrderStatusProjection> findStatusById(@Param("orderId") UUID orderId);
+
     /**
      * JOIN FETCH o.customer : INNER JOIN h_user u ON o.user_id = u.user_id
      * 조회된 customer 엔티티를 즉시 로딩 대상으로 지정
@@ -0,0 +1,49 @@
+package com.delivery.justonebite.order.domain.repository;
+
+import com.delivery.justonebite.order.domain.entity.Order;
+import com.delivery.justonebite.order.domain.entity.OrderHistory;
+import com.delivery.justonebite.order.domain.entity.OrderItem;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.domain.event.OrderHistoryAppendedEvent;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 쓰기 전용 경로.
+ * <p>
+ * OrderItem 은 복합 키(OrderItemId)가 미리 할당되어 있어 {@code saveAll} 을 거치면
+ * Spring Data 가 새 엔티티로 판단하지 못하고 merge 를 호출하여 INSERT 전에 SELECT 가 한 번씩 발생한다.
+ * 주문 생성 시점의 엔티티는 항상 새로 만들어진 것이므로 merge 없이 persist 만 수행하고,
+ * 실제 INSERT 는 트랜잭션 커밋 시점의 flush 에서 JDBC batch 로 한 번에 전송된다. (JpaConfig 참고)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderWriter {
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 주문 등록 : persist 시점에 식별자가 할당되므로 이후 OrderItem 생성에 order.getId() 사용 가능
+    public void insert(Order order) {
+        entityManager.persist(order);
+    }
+
+    // 주문 상품 등록 : select-before-insert 없이 persist
+    public void insertItems(List<OrderItem> orderItems) {
+        for (OrderItem orderItem : orderItems) {
+            entityManager.persist(orderItem);
+        }
+    }
+
+    // 주문 상태 이력 추가 (점이력) 후 이력 추가 이벤트 발행 (커밋 이후 실시간 알림에 사용)
+    public OrderHistory appendHistory(Order order, OrderStatus status) {
+        OrderHistory history = OrderHistory.create(order, status);
+        entityManager.persist(history);
+        eventPublisher.publishEvent(
+            new OrderHistoryAppendedEvent(order.getId(), history.getId(), status, history.getCreatedAt()));
+        return history;
+    }
+}
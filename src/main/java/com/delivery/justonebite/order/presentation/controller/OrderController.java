@@ -6,12 +6,14 @@ import com.delivery.justonebite.order.presentation.dto.request.CancelOrderReques
 import com.delivery.justonebite.order.presentation.dto.request.CreateOrderRequest;
 import com.delivery.justonebite.order.presentation.dto.request.UpdateOrderStatusRequest;
 import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderResponse;
+import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderScrollResponse;
 import com.delivery.justonebite.order.presentation.dto.response.GetOrderStatusResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderCancelResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderDetailsResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -20,8 +22,9 @@ import jakarta.validation.Valid;
 
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Order API", description = "주문 생성/조회/취소/상태관리 등을 담당합니다.")
 @RestController
@@ -52,14 +56,20 @@ public class OrderController {
      */
     @Operation(
         summary = "주문 생성 요청 API",
-        description = "사용자(CUSTOMER)가 주문을 요청합니다. 해당 API 요청 권한은 CUSTOMER만 가능합니다.",
+        description = "사용자(CUSTOMER)가 주문을 요청합니다. 해당 API 요청 권한은 CUSTOMER만 가능합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 처리하지 않고 최초 응답을 그대로 반환합니다.",
         security = @SecurityRequirement(name = "Authorization"),
+        parameters = {
+            @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "중복 요청 방지 키 (요청마다 클라이언트에서 생성한 UUID 등, 재시도 시 동일한 값 사용)", example = "예시: 5f0c2a8e-3b1d-4c7a-9e2f-1a2b3c4d5e6f"),
+        },
         responses = {
             @ApiResponse(responseCode = "201", description = "주문 생성에 성공하였습니다."),
             @ApiResponse(responseCode = "404", description = "주문할 가게 정보가 존재하지 않습니다.", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "요청한 총 금액이 서버의 총 금액과 일치하지 않습니다.", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다. (JWT 토큰 누락 또는 만료)", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다. (CUSTOMER 아님)", content = @Content(mediaType = "application/json"))
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다. (CUSTOMER 아님)", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 의 요청이 아직 처리 중입니다.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key 가 다른 요청 본문에 이미 사용되었습니다.", content = @Content(mediaType = "application/json"))
         }
     )
     @PreAuthorize("hasRole('CUSTOMER')")
@@ -78,6 +88,7 @@ public class OrderController {
             @Parameter(name = "page", description = "조회할 목록의 페이지 번호", required = true),
             @Parameter(name = "size", description = "페이지 당 조회 개수", required = true),
             @Parameter(name = "sort-by", description = "주문 생성 시점 기준 정렬", required = true),
+            @Parameter(name = "slice", description = "true 이면 전체 개수 조회 없이 다음 페이지 존재 여부(last)만 응답"),
         },
         responses = {
             @ApiResponse(responseCode = "200", description = "주문 목록 조회에 성공하였습니다."),
@@ -87,18 +98,43 @@ public class OrderController {
     )
     @PreAuthorize("hasRole('CUSTOMER')")
     @GetMapping
-    public ResponseEntity<Page<CustomerOrderResponse>> getCustomerOrders(
+    public ResponseEntity<Slice<CustomerOrderResponse>> getCustomerOrders(
         @AuthenticationPrincipal UserDetailsImpl userDetails,
         @RequestParam(name = "page", defaultValue = "1") int page,
         @RequestParam(name = "size", defaultValue = "10") int size,
-        @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy
+        @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
+        @RequestParam(name = "slice", defaultValue = "false") boolean slice
     ) {
-        Page<CustomerOrderResponse> response = orderService.getCustomerOrders(
-            page - 1,
-            size,
-            sortBy,
-            userDetails.getUser()
-        );
+        Slice<CustomerOrderResponse> response = slice
+            ? orderService.getCustomerOrderSlice(page - 1, size, sortBy, userDetails.getUser())
+            : orderService.getCustomerOrders(page - 1, size, sortBy, userDetails.getUser());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(
+        summary = "주문 목록 커서 조회 API",
+        description = "사용자(CUSTOMER)가 본인의 주문 목록을 최신순으로 커서 기반 조회합니다. "
+            + "응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다. 해당 API 요청 권한은 CUSTOMER만 가능합니다.",
+        security = @SecurityRequirement(name = "Authorization"),
+        parameters = {
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 조회 시 생략)"),
+            @Parameter(name = "size", description = "조회 개수 (최대 50)"),
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "주문 목록 조회에 성공하였습니다."),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다. (JWT 토큰 누락 또는 만료)", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다. (CUSTOMER 아님)", content = @Content(mediaType = "application/json"))
+        }
+    )
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CustomerOrderScrollResponse> scrollCustomerOrders(
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        CustomerOrderScrollResponse response = orderService.scrollCustomerOrders(cursor, size, userDetails.getUser());
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -173,6 +209,31 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @Operation(
+        summary = "주문 상태 실시간 구독 API (SSE)",
+        description = "주문 상태가 변경될 때마다 이벤트(order-status)를 전송합니다. 연결 직후 현재 상태를 먼저 전송하며, "
+            + "최종 상태(주문 거절/취소, 배달 완료)가 되면 스트림이 종료됩니다. 주문 상태 히스토리 조회 API의 반복 호출(polling) 대신 사용합니다.",
+        security = @SecurityRequirement(name = "Authorization"),
+        parameters = {
+            @Parameter(name = "order-id", description = "상태를 구독할 주문의 고유 ID", required = true, example = "예시: a1b2c3d4-e5f6-7890-a1b2-c3d4e5f67890"),
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "주문 상태 구독에 성공하였습니다.", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다. (JWT 토큰 누락 또는 만료)", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "주문 내역이 존재하지 않습니다.", content = @Content(mediaType = "application/json")),
+        }
+    )
+    @GetMapping(value = "/{order-id}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderStatus(@PathVariable(name = "order-id") UUID orderId,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        SseEmitter emitter = orderService.subscribeOrderStatus(orderId, userDetails.getUser());
+        // nginx 등 리버스 프록시에서 응답 버퍼링 비활성화
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
     @Operation(
         summary = "주문 취소 요청 API",
         description = "사용자(CUSTOMER)가 주문 취소를 요청합니다. 해당 API 요청 권한은 CUSTOMER만 가능합니다.",
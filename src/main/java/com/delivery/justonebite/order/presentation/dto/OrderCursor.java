@@ -0,0 +1,42 @@
+package com.delivery.justonebite.order.presentation.dto;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.entity.Order;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 커서 : 마지막으로 조회한 주문의 (createdAt, orderId)
+ * 클라이언트에는 "createdAt|orderId" 를 URL-safe Base64 로 인코딩한 불투명 토큰으로 전달
+ */
+public record OrderCursor(
+    LocalDateTime createdAt,
+    UUID orderId
+) {
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, index)),
+                UUID.fromString(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
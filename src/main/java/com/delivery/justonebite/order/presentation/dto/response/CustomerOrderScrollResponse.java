@@ -0,0 +1,21 @@
+package com.delivery.justonebite.order.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "고객 주문 목록 커서 조회 응답 DTO")
+public record CustomerOrderScrollResponse(
+    @ArraySchema(arraySchema = @Schema(description = "주문 목록"), schema = @Schema(implementation = CustomerOrderResponse.class))
+    List<CustomerOrderResponse> content,
+    @Schema(description = "요청한 조회 개수", example = "10")
+    int size,
+    @Schema(description = "다음 목록 존재 여부", example = "true")
+    boolean hasNext,
+    @Schema(description = "다음 목록 조회 시 전달할 커서 (마지막 목록이면 null)", example = "MjAyNS0xMC0xM1QxNjowMDowMHxhMWIyYzNkNC1lNWY2LTdhOGItOWMwZC0xZTJmM2E0YjVjNmQ")
+    String nextCursor
+) {
+    public static CustomerOrderScrollResponse of(List<CustomerOrderResponse> content, int size, String nextCursor) {
+        return new CustomerOrderScrollResponse(content, size, nextCursor != null, nextCursor);
+    }
+}
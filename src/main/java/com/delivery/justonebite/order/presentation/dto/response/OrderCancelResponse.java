@@ -30,4 +30,14 @@ public record OrderCancelResponse(
             .cancelledAt(cancelledAt)
             .build();
     }
+
+    // 조건부 UPDATE 로 상태를 변경한 경우 영속성 컨텍스트의 Order 는 이전 상태이므로 변경된 상태를 직접 전달
+    public static OrderCancelResponse toDto(Order order, OrderStatus status, LocalDateTime cancelledAt) {
+        return OrderCancelResponse.builder()
+            .orderId(order.getId())
+            .orderStatus(status.name())
+            .refund(order.getTotalPrice())
+            .cancelledAt(cancelledAt)
+            .build();
+    }
 }
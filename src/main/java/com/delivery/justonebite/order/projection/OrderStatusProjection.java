@@ -0,0 +1,11 @@
+package com.delivery.justonebite.order.projection;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import java.time.LocalDateTime;
+
+public interface OrderStatusProjection {
+
+    OrderStatus getCurrentStatus();
+    LocalDateTime getCreatedAt();
+
+}
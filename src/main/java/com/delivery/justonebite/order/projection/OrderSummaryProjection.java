@@ -0,0 +1,14 @@
+package com.delivery.justonebite.order.projection;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface OrderSummaryProjection {
+
+    UUID getOrderId();
+    OrderStatus getCurrentStatus();
+    LocalDateTime getCreatedAt();
+    Integer getTotalPrice();
+
+}
@@ -0,0 +1,10 @@
+package com.delivery.justonebite.order.projection;
+
+import java.util.UUID;
+
+public interface ShopOrderFeedProjection extends OrderSummaryProjection {
+
+    UUID getShopId();
+    String getShopName();
+
+}
@@ -0,0 +1,78 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 / 부하 테스트용 PG 스텁.
+ * <p>
+ * 실제 PG 와 비슷한 응답 지연(latency ± jitter)과 승인 거절 비율을 설정으로 흉내낸다.
+ * 기본값은 지연 없음 / 항상 승인이다.
+ * 상태 조회용으로 최근 처리 결과를 메모리에 보관하며, 응답 대기 중 호출이 취소(시간 초과)되어도 처리 결과는 남는다.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "local", matchIfMissing = true)
+public class LocalPaymentGateway implements PaymentGateway {
+
+    private static final int MAX_RESULTS = 10_000;
+
+    @Value("${payment.gateway.local.latency-millis:0}")
+    private long latencyMillis;
+
+    @Value("${payment.gateway.local.jitter-millis:0}")
+    private long jitterMillis;
+
+    // 0.0 ~ 1.0 (승인 거절 비율)
+    @Value("${payment.gateway.local.failure-rate:0.0}")
+    private double failureRate;
+
+    // 결제 ID 별 최근 처리 결과 (오래된 순으로 MAX_RESULTS 건 초과분 제거)
+    private final Map<UUID, PaymentGatewayResult> results = Collections.synchronizedMap(
+        new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PaymentGatewayResult> eldest) {
+                return size() > MAX_RESULTS;
+            }
+        });
+
+    @Override
+    public PaymentGatewayResult requestPayment(PaymentGatewayRequest request) {
+        PaymentGatewayResult result = ThreadLocalRandom.current().nextDouble() < failureRate
+            ? PaymentGatewayResult.decline("PAY_PROCESS_REJECTED", "결제 승인이 거절되었습니다.")
+            : PaymentGatewayResult.approve();
+        results.put(request.paymentId(), result);
+
+        simulateLatency();
+        return result;
+    }
+
+    @Override
+    public PaymentGatewayResult inquirePayment(UUID paymentId) {
+        simulateLatency();
+
+        PaymentGatewayResult result = results.get(paymentId);
+        if (result == null) {
+            return PaymentGatewayResult.decline("PAY_NOT_FOUND", "결제 요청 내역이 없습니다.");
+        }
+        return result;
+    }
+
+    private void simulateLatency() {
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0;
+        long delay = Math.max(0, latencyMillis + jitter);
+        if (delay == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
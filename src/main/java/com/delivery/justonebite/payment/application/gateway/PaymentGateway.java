@@ -0,0 +1,20 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+import java.util.UUID;
+
+/**
+ * 외부 PG(결제 대행사) 연동 포트.
+ * <p>
+ * 구현체는 네트워크 왕복이 포함된 블로킹 호출이므로 DB 트랜잭션 안에서 호출하지 않는다. (PaymentGatewayClient 참고)
+ * 실제 PG 를 연동할 때는 이 인터페이스의 구현체를 추가하고 {@code payment.gateway.type} 으로 선택한다.
+ */
+public interface PaymentGateway {
+
+    PaymentGatewayResult requestPayment(PaymentGatewayRequest request);
+
+    /**
+     * 결제 요청 처리 결과 조회 (응답 시간 초과로 결과를 알 수 없는 결제 확정용)
+     * PG 에 요청이 도달하지 않은 결제는 거절로 응답한다.
+     */
+    PaymentGatewayResult inquirePayment(UUID paymentId);
+}
@@ -0,0 +1,76 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 호출 실행기.
+ * <p>
+ * PG 호출은 가상 스레드에서 실행하고 응답 대기 시간을 제한한다.
+ * 호출하는 쪽은 트랜잭션 밖에서 사용해야 PG 응답을 기다리는 동안 DB 커넥션을 점유하지 않는다.
+ * 시간 초과는 PG 에서 이미 승인되었을 수 있으므로 거절이 아닌 결과 미확인(UNKNOWN)으로 응답하고,
+ * 이후 상태 조회로 확정한다. (PaymentOutcomeScheduler 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentGatewayClient {
+
+    private final PaymentGateway paymentGateway;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("payment-gateway-", 0).factory());
+
+    @Value("${payment.gateway.timeout-millis:5000}")
+    private long timeoutMillis;
+
+    // 결제 요청 : PG 가 오류로 응답한 경우는 거절, 응답을 받지 못한 경우는 결과 미확인
+    public PaymentGatewayResult requestPayment(PaymentGatewayRequest request) {
+        return call(request.paymentId(), () -> paymentGateway.requestPayment(request),
+            PaymentGatewayResult.decline("PAY_GATEWAY_ERROR", "결제 대행사 요청에 실패했습니다."));
+    }
+
+    // 결제 상태 조회 : 조회 자체가 실패하면 결과를 알 수 없으므로 오류도 결과 미확인
+    public PaymentGatewayResult inquirePayment(UUID paymentId) {
+        return call(paymentId, () -> paymentGateway.inquirePayment(paymentId),
+            PaymentGatewayResult.unknown("PAY_GATEWAY_ERROR", "결제 대행사 상태 조회에 실패했습니다."));
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    private PaymentGatewayResult call(UUID paymentId, Callable<PaymentGatewayResult> task, PaymentGatewayResult onError) {
+        Future<PaymentGatewayResult> future = executor.submit(task);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("PG 응답 시간 초과 paymentId={}, timeout={}ms", paymentId, timeoutMillis);
+            return PaymentGatewayResult.unknown("PAY_GATEWAY_TIMEOUT", "결제 대행사 응답 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            log.warn("PG 요청 실패 paymentId={}", paymentId, e.getCause());
+            return onError;
+        } catch (InterruptedException e) {
+            // 요청은 이미 전송되었을 수 있으므로 결과 미확인
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return PaymentGatewayResult.unknown("PAY_GATEWAY_INTERRUPTED", "결제 대행사 응답 대기가 중단되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
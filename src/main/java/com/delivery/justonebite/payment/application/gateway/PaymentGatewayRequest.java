@@ -0,0 +1,11 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+import java.util.UUID;
+
+public record PaymentGatewayRequest(
+    UUID paymentId,
+    UUID orderId,
+    String orderName,
+    Integer amount
+) {
+}
@@ -0,0 +1,30 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+public record PaymentGatewayResult(
+    Outcome outcome,
+    String code,
+    String message
+) {
+
+    public enum Outcome {
+        APPROVED, // 승인
+        DECLINED, // 거절 (PG 에서 처리되지 않음이 확실한 경우)
+        UNKNOWN // 응답 시간 초과 등으로 PG 처리 결과를 알 수 없음 (상태 조회로 확정)
+    }
+
+    public static PaymentGatewayResult approve() {
+        return new PaymentGatewayResult(Outcome.APPROVED, "SUCCESS", null);
+    }
+
+    public static PaymentGatewayResult decline(String code, String message) {
+        return new PaymentGatewayResult(Outcome.DECLINED, code, message);
+    }
+
+    public static PaymentGatewayResult unknown(String code, String message) {
+        return new PaymentGatewayResult(Outcome.UNKNOWN, code, message);
+    }
+
+    public boolean approved() {
+        return outcome == Outcome.APPROVED;
+    }
+}
@@ -0,0 +1,65 @@
+package com.delivery.justonebite.payment.application.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 만료 지연 큐 (Redis sorted set, score = 만료 시각 epoch millis)
+ * <p>
+ * 만료 시각이 지난 항목은 조회와 삭제를 하나의 스크립트로 처리하므로 여러 노드가 동시에 꺼내도 한 노드에서만 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentExpirationQueue {
+
+    // 만료 시각이 지난 항목을 최대 ARGV[2] 개 꺼내면서 삭제
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>("""
+        local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+        if #items > 0 then
+            redis.call('ZREM', KEYS[1], unpack(items))
+        end
+        return items
+        """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.data.redis.key.payment_expiration:payment:expiration}")
+    private String queueKey;
+
+    public void schedule(UUID paymentId, LocalDateTime expiresAt) {
+        redisTemplate.opsForZSet().add(queueKey, paymentId.toString(), toEpochMillis(expiresAt));
+    }
+
+    // 이미 등록된 항목의 만료 시각은 변경하지 않음 (복구용)
+    public void scheduleIfAbsent(UUID paymentId, LocalDateTime expiresAt) {
+        redisTemplate.opsForZSet().addIfAbsent(queueKey, paymentId.toString(), toEpochMillis(expiresAt));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UUID> popDue(LocalDateTime now, int limit) {
+        List<String> items = redisTemplate.execute(
+            POP_DUE_SCRIPT, List.of(queueKey), String.valueOf(toEpochMillis(now)), String.valueOf(limit));
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream().map(UUID::fromString).toList();
+    }
+
+    // 처리 실패한 항목을 즉시 다시 처리되도록 재등록
+    public void retry(Collection<UUID> paymentIds, LocalDateTime now) {
+        paymentIds.forEach(paymentId -> schedule(paymentId, now));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
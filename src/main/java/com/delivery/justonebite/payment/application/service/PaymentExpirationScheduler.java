@@ -1,41 +1,110 @@
 package com.delivery.justonebite.payment.application.service;
 
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
 import com.delivery.justonebite.payment.domain.entity.Payment;
 import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
 import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
+import com.delivery.justonebite.payment.projection.PaymentExpirationProjection;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 /**
- *  결제 요청 후 10분 이내로 결제 승인 API를 호출 하지 않으면 자동 만료됨
+ *  결제 요청 후 10분 이내로 결제 승인 API를 호출 하지 않으면 자동 만료되고, 결제 대기 중인 주문은 취소됨
+ *  결제 요청 시점에 만료 지연 큐(PaymentExpirationQueue)에 등록하고, 만료 시각이 지난 결제만 꺼내서 만료 처리
+ *  (주기적인 결제 테이블 전체 조회 없음, 만료 처리는 PaymentExpirationWriter 참고)
  */
 public class PaymentExpirationScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String RECOVERY_JOB = "payment-expiration-recovery";
+
     private final PaymentRepository paymentRepository;
+    private final PaymentExpirationWriter paymentExpirationWriter;
+    private final PaymentExpirationQueue paymentExpirationQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+
+    // 만료 시각으로부터 약 1초 이내 처리
+    // 큐에서 꺼내는 작업이 원자적이어서 여러 노드가 동시에 실행해도 같은 결제를 중복 처리하지 않으므로,
+    // ClusterJobRunner(잠금 / 실행 기록 갱신) 없이 실행하여 만료 대상이 없는 주기에는 DB 를 사용하지 않음
+    @Scheduled(fixedDelay = 500)
+    public void expireDuePayments() {
+        expireDue();
+    }
 
-    @Transactional
-    @Scheduled(fixedRate = 60_000) // 1분마다 실행
-    public void expireUnconfirmedPayments() {
+    // 재시작 또는 Redis 데이터 유실 대비 : 기동 시 한 번만 실행
+    // 1) 이미 만료 시각이 지난 결제는 chunk 단위로 바로 만료 (chunk 마다 별도 트랜잭션)
+    // 2) 아직 만료 전인 승인 대기 결제는 큐에 다시 등록 (최근 10분 이내 생성분만 조회)
+    // 여러 노드가 함께 기동되는 경우 한 노드에서만 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverQueue() {
+        clusterJobRunner.run(RECOVERY_JOB, Duration.ofMinutes(1), this::recover);
+    }
+
+    private long expireDue() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime threshold = now.minusMinutes(10);
+        long expired = 0;
+        List<UUID> dueIds;
+        do {
+            dueIds = paymentExpirationQueue.popDue(now, BATCH_SIZE);
+            if (dueIds.isEmpty()) break;
+            expired += expire(dueIds, now);
+        } while (dueIds.size() == BATCH_SIZE);
+        return expired;
+    }
 
-        // 10분 전에 생성됐고 SUCCESS 상태 결제 찾기
-        List<Payment> expiredPayments = paymentRepository.findAllByStatusAndCreatedAtBefore(
-                PaymentStatus.SUCCESS,
-                threshold
-        );
+    private long recover() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.minus(Payment.EXPIRATION);
+
+        int expired = 0;
+        int chunk;
+        do {
+            chunk = expireStaleChunk(threshold, now);
+            expired += chunk;
+        } while (chunk == BATCH_SIZE);
 
-        if (expiredPayments.isEmpty()) return;
+        List<PaymentExpirationProjection> pending =
+                paymentRepository.findAllByStatusAndCreatedAtGreaterThanEqual(PaymentStatus.SUCCESS, threshold);
+        for (PaymentExpirationProjection payment : pending) {
+            paymentExpirationQueue.scheduleIfAbsent(
+                    payment.getPaymentId(), payment.getCreatedAt().plus(Payment.EXPIRATION));
+        }
+        log.info("결제 만료 대기열 복구 완료 expired={}, scheduled={}", expired, pending.size());
+        return expired;
+    }
 
-        for (Payment payment : expiredPayments) {
-            payment.updateStatus(PaymentStatus.EXPIRED);
+    private int expire(List<UUID> paymentIds, LocalDateTime now) {
+        try {
+            // 그 사이 승인/실패되었거나 다른 노드가 처리 중인 결제는 제외됨
+            Integer expired = transactionTemplate.execute(status ->
+                    paymentExpirationWriter.expire(paymentIds, now));
+            log.debug("결제 만료 처리 due={}, expired={}", paymentIds.size(), expired);
+            return expired == null ? 0 : expired;
+        } catch (Exception e) {
+            log.warn("결제 만료 처리 실패, 재등록 count={}", paymentIds.size(), e);
+            paymentExpirationQueue.retry(paymentIds, now);
+            return 0;
         }
-        paymentRepository.saveAll(expiredPayments);
+    }
+
+    private int expireStaleChunk(LocalDateTime threshold, LocalDateTime now) {
+        Integer expired = transactionTemplate.execute(status ->
+                paymentExpirationWriter.expireStale(threshold, BATCH_SIZE, now));
+        return expired == null ? 0 : expired;
     }
 }
@@ -0,0 +1,72 @@
+package com.delivery.justonebite.payment.application.service;
+
+import com.delivery.justonebite.payment.domain.entity.PaymentDiscrepancyType;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentDiscrepancy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * 결제 한 건과 그 거래 내역의 누적 상태 (결제 대사용)
+ * 가장 최근 거래는 거래 시각이 가장 늦은 거래이다. (같은 시각이면 나중에 추가된 거래)
+ * 거래 ID 는 UUIDv7 도입 이전에 생성된 거래가 랜덤(v4)이므로 순서 판단에 사용하지 않는다.
+ */
+final class PaymentLedger {
+
+    @Getter
+    private final UUID paymentId;
+    private final int totalAmount;
+    private final int balanceAmount;
+    private final PaymentStatus status;
+    private final UUID lastTransactionId;
+
+    private long cancelledAmount;
+    private UUID latestTransactionId;
+    private LocalDateTime latestTransactionAt;
+
+    PaymentLedger(UUID paymentId, int totalAmount, int balanceAmount, PaymentStatus status, UUID lastTransactionId) {
+        this.paymentId = paymentId;
+        this.totalAmount = totalAmount;
+        this.balanceAmount = balanceAmount;
+        this.status = status;
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    void addTransaction(UUID transactionId, LocalDateTime transactionAt, int amount, boolean cancel) {
+        if (cancel) {
+            cancelledAmount += amount;
+        }
+        if (latestTransactionAt == null || !transactionAt.isBefore(latestTransactionAt)) {
+            latestTransactionId = transactionId;
+            latestTransactionAt = transactionAt;
+        }
+    }
+
+    List<PaymentDiscrepancy> verify() {
+        List<PaymentDiscrepancy> discrepancies = new ArrayList<>(0);
+
+        long expectedBalance = totalAmount - cancelledAmount;
+        if (balanceAmount != expectedBalance) {
+            discrepancies.add(discrepancy(PaymentDiscrepancyType.BALANCE_MISMATCH, expectedBalance, balanceAmount));
+        }
+        if (!Objects.equals(lastTransactionId, latestTransactionId)) {
+            discrepancies.add(discrepancy(PaymentDiscrepancyType.LAST_TRANSACTION_MISMATCH, latestTransactionId, lastTransactionId));
+        }
+        if (status == PaymentStatus.CANCELED && balanceAmount != 0) {
+            discrepancies.add(discrepancy(PaymentDiscrepancyType.STATUS_MISMATCH, "balance=0", "balance=" + balanceAmount));
+        }
+        if (status == PaymentStatus.PARTIAL_CANCELED && (balanceAmount <= 0 || balanceAmount >= totalAmount)) {
+            discrepancies.add(discrepancy(PaymentDiscrepancyType.STATUS_MISMATCH,
+                "0<balance<" + totalAmount, "balance=" + balanceAmount));
+        }
+        return discrepancies;
+    }
+
+    private PaymentDiscrepancy discrepancy(PaymentDiscrepancyType type, Object expected, Object actual) {
+        return new PaymentDiscrepancy(paymentId, type, String.valueOf(expected), String.valueOf(actual));
+    }
+}
@@ -0,0 +1,120 @@
+package com.delivery.justonebite.payment.application.service;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayClient;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayResult;
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
+import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
+import com.delivery.justonebite.payment.projection.PaymentExpirationProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+/**
+ *  PG 요청 결과가 확정되지 않은 결제 정리
+ *  1) READY : PG 요청 중 프로세스 종료 / 결과 반영 실패로 남은 결제, PG 응답 대기 시간이 지나면 실패 처리 후 주문 취소
+ *     (승인 API 를 호출할 수 없는 결제이므로 PG 에서 승인되었더라도 매입되지 않음)
+ *  2) UNKNOWN : PG 응답 시간 초과 결제, PG 상태 조회로 승인(승인 대기 + 만료 대기열 등록) / 거절(실패 + 주문 취소) 확정
+ *     승인 대기 시간이 지나도록 확정하지 못하면 만료 처리
+ */
+public class PaymentOutcomeScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String JOB_NAME = "payment-outcome-resolution";
+    // PG 응답 대기 시간 이후 결과 반영 트랜잭션까지 기다리는 여유 시간
+    private static final Duration READY_GRACE = Duration.ofSeconds(30);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentExpirationWriter paymentExpirationWriter;
+    private final PaymentExpirationQueue paymentExpirationQueue;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Scheduled(fixedDelay = 10_000)
+    public void resolvePayments() {
+        clusterJobRunner.run(JOB_NAME, Duration.ofSeconds(9), this::resolve);
+    }
+
+    private long resolve() {
+        LocalDateTime now = LocalDateTime.now();
+        return failStaleReady(now) + resolveUnknown(now);
+    }
+
+    private long failStaleReady(LocalDateTime now) {
+        LocalDateTime threshold = now.minus(Duration.ofMillis(paymentGatewayClient.getTimeoutMillis())).minus(READY_GRACE);
+        long failed = 0;
+        int chunk;
+        do {
+            Integer closed = transactionTemplate.execute(status ->
+                    paymentExpirationWriter.failStaleReady(threshold, BATCH_SIZE, now));
+            chunk = closed == null ? 0 : closed;
+            failed += chunk;
+        } while (chunk == BATCH_SIZE);
+        if (failed > 0) {
+            log.warn("PG 결과 미반영 결제 실패 처리 count={}", failed);
+        }
+        return failed;
+    }
+
+    // 한 주기에 오래된 순으로 BATCH_SIZE 건만 조회 (나머지는 다음 주기)
+    private long resolveUnknown(LocalDateTime now) {
+        List<PaymentExpirationProjection> unknown =
+                paymentRepository.findByStatusOrderByCreatedAt(PaymentStatus.UNKNOWN, Limit.of(BATCH_SIZE));
+        long resolved = 0;
+        for (PaymentExpirationProjection payment : unknown) {
+            try {
+                if (resolve(payment, now)) {
+                    resolved++;
+                }
+            } catch (Exception e) {
+                log.warn("PG 결과 확정 실패 paymentId={}", payment.getPaymentId(), e);
+            }
+        }
+        return resolved;
+    }
+
+    // PG 상태 조회는 트랜잭션 밖에서 수행하고, 결과 반영은 UNKNOWN 인 경우에만 (조건부 UPDATE)
+    private boolean resolve(PaymentExpirationProjection payment, LocalDateTime now) {
+        PaymentGatewayResult result = paymentGatewayClient.inquirePayment(payment.getPaymentId());
+        LocalDateTime expiresAt = payment.getCreatedAt().plus(Payment.EXPIRATION);
+
+        switch (result.outcome()) {
+            case APPROVED -> {
+                Integer updated = transactionTemplate.execute(status -> paymentRepository.updateStatusIfCurrentIn(
+                        payment.getPaymentId(), List.of(PaymentStatus.UNKNOWN), PaymentStatus.SUCCESS));
+                if (updated == null || updated == 0) {
+                    return false;
+                }
+                // 만료 시각이 이미 지났으면 다음 만료 처리 주기에 바로 만료됨
+                paymentExpirationQueue.schedule(payment.getPaymentId(), expiresAt);
+                return true;
+            }
+            case DECLINED -> {
+                return close(payment, PaymentStatus.FAIL, now);
+            }
+            default -> {
+                // 아직 확인 불가 : 승인 대기 시간이 지나면 만료, 그 전에는 다음 주기에 다시 조회
+                return !expiresAt.isAfter(now) && close(payment, PaymentStatus.EXPIRED, now);
+            }
+        }
+    }
+
+    private boolean close(PaymentExpirationProjection payment, PaymentStatus status, LocalDateTime now) {
+        Boolean closed = transactionTemplate.execute(tx -> paymentExpirationWriter.close(
+                payment.getPaymentId(), List.of(PaymentStatus.UNKNOWN), status, now));
+        return Boolean.TRUE.equals(closed);
+    }
+}
@@ -0,0 +1,41 @@
+package com.delivery.justonebite.payment.application.service;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 새벽 전체 결제 대사 (PaymentReconciliationService)
+ * 수천만 건 기준 수십 분이 걸릴 수 있으므로 스케줄러 스레드(결제 만료 등 다른 작업과 공유)를 점유하지 않도록
+ * 별도 가상 스레드에서 실행하고, 이전 실행이 끝나지 않았으면 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private static final String RECONCILIATION_JOB = "payment-reconciliation";
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final ClusterJobRunner clusterJobRunner;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[PaymentReconciliation] 이전 실행이 진행 중이므로 건너뜀");
+            return;
+        }
+        Thread.ofVirtual().name(RECONCILIATION_JOB).start(() -> {
+            try {
+                clusterJobRunner.run(RECONCILIATION_JOB, Duration.ofHours(1), paymentReconciliationService::reconcile);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,185 @@
+package com.delivery.justonebite.payment.application.service;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentReconciliationRepository;
+import com.delivery.justonebite.payment.projection.PaymentDiscrepancy;
+import com.delivery.justonebite.payment.projection.PaymentReconciliationRun;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 대사 : 결제의 취소 가능 금액 / 마지막 거래 ID / 상태가 거래 내역과 일치하는지 검사하고 불일치를 리포트 테이블에 기록한다.
+ * <p>
+ * 결제 ⋈ 거래를 결제 ID / 거래 시각 순으로 정렬한 결과를 서버 측 커서로 fetchSize 건씩 읽으면서
+ * 결제가 바뀔 때마다 직전 결제를 검사하므로, 전체 행 수와 관계없이 결제 한 건 분량의 메모리만 사용한다.
+ * 조회는 하나의 SELECT(하나의 스냅샷)로 수행되어 실행 중에 변경되는 결제 때문에 잘못된 불일치가 기록되지 않는다.
+ * 진행 상황(처리 행 수 / 처리량)은 progressIntervalRows 마다 실행 기록(h_payment_reconciliation_run)에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    // (payment_id, transaction_at, transaction_id) 인덱스로 정렬 없이 merge join (db/patch/004_payment_reconciliation.sql)
+    // 거래 ID 는 UUIDv7 도입 이전 거래가 랜덤(v4)이므로 최근 거래 판단에 쓰지 않고 거래 시각 순으로 정렬
+    private static final String LEDGER_QUERY = """
+        SELECT p.payment_id, p.total_amount, p.balance_amount, p.last_status, p.last_transaction_id,
+               t.transaction_id, t.transaction_at, t.amount, t.cancel_status
+        FROM h_payment p
+        LEFT JOIN h_transaction t ON t.payment_id = p.payment_id
+        ORDER BY p.payment_id, t.transaction_at, t.transaction_id
+        """;
+    private static final int REPORT_BATCH_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int RECENT_RUNS = 20;
+
+    private final DataSource dataSource;
+    private final PaymentReconciliationRepository reconciliationRepository;
+
+    @Value("${payment.reconciliation.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${payment.reconciliation.progress-interval-rows:100000}")
+    private long progressIntervalRows;
+
+    /**
+     * 전체 결제 대사
+     * @return 발견한 불일치 수
+     */
+    public long reconcile() {
+        UUID runId = UuidV7.generate();
+        reconciliationRepository.startRun(runId, LocalDateTime.now(), ClusterJobRunner.node());
+
+        Progress progress = new Progress(runId);
+        try {
+            scan(progress);
+            progress.publish();
+            reconciliationRepository.finishRun(runId, LocalDateTime.now(), "SUCCESS", null);
+            log.info("[PaymentReconciliation] 완료 runId={}, payments={}, rows={}, discrepancies={}, {} rows/s",
+                runId, progress.scannedPayments, progress.scannedRows, progress.discrepancyCount, progress.rowsPerSecond());
+            return progress.discrepancyCount;
+        } catch (SQLException | RuntimeException e) {
+            reconciliationRepository.finishRun(runId, LocalDateTime.now(), "FAILED", abbreviate(e));
+            throw new IllegalStateException("결제 대사 실패 runId=" + runId, e);
+        }
+    }
+
+    public List<PaymentReconciliationRun> getRecentRuns() {
+        return reconciliationRepository.findRecentRuns(RECENT_RUNS);
+    }
+
+    private void scan(Progress progress) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // PostgreSQL 드라이버는 auto-commit 이 꺼져 있어야 fetchSize 단위로 커서에서 읽음 (켜져 있으면 전체 결과를 한 번에 적재)
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(
+                LEDGER_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    PaymentLedger ledger = null;
+                    while (rs.next()) {
+                        UUID paymentId = rs.getObject("payment_id", UUID.class);
+                        if (ledger == null || !ledger.getPaymentId().equals(paymentId)) {
+                            if (ledger != null) {
+                                progress.record(ledger.verify());
+                            }
+                            ledger = new PaymentLedger(
+                                paymentId,
+                                rs.getInt("total_amount"),
+                                rs.getInt("balance_amount"),
+                                PaymentStatus.valueOf(rs.getString("last_status")),
+                                rs.getObject("last_transaction_id", UUID.class));
+                        }
+                        UUID transactionId = rs.getObject("transaction_id", UUID.class);
+                        if (transactionId != null) {
+                            // 취소 거래만 취소 상태(cancel_status)가 기록됨
+                            ledger.addTransaction(transactionId, rs.getObject("transaction_at", LocalDateTime.class),
+                                rs.getInt("amount"), rs.getObject("cancel_status") != null);
+                        }
+                        progress.rowScanned();
+                    }
+                    if (ledger != null) {
+                        progress.record(ledger.verify());
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private String abbreviate(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    // 실행 중 집계 : 불일치는 REPORT_BATCH_SIZE 건씩 모아서 기록
+    private class Progress {
+
+        private final UUID runId;
+        private final long startedNanos = System.nanoTime();
+        private final List<PaymentDiscrepancy> pending = new ArrayList<>(REPORT_BATCH_SIZE);
+        private long scannedPayments;
+        private long scannedRows;
+        private long discrepancyCount;
+
+        private Progress(UUID runId) {
+            this.runId = runId;
+        }
+
+        private void rowScanned() {
+            scannedRows++;
+            if (scannedRows % progressIntervalRows == 0) {
+                publish();
+                log.info("[PaymentReconciliation] 진행 runId={}, payments={}, rows={}, discrepancies={}, {} rows/s",
+                    runId, scannedPayments, scannedRows, discrepancyCount, rowsPerSecond());
+            }
+        }
+
+        private void record(List<PaymentDiscrepancy> discrepancies) {
+            scannedPayments++;
+            if (discrepancies.isEmpty()) {
+                return;
+            }
+            pending.addAll(discrepancies);
+            discrepancyCount += discrepancies.size();
+            if (pending.size() >= REPORT_BATCH_SIZE) {
+                flushReport();
+            }
+        }
+
+        private void publish() {
+            flushReport();
+            reconciliationRepository.updateProgress(runId, scannedPayments, scannedRows, discrepancyCount, rowsPerSecond());
+        }
+
+        private void flushReport() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            reconciliationRepository.insertDiscrepancies(runId, pending, LocalDateTime.now());
+            pending.clear();
+        }
+
+        private long rowsPerSecond() {
+            long elapsedNanos = Math.max(1, System.nanoTime() - startedNanos);
+            return scannedRows * 1_000_000_000L / elapsedNanos;
+        }
+    }
+}
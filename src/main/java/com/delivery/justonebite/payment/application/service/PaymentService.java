@@ -2,27 +2,38 @@ package com.delivery.justonebite.payment.application.service;
 
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayClient;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayRequest;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayResult;
 import com.delivery.justonebite.payment.domain.entity.Payment;
 import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
 import com.delivery.justonebite.payment.domain.entity.Transaction;
+import com.delivery.justonebite.payment.domain.repository.PaymentCancelWriter;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
 import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
 import com.delivery.justonebite.payment.domain.repository.TransactionRepository;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentCancelRequest;
+import com.delivery.justonebite.payment.projection.PaymentCancelProjection;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentConfirmRequest;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentRequest;
 import com.delivery.justonebite.payment.presentation.dto.response.*;
 import com.delivery.justonebite.order.domain.entity.Order;
-import com.delivery.justonebite.order.domain.entity.OrderHistory;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
 import com.delivery.justonebite.order.domain.repository.OrderRepository;
-import com.delivery.justonebite.order.domain.repository.OrderHistoryRepository;
+import com.delivery.justonebite.order.domain.repository.OrderWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -31,8 +42,16 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final TransactionRepository transactionRepository;
+    private final PaymentCancelWriter paymentCancelWriter;
+    private final PaymentExpirationWriter paymentExpirationWriter;
     private final OrderRepository orderRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
+    private final OrderWriter orderWriter;
+    private final PaymentExpirationQueue paymentExpirationQueue;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final TransactionTemplate transactionTemplate;
+
+    // 일괄 승인 시 한 트랜잭션에서 처리하는 건수
+    private static final int CONFIRM_CHUNK_SIZE = 100;
 
     public Payment getPaymentById(UUID paymentId) {
         return paymentRepository.findByPaymentId(paymentId)
@@ -44,28 +63,75 @@ public class PaymentService {
             .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
     }
 
-    @Transactional
+    /**
+     * 결제 요청 : 결제 생성(커밋) → PG 요청 → 결과 반영(커밋)
+     * <p>
+     * PG 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 PG 요청은 트랜잭션 밖에서 수행한다.
+     * 호출하는 쪽도 트랜잭션 안에서 호출하면 안 된다.
+     * PG 요청 또는 결과 반영 중 예외가 발생하면 결제는 실패(FAIL), 결제 대기 중인 주문은 취소 처리 후 예외를 전파하고,
+     * 이 처리마저 실패하여 READY 로 남은 결제는 PaymentOutcomeScheduler 가 정리한다.
+     * PG 응답 시간 초과로 결과를 알 수 없는 결제는 UNKNOWN 으로 두고 상태 조회로 확정한다.
+     */
     public PaymentResponse requestPayment(PaymentRequest request) {
-
-        Payment payment = Payment.createPayment(request.orderId(), request.orderName(), request.amount());
-        paymentRepository.save(payment);
-
         if (!request.status()) {
-            payment.updateStatus(PaymentStatus.FAIL);
+            transactionTemplate.executeWithoutResult(status -> {
+                Payment payment = Payment.createPayment(request.orderId(), request.orderName(), request.amount());
+                payment.updateStatus(PaymentStatus.FAIL);
+                paymentRepository.save(payment);
+            });
             return new PaymentFailResponse(request.orderId(), "PAY_PROCESS_CANCELED","사용자에 의해 결제가 취소되었습니다.");
         }
-        payment.updateStatus(PaymentStatus.SUCCESS);
+
+        Payment payment = transactionTemplate.execute(status -> paymentRepository.save(
+            Payment.createPayment(request.orderId(), request.orderName(), request.amount())));
+
+        PaymentGatewayResult result;
+        try {
+            result = paymentGatewayClient.requestPayment(new PaymentGatewayRequest(
+                payment.getPaymentId(), request.orderId(), request.orderName(), request.amount()));
+
+            PaymentStatus nextStatus = switch (result.outcome()) {
+                case APPROVED -> PaymentStatus.SUCCESS;
+                case DECLINED -> PaymentStatus.FAIL;
+                case UNKNOWN -> PaymentStatus.UNKNOWN;
+            };
+            transactionTemplate.executeWithoutResult(status -> getPaymentById(payment.getPaymentId()).updateStatus(nextStatus));
+        } catch (RuntimeException e) {
+            closeFailedRequest(payment.getPaymentId(), e);
+            throw e;
+        }
+
+        if (result.outcome() == PaymentGatewayResult.Outcome.DECLINED) {
+            return new PaymentFailResponse(request.orderId(), result.code(), result.message());
+        }
+        if (result.outcome() == PaymentGatewayResult.Outcome.UNKNOWN) {
+            // 결과가 확정되면 승인 대기(SUCCESS, 만료 대기열 등록) 또는 실패(주문 취소)로 전이
+            return new PaymentPendingResponse(request.orderId(), payment.getPaymentId(), result.code(), result.message());
+        }
+        scheduleExpiration(payment);
         return new PaymentSuccessResponse(request.orderId(), payment.getPaymentId(), request.amount());
     }
 
+    // 결제 요청 중 예외 : READY 결제 실패 처리 + 결제 대기 중인 주문 취소 (PG 에서 승인되었더라도 승인 API 호출 전이므로 매입되지 않음)
+    private void closeFailedRequest(UUID paymentId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> paymentExpirationWriter.close(
+                paymentId, List.of(PaymentStatus.READY), PaymentStatus.FAIL, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // READY 로 남은 결제는 PaymentOutcomeScheduler 가 실패 처리
+            cause.addSuppressed(e);
+            log.warn("결제 요청 실패 처리 실패 paymentId={}", paymentId, e);
+        }
+    }
+
     @Transactional
     public Object confirmPayment(PaymentConfirmRequest request) {
-        Payment payment = paymentRepository.findByPaymentId(request.paymentId())
+        // 일괄 승인과 같이 조회 시점에 잠금 : 검증 후 커밋 전에 만료(EXPIRED + 주문 취소)되어 DONE 으로 덮어쓰지 않도록
+        Payment payment = paymentRepository.findForUpdateByPaymentId(request.paymentId())
                 .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 
-        // 만료 상태 확인
+        // 만료 상태 확인 (주문 취소 및 이력 추가는 만료 처리 시점에 함께 처리됨 : PaymentExpirationWriter)
         if (PaymentStatus.EXPIRED.equals(payment.getStatus())) {
-            updateOrderStatusToCancel(payment.getOrderId());
             throw new CustomException(ErrorCode.PAYMENT_EXPIRED);
         }
         // 결제 상태 검증
@@ -92,26 +158,115 @@ public class PaymentService {
         }
     }
 
+    /**
+     * 결제 일괄 승인 : CONFIRM_CHUNK_SIZE 건마다 하나의 트랜잭션에서
+     * 결제 일괄 조회(잠금) 1회 → 건별 검증 → 거래 INSERT / 결제 UPDATE 를 JDBC batch 로 전송 (JpaConfig 참고)
+     * 검증 실패는 해당 건만 실패로 응답하고, chunk 처리 중 예외가 발생하면 해당 chunk 전체를 실패로 응답한다. (롤백되어 재시도 가능)
+     */
+    public PaymentBatchConfirmResponse confirmPayments(List<PaymentConfirmRequest> requests) {
+        List<PaymentBatchConfirmResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += CONFIRM_CHUNK_SIZE) {
+            List<PaymentConfirmRequest> chunk = requests.subList(from, Math.min(from + CONFIRM_CHUNK_SIZE, requests.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> confirmChunk(chunk)));
+            } catch (Exception e) {
+                log.warn("결제 일괄 승인 실패 size={}", chunk.size(), e);
+                chunk.forEach(request ->
+                    results.add(PaymentBatchConfirmResult.fail(request.paymentId(), ErrorCode.PAYMENT_CONFIRM_FAILED)));
+            }
+        }
+        return PaymentBatchConfirmResponse.from(results);
+    }
+
+    private List<PaymentBatchConfirmResult> confirmChunk(List<PaymentConfirmRequest> chunk) {
+        Map<UUID, Payment> payments = paymentRepository.findAllForUpdateByPaymentIdIn(
+                chunk.stream().map(PaymentConfirmRequest::paymentId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Payment::getPaymentId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(chunk.size());
+        List<PaymentBatchConfirmResult> results = new ArrayList<>(chunk.size());
+        for (PaymentConfirmRequest request : chunk) {
+            Payment payment = payments.get(request.paymentId());
+            ErrorCode error = validateConfirm(payment, request);
+            if (error != null) {
+                results.add(PaymentBatchConfirmResult.fail(request.paymentId(), error));
+                continue;
+            }
+            Transaction transaction = Transaction.createTransaction(payment, request.amount());
+            transactions.add(transaction);
+            // 식별자는 persist 시점에 할당되므로 lastTransactionId 는 saveAll 이후 반영
+            payment.updateStatus(PaymentStatus.DONE);
+            payment.updateApprovedAt(now);
+            results.add(null);
+        }
+
+        transactionRepository.saveAll(transactions);
+
+        int transactionIndex = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+            Transaction transaction = transactions.get(transactionIndex++);
+            Payment payment = transaction.getPayment();
+            payment.updateLastTransactionId(transaction.getTransactionId());
+            results.set(i, PaymentBatchConfirmResult.success(PaymentConfirmResponse.from(payment)));
+        }
+        return results;
+    }
+
+    // 단건 승인(confirmPayment)과 같은 기준으로 검증, 같은 요청 안에서 중복된 결제는 두 번째부터 상태 오류
+    private ErrorCode validateConfirm(Payment payment, PaymentConfirmRequest request) {
+        if (payment == null) {
+            return ErrorCode.PAYMENT_NOT_FOUND;
+        }
+        if (PaymentStatus.EXPIRED.equals(payment.getStatus())) {
+            return ErrorCode.PAYMENT_EXPIRED;
+        }
+        if (!PaymentStatus.SUCCESS.equals(payment.getStatus())) {
+            return ErrorCode.INVALID_PAYMENT_STATUS;
+        }
+        if (!payment.getTotalAmount().equals(request.amount())) {
+            return ErrorCode.PAYMENT_AMOUNT_NOT_MATCH;
+        }
+        return null;
+    }
+
+    // 잔액 차감과 취소 거래 추가를 조건부 UPDATE 한 번으로 처리 (동시 부분 취소 시 초과 취소 / 차감 유실 방지)
     @Transactional
     public PaymentCancelResponse cancelPayment(PaymentCancelRequest request) {
-        Payment payment = paymentRepository.findByPaymentId(request.paymentKey())
-                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+        PaymentCancelProjection cancellation = paymentCancelWriter.cancel(
+                request.paymentKey(), request.cancelAmount(), request.cancelReason(), LocalDateTime.now())
+            .orElseThrow(() -> resolveCancelFailure(request.paymentKey()));
+
+        return PaymentCancelResponse.from(cancellation, request.cancelReason());
+    }
 
-        // 취소 상태 검증
-        if (PaymentStatus.CANCELED.equals(payment.getStatus())) {
-            throw new CustomException(ErrorCode.PAYMENT_ALREADY_CANCELED);
+    // 변경된 행이 없을 때 DB 의 현재 상태를 기준으로 실패 사유 결정
+    private CustomException resolveCancelFailure(UUID paymentId) {
+        PaymentStatus status = paymentRepository.findStatusByPaymentId(paymentId)
+            .orElse(null);
+
+        if (status == null) {
+            return new CustomException(ErrorCode.PAYMENT_NOT_FOUND);
+        }
+        if (PaymentStatus.CANCELED.equals(status)) {
+            return new CustomException(ErrorCode.PAYMENT_ALREADY_CANCELED);
         }
+        return new CustomException(ErrorCode.CANCEL_AMOUNT_EXCEEDED);
+    }
 
-        payment.decreaseBalanceAmount(request.cancelAmount());
-        if (payment.getBalanceAmount() == 0) {
-            payment.updateStatus(PaymentStatus.CANCELED);
-        } else {
-            payment.updateStatus(PaymentStatus.PARTIAL_CANCELED);
+    // 승인 대기 결제를 만료 지연 큐에 등록
+    // 트랜잭션이 롤백되어 결제가 없거나 그 사이 승인된 경우 만료 처리 시 조건부 UPDATE 에서 제외됨
+    private void scheduleExpiration(Payment payment) {
+        try {
+            paymentExpirationQueue.schedule(payment.getPaymentId(), payment.getExpiresAt());
+        } catch (Exception e) {
+            // 큐 등록 실패가 결제 요청을 실패시키지 않도록 로그만 남김 (기동 시 복구 대상)
+            log.warn("결제 만료 대기열 등록 실패 paymentId={}", payment.getPaymentId(), e);
         }
-        Transaction transaction = Transaction.createCancelTransaction(payment, request.cancelAmount(), request.cancelReason(), payment.getStatus());
-        transactionRepository.save(transaction);
-        payment.updateLastTransactionId(transaction.getTransactionId()); // save 안해도 자동 commit
-        return PaymentCancelResponse.from(payment, request.cancelReason());
     }
 
     // orderStatus 변경 및 orderHistory 객체 생성
@@ -120,6 +275,6 @@ public class PaymentService {
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
         
         order.updateExpiredStatus(PaymentStatus.EXPIRED);
-        orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.ORDER_CANCELLED));
+        orderWriter.appendHistory(order, OrderStatus.ORDER_CANCELLED);
     }
 }
\ No newline at end of file
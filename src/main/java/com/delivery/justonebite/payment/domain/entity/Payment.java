@@ -1,11 +1,13 @@
 package com.delivery.justonebite.payment.domain.entity;
 
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.springframework.data.annotation.CreatedDate;
@@ -20,8 +22,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(name = "h_payment")
 public class Payment {
 
+    // 결제 요청 후 승인 대기 시간 (초과 시 만료)
+    public static final Duration EXPIRATION = Duration.ofMinutes(10);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "payment_id",nullable = false)
     private UUID paymentId;
 
@@ -71,6 +76,10 @@ public class Payment {
         this.balanceAmount -= amount;
     }
 
+    public LocalDateTime getExpiresAt() {
+        return this.createdAt.plus(EXPIRATION);
+    }
+
     public void updateStatus(PaymentStatus status) {
         this.status = status;
     }
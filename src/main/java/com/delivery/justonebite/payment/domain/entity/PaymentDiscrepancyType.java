@@ -0,0 +1,10 @@
+package com.delivery.justonebite.payment.domain.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum PaymentDiscrepancyType {
+    BALANCE_MISMATCH, // 취소 가능 금액 ≠ 결제 금액 - 취소 거래 금액 합계
+    LAST_TRANSACTION_MISMATCH, // 마지막 거래 ID 가 가장 최근 거래를 가리키지 않음
+    STATUS_MISMATCH // 결제 상태와 취소 가능 금액이 맞지 않음 (전액 취소인데 잔액 존재 등)
+}
@@ -11,5 +11,6 @@ public enum PaymentStatus {
     ABORTED, // 결제 승인 실패
     CANCELED, // 승인 된 결제 취소
     PARTIAL_CANCELED, // 일부 결제 취소
-    EXPIRED // 결제 만료
+    EXPIRED, // 결제 만료
+    UNKNOWN // PG 응답 시간 초과 (처리 결과 미확인, PG 상태 조회로 확정)
 }
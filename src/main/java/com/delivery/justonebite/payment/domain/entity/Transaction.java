@@ -1,5 +1,6 @@
 package com.delivery.justonebite.payment.domain.entity;
 
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "transaction_id", nullable = false)
     private UUID transactionId;
 
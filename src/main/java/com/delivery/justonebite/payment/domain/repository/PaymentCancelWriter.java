@@ -0,0 +1,82 @@
+package com.delivery.justonebite.payment.domain.repository;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentCancelProjection;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 취소 쓰기 전용 경로.
+ * <p>
+ * 결제를 조회해서 메모리에서 잔액을 차감하면, 동시에 들어온 부분 취소 요청들이 같은 잔액을 보고
+ * 모두 검증을 통과하여 잔액보다 많이 취소되거나 차감 내역이 유실(lost update)될 수 있다.
+ * 대신 "잔액이 취소 금액 이상일 때만" 차감하는 조건부 UPDATE 와 취소 거래 INSERT 를 하나의 SQL(데이터 변경 CTE)로 처리한다.
+ * 같은 결제에 대한 동시 취소는 행 잠금 순서대로 직렬화되고, 뒤따르는 요청은 앞선 차감이 반영된 잔액으로 다시 조건을 평가한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentCancelWriter {
+
+    // Transaction.status / cancelStatus 는 @Enumerated 가 없어 순번(ORDINAL)으로 저장됨
+    private static final String CANCEL = """
+        WITH cancelled AS (
+            UPDATE h_payment
+            SET balance_amount = balance_amount - :amount,
+                last_status = CASE WHEN balance_amount = :amount THEN 'CANCELED' ELSE 'PARTIAL_CANCELED' END,
+                last_transaction_id = :transactionId
+            WHERE payment_id = :paymentId
+              AND balance_amount >= :amount
+              AND last_status <> 'CANCELED'
+            RETURNING payment_id, order_id, order_name, total_amount, balance_amount, last_status
+        ),
+        tx AS (
+            INSERT INTO h_transaction (transaction_id, payment_id, amount, status, cancel_reason, cancel_status, transaction_at, canceled_at)
+            SELECT :transactionId, payment_id, :amount, :doneStatus, :reason,
+                   CASE WHEN last_status = 'CANCELED' THEN :canceledStatus ELSE :partialCanceledStatus END,
+                   :now, :now
+            FROM cancelled
+            RETURNING transaction_id
+        )
+        SELECT c.payment_id, tx.transaction_id, c.order_id, c.order_name, c.total_amount, c.balance_amount, c.last_status
+        FROM cancelled c
+        CROSS JOIN tx
+        """;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 잔액이 충분한 경우에만 취소 금액을 차감하고 취소 거래를 추가
+     * @return 취소 직후 결제 상태 (결제가 없거나 이미 전액 취소되었거나 잔액이 부족하면 빈 값)
+     */
+    public Optional<PaymentCancelProjection> cancel(UUID paymentId, int amount, String reason, LocalDateTime now) {
+        List<?> rows = entityManager.createNativeQuery(CANCEL)
+            .setParameter("paymentId", paymentId)
+            .setParameter("amount", amount)
+            .setParameter("transactionId", UuidV7.generate())
+            .setParameter("reason", reason)
+            .setParameter("doneStatus", PaymentStatus.DONE.ordinal())
+            .setParameter("canceledStatus", PaymentStatus.CANCELED.ordinal())
+            .setParameter("partialCanceledStatus", PaymentStatus.PARTIAL_CANCELED.ordinal())
+            .setParameter("now", now)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> (Object[]) row)
+            .map(columns -> new PaymentCancelProjection(
+                (UUID) columns[0],
+                (UUID) columns[1],
+                (UUID) columns[2],
+                (String) columns[3],
+                ((Number) columns[4]).intValue(),
+                ((Number) columns[5]).intValue(),
+                PaymentStatus.valueOf((String) columns[6]),
+                now))
+            .findFirst();
+    }
+}
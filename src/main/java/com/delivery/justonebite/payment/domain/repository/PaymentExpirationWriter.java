@@ -0,0 +1,196 @@
+package com.delivery.justonebite.payment.domain.repository;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.domain.event.OrderHistoryAppendedEvent;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 만료 쓰기 전용 경로.
+ * <p>
+ * 만료 대상 결제를 엔티티로 읽지 않고, 하나의 SQL(데이터 변경 CTE)에서
+ * 결제 만료 → 결제 대기 중(PENDING)인 주문 취소 → 주문 상태 이력(ORDER_CANCELLED) 추가를 한 번에 처리한다.
+ * PG 요청이 실패로 끝났거나 결과를 확정하지 못한 결제(READY / UNKNOWN)의 실패 처리도 같은 경로를 사용한다.
+ * 조건으로 찾는 경로(보정 스캔)는 FOR UPDATE SKIP LOCKED 로 잠그므로 여러 노드가 동시에 실행해도 같은 결제를 중복 처리하지 않으며,
+ * 한 번에 처리하는 건수(chunk)가 정해져 있어 장애 후 대기 건이 많이 쌓여도 메모리 사용량이 일정하다.
+ * ID 를 지정하는 경로는 건너뛰면 다시 처리할 기회가 없으므로 SKIP LOCKED 없이 잠금을 기다린 뒤 상태를 다시 확인한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentExpirationWriter {
+
+    // 대상(due) 이후 단계 : 결제 종료(:status, EXPIRED / FAIL) → 주문 취소 → 이력 추가
+    // 이력 ID 는 다른 엔티티와 같이 UUIDv7 을 애플리케이션에서 미리 발급하여 순번으로 매칭
+    private static final String CLOSE_AND_CANCEL = """
+        expired AS (
+            UPDATE h_payment p
+            SET last_status = :status
+            FROM due
+            WHERE p.payment_id = due.payment_id
+            RETURNING p.order_id
+        ),
+        cancelled AS (
+            UPDATE h_order o
+            SET current_status = 'ORDER_CANCELLED', updated_at = :now
+            FROM expired
+            WHERE o.order_id = expired.order_id AND o.current_status = 'PENDING'
+            RETURNING o.order_id
+        ),
+        numbered AS (
+            SELECT order_id, row_number() OVER (ORDER BY order_id) AS rn
+            FROM cancelled
+        ),
+        history AS (
+            INSERT INTO h_order_history (order_history_id, order_id, status, created_at)
+            SELECT ids.history_id, numbered.order_id, 'ORDER_CANCELLED', :now
+            FROM numbered
+            JOIN unnest(CAST(:historyIds AS uuid[])) WITH ORDINALITY AS ids(history_id, rn) ON ids.rn = numbered.rn
+            RETURNING order_id, order_history_id
+        )
+        SELECT e.order_id, h.order_history_id
+        FROM expired e
+        LEFT JOIN history h ON h.order_id = e.order_id
+        """;
+
+    // 지연 큐에서 꺼낸 결제 중 아직 승인 대기(SUCCESS)인 결제
+    // 큐에서 이미 꺼낸 ID 이므로 SKIP LOCKED 로 건너뛰면 잠금 보유 트랜잭션이 롤백될 때 SUCCESS 로 남은 채 큐에서 사라진다.
+    // 잠금을 기다린 뒤 상태를 다시 확인하며(승인 커밋 시 제외), 결제 ID 순으로 잠가 교착 상태를 피함
+    private static final String EXPIRE_BY_IDS = """
+        WITH due AS (
+            SELECT payment_id
+            FROM h_payment
+            WHERE payment_id IN (:paymentIds) AND last_status = 'SUCCESS'
+            ORDER BY payment_id
+            FOR UPDATE
+        ),
+        """ + CLOSE_AND_CANCEL;
+
+    // 승인 대기 시간이 지난 결제 (오래된 순으로 chunkSize 건)
+    private static final String EXPIRE_STALE = """
+        WITH due AS (
+            SELECT payment_id
+            FROM h_payment
+            WHERE last_status = 'SUCCESS' AND created_at < :threshold
+            ORDER BY created_at
+            LIMIT :chunkSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        """ + CLOSE_AND_CANCEL;
+
+    // PG 요청 결과가 반영되지 않은 채 threshold 이전에 생성된 결제 (요청 처리 중 프로세스 종료 / DB 장애)
+    private static final String CLOSE_STALE_READY = """
+        WITH due AS (
+            SELECT payment_id
+            FROM h_payment
+            WHERE last_status = 'READY' AND created_at < :threshold
+            ORDER BY created_at
+            LIMIT :chunkSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        """ + CLOSE_AND_CANCEL;
+
+    // 현재 상태가 fromStatuses 중 하나인 결제 한 건
+    private static final String CLOSE_BY_ID = """
+        WITH due AS (
+            SELECT payment_id
+            FROM h_payment
+            WHERE payment_id = :paymentId AND last_status IN (:fromStatuses)
+            FOR UPDATE
+        ),
+        """ + CLOSE_AND_CANCEL;
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 지정한 결제 만료
+     * @return 만료된 결제 수
+     */
+    public int expire(Collection<UUID> paymentIds, LocalDateTime now) {
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+        List<?> rows = entityManager.createNativeQuery(EXPIRE_BY_IDS)
+            .setParameter("paymentIds", paymentIds)
+            .setParameter("status", PaymentStatus.EXPIRED.name())
+            .setParameter("now", now)
+            .setParameter("historyIds", historyIds(paymentIds.size()))
+            .getResultList();
+        return publish(rows, now);
+    }
+
+    /**
+     * threshold 이전에 생성된 승인 대기 결제를 최대 chunkSize 건 만료
+     * @return 만료된 결제 수 (chunkSize 보다 작으면 남은 대상 없음)
+     */
+    public int expireStale(LocalDateTime threshold, int chunkSize, LocalDateTime now) {
+        List<?> rows = entityManager.createNativeQuery(EXPIRE_STALE)
+            .setParameter("threshold", threshold)
+            .setParameter("chunkSize", chunkSize)
+            .setParameter("status", PaymentStatus.EXPIRED.name())
+            .setParameter("now", now)
+            .setParameter("historyIds", historyIds(chunkSize))
+            .getResultList();
+        return publish(rows, now);
+    }
+
+    /**
+     * threshold 이전에 생성되어 아직 READY 인 결제를 최대 chunkSize 건 실패(FAIL) 처리
+     * @return 실패 처리된 결제 수 (chunkSize 보다 작으면 남은 대상 없음)
+     */
+    public int failStaleReady(LocalDateTime threshold, int chunkSize, LocalDateTime now) {
+        List<?> rows = entityManager.createNativeQuery(CLOSE_STALE_READY)
+            .setParameter("threshold", threshold)
+            .setParameter("chunkSize", chunkSize)
+            .setParameter("status", PaymentStatus.FAIL.name())
+            .setParameter("now", now)
+            .setParameter("historyIds", historyIds(chunkSize))
+            .getResultList();
+        return publish(rows, now);
+    }
+
+    /**
+     * 현재 상태가 fromStatuses 중 하나인 결제를 status(FAIL / EXPIRED)로 종료하고 결제 대기 중인 주문 취소
+     * @return 종료 여부 (false 면 그 사이 다른 경로에서 상태가 바뀜)
+     */
+    public boolean close(UUID paymentId, Collection<PaymentStatus> fromStatuses, PaymentStatus status, LocalDateTime now) {
+        List<?> rows = entityManager.createNativeQuery(CLOSE_BY_ID)
+            .setParameter("paymentId", paymentId)
+            .setParameter("fromStatuses", fromStatuses.stream().map(PaymentStatus::name).toList())
+            .setParameter("status", status.name())
+            .setParameter("now", now)
+            .setParameter("historyIds", historyIds(1))
+            .getResultList();
+        return publish(rows, now) > 0;
+    }
+
+    // 주문 취소 이력이 추가된 건은 OrderWriter 와 동일하게 이력 추가 이벤트 발행 (커밋 이후 실시간 알림)
+    private int publish(List<?> rows, LocalDateTime now) {
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            if (columns[1] != null) {
+                eventPublisher.publishEvent(new OrderHistoryAppendedEvent(
+                    (UUID) columns[0], (UUID) columns[1], OrderStatus.ORDER_CANCELLED, now));
+            }
+        }
+        return rows.size();
+    }
+
+    // PostgreSQL uuid 배열 리터럴 ({id1,id2,...})
+    private String historyIds(int size) {
+        return Stream.generate(UuidV7::generate)
+            .limit(size)
+            .map(UUID::toString)
+            .collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.delivery.justonebite.payment.domain.repository;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.payment.projection.PaymentDiscrepancy;
+import com.delivery.justonebite.payment.projection.PaymentReconciliationRun;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 대사 실행 기록 / 불일치 리포트 (db/patch/004_payment_reconciliation.sql)
+ * 대사 스트리밍 커넥션과 관계없이 바로 반영되도록 JdbcTemplate(auto-commit)으로 기록한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconciliationRepository {
+
+    private static final RowMapper<PaymentReconciliationRun> ROW_MAPPER = (rs, rowNum) -> new PaymentReconciliationRun(
+        rs.getObject("run_id", UUID.class),
+        rs.getObject("started_at", LocalDateTime.class),
+        rs.getObject("finished_at", LocalDateTime.class),
+        rs.getString("status"),
+        rs.getLong("scanned_payments"),
+        rs.getLong("scanned_rows"),
+        rs.getLong("discrepancy_count"),
+        rs.getLong("rows_per_second"),
+        rs.getString("node"),
+        rs.getString("error")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void startRun(UUID runId, LocalDateTime startedAt, String node) {
+        jdbcTemplate.update("""
+            INSERT INTO h_payment_reconciliation_run (run_id, started_at, status, node)
+            VALUES (?, ?, 'RUNNING', ?)
+            """, runId, startedAt, node);
+    }
+
+    public void updateProgress(UUID runId, long scannedPayments, long scannedRows, long discrepancyCount, long rowsPerSecond) {
+        jdbcTemplate.update("""
+            UPDATE h_payment_reconciliation_run
+            SET scanned_payments = ?, scanned_rows = ?, discrepancy_count = ?, rows_per_second = ?
+            WHERE run_id = ?
+            """, scannedPayments, scannedRows, discrepancyCount, rowsPerSecond, runId);
+    }
+
+    public void finishRun(UUID runId, LocalDateTime finishedAt, String status, String error) {
+        jdbcTemplate.update("""
+            UPDATE h_payment_reconciliation_run
+            SET finished_at = ?, status = ?, error = ?
+            WHERE run_id = ?
+            """, finishedAt, status, error, runId);
+    }
+
+    public void insertDiscrepancies(UUID runId, List<PaymentDiscrepancy> discrepancies, LocalDateTime detectedAt) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO h_payment_discrepancy (discrepancy_id, run_id, payment_id, type, expected_value, actual_value, detected_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, discrepancies, discrepancies.size(), (PreparedStatement ps, PaymentDiscrepancy discrepancy) -> {
+            ps.setObject(1, UuidV7.generate());
+            ps.setObject(2, runId);
+            ps.setObject(3, discrepancy.paymentId());
+            ps.setString(4, discrepancy.type().name());
+            ps.setString(5, discrepancy.expectedValue());
+            ps.setString(6, discrepancy.actualValue());
+            ps.setObject(7, detectedAt);
+        });
+    }
+
+    public List<PaymentReconciliationRun> findRecentRuns(int limit) {
+        return jdbcTemplate.query(
+            "SELECT * FROM h_payment_reconciliation_run ORDER BY started_at DESC LIMIT ?", ROW_MAPPER, limit);
+    }
+}
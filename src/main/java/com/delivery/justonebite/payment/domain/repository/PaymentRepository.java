@@ -2,10 +2,18 @@ package com.delivery.justonebite.payment.domain.repository;
 
 import com.delivery.justonebite.payment.domain.entity.Payment;
 import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentExpirationProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,8 +23,38 @@ import java.util.Optional;
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
     Optional<Payment> findByOrderId(UUID orderId);
     Optional<Payment> findByPaymentId(UUID paymentId);
-    List<Payment> findAllByStatusAndCreatedAtBefore(
+
+    // 승인용 : 조회 시점에 잠가서 검증 이후 만료 처리(PaymentExpirationWriter)가 끼어들지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<Payment> findForUpdateByPaymentId(@Param("paymentId") UUID paymentId);
+
+    // 일괄 승인용 : 한 번의 SELECT ... FOR UPDATE 로 조회 및 잠금
+    // 결제 ID 순으로 잠가서 겹치는 일괄 요청끼리 교착 상태가 생기지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentId IN :paymentIds ORDER BY p.paymentId")
+    List<Payment> findAllForUpdateByPaymentIdIn(@Param("paymentIds") Collection<UUID> paymentIds);
+
+    // 결제 취소 실패 사유 확인용 : 영속성 컨텍스트에 남아있는 엔티티가 아닌 DB 의 현재 상태 조회
+    @Query("SELECT p.status FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<PaymentStatus> findStatusByPaymentId(@Param("paymentId") UUID paymentId);
+
+    // 만료 대기열 복구용 : 아직 만료 시각이 지나지 않은 승인 대기 결제의 식별자와 생성 시각만 조회
+    List<PaymentExpirationProjection> findAllByStatusAndCreatedAtGreaterThanEqual(
             PaymentStatus status,
             LocalDateTime createdAt
     );
-}
\ No newline at end of file
+
+    // PG 결과 미확인(UNKNOWN) 결제 확정용 : 오래된 순으로 limit 건
+    List<PaymentExpirationProjection> findByStatusOrderByCreatedAt(PaymentStatus status, Limit limit);
+
+    /**
+     * 결제 상태 조건부 변경 : 현재 상태가 allowedStatuses 중 하나일 때만 변경
+     * @return 변경된 행 수 (0 이면 그 사이 다른 경로에서 상태가 바뀜)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :nextStatus WHERE p.paymentId = :paymentId AND p.status IN :allowedStatuses")
+    int updateStatusIfCurrentIn(@Param("paymentId") UUID paymentId,
+        @Param("allowedStatuses") Collection<PaymentStatus> allowedStatuses,
+        @Param("nextStatus") PaymentStatus nextStatus);
+}
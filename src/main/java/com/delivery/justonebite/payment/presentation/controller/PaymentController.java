@@ -2,14 +2,17 @@ package com.delivery.justonebite.payment.presentation.controller;
 
 import com.delivery.justonebite.payment.domain.entity.Payment;
 import com.delivery.justonebite.payment.application.service.PaymentService;
+import com.delivery.justonebite.payment.presentation.dto.request.PaymentBatchConfirmRequest;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentCancelRequest;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentConfirmRequest;
 import com.delivery.justonebite.payment.presentation.dto.request.PaymentRequest;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentBatchConfirmResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentCancelResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentConfirmResponse;
 import com.delivery.justonebite.payment.presentation.dto.response.PaymentResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -82,12 +85,18 @@ public class PaymentController {
 
     @Operation(
             summary = "결제 승인",
-            description = "결제 완료를 승인하고 상태를 DONE으로 변경합니다.",
+            description = "결제 완료를 승인하고 상태를 DONE으로 변경합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 처리하지 않고 최초 응답을 그대로 반환합니다.",
+            parameters = {
+                    @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "중복 요청 방지 키 (재시도 시 동일한 값 사용)")
+            },
             responses = {
                     @ApiResponse(responseCode = "200", description = "결제 승인 성공",
                             content = @Content(schema = @Schema(implementation = PaymentConfirmResponse.class))),
                     @ApiResponse(responseCode = "403", description = "결제 승인 불가 (이미 승인됨 또는 유효시간 초과)"),
-                    @ApiResponse(responseCode = "404", description = "결제 정보 없음")
+                    @ApiResponse(responseCode = "404", description = "결제 정보 없음"),
+                    @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 의 요청이 처리 중"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key 가 다른 요청에 이미 사용됨")
             }
     )
     @PostMapping("/confirm")
@@ -96,6 +105,28 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @Operation(
+            summary = "결제 일괄 승인",
+            description = "여러 결제를 한 번에 승인합니다. 최대 1000건까지 요청할 수 있으며 100건 단위로 나누어 처리합니다. "
+                    + "건별 검증은 단건 승인과 같고, 실패한 건이 있어도 나머지는 승인되며 건별 결과를 요청 순서대로 반환합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 처리하지 않고 최초 응답을 그대로 반환합니다.",
+            parameters = {
+                    @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "중복 요청 방지 키 (재시도 시 동일한 값 사용)")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 승인 처리 완료 (건별 성공 여부는 results 참고)",
+                            content = @Content(schema = @Schema(implementation = PaymentBatchConfirmResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 (0건 또는 1000건 초과)"),
+                    @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 의 요청이 처리 중"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key 가 다른 요청에 이미 사용됨")
+            }
+    )
+    @PostMapping("/confirm/batch")
+    public ResponseEntity<PaymentBatchConfirmResponse> confirmPayments(@Valid @RequestBody PaymentBatchConfirmRequest request) {
+        PaymentBatchConfirmResponse response = paymentService.confirmPayments(request.payments());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Operation(
             summary = "결제 취소",
             description = "기존 결제를 전액 또는 부분 취소합니다.",
@@ -0,0 +1,45 @@
+package com.delivery.justonebite.payment.presentation.controller;
+
+import com.delivery.justonebite.payment.application.service.PaymentReconciliationService;
+import com.delivery.justonebite.payment.projection.PaymentReconciliationRun;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Payment Reconciliation API", description = "결제 대사 실행 기록 및 진행 상황 조회")
+@RestController
+@RequestMapping("/v1/admin/payments/reconciliation")
+@RequiredArgsConstructor
+public class PaymentReconciliationController {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Operation(
+        summary = "결제 대사 실행 기록 조회 API",
+        description = "최근 결제 대사 실행의 검사한 결제 수, 읽은 행 수, 불일치 수, 처리량(초당 행 수)을 조회합니다. "
+            + "실행 중인 대사는 진행 상황이 주기적으로 갱신됩니다. 불일치 상세는 h_payment_discrepancy 에 실행 ID 별로 기록됩니다. MANAGER, MASTER만 가능합니다.",
+        security = @SecurityRequirement(name = "Authorization"),
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회에 성공하였습니다.",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = PaymentReconciliationRun.class)))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다. (JWT 토큰 누락 또는 만료)", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다. (MANAGER, MASTER 아님)", content = @Content(mediaType = "application/json"))
+        }
+    )
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    @GetMapping("/runs")
+    public ResponseEntity<List<PaymentReconciliationRun>> getRuns() {
+        return ResponseEntity.ok(paymentReconciliationService.getRecentRuns());
+    }
+}
@@ -0,0 +1,13 @@
+package com.delivery.justonebite.payment.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record PaymentBatchConfirmRequest(
+        @NotEmpty(message = "승인할 결제는 최소 1건 이상이어야 합니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 승인할 수 있습니다.")
+        @Valid
+        List<PaymentConfirmRequest> payments
+) { }
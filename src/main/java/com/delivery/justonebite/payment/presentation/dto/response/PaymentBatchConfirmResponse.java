@@ -0,0 +1,14 @@
+package com.delivery.justonebite.payment.presentation.dto.response;
+
+import java.util.List;
+
+public record PaymentBatchConfirmResponse(
+        int successCount,
+        int failCount,
+        List<PaymentBatchConfirmResult> results
+) {
+    public static PaymentBatchConfirmResponse from(List<PaymentBatchConfirmResult> results) {
+        int successCount = (int) results.stream().filter(PaymentBatchConfirmResult::success).count();
+        return new PaymentBatchConfirmResponse(successCount, results.size() - successCount, results);
+    }
+}
@@ -0,0 +1,21 @@
+package com.delivery.justonebite.payment.presentation.dto.response;
+
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import java.util.UUID;
+
+// 일괄 승인 요청의 건별 결과 (성공 시 payment, 실패 시 errorCode / message)
+public record PaymentBatchConfirmResult(
+        UUID paymentId,
+        boolean success,
+        PaymentConfirmResponse payment,
+        String errorCode,
+        String message
+) {
+    public static PaymentBatchConfirmResult success(PaymentConfirmResponse payment) {
+        return new PaymentBatchConfirmResult(payment.paymentId(), true, payment, null, null);
+    }
+
+    public static PaymentBatchConfirmResult fail(UUID paymentId, ErrorCode errorCode) {
+        return new PaymentBatchConfirmResult(paymentId, false, null, errorCode.name(), errorCode.getDescription());
+    }
+}
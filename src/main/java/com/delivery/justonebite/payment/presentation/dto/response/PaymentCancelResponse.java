@@ -2,6 +2,7 @@ package com.delivery.justonebite.payment.presentation.dto.response;
 
 import com.delivery.justonebite.payment.domain.entity.Payment;
 import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentCancelProjection;
 import lombok.Builder;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -31,4 +32,18 @@ public record PaymentCancelResponse(
                 .canceledAt(LocalDateTime.now())
                 .build();
     }
+
+    public static PaymentCancelResponse from(PaymentCancelProjection cancellation, String reason) {
+        return PaymentCancelResponse.builder()
+                .paymentKey(cancellation.paymentId())
+                .lastTransactionKey(cancellation.transactionId())
+                .orderId(cancellation.orderId())
+                .orderName(cancellation.orderName())
+                .totalAmount(cancellation.totalAmount())
+                .balanceAmount(cancellation.balanceAmount())
+                .status(cancellation.status())
+                .cancelReason(reason)
+                .canceledAt(cancellation.canceledAt())
+                .build();
+    }
 }
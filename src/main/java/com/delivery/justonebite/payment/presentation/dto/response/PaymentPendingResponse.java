@@ -0,0 +1,18 @@
+package com.delivery.justonebite.payment.presentation.dto.response;
+
+import java.util.UUID;
+
+// PG 처리 결과 미확인 : 상태 조회로 확정될 때까지 결제는 UNKNOWN, 주문은 PENDING 유지
+public record PaymentPendingResponse(
+    String redirectUrl,
+    UUID orderId,
+    UUID paymentId,
+    String code,
+    String message
+) implements PaymentResponse {
+
+    public PaymentPendingResponse(UUID orderId, UUID paymentId, String code, String message) {
+        this("http://localhost:8080/payments/pending?code=" + code + "&orderId=" + orderId + "&paymentId=" + paymentId,
+             orderId, paymentId, code, message);
+    }
+}
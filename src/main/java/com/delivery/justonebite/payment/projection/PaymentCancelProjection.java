@@ -0,0 +1,18 @@
+package com.delivery.justonebite.payment.projection;
+
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 결제 취소 UPDATE ... RETURNING 결과 (취소 직후의 결제 상태)
+public record PaymentCancelProjection(
+    UUID paymentId,
+    UUID transactionId,
+    UUID orderId,
+    String orderName,
+    Integer totalAmount,
+    Integer balanceAmount,
+    PaymentStatus status,
+    LocalDateTime canceledAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.delivery.justonebite.payment.projection;
+
+import com.delivery.justonebite.payment.domain.entity.PaymentDiscrepancyType;
+import java.util.UUID;
+
+// 결제 대사 불일치 항목 (h_payment_discrepancy)
+public record PaymentDiscrepancy(
+    UUID paymentId,
+    PaymentDiscrepancyType type,
+    String expectedValue,
+    String actualValue
+) {
+}
@@ -0,0 +1,11 @@
+package com.delivery.justonebite.payment.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PaymentExpirationProjection {
+
+    UUID getPaymentId();
+    LocalDateTime getCreatedAt();
+
+}
@@ -0,0 +1,30 @@
+package com.delivery.justonebite.payment.projection;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "결제 대사 실행 기록 (실행 중이면 진행 상황)")
+public record PaymentReconciliationRun(
+    @Schema(description = "실행 ID")
+    UUID runId,
+    @Schema(description = "시작 시각", example = "2025-10-13T03:30:00")
+    LocalDateTime startedAt,
+    @Schema(description = "종료 시각 (실행 중이면 null)", example = "2025-10-13T03:41:12")
+    LocalDateTime finishedAt,
+    @Schema(description = "상태 (RUNNING / SUCCESS / FAILED)", example = "SUCCESS")
+    String status,
+    @Schema(description = "검사한 결제 수", example = "12000000")
+    long scannedPayments,
+    @Schema(description = "읽은 행 수 (결제 ⋈ 거래)", example = "25800000")
+    long scannedRows,
+    @Schema(description = "발견한 불일치 수", example = "3")
+    long discrepancyCount,
+    @Schema(description = "처리량 (초당 행 수)", example = "38000")
+    long rowsPerSecond,
+    @Schema(description = "실행 노드", example = "app-1")
+    String node,
+    @Schema(description = "실패 메시지")
+    String error
+) {
+}
@@ -1,25 +1,39 @@
 package com.delivery.justonebite.review.application.service;
 
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import com.delivery.justonebite.shop.application.cache.ShopCatalogCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RatingAggregationScheduler {
 
+    private static final String JOB_NAME = "shop-rating-aggregation";
+
     private final ReviewAggregationService service;
+    private final ClusterJobRunner clusterJobRunner;
+    private final ShopCatalogCache shopCatalogCache;
 
+    // 가게 테이블 전체를 갱신하므로 노드 수와 관계없이 하루 한 번만 실행 (실행 기록/실패는 ClusterJobRunner 에서 남김)
     @Scheduled(cron = " 0 0 6 * * *", zone = "Asia/Seoul")
     public void recomputeNightly() {
-        long t0 = System.currentTimeMillis();
-        try {
-            service.recomputeAllShopAvg();
-            log.info("[RatingAggregationScheduler] 완료 — 소요 시간: {} ms", System.currentTimeMillis() - t0);
-        } catch (Exception e) {
-            log.error("[RatingAggregationScheduler] 실패 ", e);
+        boolean executed = clusterJobRunner.run(JOB_NAME, Duration.ofHours(1), () -> {
+            long t0 = System.currentTimeMillis();
+            int updated = service.recomputeAllShopAvg();
+            // 집계 트랜잭션 커밋 이후 가게 목록 캐시 무효화 (평점 / 평점순 정렬이 바뀜)
+            shopCatalogCache.bumpVersion();
+            log.info("[RatingAggregationScheduler] 완료 — 갱신 가게 수: {}, 소요 시간: {} ms",
+                updated, System.currentTimeMillis() - t0);
+            return updated;
+        });
+        if (!executed) {
+            log.info("[RatingAggregationScheduler] 다른 노드에서 실행되어 건너뜀");
         }
     }
 }
@@ -14,8 +14,8 @@ public class ReviewAggregationService {
 
 
     @Transactional
-    public void recomputeAllShopAvg() {
-        int updated = shopRepository.bulkUpdateAllAvg();
+    public int recomputeAllShopAvg() {
+        return shopRepository.bulkUpdateAllAvg();
     }
 
 }
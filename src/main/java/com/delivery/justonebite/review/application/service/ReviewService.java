@@ -17,6 +17,7 @@ import com.delivery.justonebite.user.domain.entity.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
@@ -61,6 +62,13 @@ public class ReviewService {
                 .map(ReviewResponse::from);
     }
 
+    // 가게별 리뷰 목록 (slice 모드) : 전체 개수 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    @Transactional(readOnly = true)
+    public Slice<ReviewResponse> getSliceByShop(UUID shopId, Pageable pageable) {
+        return reviewRepository.findSliceByShopId(shopId, pageable)
+                .map(ReviewResponse::from);
+    }
+
     @Transactional
     public ReviewResponse update(UUID reviewId,
                                  Long currentUserId,
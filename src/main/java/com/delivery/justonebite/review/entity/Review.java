@@ -1,6 +1,7 @@
 package com.delivery.justonebite.review.entity;
 
 import com.delivery.justonebite.global.common.entity.BaseEntity;
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.order.domain.entity.Order;
@@ -32,7 +33,7 @@ import java.util.UUID;
 public class Review extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @JdbcTypeCode(SqlTypes.UUID)
     @Column(name = "review_id", nullable = false, updatable = false)
     private UUID reviewId;
@@ -16,8 +16,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -88,7 +88,8 @@ public class ReviewController {
                             example = "a1b2c3d4-e5f6-7890-a1b2-c3d4e5f67890"),
                     @Parameter(name = "page", description = "페이지 번호(0부터 시작)"),
                     @Parameter(name = "size", description = "페이지 크기"),
-                    @Parameter(name = "sort", description = "정렬 기준(예: createdAt,desc)")
+                    @Parameter(name = "sort", description = "정렬 기준(예: createdAt,desc)"),
+                    @Parameter(name = "slice", description = "true 이면 전체 개수 조회 없이 다음 페이지 존재 여부(last)만 응답")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공"),
@@ -96,12 +97,15 @@ public class ReviewController {
             }
     )
     @GetMapping
-    public ResponseEntity<Page<ReviewResponse>> getByShopParam(
+    public ResponseEntity<Slice<ReviewResponse>> getByShopParam(
             @RequestParam("shopId") UUID shopId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(name = "slice", defaultValue = "false") boolean slice) {
 
-        Page<ReviewResponse> body = reviewService.getByShop(shopId, pageable);
+        Slice<ReviewResponse> body = slice
+                ? reviewService.getSliceByShop(shopId, pageable)
+                : reviewService.getByShop(shopId, pageable);
         return ResponseEntity.status(HttpStatus.OK).body(body);
     }
 
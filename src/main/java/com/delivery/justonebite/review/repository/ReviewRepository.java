@@ -3,6 +3,7 @@ package com.delivery.justonebite.review.repository;
 import com.delivery.justonebite.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +22,9 @@ public interface ReviewRepository extends SoftDeleteRepository<Review, UUID>{
 
     Page<Review> findByShopId(UUID shopId, Pageable pageable);
 
+    // 가게별 리뷰 목록 (Slice) : COUNT 쿼리 없이 size + 1 건 조회
+    Slice<Review> findSliceByShopId(UUID shopId, Pageable pageable);
+
     @Query(value = "SELECT * FROM h_review WHERE review_id = :id", nativeQuery = true)
     Optional<Review> findByIdIncludingDeleted(@Param("id") UUID id);
  
@@ -0,0 +1,56 @@
+package com.delivery.justonebite.settlement.application.service;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 새벽 완료되지 않은 정산과 전날까지 누락된 정산일 처리, 기동 시 완료되지 않은 정산 이어서 처리
+ * 스케줄러 스레드(결제 만료 등 다른 작업과 공유)를 점유하지 않도록 별도 가상 스레드에서 실행하고,
+ * 이전 실행이 끝나지 않았으면 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementScheduler {
+
+    private static final String SETTLEMENT_JOB = "shop-settlement";
+
+    private final SettlementService settlementService;
+    private final ClusterJobRunner clusterJobRunner;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 거래 시각(transaction_at)이 시스템 시간대 LocalDateTime 으로 기록되므로 실행 시각 / 정산일도 시스템 시간대 기준
+    @Scheduled(cron = "0 0 5 * * *")
+    public void settleYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        runAsync(() -> settlementService.settleUntil(yesterday));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        runAsync(settlementService::resumeUnfinished);
+    }
+
+    private void runAsync(LongSupplier job) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[Settlement] 이전 실행이 진행 중이므로 건너뜀");
+            return;
+        }
+        Thread.ofVirtual().name(SETTLEMENT_JOB).start(() -> {
+            try {
+                clusterJobRunner.run(SETTLEMENT_JOB, Duration.ofMinutes(1), job);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+}
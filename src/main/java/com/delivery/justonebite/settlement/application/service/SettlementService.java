@@ -0,0 +1,175 @@
+package com.delivery.justonebite.settlement.application.service;
+
+import com.delivery.justonebite.settlement.domain.repository.SettlementCheckpointRepository;
+import com.delivery.justonebite.settlement.domain.repository.SettlementWriter;
+import com.delivery.justonebite.settlement.projection.SettlementUnit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가게별 일 정산.
+ * <p>
+ * 정산일의 거래를 가게별로 한 번 집계한 뒤, 가게를 ID 순으로 unit-size 개씩 작업 단위로 나누고,
+ * 작업 단위를 parallelism 개의 스레드에서 병렬로 처리한다.
+ * 작업 단위마다 정산 기록(SettlementWriter)과 체크포인트 갱신을 하나의 트랜잭션으로 처리하므로,
+ * 중간에 중단되어도 같은 정산일을 다시 실행하면 완료되지 않은 작업 단위만 이어서 처리한다.
+ * 동시에 DB 커넥션을 최대 parallelism 개 사용하므로 커넥션 풀 크기보다 작게 설정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final SettlementWriter settlementWriter;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${settlement.unit-size:2000}")
+    private int unitSize;
+
+    @Value("${settlement.parallelism:4}")
+    private int parallelism;
+
+    // 실행되지 않은 날을 한 번에 정산하는 최대 일수
+    @Value("${settlement.max-backfill-days:31}")
+    private int maxBackfillDays;
+
+    /**
+     * 정산일의 완료되지 않은 작업 단위 처리
+     * @return 정산된 가게 수
+     * @throws IllegalStateException 실패한 작업 단위가 있는 경우 (다음 실행 시 해당 단위만 다시 처리)
+     */
+    public long settle(LocalDate settlementDate) {
+        if (!checkpointRepository.existsUnits(settlementDate)) {
+            prepare(settlementDate);
+        }
+
+        List<SettlementUnit> units = checkpointRepository.findUnfinishedUnits(settlementDate);
+        if (units.isEmpty()) {
+            // 마지막 단위 완료 후 집계 삭제 전에 중단된 경우 포함
+            settlementWriter.clearDay(settlementDate);
+            return 0;
+        }
+
+        long t0 = System.nanoTime();
+        long settledShops = 0;
+        int failedUnits = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+            Thread.ofVirtual().name("settlement-", 0).factory())) {
+            List<Future<Integer>> futures = new ArrayList<>(units.size());
+            for (SettlementUnit unit : units) {
+                futures.add(executor.submit(() -> settleUnit(settlementDate, unit)));
+            }
+            for (Future<Integer> future : futures) {
+                try {
+                    settledShops += future.get();
+                } catch (ExecutionException e) {
+                    failedUnits++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("정산 중단 date=" + settlementDate, e);
+                }
+            }
+        }
+
+        log.info("[Settlement] 완료 date={}, units={}, failedUnits={}, shops={}, {}ms",
+            settlementDate, units.size(), failedUnits, settledShops, (System.nanoTime() - t0) / 1_000_000);
+        if (failedUnits > 0) {
+            throw new IllegalStateException("정산 실패 작업 단위 " + failedUnits + "건 date=" + settlementDate);
+        }
+        settlementWriter.clearDay(settlementDate);
+        return settledShops;
+    }
+
+    /**
+     * lastDate 까지의 일 정산
+     * <p>
+     * 중단 / 실패로 완료되지 않은 정산일을 먼저 이어서 처리한 뒤,
+     * 마지막으로 완료된 정산일 다음 날부터 lastDate 까지 정산한다. (장애 등으로 실행되지 않은 날 포함, 최대 max-backfill-days 일)
+     * 한 정산일이 실패해도 나머지 정산일은 계속 처리한다.
+     * @return 정산된 가게 수
+     * @throws IllegalStateException 실패한 정산일이 있는 경우 (다음 실행 시 이어서 처리)
+     */
+    public long settleUntil(LocalDate lastDate) {
+        Set<LocalDate> dates = new TreeSet<>(checkpointRepository.findUnfinishedDates());
+        LocalDate earliest = lastDate.minusDays(maxBackfillDays - 1L);
+        // 완료된 정산일이 없으면(첫 실행) lastDate 만 처리
+        LocalDate from = checkpointRepository.findLastCompletedDate()
+            .map(completed -> completed.plusDays(1))
+            .map(next -> next.isBefore(earliest) ? earliest : next)
+            .orElse(lastDate);
+        for (LocalDate date = from; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return settleAll(dates);
+    }
+
+    // 중단 / 실패로 완료되지 않은 정산일 이어서 처리
+    public long resumeUnfinished() {
+        return settleAll(checkpointRepository.findUnfinishedDates());
+    }
+
+    private long settleAll(Collection<LocalDate> settlementDates) {
+        long settledShops = 0;
+        List<LocalDate> failedDates = new ArrayList<>();
+        for (LocalDate settlementDate : settlementDates) {
+            try {
+                settledShops += settle(settlementDate);
+            } catch (IllegalStateException e) {
+                log.error("[Settlement] 정산 실패 date={}", settlementDate, e);
+                failedDates.add(settlementDate);
+            }
+        }
+        if (!failedDates.isEmpty()) {
+            throw new IllegalStateException("정산 실패 정산일 " + failedDates);
+        }
+        return settledShops;
+    }
+
+    // 하루치 거래 집계와 작업 단위 생성을 한 트랜잭션으로 처리 (작업 단위가 있으면 집계도 있음)
+    private void prepare(LocalDate settlementDate) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int shops = settlementWriter.aggregateDay(settlementDate);
+            int units = checkpointRepository.createUnits(settlementDate, unitSize, LocalDateTime.now());
+            log.info("[Settlement] 작업 단위 생성 date={}, units={}, unitSize={}, shopsWithTransactions={}",
+                settlementDate, units, unitSize, shops);
+        });
+    }
+
+    private int settleUnit(LocalDate settlementDate, SettlementUnit unit) {
+        try {
+            Integer settled = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int shops = settlementWriter.settleUnit(settlementDate, unit, now);
+                checkpointRepository.markDone(settlementDate, unit.unitNo(), shops, now);
+                return shops;
+            });
+            return settled == null ? 0 : settled;
+        } catch (RuntimeException e) {
+            log.error("[Settlement] 작업 단위 실패 date={}, unit={}", settlementDate, unit.unitNo(), e);
+            checkpointRepository.markFailed(settlementDate, unit.unitNo(), abbreviate(e), LocalDateTime.now());
+            throw e;
+        }
+    }
+
+    private String abbreviate(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,114 @@
+package com.delivery.justonebite.settlement.domain.repository;
+
+import com.delivery.justonebite.settlement.projection.SettlementUnit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 정산 작업 단위별 진행 상태 (h_settlement_checkpoint, db/patch/006_settlement.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementCheckpointRepository {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private static final RowMapper<SettlementUnit> UNIT_MAPPER = (rs, rowNum) -> new SettlementUnit(
+        rs.getInt("unit_no"),
+        rs.getObject("from_shop_id", UUID.class),
+        rs.getObject("to_shop_id", UUID.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 가게를 ID 순으로 unitSize 개씩 나누어 작업 단위 등록 (이미 등록된 정산일이면 기존 단위 유지)
+     * @return 등록된 작업 단위 수
+     */
+    public int createUnits(LocalDate settlementDate, int unitSize, LocalDateTime now) {
+        List<UUID> starts = jdbcTemplate.queryForList("""
+            SELECT shop_id
+            FROM (SELECT shop_id, row_number() OVER (ORDER BY shop_id) AS rn FROM h_shop) s
+            WHERE (rn - 1) % ? = 0
+            ORDER BY shop_id
+            """, UUID.class, unitSize);
+
+        List<Object[]> units = new ArrayList<>(starts.size());
+        for (int i = 0; i < starts.size(); i++) {
+            // 마지막 단위는 상한 없음 (작업 단위를 나눈 뒤 추가된 가게 포함)
+            UUID to = i + 1 < starts.size() ? starts.get(i + 1) : null;
+            units.add(new Object[] {settlementDate, i, starts.get(i), to, PENDING, now});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO h_settlement_checkpoint (settlement_date, unit_no, from_shop_id, to_shop_id, status, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (settlement_date, unit_no) DO NOTHING
+            """, units);
+        return units.size();
+    }
+
+    public boolean existsUnits(LocalDate settlementDate) {
+        Boolean exists = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM h_settlement_checkpoint WHERE settlement_date = ?)", Boolean.class, settlementDate);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // 완료되지 않은 작업 단위 (처음 실행 / 중단 / 실패)
+    public List<SettlementUnit> findUnfinishedUnits(LocalDate settlementDate) {
+        return jdbcTemplate.query("""
+            SELECT unit_no, from_shop_id, to_shop_id
+            FROM h_settlement_checkpoint
+            WHERE settlement_date = ? AND status <> 'DONE'
+            ORDER BY unit_no
+            """, UNIT_MAPPER, settlementDate);
+    }
+
+    // 완료되지 않은 작업 단위가 남아 있는 정산일 (재기동 시 이어서 처리)
+    public List<LocalDate> findUnfinishedDates() {
+        return jdbcTemplate.queryForList("""
+            SELECT DISTINCT settlement_date
+            FROM h_settlement_checkpoint
+            WHERE status <> 'DONE'
+            ORDER BY settlement_date
+            """, LocalDate.class);
+    }
+
+    // 모든 작업 단위가 완료된 가장 최근 정산일 (일 정산 누락 구간 확인용)
+    public Optional<LocalDate> findLastCompletedDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("""
+            SELECT max(settlement_date)
+            FROM (
+                SELECT settlement_date
+                FROM h_settlement_checkpoint
+                GROUP BY settlement_date
+                HAVING bool_and(status = 'DONE')
+            ) completed
+            """, LocalDate.class));
+    }
+
+    public void markDone(LocalDate settlementDate, int unitNo, int settledShops, LocalDateTime now) {
+        jdbcTemplate.update("""
+            UPDATE h_settlement_checkpoint
+            SET status = 'DONE', settled_shops = ?, error = NULL, updated_at = ?
+            WHERE settlement_date = ? AND unit_no = ?
+            """, settledShops, now, settlementDate, unitNo);
+    }
+
+    public void markFailed(LocalDate settlementDate, int unitNo, String error, LocalDateTime now) {
+        jdbcTemplate.update("""
+            UPDATE h_settlement_checkpoint
+            SET status = 'FAILED', error = ?, updated_at = ?
+            WHERE settlement_date = ? AND unit_no = ?
+            """, error, now, settlementDate, unitNo);
+    }
+}
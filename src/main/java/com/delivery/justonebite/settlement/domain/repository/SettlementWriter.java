@@ -0,0 +1,80 @@
+package com.delivery.justonebite.settlement.domain.repository;
+
+import com.delivery.justonebite.settlement.projection.SettlementUnit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 정산 쓰기 전용 경로.
+ * <p>
+ * 정산일의 하루치 거래를 처음 실행할 때 한 번만 가게별로 집계하여 집계 테이블(h_settlement_daily_aggregate)에 기록하고,
+ * 작업 단위(가게 ID 범위)는 집계 테이블의 해당 범위만 읽어 INSERT ... SELECT 한 번으로 정산을 기록한다.
+ * 거래 테이블은 정산일당 한 번만 읽으므로 작업 단위 수와 관계없이 거래 조회 비용이 일정하다.
+ * 같은 작업 단위를 다시 실행해도(중단 후 재실행) 가게 / 정산일 기준으로 덮어쓰므로 중복 정산되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementWriter {
+
+    // 취소 거래만 취소 상태(cancel_status)가 기록됨 : 승인 금액 / 취소 금액을 나누어 집계
+    private static final String AGGREGATE_DAY = """
+        INSERT INTO h_settlement_daily_aggregate (settlement_date, shop_id,
+                                                  approved_amount, cancelled_amount, transaction_count)
+        SELECT ?, o.shop_id,
+               COALESCE(SUM(t.amount) FILTER (WHERE t.cancel_status IS NULL), 0),
+               COALESCE(SUM(t.amount) FILTER (WHERE t.cancel_status IS NOT NULL), 0),
+               COUNT(*)
+        FROM h_transaction t
+        JOIN h_payment p ON p.payment_id = t.payment_id
+        JOIN h_order o ON o.order_id = p.order_id
+        WHERE t.transaction_at >= ? AND t.transaction_at < ?
+        GROUP BY o.shop_id
+        ON CONFLICT (settlement_date, shop_id) DO NOTHING
+        """;
+
+    // 정산 금액 = 승인 금액 - 취소 금액
+    private static final String SETTLE_UNIT = """
+        INSERT INTO h_settlement (settlement_date, shop_id, owner_id,
+                                  approved_amount, cancelled_amount, net_amount, transaction_count, created_at)
+        SELECT a.settlement_date, s.shop_id, s.owner_id, a.approved_amount, a.cancelled_amount,
+               a.approved_amount - a.cancelled_amount, a.transaction_count, ?
+        FROM h_settlement_daily_aggregate a
+        JOIN h_shop s ON s.shop_id = a.shop_id
+        WHERE a.settlement_date = ?
+          AND a.shop_id >= ? AND (CAST(? AS uuid) IS NULL OR a.shop_id < ?)
+        ON CONFLICT (shop_id, settlement_date) DO UPDATE
+        SET approved_amount = EXCLUDED.approved_amount,
+            cancelled_amount = EXCLUDED.cancelled_amount,
+            net_amount = EXCLUDED.net_amount,
+            transaction_count = EXCLUDED.transaction_count,
+            created_at = EXCLUDED.created_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정산일의 하루치 거래를 가게별로 집계 (거래 시각은 시스템 시간대 기준 LocalDateTime)
+     * @return 거래가 있는 가게 수
+     */
+    public int aggregateDay(LocalDate settlementDate) {
+        LocalDateTime from = settlementDate.atStartOfDay();
+        LocalDateTime to = settlementDate.plusDays(1).atStartOfDay();
+        return jdbcTemplate.update(AGGREGATE_DAY, settlementDate, from, to);
+    }
+
+    /**
+     * @return 정산된 가게 수
+     */
+    public int settleUnit(LocalDate settlementDate, SettlementUnit unit, LocalDateTime now) {
+        return jdbcTemplate.update(SETTLE_UNIT,
+            now, settlementDate, unit.fromShopId(), unit.toShopId(), unit.toShopId());
+    }
+
+    // 모든 작업 단위가 완료된 정산일의 집계 삭제
+    public int clearDay(LocalDate settlementDate) {
+        return jdbcTemplate.update("DELETE FROM h_settlement_daily_aggregate WHERE settlement_date = ?", settlementDate);
+    }
+}
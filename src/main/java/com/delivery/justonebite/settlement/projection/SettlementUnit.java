@@ -0,0 +1,11 @@
+package com.delivery.justonebite.settlement.projection;
+
+import java.util.UUID;
+
+// 정산 작업 단위 : 가게 ID 범위 [fromShopId, toShopId), toShopId 가 null 이면 상한 없음
+public record SettlementUnit(
+    int unitNo,
+    UUID fromShopId,
+    UUID toShopId
+) {
+}
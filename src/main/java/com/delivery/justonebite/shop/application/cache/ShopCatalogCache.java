@@ -0,0 +1,120 @@
+package com.delivery.justonebite.shop.application.cache;
+
+import com.delivery.justonebite.shop.domain.event.ShopCatalogChangedEvent;
+import com.delivery.justonebite.shop.presentation.dto.request.ShopSearchRequest;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 목록(검색어 없는 GET /v1/shops) 앞쪽 페이지 응답 캐시 (Redis)
+ * <p>
+ * 페이지 키에 전체 가게 목록 버전을 넣고, 가게 변경 / 평점 집계 시 버전만 올려 무효화한다.
+ * (변경 시 지울 키를 찾지 않아도 되며, 이전 버전의 페이지는 더 이상 조회되지 않고 TTL 이 지나면 삭제된다.)
+ * 버전은 트랜잭션 커밋 이후에 올리므로, 조회가 커밋 전 데이터를 읽었다면 항상 이전 버전 키에 저장된다.
+ * Redis 장애 시에는 캐시 없이 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopCatalogCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.prefix.shop_catalog:shop:catalog:}")
+    private String keyPrefix;
+
+    @Value("${shop.catalog-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 캐시할 앞쪽 페이지 수
+    @Value("${shop.catalog-cache.max-pages:3}")
+    private int maxPages;
+
+    public record CachedPage(List<ShopSearchResponse> content, long totalElements) {
+    }
+
+    // 검색어 없는 앞쪽 페이지만 캐시 (정렬 기준 / 페이지 크기는 ShopSearchRequest.of 에서 허용 값으로 보정됨)
+    public boolean isCacheable(ShopSearchRequest request) {
+        return (request.q() == null || request.q().isBlank())
+            && request.page() >= 0
+            && request.page() < maxPages;
+    }
+
+    /**
+     * 페이지 조회
+     * @param version currentVersion() 로 읽은 버전 (null 이면 캐시 미사용)
+     */
+    public Optional<CachedPage> find(ShopSearchRequest request, String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(pageKey(request, version));
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, CachedPage.class));
+        } catch (Exception e) {
+            log.warn("가게 목록 캐시 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 페이지 저장
+     * @param version 조회 전에 읽은 버전 (조회 중 버전이 올라간 경우 이전 버전 키에 저장되어 다시 조회되지 않음)
+     */
+    public void put(ShopSearchRequest request, String version, CachedPage page) {
+        if (version == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                pageKey(request, version), objectMapper.writeValueAsString(page), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("가게 목록 캐시 저장 실패", e);
+        }
+    }
+
+    // 현재 버전 (Redis 장애 시 null)
+    public String currentVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey());
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            log.warn("가게 목록 캐시 버전 조회 실패", e);
+            return null;
+        }
+    }
+
+    // 전체 페이지 무효화 (O(1))
+    public void bumpVersion() {
+        try {
+            redisTemplate.opsForValue().increment(versionKey());
+        } catch (Exception e) {
+            log.warn("가게 목록 캐시 버전 갱신 실패 (TTL 이후 반영)", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(ShopCatalogChangedEvent event) {
+        bumpVersion();
+    }
+
+    private String versionKey() {
+        return keyPrefix + "version";
+    }
+
+    private String pageKey(ShopSearchRequest request, String version) {
+        return keyPrefix + "v" + version + ":" + request.sortBy() + ":" + request.direction()
+            + ":" + request.size() + ":" + request.page();
+    }
+}
@@ -0,0 +1,127 @@
+package com.delivery.justonebite.shop.application.cache;
+
+import com.delivery.justonebite.shop.domain.event.ShopCategoriesChangedEvent;
+import com.delivery.justonebite.shop.domain.repository.ShopRepository;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopCategoryFacetResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 가게 기준 카테고리별 가게 수 캐시 (Redis hash, 카테고리명 -> 가게 수)
+ * <p>
+ * 검색어 없는 가게 목록의 카테고리 칩에 사용한다. 캐시가 없으면 DB 에서 카테고리별 GROUP BY 한 번으로 적재하고,
+ * 이후 가게 등록 / 수정으로 카테고리 연결이 바뀌면 커밋 이후 해당 카테고리만 HINCRBY 로 증감한다.
+ * 적재 도중 커밋된 변경 등으로 생긴 오차는 TTL 이 지나 다시 적재될 때 바로잡힌다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopCategoryFacetCache {
+
+    // 전체 교체 : 기존 키 삭제 후 HSET, TTL 설정을 한 번에 처리
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1])
+        if #ARGV > 1 then
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        end
+        return (#ARGV - 1) / 2
+        """, Long.class);
+
+    // 증분 갱신 : 캐시가 있을 때만 반영 (없을 때 증감하면 일부 카테고리만 있는 캐시가 생김), 0 이하가 되면 삭제
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        for i = 1, #ARGV, 2 do
+            if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) <= 0 then
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+        end
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShopRepository shopRepository;
+
+    @Value("${spring.data.redis.prefix.shop_category_count:shop:category:count}")
+    private String key;
+
+    @Value("${shop.category-facet.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    // 카테고리별 가게 수 (가게 수 내림차순, 같으면 카테고리명 순)
+    public List<ShopCategoryFacetResponse> findAll() {
+        try {
+            Map<Object, Object> cached = redisTemplate.opsForHash().entries(key);
+            if (!cached.isEmpty()) {
+                return sort(cached.entrySet().stream()
+                    .map(e -> new ShopCategoryFacetResponse((String) e.getKey(), Long.parseLong((String) e.getValue())))
+                    .toList());
+            }
+        } catch (Exception e) {
+            log.warn("카테고리별 가게 수 캐시 조회 실패", e);
+        }
+        return load();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoriesChanged(ShopCategoriesChangedEvent event) {
+        List<String> args = new ArrayList<>();
+        event.added().forEach(name -> {
+            args.add(name);
+            args.add("1");
+        });
+        event.removed().forEach(name -> {
+            args.add(name);
+            args.add("-1");
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), args.toArray());
+        } catch (Exception e) {
+            // 증감에 실패하면 틀린 값이 남지 않도록 삭제 (다음 조회 시 적재)
+            log.warn("카테고리별 가게 수 캐시 갱신 실패", e);
+            redisTemplate.delete(key);
+        }
+    }
+
+    private List<ShopCategoryFacetResponse> load() {
+        List<ShopCategoryFacetResponse> facets = shopRepository.countAllCategories().stream()
+            .map(ShopCategoryFacetResponse::from)
+            .toList();
+
+        List<String> args = new ArrayList<>(facets.size() * 2 + 1);
+        args.add(String.valueOf(ttlMinutes * 60_000));
+        facets.forEach(facet -> {
+            args.add(facet.categoryName());
+            args.add(String.valueOf(facet.shopCount()));
+        });
+        try {
+            redisTemplate.execute(REPLACE_SCRIPT, List.of(key), args.toArray());
+        } catch (Exception e) {
+            log.warn("카테고리별 가게 수 캐시 적재 실패", e);
+        }
+        return sort(facets);
+    }
+
+    private List<ShopCategoryFacetResponse> sort(List<ShopCategoryFacetResponse> facets) {
+        return facets.stream()
+            .sorted(Comparator.comparingLong(ShopCategoryFacetResponse::shopCount).reversed()
+                .thenComparing(ShopCategoryFacetResponse::categoryName))
+            .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.delivery.justonebite.shop.application.cache;
+
+import com.delivery.justonebite.shop.domain.event.ShopCatalogChangedEvent;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 상세 응답 캐시 (Redis, 가게별 키) + ETag
+ * <p>
+ * ETag 는 가게 수정 시각(updatedAt)에 응답 본문(JSON) 해시를 덧붙여 만든다.
+ * (카테고리만 바뀐 경우나 평점 집계는 수정 시각을 바꾸지 않으므로 수정 시각만으로는 변경을 알 수 없음)
+ * 상세 키에 가게별 버전을 넣고, 가게 정보 변경이 커밋되면 해당 가게의 버전만 올려 무효화한다. (ShopCatalogCache 와 같은 방식)
+ * 버전은 DB 조회 전에 읽으므로, 조회 중 변경이 커밋된 경우 이전 버전 키에 저장되어 다시 조회되지 않는다.
+ * 평점 집계(하루 한 번) 결과는 TTL 이 지나면 반영되며, Redis 장애 시에는 캐시 없이 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopDetailCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.prefix.shop_detail:shop:detail:}")
+    private String keyPrefix;
+
+    @Value("${shop.detail-cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    public record CachedDetail(String eTag, ShopDetailResponse detail) {
+    }
+
+    /**
+     * 상세 조회
+     * @param version currentVersion() 로 읽은 버전 (null 이면 캐시 미사용)
+     */
+    public Optional<CachedDetail> find(UUID shopId, String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(detailKey(shopId, version));
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, CachedDetail.class));
+        } catch (Exception e) {
+            log.warn("가게 상세 캐시 조회 실패 shopId={}", shopId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * ETag 를 계산하여 저장 (저장에 실패해도 응답에는 사용)
+     * @param version 조회 전에 읽은 버전 (null 이면 저장하지 않음)
+     */
+    public CachedDetail put(ShopDetailResponse detail, String version) {
+        CachedDetail cached = new CachedDetail(eTag(detail), detail);
+        if (version == null) {
+            return cached;
+        }
+        try {
+            redisTemplate.opsForValue().set(detailKey(detail.shopId(), version),
+                objectMapper.writeValueAsString(cached), Duration.ofMinutes(ttlMinutes));
+        } catch (Exception e) {
+            log.warn("가게 상세 캐시 저장 실패 shopId={}", detail.shopId(), e);
+        }
+        return cached;
+    }
+
+    // 가게별 현재 버전 (Redis 장애 시 null)
+    public String currentVersion(UUID shopId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(shopId));
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            log.warn("가게 상세 캐시 버전 조회 실패 shopId={}", shopId, e);
+            return null;
+        }
+    }
+
+    // 가게 정보 변경 커밋 이후 해당 가게 버전 증가 (이전 버전 키는 TTL 이 지나면 삭제)
+    // 버전 키는 만료시키지 않음 : 버전이 처음부터 다시 시작되면 아직 남은 이전 버전 키를 읽을 수 있음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(ShopCatalogChangedEvent event) {
+        try {
+            redisTemplate.opsForValue().increment(versionKey(event.shopId()));
+        } catch (Exception e) {
+            log.warn("가게 상세 캐시 버전 갱신 실패 shopId={} (TTL 이후 반영)", event.shopId(), e);
+        }
+    }
+
+    // 응답 본문과 같은 JSON 직렬화 결과로 해시 계산
+    private String eTag(ShopDetailResponse detail) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("가게 상세 응답 직렬화 실패 shopId=" + detail.shopId(), e);
+        }
+        long version = detail.updatedAt() == null ? 0 : detail.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + version + "-" + Integer.toHexString(body.hashCode()) + "\"";
+    }
+
+    private String versionKey(UUID shopId) {
+        return keyPrefix + "version:" + shopId;
+    }
+
+    private String detailKey(UUID shopId, String version) {
+        return keyPrefix + shopId + ":v" + version;
+    }
+}
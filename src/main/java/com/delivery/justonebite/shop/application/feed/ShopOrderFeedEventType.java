@@ -0,0 +1,21 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ShopOrderFeedEventType {
+
+    ORDER_CREATED("order-created"),
+    STATUS_CHANGED("order-status-changed");
+
+    // SSE event 이름
+    private final String eventName;
+
+    // 주문 생성 시 최초 이력은 항상 PENDING 이므로 PENDING 이력 추가 = 신규 주문
+    public static ShopOrderFeedEventType of(OrderStatus status) {
+        return status == OrderStatus.PENDING ? ORDER_CREATED : STATUS_CHANGED;
+    }
+}
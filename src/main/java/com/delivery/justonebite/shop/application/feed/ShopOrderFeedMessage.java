@@ -0,0 +1,21 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopOrderResponse.OrderSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Schema(description = "가게 실시간 주문 피드 메시지 (Redis pub/sub 및 SSE 공통)")
+public record ShopOrderFeedMessage(
+    @Schema(description = "가게 고유 ID", example = "a1b2c3d4-e5f6-7890-a1b2-c3d4e5f67890")
+    UUID shopId,
+    @Schema(description = "이벤트 유형", example = "ORDER_CREATED")
+    ShopOrderFeedEventType type,
+    @Schema(description = "주문 상태 이력 ID (SSE 이벤트 ID)")
+    UUID historyId,
+    @Schema(description = "이 이벤트로 변경된 주문 상태", example = "PENDING")
+    OrderStatus status,
+    @Schema(description = "주문 요약 정보 (가게별 주문 목록 조회 API 의 항목과 동일)")
+    OrderSummary order
+) {
+}
@@ -0,0 +1,87 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import com.delivery.justonebite.order.domain.event.OrderHistoryAppendedEvent;
+import com.delivery.justonebite.order.domain.repository.OrderItemRepository;
+import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.projection.OrderItemNameProjection;
+import com.delivery.justonebite.order.projection.ShopOrderFeedProjection;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopOrderResponse.OrderSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 상태 이력 추가 이벤트를 가게 주문 피드 메시지로 변환하여 Redis 채널로 발행.
+ * <p>
+ * 주문 요약은 구독자 수와 관계없이 발행 시점에 한 번만 조회(주문 1회, 상품명 1회)하고,
+ * 각 노드는 수신한 메시지를 그대로 연결된 사장님 화면에 전달한다.
+ * 조회와 발행은 커밋한 요청 스레드가 아닌 별도 가상 스레드에서 수행하여 주문 API 응답 시간에 포함되지 않도록 하고,
+ * 동시에 실행하는 발행 작업 수를 PUBLISHER_THREADS 로 제한하여 주문이 몰려도 피드 조회가 커넥션 풀을 점유하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopOrderFeedPublisher {
+
+    private static final int PUBLISHER_THREADS = 4;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newFixedThreadPool(PUBLISHER_THREADS,
+        Thread.ofVirtual().name("shop-order-feed-publisher-", 0).factory());
+
+    @Value("${spring.data.redis.channel.shop_order:shop:order}")
+    private String shopOrderChannel;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(OrderHistoryAppendedEvent event) {
+        try {
+            executor.execute(() -> send(event));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            log.warn("가게 주문 피드 발행 생략 orderId={}, status={}", event.orderId(), event.status());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    private void send(OrderHistoryAppendedEvent event) {
+        try {
+            ShopOrderFeedProjection order = orderRepository.findFeedSummaryById(event.orderId())
+                .orElse(null);
+            if (order == null) {
+                return;
+            }
+            List<String> itemNames = orderItemRepository.findItemNamesByOrderIds(List.of(event.orderId())).stream()
+                .map(OrderItemNameProjection::getItemName)
+                .toList();
+
+            ShopOrderFeedMessage message = new ShopOrderFeedMessage(
+                order.getShopId(),
+                ShopOrderFeedEventType.of(event.status()),
+                event.historyId(),
+                event.status(),
+                OrderSummary.of(order, order.getShopName(), itemNames)
+            );
+            redisTemplate.convertAndSend(shopOrderChannel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 실시간 피드 실패가 이미 커밋된 주문 처리에 영향을 주지 않도록 로그만 남김
+            log.warn("가게 주문 피드 발행 실패 orderId={}, status={}", event.orderId(), event.status(), e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import com.delivery.justonebite.global.common.sse.BoundedSseRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 노드에 연결된 가게 실시간 주문 피드 구독자 관리 (가게 ID 별)
+ * <p>
+ * 연결 직후에는 이벤트를 보내지 않으므로, 클라이언트는 연결 후 가게별 주문 목록 조회 API 로 현재 목록을 받고
+ * 이후 생성/상태 변경 이벤트만 반영한다.
+ */
+@Component
+public class ShopOrderFeedRegistry {
+
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final BoundedSseRegistry<ShopOrderFeedMessage> registry;
+
+    // bufferSize : 연결당 최대 미전송 메시지 수
+    public ShopOrderFeedRegistry(
+        @Value("${shop.order-feed.buffer-size:64}") int bufferSize,
+        @Value("${shop.order-feed.heartbeat-interval-millis:20000}") long heartbeatIntervalMillis) {
+        this.registry = new BoundedSseRegistry<>("shop-order-feed", bufferSize, heartbeatIntervalMillis,
+            ShopOrderFeedMessage::shopId,
+            message -> SseEmitter.event()
+                .name(message.type().getEventName())
+                .id(String.valueOf(message.historyId()))
+                .data(message, MediaType.APPLICATION_JSON),
+            message -> false);
+    }
+
+    public SseEmitter subscribe(UUID shopId) {
+        return register(shopId, new SseEmitter(TIMEOUT_MILLIS));
+    }
+
+    SseEmitter register(UUID shopId, SseEmitter emitter) {
+        return registry.register(shopId, emitter);
+    }
+
+    // Redis 로 수신한 메시지를 해당 가게의 구독자 버퍼에 추가 (전송은 연결별 전송 스레드가 수행)
+    public void broadcast(ShopOrderFeedMessage message) {
+        registry.broadcast(message);
+    }
+
+    int countConnections(UUID shopId) {
+        return registry.countConnections(shopId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        registry.shutdown();
+    }
+}
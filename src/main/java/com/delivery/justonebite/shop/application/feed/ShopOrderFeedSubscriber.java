@@ -0,0 +1,44 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채널의 가게 주문 피드 메시지를 수신하여 이 노드에 연결된 사장님 SSE 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopOrderFeedSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ShopOrderFeedRegistry shopOrderFeedRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.data.redis.channel.shop_order:shop:order}")
+    private String shopOrderChannel;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(shopOrderChannel));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            shopOrderFeedRegistry.broadcast(objectMapper.readValue(payload, ShopOrderFeedMessage.class));
+        } catch (Exception e) {
+            log.warn("가게 주문 피드 수신 처리 실패", e);
+        }
+    }
+}
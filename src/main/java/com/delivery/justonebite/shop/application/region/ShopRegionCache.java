@@ -0,0 +1,138 @@
+package com.delivery.justonebite.shop.application.region;
+
+import com.delivery.justonebite.shop.domain.event.ShopRegionChangedEvent;
+import com.delivery.justonebite.shop.domain.repository.ShopRepository;
+import com.delivery.justonebite.shop.projection.ShopRegion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지역(읍/면/동)별 가게 ID 캐시 (Redis list, 최신 등록 순)
+ * <p>
+ * 목록 조회 비용이 전체 가게 수가 아니라 해당 지역의 가게 수에만 비례하도록, 지역별 가게 ID 를 한 번 적재한 뒤
+ * 페이지 단위로 잘라 읽는다. 가게 등록 / 삭제가 커밋되면 해당 지역 목록을 DB(idx_h_shop_region)에서 다시 적재하고,
+ * 그 외 누락된 변경은 TTL 이 지나면 반영된다.
+ * 가게가 없는 지역은 캐시하지 않는다. (인덱스 조회만으로 바로 끝나므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopRegionCache {
+
+    // 목록 전체 교체 : 기존 키 삭제 후 1000개씩 RPUSH, TTL 설정을 한 번에 처리하여 동시 적재 시에도 중복이 생기지 않음
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1])
+        for i = 2, #ARGV, 1000 do
+            redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+        end
+        if #ARGV > 1 then
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        end
+        return #ARGV - 1
+        """, Long.class);
+
+    // 전체 건수와 페이지 구간을 한 번에 조회 : { 전체 건수, ID... }, 캐시가 없으면 빈 목록
+    private static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>("""
+        local total = redis.call('LLEN', KEYS[1])
+        if total == 0 then
+            return {}
+        end
+        local result = redis.call('LRANGE', KEYS[1], ARGV[1], ARGV[2])
+        table.insert(result, 1, tostring(total))
+        return result
+        """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShopRepository shopRepository;
+
+    @Value("${spring.data.redis.prefix.shop_region:shop:region:}")
+    private String keyPrefix;
+
+    @Value("${shop.region-cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public record RegionPage(long total, List<UUID> shopIds) {
+    }
+
+    /**
+     * 지역 가게 ID 페이지 조회 (캐시가 없으면 DB 에서 적재)
+     * @param offset 건너뛸 가게 수 (페이지 번호 * 페이지 크기)
+     */
+    @SuppressWarnings("unchecked")
+    public RegionPage findPage(ShopRegion region, long offset, int limit) {
+        String key = key(region);
+        List<String> cached;
+        try {
+            cached = redisTemplate.execute(
+                PAGE_SCRIPT, List.of(key), String.valueOf(offset), String.valueOf(offset + limit - 1));
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 없이 DB 목록을 잘라서 응답 (적재도 실패할 것이므로 시도하지 않음)
+            log.warn("지역 가게 캐시 조회 실패 region={}", region, e);
+            return slice(findIds(region), offset, limit);
+        }
+        if (cached != null && !cached.isEmpty()) {
+            List<UUID> shopIds = cached.subList(1, cached.size()).stream().map(UUID::fromString).toList();
+            return new RegionPage(Long.parseLong(cached.get(0)), shopIds);
+        }
+
+        List<UUID> shopIds = findIds(region);
+        try {
+            store(region, shopIds);
+        } catch (Exception e) {
+            log.warn("지역 가게 캐시 적재 실패 region={}", region, e);
+        }
+        return slice(shopIds, offset, limit);
+    }
+
+    // 가게 등록 / 삭제 커밋 이후 해당 지역 목록 재적재
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void refresh(ShopRegionChangedEvent event) {
+        try {
+            store(event.region(), findIds(event.region()));
+        } catch (Exception e) {
+            // 재적재에 실패하면 이전 목록이 남지 않도록 삭제 (다음 조회 시 적재)
+            log.warn("지역 가게 캐시 갱신 실패 region={}", event.region(), e);
+            evict(event.region());
+        }
+    }
+
+    private List<UUID> findIds(ShopRegion region) {
+        return shopRepository.findIdsByRegion(region.province(), region.city(), region.district());
+    }
+
+    private void store(ShopRegion region, List<UUID> shopIds) {
+        List<String> args = new ArrayList<>(shopIds.size() + 1);
+        args.add(String.valueOf(ttlMinutes * 60_000));
+        shopIds.forEach(shopId -> args.add(shopId.toString()));
+        redisTemplate.execute(REPLACE_SCRIPT, List.of(key(region)), args.toArray());
+    }
+
+    private void evict(ShopRegion region) {
+        try {
+            redisTemplate.delete(key(region));
+        } catch (Exception e) {
+            // 삭제도 실패하면 TTL 이 지날 때까지 이전 목록으로 응답
+            log.warn("지역 가게 캐시 삭제 실패 region={}", region, e);
+        }
+    }
+
+    private RegionPage slice(List<UUID> shopIds, long offset, int limit) {
+        int from = (int) Math.min(offset, shopIds.size());
+        int to = (int) Math.min(offset + limit, shopIds.size());
+        return new RegionPage(shopIds.size(), shopIds.subList(from, to));
+    }
+
+    private String key(ShopRegion region) {
+        return keyPrefix + region.province() + ":" + region.city() + ":" + region.district();
+    }
+}
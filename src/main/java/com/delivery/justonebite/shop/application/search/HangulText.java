@@ -0,0 +1,74 @@
+package com.delivery.justonebite.shop.application.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색어 / 검색 대상 문자열 정규화와 한글 초성 분해
+ * <p>
+ * 완성형 한글 음절(가 ~ 힣)은 (초성 * 21 + 중성) * 28 + 종성 + 0xAC00 으로 구성되므로
+ * 588(= 21 * 28)로 나눈 몫이 초성 순서가 된다. 초성은 호환용 자모(ㄱ ~ ㅎ)로 바꿔
+ * 사용자가 입력한 "ㅊㅋ" 와 같은 문자로 비교한다.
+ */
+final class HangulText {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char CONSONANT_JAMO_BEGIN = 'ㄱ';
+    private static final char CONSONANT_JAMO_END = 'ㅎ';
+
+    private HangulText() {
+    }
+
+    // NFC 결합(macOS 등에서 자모 단위로 들어온 입력 포함), 소문자화, 문자 / 숫자 외에는 공백으로 치환한 단어 목록
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) ? c : ' ');
+        }
+        return Arrays.stream(sb.toString().split(" +"))
+            .filter(term -> !term.isEmpty())
+            .toList();
+    }
+
+    // 공백 없이 이어 붙인 정규화 문자열 (단어 경계를 넘는 검색어도 찾을 수 있도록 색인 시 사용)
+    static String compact(String text) {
+        return String.join("", terms(text));
+    }
+
+    static boolean containsConsonantJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= CONSONANT_JAMO_BEGIN && c <= CONSONANT_JAMO_END) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 완성형 음절만 초성으로 바꾸고 나머지 문자는 그대로 유지 ("bbq치킨" -> "bbqㅊㅋ")
+    static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,480 @@
+package com.delivery.justonebite.shop.application.search;
+
+import com.delivery.justonebite.shop.projection.ShopSearchDocument;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 검색용 메모리 역색인 (n-gram).
+ * <p>
+ * 필드(가게명 / 카테고리 / 상품명 / 설명)별로 정규화한 문자열의 1글자(unigram) + 2글자(bigram)를 색인하고,
+ * 가게명 / 카테고리 / 상품명은 초성으로 바꾼 문자열도 함께 색인하여 "ㅊㅋ" 로 "치킨" 을 찾을 수 있다.
+ * 검색어의 각 단어는 해당 단어의 bigram 이 모두 같은 필드에 있는 가게와 일치하며(단어 간 AND),
+ * 일치한 필드 중 가장 높은 가중치의 합으로 정렬하고 같으면 최근 등록된 가게 순으로 정렬한다.
+ * <p>
+ * n-gram 은 두 글자를 int 하나로 묶은 키를 사용하고, posting 은 문서 번호를 오름차순으로 담은 int 배열이다.
+ * (배열의 0번째 칸은 사용 중인 길이이며 용량은 두 배씩 늘린다.)
+ * 문서 갱신은 기존 문서 번호를 삭제 표시하고 새 번호로 다시 색인하므로 posting 은 항상 오름차순을 유지하며,
+ * 삭제 표시된 문서가 많아지면 ShopSearchIndexer 가 DB 에서 새 인덱스를 만들어 교체한다.
+ * 검색 결과의 카테고리별 가게 수(카테고리 칩)도 같은 일치 결과로 집계할 수 있도록 문서별 카테고리명을 함께 보관한다.
+ */
+public class ShopSearchIndex {
+
+    private static final int MAX_TERMS = 8;
+    private static final int MAX_SCORE = (1 << 6) - 1;
+    private static final int MATCH_INDEX_BITS = 25;
+    private static final int INITIAL_DOCS = 1_024;
+
+    private static final int[] EMPTY = new int[0];
+    private static final String[] NO_CATEGORIES = new String[0];
+
+    enum Field {
+        NAME(8, true),
+        CATEGORY(4, true),
+        ITEM(2, true),
+        DESCRIPTION(1, false);
+
+        private final int weight;
+        private final boolean choseong;
+
+        Field(int weight, boolean choseong) {
+            this.weight = weight;
+            this.choseong = choseong;
+        }
+    }
+
+    public record Hits(int total, List<UUID> shopIds) {
+        static final Hits NONE = new Hits(0, List.of());
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, int[]>[] postings = new Map[Field.values().length];
+
+    private final Map<UUID, Integer> docByShop = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] shopIdMsb = new long[INITIAL_DOCS];
+    private long[] shopIdLsb = new long[INITIAL_DOCS];
+    private int[] createdSeconds = new int[INITIAL_DOCS];
+    private String[][] categories = new String[INITIAL_DOCS][];
+    private int docCount;
+
+    public ShopSearchIndex() {
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = new HashMap<>();
+        }
+    }
+
+    // 가게 문서 추가 / 교체 : 기존 문서 번호는 삭제 표시하고 새 번호로 색인
+    public void upsert(ShopSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.shopId());
+
+            int doc = docCount++;
+            ensureDocCapacity(docCount);
+            shopIdMsb[doc] = document.shopId().getMostSignificantBits();
+            shopIdLsb[doc] = document.shopId().getLeastSignificantBits();
+            createdSeconds[doc] = document.createdAt() == null
+                ? 0
+                : (int) document.createdAt().toEpochSecond(ZoneOffset.UTC);
+            categories[doc] = document.categoryNames().isEmpty()
+                ? NO_CATEGORIES
+                : document.categoryNames().stream().distinct().toArray(String[]::new);
+            docByShop.put(document.shopId(), doc);
+
+            index(Field.NAME, doc, List.of(nullToEmpty(document.name())));
+            index(Field.CATEGORY, doc, document.categoryNames());
+            index(Field.ITEM, doc, document.itemNames());
+            index(Field.DESCRIPTION, doc, List.of(nullToEmpty(document.description())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID shopId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(shopId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param offset 건너뛸 가게 수 (페이지 번호 * 페이지 크기)
+     * @return 전체 일치 가게 수, offset 부터 limit 개의 가게 ID (관련도 순)
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<String> terms = HangulText.terms(query);
+        if (terms.isEmpty()) {
+            return Hits.NONE;
+        }
+
+        lock.readLock().lock();
+        try {
+            int[][] matched = match(terms);
+            return matched[0].length == 0 ? Hits.NONE : rank(matched[0], matched[1], offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과의 카테고리별 가게 수 (search 와 같은 일치 조건)
+     * @return 카테고리명 -> 가게 수
+     */
+    public Map<String, Long> countCategories(String query) {
+        List<String> terms = HangulText.terms(query);
+        if (terms.isEmpty()) {
+            return Map.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            for (int doc : match(terms)[0]) {
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                for (String category : categories[doc]) {
+                    counts.merge(category, 1L, Long::sum);
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 가게 수 (삭제 표시 제외)
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByShop.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시된 문서 비율 (재생성 기준)
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return docCount == 0 ? 0 : (double) deleted.cardinality() / docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 적재 후 posting 배열의 여유 용량 제거
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            for (Map<Integer, int[]> fieldPostings : postings) {
+                fieldPostings.replaceAll((gram, posting) ->
+                    posting.length == posting[0] + 1 ? posting : Arrays.copyOf(posting, posting[0] + 1));
+            }
+            shopIdMsb = Arrays.copyOf(shopIdMsb, docCount);
+            shopIdLsb = Arrays.copyOf(shopIdLsb, docCount);
+            createdSeconds = Arrays.copyOf(createdSeconds, docCount);
+            categories = Arrays.copyOf(categories, docCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(UUID shopId) {
+        Integer doc = docByShop.remove(shopId);
+        if (doc == null) {
+            return false;
+        }
+        deleted.set(doc);
+        return true;
+    }
+
+    private void index(Field field, int doc, List<String> values) {
+        Map<Integer, int[]> fieldPostings = postings[field.ordinal()];
+        for (String value : values) {
+            String text = HangulText.compact(value);
+            addGrams(fieldPostings, doc, text);
+            if (field.choseong) {
+                String choseong = HangulText.toChoseong(text);
+                if (!choseong.equals(text)) {
+                    addGrams(fieldPostings, doc, choseong);
+                }
+            }
+        }
+    }
+
+    private void addGrams(Map<Integer, int[]> fieldPostings, int doc, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            append(fieldPostings, unigram(text.charAt(i)), doc);
+            if (i + 1 < text.length()) {
+                append(fieldPostings, bigram(text.charAt(i), text.charAt(i + 1)), doc);
+            }
+        }
+    }
+
+    // 같은 문서의 같은 n-gram 은 한 번만 추가 (새 문서 번호가 항상 가장 크므로 마지막 값과만 비교)
+    private void append(Map<Integer, int[]> fieldPostings, int gram, int doc) {
+        int[] posting = fieldPostings.get(gram);
+        if (posting == null) {
+            posting = new int[4];
+        } else {
+            int size = posting[0];
+            if (posting[size] == doc) {
+                return;
+            }
+            if (size + 1 == posting.length) {
+                posting = Arrays.copyOf(posting, posting.length * 2);
+            }
+        }
+        posting[++posting[0]] = doc;
+        fieldPostings.put(gram, posting);
+    }
+
+    // 검색어 단어별 일치 문서의 교집합 (단어 간 AND) : {문서 번호(오름차순), 점수}, 삭제 표시된 문서 포함
+    private int[][] match(List<String> terms) {
+        int[] docs = null;
+        int[] scores = null;
+        for (String term : terms.subList(0, Math.min(terms.size(), MAX_TERMS))) {
+            int[][] termHits = matchTerm(term);
+            if (docs == null) {
+                docs = termHits[0];
+                scores = termHits[1];
+            } else {
+                int[][] merged = intersectSum(docs, scores, termHits[0], termHits[1]);
+                docs = merged[0];
+                scores = merged[1];
+            }
+            if (docs.length == 0) {
+                break;
+            }
+        }
+        return new int[][] {docs, scores};
+    }
+
+    // 검색어 단어 하나 : 필드별로 n-gram posting 교집합을 구한 뒤 문서별 최고 가중치로 합침
+    private int[][] matchTerm(String term) {
+        boolean choseong = HangulText.containsConsonantJamo(term);
+        int[] grams = queryGrams(choseong ? HangulText.toChoseong(term) : term);
+
+        int[] docs = EMPTY;
+        int[] scores = EMPTY;
+        for (Field field : Field.values()) {
+            if (choseong && !field.choseong) {
+                continue;
+            }
+            int[] fieldDocs = intersectPostings(postings[field.ordinal()], grams);
+            if (fieldDocs.length > 0) {
+                int[][] merged = unionMax(docs, scores, fieldDocs, field.weight);
+                docs = merged[0];
+                scores = merged[1];
+            }
+        }
+        return new int[][] {docs, scores};
+    }
+
+    private int[] queryGrams(String term) {
+        if (term.length() == 1) {
+            return new int[] {unigram(term.charAt(0))};
+        }
+        int[] grams = new int[term.length() - 1];
+        for (int i = 0; i + 1 < term.length(); i++) {
+            grams[i] = bigram(term.charAt(i), term.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    private int[] intersectPostings(Map<Integer, int[]> fieldPostings, int[] grams) {
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = fieldPostings.get(grams[i]);
+            if (lists[i] == null) {
+                return EMPTY;
+            }
+        }
+        // 가장 짧은 posting 부터 교집합
+        Arrays.sort(lists, (a, b) -> Integer.compare(a[0], b[0]));
+        int[] result = Arrays.copyOfRange(lists[0], 1, lists[0][0] + 1);
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    // docs(오름차순) 와 posting(0번째 칸이 길이) 의 교집합
+    private int[] intersect(int[] docs, int[] posting) {
+        int[] result = new int[docs.length];
+        int size = 0;
+        int i = 0;
+        int j = 1;
+        int end = posting[0];
+        while (i < docs.length && j <= end) {
+            if (docs[i] == posting[j]) {
+                result[size++] = docs[i];
+                i++;
+                j++;
+            } else if (docs[i] < posting[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private int[][] unionMax(int[] docs, int[] scores, int[] fieldDocs, int weight) {
+        int[] mergedDocs = new int[docs.length + fieldDocs.length];
+        int[] mergedScores = new int[mergedDocs.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < docs.length || j < fieldDocs.length) {
+            if (j == fieldDocs.length || (i < docs.length && docs[i] < fieldDocs[j])) {
+                mergedDocs[size] = docs[i];
+                mergedScores[size++] = scores[i++];
+            } else if (i == docs.length || fieldDocs[j] < docs[i]) {
+                mergedDocs[size] = fieldDocs[j++];
+                mergedScores[size++] = weight;
+            } else {
+                mergedDocs[size] = docs[i];
+                mergedScores[size++] = Math.max(scores[i++], weight);
+                j++;
+            }
+        }
+        return new int[][] {Arrays.copyOf(mergedDocs, size), Arrays.copyOf(mergedScores, size)};
+    }
+
+    private int[][] intersectSum(int[] docs, int[] scores, int[] otherDocs, int[] otherScores) {
+        int length = Math.min(docs.length, otherDocs.length);
+        int[] mergedDocs = new int[length];
+        int[] mergedScores = new int[length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < docs.length && j < otherDocs.length) {
+            if (docs[i] == otherDocs[j]) {
+                mergedDocs[size] = docs[i];
+                mergedScores[size++] = scores[i++] + otherScores[j++];
+            } else if (docs[i] < otherDocs[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new int[][] {Arrays.copyOf(mergedDocs, size), Arrays.copyOf(mergedScores, size)};
+    }
+
+    // 점수(6bit) | 등록 시각(초, 32bit) | 일치 목록 내 위치(25bit) 를 long 하나로 묶어 큰 순서로 정렬
+    private Hits rank(int[] docs, int[] scores, int offset, int limit) {
+        long[] keys = new long[docs.length];
+        int total = 0;
+        for (int i = 0; i < docs.length; i++) {
+            if (deleted.get(docs[i])) {
+                continue;
+            }
+            keys[total++] = ((long) Math.min(scores[i], MAX_SCORE) << (32 + MATCH_INDEX_BITS))
+                | (Integer.toUnsignedLong(createdSeconds[docs[i]]) << MATCH_INDEX_BITS)
+                | i;
+        }
+        if (total <= offset) {
+            return new Hits(total, List.of());
+        }
+
+        int end = Math.min(total, offset + limit);
+        long[] top = topK(keys, total, end);
+        List<UUID> shopIds = new ArrayList<>(end - offset);
+        long matchIndexMask = (1L << MATCH_INDEX_BITS) - 1;
+        for (int rank = offset; rank < end; rank++) {
+            int doc = docs[(int) (top[rank] & matchIndexMask)];
+            shopIds.add(new UUID(shopIdMsb[doc], shopIdLsb[doc]));
+        }
+        return new Hits(total, shopIds);
+    }
+
+    // 상위 k 개를 큰 순서로 반환 : 앞쪽 페이지 조회가 대부분이므로 전체 정렬 대신 크기 k 의 최소 힙 사용
+    private long[] topK(long[] keys, int size, int k) {
+        long[] heap = new long[k];
+        int heapSize = 0;
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            if (heapSize < k) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+        Arrays.sort(heap, 0, heapSize);
+        for (int i = 0, j = heapSize - 1; i < j; i++, j--) {
+            long tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+        return heap;
+    }
+
+    private void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > shopIdMsb.length) {
+            int newLength = Math.max(capacity, shopIdMsb.length * 2);
+            shopIdMsb = Arrays.copyOf(shopIdMsb, newLength);
+            shopIdLsb = Arrays.copyOf(shopIdLsb, newLength);
+            createdSeconds = Arrays.copyOf(createdSeconds, newLength);
+            categories = Arrays.copyOf(categories, newLength);
+        }
+    }
+
+    private static int unigram(char c) {
+        return c << 16;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.delivery.justonebite.shop.application.search;
+
+import com.delivery.justonebite.shop.domain.event.ShopSearchDocumentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 검색 대상 변경 이벤트를 Redis 채널로 발행하여 모든 노드의 메모리 인덱스를 갱신.
+ * Redis 발행에 실패하면 최소한 이 노드의 인덱스는 바로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSearchIndexPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShopSearchIndexer shopSearchIndexer;
+
+    @Value("${spring.data.redis.channel.shop_search:shop:search}")
+    private String shopSearchChannel;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(ShopSearchDocumentChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(shopSearchChannel, event.shopId().toString());
+        } catch (Exception e) {
+            log.warn("가게 검색 인덱스 갱신 발행 실패 shopId={}", event.shopId(), e);
+            shopSearchIndexer.refresh(event.shopId());
+        }
+    }
+}
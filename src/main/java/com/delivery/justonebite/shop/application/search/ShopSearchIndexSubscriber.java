@@ -0,0 +1,42 @@
+package com.delivery.justonebite.shop.application.search;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채널의 가게 검색 대상 변경 메시지(가게 ID)를 수신하여 이 노드의 검색 인덱스 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSearchIndexSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ShopSearchIndexer shopSearchIndexer;
+
+    @Value("${spring.data.redis.channel.shop_search:shop:search}")
+    private String shopSearchChannel;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(shopSearchChannel));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            shopSearchIndexer.refresh(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("가게 검색 인덱스 갱신 실패", e);
+        }
+    }
+}
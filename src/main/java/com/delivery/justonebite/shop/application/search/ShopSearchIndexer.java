@@ -0,0 +1,126 @@
+package com.delivery.justonebite.shop.application.search;
+
+import com.delivery.justonebite.shop.domain.repository.ShopSearchDocumentRepository;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 검색 인덱스(ShopSearchIndex) 생성 / 갱신.
+ * <p>
+ * 기동 시 DB 에서 전체 가게를 읽어 인덱스를 만들고(완료 전까지는 검색 시 DB 검색 사용),
+ * 이후에는 가게 / 상품 변경 시 해당 가게 문서만 DB 에서 다시 읽어 교체한다.
+ * 교체로 삭제 표시된 문서 비율이 rebuild-deleted-ratio 를 넘으면 새 인덱스를 만들어 바꾸며,
+ * 재생성 중에 들어온 변경은 교체 후 새 인덱스에 다시 반영한다.
+ * 변경 알림(Redis pub/sub)은 구독이 끊긴 동안 유실될 수 있으므로 rebuild-interval-millis 마다 전체 재생성하여
+ * 누락된 변경이 계속 남지 않도록 한다. (인덱스는 노드마다 있으므로 노드별로 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSearchIndexer {
+
+    private final ShopSearchDocumentRepository shopSearchDocumentRepository;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<UUID> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    private volatile ShopSearchIndex index;
+
+    @Value("${shop.search.index.rebuild-deleted-ratio:0.3}")
+    private double rebuildDeletedRatio;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    // 유실된 변경 알림 보정
+    @Scheduled(fixedDelayString = "${shop.search.index.rebuild-interval-millis:3600000}",
+        initialDelayString = "${shop.search.index.rebuild-interval-millis:3600000}")
+    public void rebuildPeriodically() {
+        rebuildAsync();
+    }
+
+    /**
+     * 인덱스 검색
+     * @return 인덱스가 아직 준비되지 않은 경우 empty
+     */
+    public Optional<ShopSearchIndex.Hits> search(String query, int offset, int limit) {
+        ShopSearchIndex current = index;
+        return current == null ? Optional.empty() : Optional.of(current.search(query, offset, limit));
+    }
+
+    /**
+     * 검색 결과의 카테고리별 가게 수
+     * @return 인덱스가 아직 준비되지 않은 경우 empty
+     */
+    public Optional<Map<String, Long>> countCategories(String query) {
+        ShopSearchIndex current = index;
+        return current == null ? Optional.empty() : Optional.of(current.countCategories(query));
+    }
+
+    // 가게 문서 갱신 (삭제된 가게는 인덱스에서 제거)
+    public void refresh(UUID shopId) {
+        if (rebuilding.get()) {
+            changedWhileRebuilding.add(shopId);
+        }
+        ShopSearchIndex current = index;
+        if (current == null) {
+            return;
+        }
+        apply(current, shopId);
+        if (current.deletedRatio() > rebuildDeletedRatio) {
+            rebuildAsync();
+        }
+    }
+
+    // 요청 스레드를 점유하지 않도록 가상 스레드에서 재생성, 이미 재생성 중이면 건너뜀
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("shop-search-index").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("[ShopSearchIndex] 인덱스 생성 실패", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    void rebuild() {
+        long t0 = System.nanoTime();
+        ShopSearchIndex fresh = new ShopSearchIndex();
+        shopSearchDocumentRepository.forEach(fresh::upsert);
+        fresh.trimToSize();
+        index = fresh;
+
+        // 전체 조회 이후 커밋된 변경 반영
+        Iterator<UUID> changed = changedWhileRebuilding.iterator();
+        while (changed.hasNext()) {
+            UUID shopId = changed.next();
+            changed.remove();
+            apply(fresh, shopId);
+        }
+
+        log.info("[ShopSearchIndex] 인덱스 생성 shops={}, {}ms", fresh.size(), (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    private void apply(ShopSearchIndex target, UUID shopId) {
+        shopSearchDocumentRepository.findById(shopId)
+            .ifPresentOrElse(target::upsert, () -> target.remove(shopId));
+    }
+}
@@ -3,24 +3,42 @@ package com.delivery.justonebite.shop.application.service;
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.review.application.service.ReviewAggregationService;
+import com.delivery.justonebite.shop.application.cache.ShopCatalogCache;
+import com.delivery.justonebite.shop.application.cache.ShopCategoryFacetCache;
+import com.delivery.justonebite.shop.application.cache.ShopDetailCache;
+import com.delivery.justonebite.shop.application.region.ShopRegionCache;
+import com.delivery.justonebite.shop.application.search.ShopSearchIndexer;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.shop.presentation.dto.request.ShopSearchRequest;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopCategoryFacetResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopDetailResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopSearchResponse;
 import com.delivery.justonebite.shop.projection.ShopAvgProjection;
+import com.delivery.justonebite.shop.projection.ShopRegion;
+import com.delivery.justonebite.user.domain.entity.Address;
+import com.delivery.justonebite.user.domain.repository.AddressRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,25 +48,131 @@ public class ShopQueryService {
 
     private final ShopRepository shopRepository;
     private final ReviewAggregationService reviewAggregationService;
+    private final ShopSearchIndexer shopSearchIndexer;
+    private final AddressRepository addressRepository;
+    private final ShopRegionCache shopRegionCache;
+    private final ShopCatalogCache shopCatalogCache;
+    private final ShopCategoryFacetCache shopCategoryFacetCache;
+    private final ShopDetailCache shopDetailCache;
+    private final TransactionTemplate transactionTemplate;
 
     // 전체 가게 목록 조회
+    // 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행하고, DB 조회(카테고리 지연 로딩 포함)만 트랜잭션에서 처리
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ShopSearchResponse> searchShops(ShopSearchRequest request) {
 
         // 정렬 정보 생성
         Sort sort = Sort.by(Sort.Direction.fromString(request.direction()), request.sortBy());
         Pageable pageable = PageRequest.of(request.page(), request.size(), sort);
 
-        Page<Shop> shops;
+        if (shopCatalogCache.isCacheable(request)) {
+            // 검색어 없는 앞쪽 페이지: 가게 목록 캐시 사용 (버전은 DB 조회 전에 읽어야 조회 중 변경된 결과가 새 버전에 저장되지 않음)
+            String version = shopCatalogCache.currentVersion();
+            return shopCatalogCache.find(request, version)
+                    .<Page<ShopSearchResponse>>map(cached -> new PageImpl<>(cached.content(), pageable, cached.totalElements()))
+                    .orElseGet(() -> {
+                        Page<ShopSearchResponse> responses = inTransaction(() -> toResponses(shopRepository.findAll(pageable)));
+                        shopCatalogCache.put(request, version,
+                                new ShopCatalogCache.CachedPage(responses.getContent(), responses.getTotalElements()));
+                        return responses;
+                    });
+        }
+
+        return inTransaction(() -> {
+            Page<Shop> shops;
+            if (request.q() == null || request.q().isBlank()) {
+                // 검색어 없을 때: 전체 목록
+                shops = shopRepository.findAll(pageable);
+            } else {
+                // 검색어 있을 때: 가게명/설명/카테고리명/상품명 검색 (관련도 순 정렬)
+                // 메모리 검색 인덱스가 준비되기 전(기동 직후)에는 DB 검색 사용
+                Pageable unsorted = PageRequest.of(request.page(), request.size());
+                shops = shopSearchIndexer.search(request.q(), (int) unsorted.getOffset(), unsorted.getPageSize())
+                        .map(hits -> findShopsInOrder(hits.shopIds(), hits.total(), unsorted))
+                        .orElseGet(() -> shopRepository.searchByKeyword(request.q(), unsorted));
+            }
+            return toResponses(shops);
+        });
+    }
+
+    // 전체 가게 목록 조회 (slice 모드) : 전체 개수 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    // 캐시 적중 시 트랜잭션 없이 응답 (searchShops 와 동일)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<ShopSearchResponse> searchShopSlice(ShopSearchRequest request) {
+        Sort sort = Sort.by(Sort.Direction.fromString(request.direction()), request.sortBy());
+        Pageable pageable = PageRequest.of(request.page(), request.size(), sort);
 
         if (request.q() == null || request.q().isBlank()) {
-            // 검색어 없을 때: 전체 목록
-            shops = shopRepository.findAll(pageable);
-        } else {
-            // 검색어 있을 때: 이름/설명 검색
-            Pageable unsorted = PageRequest.of(request.page(), request.size());
-            shops = shopRepository.searchByNameOrDescription(request.q(), unsorted);
+            // 캐시된 페이지가 있으면 그대로 사용
+            if (shopCatalogCache.isCacheable(request)) {
+                Optional<ShopCatalogCache.CachedPage> cached =
+                        shopCatalogCache.find(request, shopCatalogCache.currentVersion());
+                if (cached.isPresent()) {
+                    return toSlice(new PageImpl<>(cached.get().content(), pageable, cached.get().totalElements()));
+                }
+            }
+            return inTransaction(() -> toResponses(shopRepository.findSliceBy(pageable)));
+        }
+
+        // 메모리 검색 인덱스는 검색 중 전체 건수를 함께 구하므로 추가 비용 없음, DB 검색은 COUNT 쿼리 생략
+        Pageable unsorted = PageRequest.of(request.page(), request.size());
+        return inTransaction(() -> {
+            Slice<Shop> shops = shopSearchIndexer.search(request.q(), (int) unsorted.getOffset(), unsorted.getPageSize())
+                    .map(hits -> toSlice(findShopsInOrder(hits.shopIds(), hits.total(), unsorted)))
+                    .orElseGet(() -> shopRepository.searchSliceByKeyword(request.q(), unsorted));
+            return toResponses(shops);
+        });
+    }
+
+    // 가게 목록의 카테고리별 가게 수 (카테고리 칩) : 검색어가 없으면 전체 가게 기준 캐시, 있으면 검색 결과 기준 집계
+    // 검색 결과 기준 집계는 목록 검색과 같은 메모리 검색 인덱스 결과로 집계하고, 인덱스가 준비되기 전에는 DB 집계 사용
+    public List<ShopCategoryFacetResponse> searchCategoryFacets(String q) {
+        if (q == null || q.isBlank()) {
+            return shopCategoryFacetCache.findAll();
         }
+        return shopSearchIndexer.countCategories(q)
+                .map(counts -> counts.entrySet().stream()
+                        .map(e -> new ShopCategoryFacetResponse(e.getKey(), e.getValue()))
+                        .sorted(Comparator.comparingLong(ShopCategoryFacetResponse::shopCount).reversed()
+                                .thenComparing(ShopCategoryFacetResponse::categoryName))
+                        .toList())
+                .orElseGet(() -> shopRepository.countCategoriesByKeyword(q).stream()
+                        .map(ShopCategoryFacetResponse::from)
+                        .toList());
+    }
+
+    // 배달 지역 가게 목록 조회 : 고객 기본 배송지의 읍/면/동 가게를 최신 등록 순으로 조회
+    public Page<ShopSearchResponse> searchNearbyShops(Long userId, Integer page, Integer size) {
+        Address address = addressRepository.findByUser_IdAndIsDefaultTrue(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ADDRESS_NOT_FOUND));
 
+        // 페이지 크기는 전체 목록과 같은 기준(10, 30, 50)으로 보정
+        ShopSearchRequest request = ShopSearchRequest.of(null, page, size, "createdAt", "DESC");
+        Pageable pageable = PageRequest.of(request.page(), request.size());
+
+        ShopRegionCache.RegionPage regionPage = shopRegionCache.findPage(
+                ShopRegion.of(address), pageable.getOffset(), pageable.getPageSize());
+        return toResponses(findShopsInOrder(regionPage.shopIds(), regionPage.total(), pageable));
+    }
+
+    // 배달 지역 가게 목록 조회 (slice 모드) : 전체 개수는 지역 캐시 목록 길이로 구하므로 COUNT 쿼리는 없고 응답 형식만 맞춤
+    public Slice<ShopSearchResponse> searchNearbyShopSlice(Long userId, Integer page, Integer size) {
+        return toSlice(searchNearbyShops(userId, page, size));
+    }
+
+    // 가게 목록에 평균 평점을 합쳐 응답으로 변환
+    private Page<ShopSearchResponse> toResponses(Page<Shop> shops) {
+        Map<UUID, BigDecimal> avgMap = findAvgMap(shops.getContent());
+        return shops.map(shop -> toResponse(shop, avgMap));
+    }
+
+    private Slice<ShopSearchResponse> toResponses(Slice<Shop> shops) {
+        Map<UUID, BigDecimal> avgMap = findAvgMap(shops.getContent());
+        return shops.map(shop -> toResponse(shop, avgMap));
+    }
+
+    // 평균 평점 조회 (shopId -> avgRating)
+    private Map<UUID, BigDecimal> findAvgMap(List<Shop> shops) {
         // Shop ID 리스트 추출
         List<UUID> shopIds = shops.stream().map(Shop::getId).toList();
 
@@ -56,32 +180,56 @@ public class ShopQueryService {
         List<ShopAvgProjection> avgList = shopRepository.findAvgByIds(shopIds);
 
         // Projection 결과를 Map 형태로 변환 (shopId -> avgRating)
-        Map<UUID, BigDecimal> avgMap = avgList.stream()
+        return avgList.stream()
                 .filter(a -> a.getShopId() != null)
                 .collect(Collectors.toMap(
                         ShopAvgProjection::getShopId,
                         ShopAvgProjection::getAverageRating,
                         (existing, duplicate) -> existing
                 ));
+    }
 
-        // DTO 변환 (평점 병합)
-        return shops.map(shop -> {
-            BigDecimal avgRating = avgMap.getOrDefault(shop.getId(), BigDecimal.ZERO);
-            return ShopSearchResponse.from(shop, avgRating.doubleValue());
-        });
+    // DTO 변환 (평점 병합)
+    private ShopSearchResponse toResponse(Shop shop, Map<UUID, BigDecimal> avgMap) {
+        BigDecimal avgRating = avgMap.getOrDefault(shop.getId(), BigDecimal.ZERO);
+        return ShopSearchResponse.from(shop, avgRating.doubleValue());
     }
 
-    // 가게 상세 조회
-    public ShopDetailResponse getShopDetail(UUID shopId) {
-        Shop shop = shopRepository.findById(shopId)
-                .orElseThrow(() -> new CustomException(ErrorCode.SHOP_NOT_FOUND));
-        List<ShopAvgProjection> avgList = shopRepository.findAvgByIds(List.of(shopId));
+    // 캐시를 거치지 않는 DB 조회 : 카테고리 지연 로딩까지 하나의 트랜잭션에서 처리
+    private <T> T inTransaction(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
 
-        BigDecimal avgRating = avgList.isEmpty()
-                ? BigDecimal.ZERO
-                : avgList.get(0).getAverageRating();
+    // 전체 개수를 제외한 Slice 로 변환 (slice 모드 응답 형식 통일)
+    private <T> Slice<T> toSlice(Page<T> page) {
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
+    }
 
-        return ShopDetailResponse.from(shop, avgRating.doubleValue());
+    // 검색 인덱스 / 지역 캐시의 가게 ID 순서대로 가게 조회 (인덱스 / 캐시에 아직 반영되지 않은 삭제된 가게는 제외)
+    private Page<Shop> findShopsInOrder(List<UUID> shopIds, long total, Pageable pageable) {
+        if (shopIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        Map<UUID, Shop> shopById = shopRepository.findAllByIdInAndDeletedAtIsNull(shopIds).stream()
+                .collect(Collectors.toMap(Shop::getId, shop -> shop));
+        List<Shop> ordered = shopIds.stream()
+                .map(shopById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, total);
+    }
+
+    // 가게 상세 조회 : 가게별 캐시에 없으면 카테고리까지 한 번에 조회
+    // 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행 (조회 결과는 모두 로딩된 상태로 반환됨)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ShopDetailCache.CachedDetail getShopDetail(UUID shopId) {
+        // 버전은 DB 조회 전에 읽어야 조회 중 변경된 결과가 새 버전에 저장되지 않음
+        String version = shopDetailCache.currentVersion(shopId);
+        return shopDetailCache.find(shopId, version).orElseGet(() -> {
+            Shop shop = shopRepository.findDetailById(shopId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.SHOP_NOT_FOUND));
+            return shopDetailCache.put(ShopDetailResponse.from(shop), version);
+        });
     }
 
 }
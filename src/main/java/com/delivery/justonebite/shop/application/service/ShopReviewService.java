@@ -7,8 +7,8 @@ import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopReviewResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +22,16 @@ public class ShopReviewService {
     private final ShopRepository shopRepository;
 
     @Transactional(readOnly = true)
-    public ShopReviewResponse getReviewsByShop(UUID shopId, Pageable pageable) {
+    public ShopReviewResponse getReviewsByShop(UUID shopId, Pageable pageable, boolean slice) {
         // 가게 존재 여부 확인
         if (!shopRepository.existsById(shopId)) {
             throw new CustomException(ErrorCode.SHOP_NOT_FOUND);
         }
 
-        Page<ReviewResponse> reviews = reviewService.getByShop(shopId, pageable);
+        // slice 모드는 전체 개수를 조회하지 않음
+        Slice<ReviewResponse> reviews = slice
+                ? reviewService.getSliceByShop(shopId, pageable)
+                : reviewService.getByShop(shopId, pageable);
 
         //리뷰 응답 변환
         return ShopReviewResponse.from(reviews);
@@ -2,17 +2,21 @@ package com.delivery.justonebite.shop.application.service;
 
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
-import com.delivery.justonebite.order.domain.entity.Order;
-import com.delivery.justonebite.order.domain.entity.OrderHistory;
-import com.delivery.justonebite.order.domain.entity.OrderItem;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
 import com.delivery.justonebite.order.domain.repository.OrderHistoryRepository;
 import com.delivery.justonebite.order.domain.repository.OrderItemRepository;
 import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.projection.OrderItemNameProjection;
+import com.delivery.justonebite.order.projection.OrderSummaryProjection;
+import com.delivery.justonebite.shop.application.feed.ShopOrderFeedRegistry;
 import com.delivery.justonebite.shop.domain.entity.Category;
 import com.delivery.justonebite.shop.domain.entity.RejectStatus;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.entity.ShopCategory;
+import com.delivery.justonebite.shop.domain.event.ShopCatalogChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopCategoriesChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopRegionChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopSearchDocumentChangedEvent;
 import com.delivery.justonebite.shop.domain.repository.CategoryRepository;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.shop.presentation.dto.request.ShopCreateRequest;
@@ -20,15 +24,18 @@ import com.delivery.justonebite.shop.presentation.dto.request.ShopUpdateRequest;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopDeleteResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopOrderResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopUpdateResponse;
+import com.delivery.justonebite.shop.projection.ShopRegion;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,6 +51,9 @@ public class ShopService {
     private final OrderHistoryRepository orderHistoryRepository;
     private final OrderItemRepository orderItemRepository;
 
+    private final ShopOrderFeedRegistry shopOrderFeedRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
 
     // 가게 등록
     @Transactional
@@ -82,7 +92,17 @@ public class ShopService {
             }
         }
 
-        return shopRepository.save(shop);
+        Shop saved = shopRepository.save(shop);
+        if (!saved.getCategories().isEmpty()) {
+            Set<String> added = saved.getCategories().stream()
+                    .map(sc -> sc.getCategory().getCategoryName())
+                    .collect(Collectors.toSet());
+            eventPublisher.publishEvent(new ShopCategoriesChangedEvent(added, Set.of()));
+        }
+        eventPublisher.publishEvent(new ShopSearchDocumentChangedEvent(saved.getId()));
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(saved.getId()));
+        eventPublisher.publishEvent(new ShopRegionChangedEvent(ShopRegion.of(saved)));
+        return saved;
     }
 
 
@@ -164,9 +184,15 @@ public class ShopService {
                         );
                     }
                 }
+
+                // 카테고리별 가게 수 캐시 증분 갱신 (커밋 이후)
+                eventPublisher.publishEvent(new ShopCategoriesChangedEvent(toAdd, toRemove));
             }
         }
 
+        eventPublisher.publishEvent(new ShopSearchDocumentChangedEvent(shopId));
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(shopId));
+
             return new ShopUpdateResponse(shop.getUpdatedAt(), shop.getUpdatedBy());
 
     }
@@ -205,13 +231,24 @@ public class ShopService {
         // 관리자에게 삭제 요청 상태로 변경
         shop.requestDelete();
 
+        // 삭제된 가게는 카테고리별 가게 수에서 제외 (커밋 이후 캐시 증분 갱신)
+        if (!shop.getCategories().isEmpty()) {
+            Set<String> removed = shop.getCategories().stream()
+                    .map(sc -> sc.getCategory().getCategoryName())
+                    .collect(Collectors.toSet());
+            eventPublisher.publishEvent(new ShopCategoriesChangedEvent(Set.of(), removed));
+        }
+        eventPublisher.publishEvent(new ShopSearchDocumentChangedEvent(shopId));
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(shopId));
+        eventPublisher.publishEvent(new ShopRegionChangedEvent(ShopRegion.of(shop)));
+
         return new ShopDeleteResponse(shop.getDeletedAt(), shop.getDeleteAcceptStatus());
 
     }
 
     // 가게별 주문 목록 조회
     @Transactional(readOnly = true)
-    public ShopOrderResponse getOrdersByShop(UUID shopId, User user, int page, int size, String sortBy) {
+    public ShopOrderResponse getOrdersByShop(UUID shopId, User user, int page, int size, String sortBy, boolean slice) {
 
         Shop shop = shopRepository.findById(shopId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -222,22 +259,46 @@ public class ShopService {
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortBy));
-        Page<Order> orders = orderRepository.findAllByShop_Id(shopId, pageable);
+        // 주문 상태는 Order.currentStatus, 상품명은 OrderItem.itemName 을 사용하여
+        // 페이지 크기와 관계없이 주문 목록(+count) 1회, 상품명 1회 조회로 처리 (slice 모드는 count 생략)
+        Slice<OrderSummaryProjection> orders = slice
+                ? orderRepository.findSummarySliceByShopId(shopId, pageable)
+                : orderRepository.findSummariesByShopId(shopId, pageable);
+
+        List<UUID> orderIds = orders.getContent().stream()
+                .map(OrderSummaryProjection::getOrderId)
+                .toList();
+
+        Map<UUID, List<String>> itemNamesByOrderId = orderIds.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findItemNamesByOrderIds(orderIds).stream()
+                        .collect(Collectors.groupingBy(
+                                OrderItemNameProjection::getOrderId,
+                                Collectors.mapping(OrderItemNameProjection::getItemName, Collectors.toList())
+                        ));
+
+        Slice<ShopOrderResponse.OrderSummary> orderSummaries = orders.map(order ->
+                ShopOrderResponse.OrderSummary.of(
+                        order,
+                        shop.getName(),
+                        itemNamesByOrderId.getOrDefault(order.getOrderId(), List.of())
+                )
+        );
 
-        Page<ShopOrderResponse.OrderSummary> orderSummaries = orders.map(order -> {
-            OrderHistory latestHistory = orderHistoryRepository
-                    .findTopByOrder_IdOrderByCreatedAtDesc(order.getId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.ORDER_STATUS_NOT_FOUND));
+        return ShopOrderResponse.from(orderSummaries);
+    }
 
-            List<OrderItem> orderItems = orderItemRepository.findAllByOrder(order);
-            List<String> itemNames = orderItems.stream()
-                    .map(oi -> oi.getItem().getName())
-                    .toList();
+    // 가게 실시간 주문 피드 구독 : 권한 검증은 연결 시점에 한 번만 수행
+    public SseEmitter subscribeOrderFeed(UUID shopId, User user) {
+        Shop shop = shopRepository.findById(shopId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SHOP_NOT_FOUND));
 
-            return ShopOrderResponse.OrderSummary.of(order, latestHistory.getStatus(), itemNames);
-        });
+        //Role이 Owner인 경우 본인 가게만 구독 가능
+        if (user.getUserRole().equals(UserRole.OWNER) && !shop.getOwnerId().equals(user.getId())) {
+            throw new CustomException(ErrorCode.FORBIDDEN_ACCESS);
+        }
 
-        return ShopOrderResponse.from(orderSummaries);
+        return shopOrderFeedRegistry.subscribe(shopId);
     }
 
 
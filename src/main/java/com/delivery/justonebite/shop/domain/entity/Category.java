@@ -1,9 +1,8 @@
 package com.delivery.justonebite.shop.domain.entity;
 
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +23,7 @@ import java.util.*;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "category_id", updatable = false, nullable = false)
     private UUID id;
 
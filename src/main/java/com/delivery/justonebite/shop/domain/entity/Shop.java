@@ -1,6 +1,7 @@
 package com.delivery.justonebite.shop.domain.entity;
 
 import com.delivery.justonebite.global.common.entity.BaseEntity;
+import com.delivery.justonebite.global.common.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
 import lombok.AccessLevel;
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class Shop extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "shop_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,12 @@
+package com.delivery.justonebite.shop.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 가게 목록 응답에 담기는 가게 정보(가게명 / 주소 / 카테고리 / 설명 / 영업시간 / 삭제 여부)가 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 가게 목록 캐시(ShopCatalogCache) 버전 갱신에 사용
+ */
+public record ShopCatalogChangedEvent(
+    UUID shopId
+) {
+}
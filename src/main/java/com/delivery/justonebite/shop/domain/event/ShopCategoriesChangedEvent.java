@@ -0,0 +1,16 @@
+package com.delivery.justonebite.shop.domain.event;
+
+import java.util.Set;
+
+/**
+ * 가게의 카테고리 연결(ShopCategory)이 추가 / 삭제되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 카테고리별 가게 수 캐시(ShopCategoryFacetCache)의 증분 갱신에 사용
+ *
+ * @param added   새로 연결된 카테고리명
+ * @param removed 연결이 해제된 카테고리명
+ */
+public record ShopCategoriesChangedEvent(
+    Set<String> added,
+    Set<String> removed
+) {
+}
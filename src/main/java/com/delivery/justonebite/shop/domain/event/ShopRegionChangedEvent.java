@@ -0,0 +1,12 @@
+package com.delivery.justonebite.shop.domain.event;
+
+import com.delivery.justonebite.shop.projection.ShopRegion;
+
+/**
+ * 지역별 가게 목록이 바뀌었을 때(가게 등록 / 삭제) 발행되는 이벤트
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 지역별 가게 ID 캐시(ShopRegionCache) 갱신에 사용
+ */
+public record ShopRegionChangedEvent(
+    ShopRegion region
+) {
+}
@@ -0,0 +1,12 @@
+package com.delivery.justonebite.shop.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 가게 검색 대상(가게명 / 설명 / 카테고리 / 노출 중인 상품명)이 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 각 노드의 가게 검색 인덱스 갱신에 사용
+ */
+public record ShopSearchDocumentChangedEvent(
+    UUID shopId
+) {
+}
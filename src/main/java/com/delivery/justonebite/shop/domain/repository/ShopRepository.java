@@ -1,50 +1,173 @@
   package com.delivery.justonebite.shop.domain.repository;
 
 import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.shop.projection.CategoryCountProjection;
 import com.delivery.justonebite.shop.projection.ShopAvgProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Repository
 public interface ShopRepository extends JpaRepository<Shop, UUID> {
 
-    // 가게이름, 설명으로 검색
-    @Query(value = """
-        SELECT * FROM (
-            SELECT * FROM h_shop
-             WHERE LOWER(name) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            UNION
-            SELECT * FROM h_shop
-             WHERE LOWER(description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        ) AS shop_union
-        ORDER BY shop_union.created_at DESC
-        """,
+    // 검색어에 일치하는 가게 (hits : shop_id, category_hit) CTE
+    String SEARCH_HITS = """
+        WITH matched AS (
+            SELECT shop_id, false AS category_hit
+              FROM h_shop
+             WHERE lower(name) LIKE :pattern
+                OR lower(description) LIKE :pattern
+            UNION ALL
+            SELECT sc.shop_id, true
+              FROM h_category c
+              JOIN h_shop_category sc ON sc.category_id = c.category_id
+             WHERE lower(c.category_name) LIKE :pattern
+        ), hits AS (
+            SELECT shop_id, bool_or(category_hit) AS category_hit
+              FROM matched
+             GROUP BY shop_id
+        )
+        """;
+
+    // 가게 검색 쿼리 (searchByPattern / searchSliceByPattern 공용)
+    String SEARCH_QUERY = SEARCH_HITS + """
+        SELECT s.*
+          FROM h_shop s
+          JOIN hits h ON h.shop_id = s.shop_id
+         ORDER BY (CASE WHEN lower(s.name) = :keyword THEN 4
+                        WHEN lower(s.name) LIKE :prefix THEN 3
+                        WHEN lower(s.name) LIKE :pattern THEN 2
+                        ELSE 0 END
+                 + CASE WHEN h.category_hit THEN 2 ELSE 0 END
+                 + CASE WHEN lower(s.description) LIKE :pattern THEN 1 ELSE 0 END) DESC,
+                  s.created_at DESC, s.shop_id DESC
+        """;
+
+    /**
+     * 가게명 / 설명 / 카테고리명 부분 일치 검색 (대소문자 무시)
+     * <p>
+     * 가게명·설명은 trigram GIN 인덱스(db/patch/007_shop_search.sql)의 BitmapOr 로, 카테고리명은 카테고리 인덱스로 찾은 뒤
+     * 가게명 일치 > 가게명 시작 > 가게명 포함, 카테고리 일치, 설명 포함 순으로 가중치를 더해 관련도 순으로 정렬한다.
+     * 관련도가 같으면 최신 가게 순.
+     */
+    default Page<Shop> searchByKeyword(String keyword, Pageable pageable) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        return searchByPattern(normalized, "%" + escaped + "%", escaped + "%", pageable);
+    }
+
+    @Query(value = SEARCH_QUERY,
             countQuery = """
-        SELECT COUNT(*) FROM (
-            SELECT shop_id FROM h_shop
-             WHERE LOWER(name) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            UNION
-            SELECT shop_id FROM h_shop
-             WHERE LOWER(description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        ) AS count_query
+        SELECT COUNT(DISTINCT shop_id) FROM (
+            SELECT shop_id
+              FROM h_shop
+             WHERE lower(name) LIKE :pattern
+                OR lower(description) LIKE :pattern
+            UNION ALL
+            SELECT sc.shop_id
+              FROM h_category c
+              JOIN h_shop_category sc ON sc.category_id = c.category_id
+             WHERE lower(c.category_name) LIKE :pattern
+        ) AS matched
         """,
             nativeQuery = true)
-    Page<Shop> searchByNameOrDescription(@Param("keyword") String keyword, Pageable pageable);
+    Page<Shop> searchByPattern(@Param("keyword") String keyword,
+                               @Param("pattern") String pattern,
+                               @Param("prefix") String prefix,
+                               Pageable pageable);
+
+    // 가게 검색 (Slice) : COUNT 쿼리 없이 size + 1 건만 조회하여 다음 페이지 존재 여부 확인
+    default Slice<Shop> searchSliceByKeyword(String keyword, Pageable pageable) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        return searchSliceByPattern(normalized, "%" + escaped + "%", escaped + "%", pageable);
+    }
 
+    @Query(value = SEARCH_QUERY, nativeQuery = true)
+    Slice<Shop> searchSliceByPattern(@Param("keyword") String keyword,
+                                     @Param("pattern") String pattern,
+                                     @Param("prefix") String prefix,
+                                     Pageable pageable);
+
+    /**
+     * 검색 결과의 카테고리별 가게 수 (카테고리 칩)
+     * 검색과 같은 조건으로 찾은 가게를 카테고리 연결과 조인하여 GROUP BY 한 번으로 집계한다.
+     * (PostgreSQL 은 따옴표 없는 별칭을 소문자로 바꾸므로 projection 별칭은 따옴표로 감쌈)
+     */
+    default List<CategoryCountProjection> countCategoriesByKeyword(String keyword) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        return countCategoriesByPattern("%" + escapeLike(normalized) + "%");
+    }
+
+    @Query(value = SEARCH_HITS + """
+        SELECT c.category_name AS "categoryName", COUNT(*) AS "shopCount"
+          FROM hits h
+          JOIN h_shop_category sc ON sc.shop_id = h.shop_id
+          JOIN h_category c ON c.category_id = sc.category_id
+         GROUP BY c.category_name
+         ORDER BY "shopCount" DESC, "categoryName"
+        """, nativeQuery = true)
+    List<CategoryCountProjection> countCategoriesByPattern(@Param("pattern") String pattern);
+
+    // 전체(삭제되지 않은) 가게의 카테고리별 가게 수
+    @Query(value = """
+        SELECT c.category_name AS "categoryName", COUNT(*) AS "shopCount"
+          FROM h_shop_category sc
+          JOIN h_shop s ON s.shop_id = sc.shop_id
+          JOIN h_category c ON c.category_id = sc.category_id
+         WHERE s.deleted_at IS NULL
+         GROUP BY c.category_name
+        """, nativeQuery = true)
+    List<CategoryCountProjection> countAllCategories();
+
+    // 전체 가게 목록 (Slice) : COUNT 쿼리 없이 조회
+    Slice<Shop> findSliceBy(Pageable pageable);
+
+    // LIKE 특수문자(%, _, \)를 일반 문자로 검색되도록 이스케이프 (PostgreSQL LIKE 의 기본 ESCAPE 문자는 '\')
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+
+    // 지역별 삭제되지 않은 가게 ID (최신 등록 순, idx_h_shop_region index-only scan)
+    @Query(value = """
+        SELECT shop_id FROM h_shop
+         WHERE province = :province
+           AND city = :city
+           AND district = :district
+           AND deleted_at IS NULL
+         ORDER BY created_at DESC, shop_id DESC
+        """, nativeQuery = true)
+    List<UUID> findIdsByRegion(@Param("province") String province,
+                               @Param("city") String city,
+                               @Param("district") String district);
+
+
+    // 가게 상세 조회 : 카테고리 연결 / 카테고리까지 한 번에 조회
+    @EntityGraph(attributePaths = {"categories", "categories.category"})
+    Optional<Shop> findDetailById(UUID id);
 
     // 삭제되지 않은 가게 조회
     Optional<Shop> findByIdAndDeletedAtIsNull(UUID id);
 
+    // 삭제되지 않은 가게 일괄 조회 (검색 인덱스 / 지역 캐시에 아직 남아 있는 삭제된 가게 제외)
+    List<Shop> findAllByIdInAndDeletedAtIsNull(Collection<UUID> ids);
+
 
     //리뷰 평점 관련 코드 --
 
@@ -0,0 +1,92 @@
+package com.delivery.justonebite.shop.domain.repository;
+
+import com.delivery.justonebite.shop.projection.ShopSearchDocument;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가게 검색 인덱스(ShopSearchIndexer) 적재용 조회.
+ * <p>
+ * 가게 / 카테고리 / 상품을 가게 단위로 묶어 한 행으로 조회한다.
+ * 카테고리명과 상품명은 가게별로 미리 집계한 뒤 해시 조인하므로 전체 적재 시 각 테이블을 한 번씩만 읽고,
+ * 가게 한 곳만 조회할 때는 shop_id 조건이 집계 서브쿼리 안으로 전달되어 해당 가게의 행만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShopSearchDocumentRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SELECT_DOCUMENTS = """
+        SELECT s.shop_id, s.name, s.description, s.created_at,
+               cat.category_names, item.item_names
+          FROM h_shop s
+          LEFT JOIN (
+                SELECT sc.shop_id, array_agg(c.category_name) AS category_names
+                  FROM h_shop_category sc
+                  JOIN h_category c ON c.category_id = sc.category_id
+                 GROUP BY sc.shop_id
+               ) cat ON cat.shop_id = s.shop_id
+          LEFT JOIN (
+                SELECT i.shop_id, array_agg(i.name) AS item_names
+                  FROM h_item i
+                 WHERE i.deleted_at IS NULL
+                   AND i.is_hidden = false
+                 GROUP BY i.shop_id
+               ) item ON item.shop_id = s.shop_id
+         WHERE s.deleted_at IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전체 가게 스트리밍 조회 (PostgreSQL 은 트랜잭션 안에서만 fetch size 단위로 커서를 사용)
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<ShopSearchDocument> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_DOCUMENTS);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(map(rs)));
+    }
+
+    public Optional<ShopSearchDocument> findById(UUID shopId) {
+        return jdbcTemplate.query(SELECT_DOCUMENTS + " AND s.shop_id = ?", (rs, rowNum) -> map(rs), shopId)
+            .stream()
+            .findFirst();
+    }
+
+    private ShopSearchDocument map(ResultSet rs) throws SQLException {
+        return new ShopSearchDocument(
+            rs.getObject("shop_id", UUID.class),
+            rs.getString("name"),
+            rs.getString("description"),
+            toList(rs.getArray("category_names")),
+            toList(rs.getArray("item_names")),
+            rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+
+    private List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.asList((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.delivery.justonebite.shop.presentation.controller;
 
 import com.delivery.justonebite.global.config.security.UserDetailsImpl;
+import com.delivery.justonebite.shop.application.cache.ShopDetailCache;
 import com.delivery.justonebite.shop.application.service.ShopQueryService;
 import com.delivery.justonebite.shop.application.service.ShopReviewService;
 import com.delivery.justonebite.shop.application.service.ShopService;
@@ -19,15 +20,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Shop API", description = "가게 조회/등록/수정/삭제 및 검색기능")
@@ -69,31 +74,75 @@ public class ShopController {
 
 
     //전체 가게 조회
-    @Operation(summary = "전체 가게 목록 조회 API", description = "검색어(q) 및 정렬 기준(sortBy, direction)에 따라 전체 가게를 조회합니다.")
+    @Operation(summary = "전체 가게 목록 조회 API", description = "검색어(q) 및 정렬 기준(sortBy, direction)에 따라 전체 가게를 조회합니다. slice=true 이면 전체 개수 없이 다음 페이지 존재 여부(last)만 응답합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "가게 목록 조회에 성공했습니다."),
             @ApiResponse(responseCode = "400", description = "요청 파라미터 또는 정렬 기준이 유효하지 않습니다.")
     })
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER', 'MANAGER', 'MASTER')")
     @GetMapping
-    public ResponseEntity<Page<ShopSearchResponse>> searchShops(
+    public ResponseEntity<Slice<ShopSearchResponse>> searchShops(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(defaultValue = "false") boolean slice
     ) {
         ShopSearchRequest request = ShopSearchRequest.of(q, page, size, sortBy, direction);
-        Page<ShopSearchResponse> response = shopQueryService.searchShops(request);
+        Slice<ShopSearchResponse> response = slice
+                ? shopQueryService.searchShopSlice(request)
+                : shopQueryService.searchShops(request);
+        return ResponseEntity.ok(response);
+    }
+
+
+    //가게 목록 카테고리별 가게 수 조회
+    @Operation(summary = "가게 목록 카테고리별 가게 수 조회 API", description = "전체 가게 목록 조회와 같은 검색어(q) 조건으로 카테고리별 가게 수를 조회합니다. 검색어가 없으면 전체 가게 기준입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "카테고리별 가게 수 조회에 성공했습니다.")
+    })
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER', 'MANAGER', 'MASTER')")
+    @GetMapping("/facets")
+    public ResponseEntity<List<ShopCategoryFacetResponse>> searchCategoryFacets(
+            @RequestParam(required = false) String q
+    ) {
+        return ResponseEntity.ok(shopQueryService.searchCategoryFacets(q));
+    }
+
+
+    //배달 지역 가게 목록 조회
+    @Operation(
+            summary = "배달 지역 가게 목록 조회 API",
+            description = "로그인한 사용자의 기본 배송지와 같은 지역(시/도, 시/군/구, 읍/면/동)의 가게를 최신 등록 순으로 조회합니다. slice=true 이면 전체 개수 없이 응답합니다.",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "배달 지역 가게 목록 조회에 성공했습니다."),
+            @ApiResponse(responseCode = "404", description = "기본 배송지가 등록되어 있지 않습니다.")
+    })
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER', 'MANAGER', 'MASTER')")
+    @GetMapping("/nearby")
+    public ResponseEntity<Slice<ShopSearchResponse>> searchNearbyShops(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "false") boolean slice
+    ) {
+        Long userId = userDetails.getUser().getId();
+        Slice<ShopSearchResponse> response = slice
+                ? shopQueryService.searchNearbyShopSlice(userId, page, size)
+                : shopQueryService.searchNearbyShops(userId, page, size);
         return ResponseEntity.ok(response);
     }
 
 
     //가게 상세 조회
-    @Operation(summary = "가게 상세 조회 API", description = "shopId를 기준으로 가게 상세 정보 및 평균 평점을 조회합니다.")
+    @Operation(summary = "가게 상세 조회 API", description = "shopId를 기준으로 가게 상세 정보 및 평균 평점을 조회합니다. 응답의 ETag 를 If-None-Match 헤더로 보내면 변경이 없을 때 본문 없이 304 를 응답합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "가게 상세 정보를 성공적으로 조회했습니다."),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 변경된 내용이 없습니다."),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 가게 ID입니다.")
     })
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER', 'MANAGER', 'MASTER')")
@@ -101,8 +150,12 @@ public class ShopController {
     public ResponseEntity<ShopDetailResponse> getShopDetail(
             @PathVariable("shopId") UUID shopId
     ) {
-        ShopDetailResponse response = shopQueryService.getShopDetail(shopId);
-        return ResponseEntity.ok(response);
+        ShopDetailCache.CachedDetail response = shopQueryService.getShopDetail(shopId);
+        // If-None-Match 가 ETag 와 같으면 본문 없이 304 응답 (HttpEntityMethodProcessor 에서 처리)
+        return ResponseEntity.ok()
+                .eTag(response.eTag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response.detail());
     }
 
 
@@ -151,7 +204,7 @@ public class ShopController {
 
 
     //가게별 주문 목록 조회
-    @Operation(summary = "가게별 주문 목록 조회 API", description = "OWNER, MANAGER, MASTER 권한 사용자가 특정 가게의 주문 목록을 조회합니다. OWNER는 자신의 가게만 조회 가능합니다.")
+    @Operation(summary = "가게별 주문 목록 조회 API", description = "OWNER, MANAGER, MASTER 권한 사용자가 특정 가게의 주문 목록을 조회합니다. OWNER는 자신의 가게만 조회 가능합니다. slice=true 이면 전체 개수(totalElements, totalPages) 없이 응답합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "가게 주문 목록 조회에 성공했습니다."),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다."),
@@ -165,16 +218,44 @@ public class ShopController {
             @PathVariable("shopId") UUID shopId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "false") boolean slice
     ) {
         User user = userDetails.getUser();
-        ShopOrderResponse response = shopService.getOrdersByShop(shopId, user, page, size, sortBy);
+        ShopOrderResponse response = shopService.getOrdersByShop(shopId, user, page, size, sortBy, slice);
         return ResponseEntity.ok(response);
     }
 
+    //가게 실시간 주문 피드 구독
+    @Operation(
+            summary = "가게 실시간 주문 피드 구독 API (SSE)",
+            description = "OWNER, MANAGER, MASTER 권한 사용자가 특정 가게의 신규 주문(order-created) 및 주문 상태 변경(order-status-changed) 이벤트를 구독합니다. "
+                    + "각 이벤트는 가게별 주문 목록 조회 API 의 주문 요약과 같은 형식을 포함합니다. 연결 후 주문 목록 조회 API 로 현재 목록을 받고 이후 이벤트만 반영하며, "
+                    + "수신이 지연되어 미전송 이벤트가 일정 수 이상 쌓이면 서버가 연결을 종료하므로 재연결 후 목록을 다시 조회합니다.",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가게 주문 피드 구독에 성공했습니다.", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 요청입니다.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "구독 권한이 없거나 본인의 가게가 아닙니다.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 가게 ID입니다.", content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
+    @GetMapping(value = "/{shopId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamShopOrders(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("shopId") UUID shopId
+    ) {
+        SseEmitter emitter = shopService.subscribeOrderFeed(shopId, userDetails.getUser());
+        // nginx 등 리버스 프록시에서 응답 버퍼링 비활성화
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
 
     // 가게 리뷰 조회
-    @Operation(summary = "가게 리뷰 목록 조회 API", description = "shopId 기준으로 해당 가게의 리뷰 목록을 페이징 조회합니다.")
+    @Operation(summary = "가게 리뷰 목록 조회 API", description = "shopId 기준으로 해당 가게의 리뷰 목록을 페이징 조회합니다. slice=true 이면 전체 개수(totalElements, totalPages) 없이 응답합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "리뷰 목록 조회에 성공했습니다."),
             @ApiResponse(responseCode = "400", description = "요청 파라미터가 유효하지 않습니다."),
@@ -187,12 +268,13 @@ public class ShopController {
             @RequestParam(name = "page", defaultValue = "1") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
             @RequestParam(name = "sort-by", defaultValue = "createdAt") String sortBy,
-            @RequestParam(name = "direction", defaultValue = "DESC") String direction
+            @RequestParam(name = "direction", defaultValue = "DESC") String direction,
+            @RequestParam(name = "slice", defaultValue = "false") boolean slice
     ) {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         PageRequest pageable = PageRequest.of(page - 1, size, Sort.by(sortDirection, sortBy));
 
-        ShopReviewResponse body = shopReviewService.getReviewsByShop(shopId, pageable);
+        ShopReviewResponse body = shopReviewService.getReviewsByShop(shopId, pageable, slice);
         return ResponseEntity.status(HttpStatus.OK).body(body);
     }
 
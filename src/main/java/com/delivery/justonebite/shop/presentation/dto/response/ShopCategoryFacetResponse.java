@@ -0,0 +1,18 @@
+package com.delivery.justonebite.shop.presentation.dto.response;
+
+import com.delivery.justonebite.shop.projection.CategoryCountProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "카테고리별 가게 수 응답 DTO")
+public record ShopCategoryFacetResponse(
+
+        @Schema(description = "카테고리 이름", example = "치킨")
+        String categoryName,
+
+        @Schema(description = "해당 카테고리의 가게 수", example = "42")
+        long shopCount
+) {
+    public static ShopCategoryFacetResponse from(CategoryCountProjection projection) {
+        return new ShopCategoryFacetResponse(projection.getCategoryName(), projection.getShopCount());
+    }
+}
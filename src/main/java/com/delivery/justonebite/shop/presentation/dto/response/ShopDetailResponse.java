@@ -71,7 +71,8 @@ public record ShopDetailResponse(
         @ArraySchema(arraySchema = @Schema(description = "가게의 카테고리 목록"), schema = @Schema(example = "치킨"))
         List<String> categories
 ) {
-    public static ShopDetailResponse from(Shop shop, double avgRating) {
+    // 평균 평점은 평점 집계(RatingAggregationScheduler)가 가게에 반영한 값 사용
+    public static ShopDetailResponse from(Shop shop) {
         return ShopDetailResponse.builder()
                 .shopId(shop.getId())
                 .ownerId(shop.getOwnerId())
@@ -84,7 +85,7 @@ public record ShopDetailResponse(
                 .phoneNumber(shop.getPhoneNumber())
                 .operatingHour(shop.getOperatingHour())
                 .description(shop.getDescription())
-                .averageRating(BigDecimal.valueOf(avgRating))
+                .averageRating(shop.getAverageRating() == null ? BigDecimal.ZERO : shop.getAverageRating())
                 .createdAt(shop.getCreatedAt())
                 .createdBy(shop.getCreatedBy())
                 .updatedAt(shop.getUpdatedAt())
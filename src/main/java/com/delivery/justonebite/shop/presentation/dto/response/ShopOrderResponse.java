@@ -2,10 +2,12 @@ package com.delivery.justonebite.shop.presentation.dto.response;
 
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.projection.OrderSummaryProjection;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,11 +15,11 @@ import java.util.List;
 @Schema(description = "가게별 주문 목록 조회 응답 DTO")
 public record ShopOrderResponse(
 
-        @Schema(description = "전체 주문 개수", example = "42")
-        long totalElements,
+        @Schema(description = "전체 주문 개수 (slice 모드에서는 null)", example = "42", nullable = true)
+        Long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "5")
-        int totalPages,
+        @Schema(description = "전체 페이지 수 (slice 모드에서는 null)", example = "5", nullable = true)
+        Integer totalPages,
 
         @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
         int currentPage,
@@ -31,14 +33,16 @@ public record ShopOrderResponse(
         @ArraySchema(arraySchema = @Schema(description = "주문 목록"), schema = @Schema(implementation = OrderSummary.class))
         List<OrderSummary> content
 ) {
-    public static ShopOrderResponse from(Page<OrderSummary> page) {
+    // slice 모드(Slice)는 전체 개수 / 페이지 수를 조회하지 않으므로 null
+    public static ShopOrderResponse from(Slice<OrderSummary> slice) {
+        Page<OrderSummary> page = slice instanceof Page<OrderSummary> p ? p : null;
         return new ShopOrderResponse(
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumber() + 1,
-                page.getSize(),
-                page.hasNext(),
-                page.getContent()
+                page == null ? null : page.getTotalElements(),
+                page == null ? null : page.getTotalPages(),
+                slice.getNumber() + 1,
+                slice.getSize(),
+                slice.hasNext(),
+                slice.getContent()
         );
     }
 
@@ -73,5 +77,16 @@ public record ShopOrderResponse(
                     String.join(", ", itemNames)
             );
         }
+
+        public static OrderSummary of(OrderSummaryProjection order, String shopName, List<String> itemNames) {
+            return new OrderSummary(
+                    order.getOrderId().toString(),
+                    shopName,
+                    order.getCurrentStatus().name(),
+                    order.getCreatedAt(),
+                    order.getTotalPrice(),
+                    String.join(", ", itemNames)
+            );
+        }
     }
 }
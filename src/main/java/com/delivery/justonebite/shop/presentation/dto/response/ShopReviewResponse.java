@@ -5,16 +5,17 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 @Schema(description = "가게 리뷰 목록 조회 응답 DTO")
 public record ShopReviewResponse(
 
-        @Schema(description = "전체 리뷰 개수", example = "128")
-        long totalElements,
+        @Schema(description = "전체 리뷰 개수 (slice 모드에서는 null)", example = "128", nullable = true)
+        Long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "13")
-        int totalPages,
+        @Schema(description = "전체 페이지 수 (slice 모드에서는 null)", example = "13", nullable = true)
+        Integer totalPages,
 
         @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
         int currentPage,
@@ -28,15 +29,16 @@ public record ShopReviewResponse(
         @ArraySchema(arraySchema = @Schema(description = "리뷰 목록"), schema = @Schema(implementation = ReviewResponse.class))
         List<ReviewResponse> content
 ) {
-    //응답구조 변환
-    public static ShopReviewResponse from(Page<ReviewResponse> page) {
+    //응답구조 변환 : slice 모드(Slice)는 전체 개수 / 페이지 수를 조회하지 않으므로 null
+    public static ShopReviewResponse from(Slice<ReviewResponse> slice) {
+        Page<ReviewResponse> page = slice instanceof Page<ReviewResponse> p ? p : null;
         return new ShopReviewResponse(
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumber() + 1,
-                page.getSize(),
-                page.hasNext(),
-                page.getContent()
+                page == null ? null : page.getTotalElements(),
+                page == null ? null : page.getTotalPages(),
+                slice.getNumber() + 1,
+                slice.getSize(),
+                slice.hasNext(),
+                slice.getContent()
         );
     }
 }
@@ -0,0 +1,8 @@
+package com.delivery.justonebite.shop.projection;
+
+public interface CategoryCountProjection {
+
+    String getCategoryName();
+    Long getShopCount();
+
+}
@@ -0,0 +1,22 @@
+package com.delivery.justonebite.shop.projection;
+
+import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.user.domain.entity.Address;
+
+/**
+ * 배달 지역 (시/도, 시/군/구, 읍/면/동) : 가게와 고객 주소가 같은 값을 사용
+ */
+public record ShopRegion(
+    String province,
+    String city,
+    String district
+) {
+
+    public static ShopRegion of(Shop shop) {
+        return new ShopRegion(shop.getProvince(), shop.getCity(), shop.getDistrict());
+    }
+
+    public static ShopRegion of(Address address) {
+        return new ShopRegion(address.getProvince(), address.getCity(), address.getDistrict());
+    }
+}
@@ -0,0 +1,18 @@
+package com.delivery.justonebite.shop.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가게 검색 인덱스에 넣는 가게 단위 문서 (삭제되지 않은 가게, 삭제 / 숨김 처리되지 않은 상품명)
+ */
+public record ShopSearchDocument(
+    UUID shopId,
+    String name,
+    String description,
+    List<String> categoryNames,
+    List<String> itemNames,
+    LocalDateTime createdAt
+) {
+}
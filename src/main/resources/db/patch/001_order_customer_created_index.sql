@@ -0,0 +1,5 @@
+-- 고객별 주문 목록 커서(keyset) 조회용 인덱스
+-- GET /v1/orders/scroll : WHERE user_id = ? AND (created_at, order_id) < (?, ?) ORDER BY created_at DESC, order_id DESC
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 블록 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_order_customer_created
+    ON h_order (user_id, created_at DESC, order_id DESC);
@@ -0,0 +1,5 @@
+-- 승인 대기(SUCCESS) 결제 만료 처리용 : 만료 시각이 지난 결제를 생성 순으로 chunk 단위 조회
+-- (PaymentExpirationWriter.expireStale, PaymentRepository.findAllByStatusAndCreatedAtGreaterThanEqual)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_payment_pending_created
+    ON h_payment (created_at)
+    WHERE last_status = 'SUCCESS';
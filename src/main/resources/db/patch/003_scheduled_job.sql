@@ -0,0 +1,14 @@
+-- 클러스터 단위 스케줄 작업 실행 기록 (ClusterJobRunner)
+-- 작업별로 한 행만 유지하며, 최근 실행 시각으로 같은 주기의 중복 실행을 막고 작업별 실행 지표로 사용
+CREATE TABLE IF NOT EXISTS h_scheduled_job (
+    job_name          varchar(100) PRIMARY KEY,
+    last_started_at   timestamp    NOT NULL,
+    last_finished_at  timestamp,
+    last_duration_ms  bigint,
+    last_rows         bigint,
+    last_status       varchar(20)  NOT NULL,
+    last_error        varchar(500),
+    last_node         varchar(100),
+    run_count         bigint       NOT NULL DEFAULT 0,
+    failure_count     bigint       NOT NULL DEFAULT 0
+);
@@ -0,0 +1,31 @@
+-- 결제 대사(reconciliation) 실행 기록 및 불일치 리포트 (PaymentReconciliationService)
+-- 실행 중에는 진행 상황(처리 행 수, 처리량)을 주기적으로 갱신하므로 어느 노드에서든 조회 가능
+CREATE TABLE IF NOT EXISTS h_payment_reconciliation_run (
+    run_id             uuid         PRIMARY KEY,
+    started_at         timestamp    NOT NULL,
+    finished_at        timestamp,
+    status             varchar(20)  NOT NULL,
+    scanned_payments   bigint       NOT NULL DEFAULT 0,
+    scanned_rows       bigint       NOT NULL DEFAULT 0,
+    discrepancy_count  bigint       NOT NULL DEFAULT 0,
+    rows_per_second    bigint       NOT NULL DEFAULT 0,
+    node               varchar(100),
+    error              varchar(500)
+);
+
+CREATE TABLE IF NOT EXISTS h_payment_discrepancy (
+    discrepancy_id  uuid         PRIMARY KEY,
+    run_id          uuid         NOT NULL REFERENCES h_payment_reconciliation_run (run_id),
+    payment_id      uuid         NOT NULL,
+    type            varchar(40)  NOT NULL,
+    expected_value  varchar(100),
+    actual_value    varchar(100),
+    detected_at     timestamp    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_h_payment_discrepancy_run
+    ON h_payment_discrepancy (run_id, payment_id);
+
+-- 결제별 거래를 결제 ID / 거래 시각 순으로 정렬 없이 읽기 위한 인덱스 (결제 ↔ 거래 merge join)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_transaction_payment_transaction_at
+    ON h_transaction (payment_id, transaction_at, transaction_id);
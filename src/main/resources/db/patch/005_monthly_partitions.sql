@@ -0,0 +1,152 @@
+-- 추가 전용(append-only) 이력 테이블을 월 단위 범위 파티션 테이블로 전환
+--   h_order_history : created_at 기준
+--   h_transaction   : transaction_at 기준
+-- 기존 테이블은 데이터 복사 없이 그대로 legacy 파티션(MINVALUE ~ 다음 달 1일)으로 편입하고,
+-- 이후 월 파티션은 PartitionMaintenanceScheduler 가 미리 생성한다. (legacy 파티션은 보관 주기 detach 대상에서 제외)
+-- 파티션 테이블의 PK / UNIQUE 제약에는 파티션 키가 포함되어야 하므로 PK 는 (id, 파티션 키) 로 변경된다.
+
+-- 기존 테이블을 잠그는 구간(ACCESS EXCLUSIVE)에서 전체 행을 읽지 않도록, 행을 읽는 작업은 잠금 구간 전에 쓰기를 막지 않는 방식으로 수행
+--   1) 새 PK 와 같은 컬럼의 UNIQUE 인덱스를 CONCURRENTLY 로 생성 (ATTACH 시 PK 인덱스를 새로 만들지 않고 그대로 사용)
+--   2) 파티션 범위와 같은 CHECK 제약을 NOT VALID 로 추가 후 별도 문장에서 VALIDATE (SHARE UPDATE EXCLUSIVE : 읽기/쓰기 허용)
+--   3) 잠금 구간(DO 블록)에서는 PK 교체, RENAME, 부모 생성, ATTACH 만 수행 (모두 메타데이터 변경)
+-- 파티션 경계는 세션 설정에 저장하여 CHECK 제약과 ATTACH 가 같은 값을 사용하도록 함
+-- 중단으로 INVALID 인덱스가 남으면 해당 인덱스를 DROP 후 다시 실행
+SELECT set_config('justonebite.partition_boundary',
+                  (date_trunc('month', now()) + interval '1 month')::timestamp::text, false);
+
+SELECT 'CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS h_order_history_legacy_pkey '
+       'ON h_order_history (order_history_id, created_at)'
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_order_history'::regclass)
+\gexec
+
+SELECT format('ALTER TABLE h_order_history ADD CONSTRAINT h_order_history_legacy_range '
+              'CHECK (created_at IS NOT NULL AND created_at < %L) NOT VALID',
+              current_setting('justonebite.partition_boundary'))
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_order_history'::regclass)
+  AND NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'h_order_history_legacy_range')
+\gexec
+
+SELECT 'ALTER TABLE h_order_history VALIDATE CONSTRAINT h_order_history_legacy_range'
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_order_history'::regclass)
+\gexec
+
+SELECT 'CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS h_transaction_legacy_pkey '
+       'ON h_transaction (transaction_id, transaction_at)'
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_transaction'::regclass)
+\gexec
+
+SELECT format('ALTER TABLE h_transaction ADD CONSTRAINT h_transaction_legacy_range '
+              'CHECK (transaction_at IS NOT NULL AND transaction_at < %L) NOT VALID',
+              current_setting('justonebite.partition_boundary'))
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_transaction'::regclass)
+  AND NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'h_transaction_legacy_range')
+\gexec
+
+SELECT 'ALTER TABLE h_transaction VALIDATE CONSTRAINT h_transaction_legacy_range'
+WHERE NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_transaction'::regclass)
+\gexec
+
+-- 부모 PK 에 ATTACH 되려면 파티션 인덱스도 같은 종류의 제약(PK)이어야 하므로, 기존 PK(id) 를 미리 만든 인덱스 기반 PK(id, 파티션 키) 로 교체
+-- LIKE ... INCLUDING CONSTRAINTS 로 복사된 범위 CHECK 제약은 부모에서 제거 (이후 월 파티션에 적용되면 안 됨)
+-- 기존 테이블의 FK 는 부모에 추가한 FK 와 같으므로 ATTACH 시 새로 검증하지 않고 그대로 연결됨
+DO $$
+DECLARE
+    boundary timestamp := current_setting('justonebite.partition_boundary')::timestamp;
+    old_pkey name;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_order_history'::regclass) THEN
+        SELECT conname INTO old_pkey
+        FROM pg_constraint
+        WHERE conrelid = 'h_order_history'::regclass AND contype = 'p';
+        EXECUTE format('ALTER TABLE h_order_history DROP CONSTRAINT %I', old_pkey);
+        ALTER TABLE h_order_history ADD CONSTRAINT h_order_history_legacy_pkey
+            PRIMARY KEY USING INDEX h_order_history_legacy_pkey;
+        ALTER TABLE h_order_history RENAME TO h_order_history_legacy;
+
+        CREATE TABLE h_order_history (LIKE h_order_history_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+            PARTITION BY RANGE (created_at);
+        ALTER TABLE h_order_history DROP CONSTRAINT h_order_history_legacy_range;
+        ALTER TABLE h_order_history ADD CONSTRAINT h_order_history_pkey PRIMARY KEY (order_history_id, created_at);
+        ALTER TABLE h_order_history ADD FOREIGN KEY (order_id) REFERENCES h_order (order_id);
+
+        -- 검증된 CHECK 제약이 파티션 범위를 보장하므로 ATTACH 시 전체 행 범위 검사를 생략
+        EXECUTE format('ALTER TABLE h_order_history ATTACH PARTITION h_order_history_legacy '
+            'FOR VALUES FROM (MINVALUE) TO (%L)', boundary);
+        ALTER TABLE h_order_history_legacy DROP CONSTRAINT h_order_history_legacy_range;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'h_transaction'::regclass) THEN
+        SELECT conname INTO old_pkey
+        FROM pg_constraint
+        WHERE conrelid = 'h_transaction'::regclass AND contype = 'p';
+        EXECUTE format('ALTER TABLE h_transaction DROP CONSTRAINT %I', old_pkey);
+        ALTER TABLE h_transaction ADD CONSTRAINT h_transaction_legacy_pkey
+            PRIMARY KEY USING INDEX h_transaction_legacy_pkey;
+        ALTER TABLE h_transaction RENAME TO h_transaction_legacy;
+
+        CREATE TABLE h_transaction (LIKE h_transaction_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+            PARTITION BY RANGE (transaction_at);
+        ALTER TABLE h_transaction DROP CONSTRAINT h_transaction_legacy_range;
+        ALTER TABLE h_transaction ADD CONSTRAINT h_transaction_pkey PRIMARY KEY (transaction_id, transaction_at);
+        ALTER TABLE h_transaction ADD FOREIGN KEY (payment_id) REFERENCES h_payment (payment_id);
+
+        EXECUTE format('ALTER TABLE h_transaction ATTACH PARTITION h_transaction_legacy '
+            'FOR VALUES FROM (MINVALUE) TO (%L)', boundary);
+        ALTER TABLE h_transaction_legacy DROP CONSTRAINT h_transaction_legacy_range;
+    END IF;
+END $$;
+
+-- 파티션 테이블의 인덱스는 운영 중 쓰기를 막지 않도록 다음 순서로 생성 (트랜잭션 밖에서 실행 : psql -f, \gexec 사용)
+--   1) 부모에는 ON ONLY 로 인덱스만 정의 (파티션 테이블에는 CONCURRENTLY 를 사용할 수 없음, 이 시점에는 INVALID)
+--   2) 파티션별로 CREATE INDEX CONCURRENTLY
+--   3) 파티션 인덱스를 부모 인덱스에 ATTACH (모든 파티션이 ATTACH 되면 부모 인덱스가 유효해짐)
+-- 이후 PartitionMaintenanceScheduler 가 생성하는 파티션에는 부모 인덱스가 자동으로 생성된다.
+-- 중단으로 INVALID 인덱스가 남으면 해당 인덱스를 DROP 후 다시 실행
+
+-- 주문별 이력 최신순 조회 (OrderHistoryRepository) : 파티션 pruning 후 파티션별 인덱스 사용
+CREATE INDEX IF NOT EXISTS idx_h_order_history_order_created
+    ON ONLY h_order_history (order_id, created_at DESC);
+
+SELECT format('CREATE INDEX CONCURRENTLY IF NOT EXISTS %I ON %I (order_id, created_at DESC)',
+              c.relname || '_order_created_idx', c.relname)
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_order_history'::regclass
+ORDER BY c.relname
+\gexec
+
+SELECT format('ALTER INDEX idx_h_order_history_order_created ATTACH PARTITION %I', c.relname || '_order_created_idx')
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_order_history'::regclass
+  AND NOT EXISTS (SELECT 1 FROM pg_inherits ii
+                  WHERE ii.inhparent = 'idx_h_order_history_order_created'::regclass
+                    AND ii.inhrelid = to_regclass(quote_ident(c.relname || '_order_created_idx')))
+ORDER BY c.relname
+\gexec
+
+-- 결제 대사 merge join (004 의 인덱스는 legacy 파티션에만 남으므로 파티션 테이블 기준으로 다시 생성)
+-- legacy 파티션은 컬럼이 같은 004 의 인덱스를 다시 만들지 않고 이름만 바꿔 ATTACH
+CREATE INDEX IF NOT EXISTS idx_h_transaction_payment_transaction_at_p
+    ON ONLY h_transaction (payment_id, transaction_at, transaction_id);
+ALTER INDEX IF EXISTS idx_h_transaction_payment_transaction_at
+    RENAME TO h_transaction_legacy_payment_transaction_at_idx;
+
+SELECT format('CREATE INDEX CONCURRENTLY IF NOT EXISTS %I ON %I (payment_id, transaction_at, transaction_id)',
+              c.relname || '_payment_transaction_at_idx', c.relname)
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_transaction'::regclass
+ORDER BY c.relname
+\gexec
+
+SELECT format('ALTER INDEX idx_h_transaction_payment_transaction_at_p ATTACH PARTITION %I',
+              c.relname || '_payment_transaction_at_idx')
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_transaction'::regclass
+  AND NOT EXISTS (SELECT 1 FROM pg_inherits ii
+                  WHERE ii.inhparent = 'idx_h_transaction_payment_transaction_at_p'::regclass
+                    AND ii.inhrelid = to_regclass(quote_ident(c.relname || '_payment_transaction_at_idx')))
+ORDER BY c.relname
+\gexec
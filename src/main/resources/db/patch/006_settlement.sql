@@ -0,0 +1,71 @@
+-- 가게별 일 정산 (SettlementService)
+-- 정산 금액 = 당일 승인 거래 금액 - 당일 취소 거래 금액 (h_transaction.transaction_at 기준)
+CREATE TABLE IF NOT EXISTS h_settlement (
+    settlement_date    date         NOT NULL,
+    shop_id            uuid         NOT NULL,
+    owner_id           bigint       NOT NULL,
+    approved_amount    bigint       NOT NULL,
+    cancelled_amount   bigint       NOT NULL,
+    net_amount         bigint       NOT NULL,
+    transaction_count  integer      NOT NULL,
+    created_at         timestamp    NOT NULL,
+    PRIMARY KEY (shop_id, settlement_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_h_settlement_owner_date
+    ON h_settlement (owner_id, settlement_date);
+
+-- 정산 작업 단위(가게 ID 범위)별 진행 상태 : 중단 후 재실행 시 완료(DONE)된 단위는 건너뜀
+-- 작업 단위는 정산일마다 처음 실행할 때 한 번만 나누고, 재실행 시에는 같은 범위를 그대로 사용
+CREATE TABLE IF NOT EXISTS h_settlement_checkpoint (
+    settlement_date  date          NOT NULL,
+    unit_no          integer       NOT NULL,
+    from_shop_id     uuid          NOT NULL,
+    to_shop_id       uuid,
+    status           varchar(20)   NOT NULL,
+    settled_shops    integer,
+    error            varchar(500),
+    updated_at       timestamp     NOT NULL,
+    PRIMARY KEY (settlement_date, unit_no)
+);
+
+-- 정산일의 가게별 하루치 거래 집계 (정산일마다 처음 실행할 때 한 번만 기록, 모든 작업 단위 완료 후 삭제)
+-- 작업 단위는 거래 테이블 대신 이 테이블의 가게 ID 범위만 읽음
+CREATE TABLE IF NOT EXISTS h_settlement_daily_aggregate (
+    settlement_date    date      NOT NULL,
+    shop_id            uuid      NOT NULL,
+    approved_amount    bigint    NOT NULL,
+    cancelled_amount   bigint    NOT NULL,
+    transaction_count  integer   NOT NULL,
+    PRIMARY KEY (settlement_date, shop_id)
+);
+
+-- 하루치 거래 조회 (h_transaction 은 월 파티션이므로 해당 월 파티션만 읽음)
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY 로 생성 (트랜잭션 밖에서 실행 : psql -f, \gexec 사용)
+-- 파티션 테이블에는 CONCURRENTLY 를 사용할 수 없으므로 부모에는 ON ONLY 로 인덱스만 정의하고,
+-- 파티션별로 CONCURRENTLY 생성 후 부모 인덱스에 ATTACH (모든 파티션이 ATTACH 되면 부모 인덱스가 유효해짐)
+-- 중단으로 INVALID 인덱스가 남으면 해당 인덱스를 DROP 후 다시 실행
+CREATE INDEX IF NOT EXISTS idx_h_transaction_transaction_at
+    ON ONLY h_transaction (transaction_at);
+
+SELECT format('CREATE INDEX CONCURRENTLY IF NOT EXISTS %I ON %I (transaction_at)',
+              c.relname || '_transaction_at_idx', c.relname)
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_transaction'::regclass
+ORDER BY c.relname
+\gexec
+
+SELECT format('ALTER INDEX idx_h_transaction_transaction_at ATTACH PARTITION %I', c.relname || '_transaction_at_idx')
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'h_transaction'::regclass
+  AND NOT EXISTS (SELECT 1 FROM pg_inherits ii
+                  WHERE ii.inhparent = 'idx_h_transaction_transaction_at'::regclass
+                    AND ii.inhrelid = to_regclass(quote_ident(c.relname || '_transaction_at_idx')))
+ORDER BY c.relname
+\gexec
+
+-- 가게별 주문 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_order_shop
+    ON h_order (shop_id);
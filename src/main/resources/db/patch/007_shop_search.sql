@@ -0,0 +1,18 @@
+-- 가게 검색 (ShopRepository.searchByKeyword) : 가게명 / 설명 / 카테고리명 부분 일치 검색용 trigram GIN 인덱스
+-- LIKE '%검색어%' 는 B-tree 인덱스를 사용할 수 없으므로 pg_trgm 의 gin_trgm_ops 로 3글자 단위 인덱스를 만든다.
+-- 조회 조건과 같은 식(lower(...))으로 인덱스를 만들어야 사용되며, 한글을 trigram 으로 분해하려면
+-- DB 로케일(LC_CTYPE)이 UTF-8 계열이어야 한다 (C 로케일에서는 한글이 단어 문자로 인식되지 않음).
+-- 2글자 이하 검색어는 trigram 을 만들 수 없어 인덱스 전체를 읽으므로, 카테고리명 검색이 주로 처리한다.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 블록 밖에서 실행)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_shop_name_trgm
+    ON h_shop USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_shop_description_trgm
+    ON h_shop USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_category_name_trgm
+    ON h_category USING gin (lower(category_name) gin_trgm_ops);
+
+-- 카테고리 → 가게 조회 (PK 는 shop_id 가 선두 컬럼이므로 category_id 로 시작하는 인덱스 별도 생성)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_shop_category_category
+    ON h_shop_category (category_id, shop_id);
@@ -0,0 +1,4 @@
+-- 가게별 상품 조회 (가게 상품 목록, 가게 검색 인덱스의 가게 단위 갱신 : ShopSearchDocumentRepository.findById)
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 블록 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_item_shop
+    ON h_item (shop_id);
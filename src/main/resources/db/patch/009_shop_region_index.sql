@@ -0,0 +1,6 @@
+-- 배달 지역(시/도, 시/군/구, 읍/면/동)별 가게 목록 (GET /v1/shops/nearby, ShopRegionCache 적재)
+-- 삭제되지 않은 가게만 담는 부분 인덱스이며, shop_id 까지 포함하여 index-only scan 으로 가게 ID 목록을 읽는다.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 블록 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_shop_region
+    ON h_shop (province, city, district, created_at DESC, shop_id DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,6 @@
+-- PG 결과가 반영되지 않은(READY) / 결과 미확인(UNKNOWN) 결제 확정용 : 생성 순으로 chunk 단위 조회
+-- (PaymentExpirationWriter.failStaleReady, PaymentRepository.findByStatusOrderByCreatedAt)
+-- 정상 흐름에서는 곧바로 다른 상태로 바뀌는 행이라 부분 인덱스 크기는 작게 유지됨
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_h_payment_unresolved_created
+    ON h_payment (created_at)
+    WHERE last_status IN ('READY', 'UNKNOWN');
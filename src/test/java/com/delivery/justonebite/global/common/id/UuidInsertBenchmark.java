@@ -0,0 +1,89 @@
+package com.delivery.justonebite.global.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * UUID PK 생성 방식(v4 랜덤 / v7 시간 순서)에 따른 INSERT 처리량 및 PK 인덱스 크기 비교
+ * <p>
+ * 대용량 테이블을 흉내내기 위해 bench.seed 건을 먼저 채운 뒤 bench.inserts 건을 batch INSERT 한다.
+ * 실행 : ./gradlew benchmark --tests "*UuidInsertBenchmark" -Dbench.seed=5000000 -Dbench.inserts=200000
+ */
+@Tag("benchmark")
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UuidInsertBenchmark {
+
+    private static final int SEED_ROWS = Integer.getInteger("bench.seed", 1_000_000);
+    private static final int INSERT_ROWS = Integer.getInteger("bench.inserts", 100_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("UUIDv4 vs UUIDv7 PK INSERT 처리량 / 인덱스 크기")
+    void insertThroughput() {
+        Result random = run("bench_pk_v4", UUID::randomUUID);
+        Result timeOrdered = run("bench_pk_v7", UuidV7::generate);
+
+        print("UUIDv4 (random)", random);
+        print("UUIDv7 (time-ordered)", timeOrdered);
+
+        // 순차 INSERT 는 오른쪽 끝 leaf 만 채우므로 페이지 분할로 인한 빈 공간이 적다
+        assertThat(timeOrdered.indexBytes()).isLessThan(random.indexBytes());
+    }
+
+    private Result run(String table, Supplier<UUID> idSupplier) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TEMP TABLE " + table
+            + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL, created_at timestamp NOT NULL DEFAULT now())");
+
+        insert(table, idSupplier, SEED_ROWS);
+        jdbcTemplate.execute("ANALYZE " + table);
+
+        long start = System.nanoTime();
+        insert(table, idSupplier, INSERT_ROWS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Long indexBytes = jdbcTemplate.queryForObject(
+            "SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+        return new Result(elapsedNanos, indexBytes == null ? 0 : indexBytes);
+    }
+
+    private void insert(String table, Supplier<UUID> idSupplier, int rows) {
+        String sql = "INSERT INTO " + table + " (id, payload) VALUES (?, ?)";
+        for (int offset = 0; offset < rows; offset += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, rows - offset);
+            List<UUID> ids = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ids.add(idSupplier.get());
+            }
+            jdbcTemplate.batchUpdate(sql, ids, size, (PreparedStatement ps, UUID id) -> {
+                ps.setObject(1, id);
+                ps.setString(2, "payload");
+            });
+        }
+    }
+
+    private void print(String label, Result result) {
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("[UuidInsertBenchmark] %-22s seed=%d, inserts=%d, %.0f rows/s, pk index=%.1fMB%n",
+            label, SEED_ROWS, INSERT_ROWS, INSERT_ROWS / seconds, result.indexBytes() / 1024.0 / 1024.0);
+    }
+
+    private record Result(long elapsedNanos, long indexBytes) {
+    }
+}
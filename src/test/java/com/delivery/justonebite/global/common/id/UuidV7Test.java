@@ -0,0 +1,69 @@
+package com.delivery.justonebite.global.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("generate : RFC 9562 버전 7 / variant 2 형식으로 생성")
+    void generateVersionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("generate : 연속 생성 시 항상 증가하는 순서 보장 (같은 밀리초 포함)")
+    void generateMonotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            // DB(uuid 타입)의 정렬 기준과 같은 unsigned 바이트 순서로 비교
+            assertThat(compareUnsigned(uuids.get(i - 1), uuids.get(i))).isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("extractInstant : 생성 시각을 밀리초 단위로 복원")
+    void extractInstant() {
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        UUID uuid = UuidV7.generate();
+        Instant after = Instant.ofEpochMilli(System.currentTimeMillis());
+
+        // 같은 밀리초에 4096개를 넘게 발급하면 다음 밀리초 값을 앞당겨 쓰므로 상한에 여유를 둠
+        assertThat(UuidV7.extractInstant(uuid)).isBetween(before, after.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("extractInstant : UUIDv7 이 아닌 경우 예외")
+    void extractInstantFromRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.extractInstant(UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("lowerBound : 해당 시각 이후 생성된 UUID 보다 항상 작음")
+    void lowerBound() {
+        UUID bound = UuidV7.lowerBound(Instant.now());
+        UUID uuid = UuidV7.generate();
+
+        assertThat(compareUnsigned(bound, uuid)).isNegative();
+    }
+
+    private int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
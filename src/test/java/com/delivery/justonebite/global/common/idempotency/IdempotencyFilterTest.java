@@ -0,0 +1,226 @@
+package com.delivery.justonebite.global.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"shopId\":\"a1b2\",\"totalPrice\":16500}";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyFilter idempotencyFilter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyFilter = new IdempotencyFilter(idempotencyStore, new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyFilter, "waitTimeoutMillis", 300L);
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken("customer@gmail.com", null, "ROLE_CUSTOMER"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("최초 요청 : 실행 후 응답 저장")
+    void firstRequestStoresResponse() throws Exception {
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(true);
+        given(idempotencyStore.complete(anyString(), anyString(), any())).willReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        idempotencyFilter.doFilter(request("key-1", BODY), response, (req, res) -> {
+            // 컨트롤러에서 본문을 다시 읽을 수 있어야 함
+            assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"orderId\":\"o-1\"}");
+        });
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyStore).complete(eq("customer@gmail.com:/v1/orders:key-1"), anyString(), captor.capture());
+        assertThat(captor.getValue().isCompleted()).isTrue();
+        assertThat(captor.getValue().status()).isEqualTo(201);
+        assertThat(captor.getValue().body()).isEqualTo("{\"orderId\":\"o-1\"}");
+        assertThat(response.getContentAsString()).isEqualTo("{\"orderId\":\"o-1\"}");
+    }
+
+    @Test
+    @DisplayName("중복 요청 : 다시 실행하지 않고 최초 응답 반환")
+    void duplicateRequestReplaysResponse() throws Exception {
+        String fingerprint = fingerprintOf(BODY);
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(false);
+        given(idempotencyStore.find(anyString())).willReturn(Optional.of(
+            IdempotencyRecord.completed(fingerprint, 201, "application/json", "{\"orderId\":\"o-1\"}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            throw new AssertionError("중복 요청이 실행됨");
+        };
+
+        idempotencyFilter.doFilter(request("key-1", BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"orderId\":\"o-1\"}");
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청 : 완료될 때까지 대기 후 최초 응답 반환")
+    void inFlightDuplicateWaitsForOriginal() throws Exception {
+        String fingerprint = fingerprintOf(BODY);
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(false);
+        given(idempotencyStore.find(anyString())).willReturn(
+            Optional.of(IdempotencyRecord.inProgress(fingerprint, "other-request")),
+            Optional.of(IdempotencyRecord.completed(fingerprint, 201, "application/json", "{\"orderId\":\"o-1\"}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        idempotencyFilter.doFilter(request("key-1", BODY), response, (req, res) -> {
+            throw new AssertionError("중복 요청이 실행됨");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"orderId\":\"o-1\"}");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문 요청 시 422")
+    void reusedKeyWithDifferentBody() throws Exception {
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(false);
+        given(idempotencyStore.find(anyString())).willReturn(Optional.of(
+            IdempotencyRecord.completed(fingerprintOf("{}"), 201, "application/json", "{}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        idempotencyFilter.doFilter(request("key-1", BODY), response, (req, res) -> {
+            throw new AssertionError("중복 요청이 실행됨");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("서버 오류 응답은 저장하지 않고 키 삭제")
+    void serverErrorReleasesKey() throws Exception {
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(true);
+
+        idempotencyFilter.doFilter(request("key-1", BODY), new MockHttpServletResponse(),
+            (req, res) -> ((HttpServletResponse) res).setStatus(500));
+
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), any());
+        verify(idempotencyStore).release(eq("customer@gmail.com:/v1/orders:key-1"), anyString());
+    }
+
+    @Test
+    @DisplayName("응답 저장 / 키 삭제는 처리 시작 시 선점한 토큰으로만 수행")
+    void completeWithOwnerToken() throws Exception {
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(true);
+        given(idempotencyStore.complete(anyString(), anyString(), any())).willReturn(false);
+
+        idempotencyFilter.doFilter(request("key-1", BODY), new MockHttpServletResponse(),
+            (req, res) -> ((HttpServletResponse) res).setStatus(201));
+
+        ArgumentCaptor<String> startOwner = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> completeOwner = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore).tryStart(anyString(), anyString(), startOwner.capture());
+        verify(idempotencyStore).complete(anyString(), completeOwner.capture(), any());
+        assertThat(completeOwner.getValue()).isEqualTo(startOwner.getValue());
+        // 선점이 만료되어 저장하지 못한 경우에도 다른 요청이 선점한 키를 삭제하지 않음
+        verify(idempotencyStore, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 읽기 : 미리 읽어 둔 본문으로 읽기 가능 / 읽기 완료 알림")
+    void cachedBodyReadListener() throws Exception {
+        given(idempotencyStore.tryStart(anyString(), anyString(), anyString())).willReturn(true);
+        given(idempotencyStore.complete(anyString(), anyString(), any())).willReturn(true);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        idempotencyFilter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data");
+                    read.write(input.readAllBytes());
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+            ((HttpServletResponse) res).setStatus(201);
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 그대로 실행")
+    void withoutHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        idempotencyFilter.doFilter(request(null, BODY), response,
+            (req, res) -> ((HttpServletResponse) res).setStatus(201));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        verify(idempotencyStore, never()).tryStart(anyString(), anyString(), anyString());
+    }
+
+    private MockHttpServletRequest request(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/orders");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        }
+        return request;
+    }
+
+    private String fingerprintOf(String body) throws Exception {
+        return HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.delivery.justonebite.global.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterJobRunnerTest {
+
+    private static final String JOB = "test-job";
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private ScheduledJobRepository scheduledJobRepository;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private ClusterJobRunner clusterJobRunner;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final LongSupplier job = () -> {
+        executions.incrementAndGet();
+        return 7L;
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("run : 잠금을 선점한 노드에서 실행 후 변경 행 수 기록 및 잠금 해제")
+    void runWhenLocked() throws Exception {
+        given(resultSet.getBoolean(1)).willReturn(true);
+        given(scheduledJobRepository.markStarted(eq(JOB), any(), any(), anyString())).willReturn(true);
+
+        boolean executed = clusterJobRunner.run(JOB, Duration.ofMinutes(1), job);
+
+        assertThat(executed).isTrue();
+        assertThat(executions).hasValue(1);
+        then(scheduledJobRepository).should().markSucceeded(eq(JOB), any(LocalDateTime.class), anyLong(), eq(7L));
+        then(connection).should().prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    @Test
+    @DisplayName("run : 다른 노드가 잠금을 보유 중이면 실행하지 않음")
+    void skipWhenLockHeldByOtherNode() {
+        given(resultSet.getBoolean(1)).willReturn(false);
+
+        boolean executed = clusterJobRunner.run(JOB, Duration.ofMinutes(1), job);
+
+        assertThat(executed).isFalse();
+        assertThat(executions).hasValue(0);
+        then(scheduledJobRepository).should(never()).markStarted(anyString(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("run : 실행 기록상 이번 주기에 이미 시작된 작업은 잠금 / 기록 쓰기 없이 건너뜀")
+    void skipBeforeLockWhenStartedInInterval() throws Exception {
+        given(scheduledJobRepository.isStartedAfter(eq(JOB), any(LocalDateTime.class))).willReturn(true);
+
+        boolean executed = clusterJobRunner.run(JOB, Duration.ofMinutes(1), job);
+
+        assertThat(executed).isFalse();
+        assertThat(executions).hasValue(0);
+        then(dataSource).should(never()).getConnection();
+        then(scheduledJobRepository).should(never()).markStarted(anyString(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("run : 같은 주기에 다른 노드가 이미 실행했으면 건너뜀")
+    void skipWhenAlreadyRunInInterval() {
+        given(resultSet.getBoolean(1)).willReturn(true);
+        given(scheduledJobRepository.markStarted(eq(JOB), any(), any(), anyString())).willReturn(false);
+
+        boolean executed = clusterJobRunner.run(JOB, Duration.ofMinutes(1), job);
+
+        assertThat(executed).isFalse();
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("run : 작업 실패 시 실패 기록")
+    void recordFailure() {
+        given(resultSet.getBoolean(1)).willReturn(true);
+        given(scheduledJobRepository.markStarted(eq(JOB), any(), any(), anyString())).willReturn(true);
+
+        clusterJobRunner.run(JOB, Duration.ofMinutes(1), () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        then(scheduledJobRepository).should().markFailed(eq(JOB), any(LocalDateTime.class), anyLong(), eq("IllegalStateException: boom"));
+        then(scheduledJobRepository).should(never()).markSucceeded(anyString(), any(), anyLong(), anyLong());
+    }
+}
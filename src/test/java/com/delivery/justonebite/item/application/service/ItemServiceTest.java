@@ -21,6 +21,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -47,6 +48,7 @@ class ItemServiceTest {
     private ShopRepository shopRepository;
     private AiRequestHistoryRepository aiRequestHistoryRepository;
     private GeminiClient geminiClient;
+    private ApplicationEventPublisher eventPublisher;
 
     private ItemService itemService;
 
@@ -57,7 +59,8 @@ class ItemServiceTest {
         shopRepository = mock(ShopRepository.class);
         aiRequestHistoryRepository = mock(AiRequestHistoryRepository.class);
         geminiClient = mock(GeminiClient.class);
-        itemService = new ItemService(userRepository, itemRepository, shopRepository, geminiClient, aiRequestHistoryRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        itemService = new ItemService(userRepository, itemRepository, shopRepository, geminiClient, aiRequestHistoryRepository, eventPublisher);
 
         SecurityContextHolder.getContext().setAuthentication(auth(OWNER_ID, UserRole.OWNER));
     }
@@ -1,5 +1,6 @@
 package com.delivery.justonebite.item.presentation.controller;
 
+import com.delivery.justonebite.global.common.idempotency.IdempotencyStore;
 import com.delivery.justonebite.global.common.jwt.JwtUtil;
 import com.delivery.justonebite.global.config.redis.service.RedisService;
 import com.delivery.justonebite.global.config.security.UserDetailsImpl;
@@ -54,6 +55,9 @@ class ItemControllerTest {
     @MockitoBean
     RedisService redisService;
 
+    @MockitoBean
+    IdempotencyStore idempotencyStore;
+
     @MockitoBean
     ItemService itemService;
 
@@ -0,0 +1,95 @@
+package com.delivery.justonebite.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.user.domain.entity.User;
+import com.delivery.justonebite.user.domain.entity.UserRole;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAccessAuthorizerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderAccessAuthorizer orderAccessAuthorizer;
+
+    private final UUID orderId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("authorize : 관리자는 조회 없이 허용")
+    void authorizeAdmin() {
+        User manager = user(3L, UserRole.MANAGER);
+
+        assertThatCode(() -> orderAccessAuthorizer.authorize(orderId, manager)).doesNotThrowAnyException();
+
+        then(orderRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("authorize : 본인 주문인 고객은 허용")
+    void authorizeCustomer() {
+        User customer = user(1L, UserRole.CUSTOMER);
+        given(orderRepository.existsByIdAndCustomer_Id(orderId, 1L)).willReturn(true);
+
+        assertThatCode(() -> orderAccessAuthorizer.authorize(orderId, customer)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("authorize : 본인 가게 주문이 아닌 사장님은 FORBIDDEN_ACCESS")
+    void authorizeOwnerForbidden() {
+        User owner = user(2L, UserRole.OWNER);
+        given(orderRepository.existsByIdAndShop_OwnerId(orderId, 2L)).willReturn(false);
+
+        assertThatThrownBy(() -> orderAccessAuthorizer.authorize(orderId, owner))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
+    }
+
+    @Test
+    @DisplayName("authorize : 같은 요청 안에서 반복 검증 시 한 번만 조회")
+    void authorizeMemoizedWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        User customer = user(1L, UserRole.CUSTOMER);
+        given(orderRepository.existsByIdAndCustomer_Id(orderId, 1L)).willReturn(true);
+
+        orderAccessAuthorizer.authorize(orderId, customer);
+        orderAccessAuthorizer.authorize(orderId, customer);
+
+        then(orderRepository).should(times(1)).existsByIdAndCustomer_Id(any(UUID.class), anyLong());
+    }
+
+    private User user(Long id, UserRole role) {
+        User user = mock(User.class);
+        lenient().doReturn(id).when(user).getId();
+        lenient().doReturn(role).when(user).getUserRole();
+        return user;
+    }
+}
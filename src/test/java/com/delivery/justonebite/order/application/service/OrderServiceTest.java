@@ -10,14 +10,19 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import com.delivery.justonebite.global.exception.custom.CustomException;
 import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.item.domain.entity.Item;
 import com.delivery.justonebite.item.domain.repository.ItemRepository;
+import com.delivery.justonebite.order.application.stream.OrderStatusMessage;
+import com.delivery.justonebite.order.application.stream.OrderStatusStreamRegistry;
 import com.delivery.justonebite.order.application.stub.OrderStubData;
 import com.delivery.justonebite.order.application.stub.OrderTestMocks;
 import com.delivery.justonebite.order.domain.entity.Order;
@@ -28,24 +33,38 @@ import com.delivery.justonebite.order.domain.factory.OrderFactory;
 import com.delivery.justonebite.order.domain.repository.OrderHistoryRepository;
 import com.delivery.justonebite.order.domain.repository.OrderItemRepository;
 import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.domain.repository.OrderWriter;
+import com.delivery.justonebite.order.presentation.dto.OrderCursor;
 import com.delivery.justonebite.order.presentation.dto.request.CancelOrderRequest;
 import com.delivery.justonebite.order.presentation.dto.request.CreateOrderRequest;
 import com.delivery.justonebite.order.presentation.dto.request.UpdateOrderStatusRequest;
 import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderResponse;
+import com.delivery.justonebite.order.presentation.dto.response.CustomerOrderScrollResponse;
 import com.delivery.justonebite.order.presentation.dto.response.GetOrderStatusResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderCancelResponse;
 import com.delivery.justonebite.order.presentation.dto.response.OrderDetailsResponse;
+import com.delivery.justonebite.payment.application.service.PaymentService;
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.presentation.dto.request.PaymentCancelRequest;
+import com.delivery.justonebite.payment.presentation.dto.request.PaymentRequest;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentCancelResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentFailResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentPendingResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentSuccessResponse;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
+import com.delivery.justonebite.user.domain.entity.Address;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import com.delivery.justonebite.user.domain.repository.AddressRepository;
-import com.delivery.justonebite.user.domain.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -54,9 +73,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -65,14 +88,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
 
     private final Long USER_ID = 1L;
 
-    @Mock
-    private UserRepository userRepository;
     @Mock
     private OrderRepository orderRepository;
     @Mock
@@ -87,6 +111,18 @@ class OrderServiceTest {
     private AddressRepository addressRepository;
     @Mock
     private OrderFactory orderFactory;
+    @Mock
+    private OrderWriter orderWriter;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private OrderStatusTransitioner orderStatusTransitioner;
+    @Mock
+    private OrderStatusStreamRegistry orderStatusStreamRegistry;
+    @Mock
+    private OrderAccessAuthorizer orderAccessAuthorizer;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private OrderService orderService;
@@ -104,13 +140,11 @@ class OrderServiceTest {
         lenient().doReturn(2L).when(mockOwner).getId();
         lenient().doReturn(UserRole.OWNER).when(mockOwner).getUserRole();
 
-        // Stubbing 안전하게 하기 위해 given 대신 lenient 사용
-        // UserService 내 authorizeUser/authorizeCustomer 통과를 위한 Stubbing
-        lenient().doReturn(Optional.of(mockCustomer)).when(userRepository).findById(eq(USER_ID));
-        lenient().doReturn(Optional.of(mockOwner)).when(userRepository).findById(eq(2L));
-        lenient().doReturn(Optional.of(mockCustomer)).when(userRepository).findById(anyLong());
-
         SecurityContextHolder.getContext().setAuthentication(auth(USER_ID, UserRole.CUSTOMER));
+
+        // 트랜잭션 경계 없이 콜백 바로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
     }
 
     @AfterEach
@@ -152,9 +186,14 @@ class OrderServiceTest {
             expectedTotalPrice
         );
 
+        Address mockAddress = mock(Address.class);
+        given(mockAddress.getAddress()).willReturn("서울시 종로구 사직로 125길 00빌딩");
+        given(addressRepository.findByUser_IdAndIsDefaultTrue(USER_ID)).willReturn(Optional.of(mockAddress));
         given(itemRepository.findAllByItemIdIn(any(List.class)))
             .willReturn(expectedFoundItems);
         given(shopRepository.findById(shopId)).willReturn(Optional.of(mockShop));
+        given(paymentService.requestPayment(any(PaymentRequest.class)))
+            .willReturn(new PaymentSuccessResponse(orderId, UUID.randomUUID(), expectedTotalPrice));
 
         // OrderFactory 반환 설정
         given(
@@ -168,12 +207,128 @@ class OrderServiceTest {
         orderService.createOrder(request, mockCustomer);
 
         // then
-        then(orderRepository).should().save(mockOrder);
-        then(orderItemRepository).should(times(1)).saveAll(anyList());
-        then(orderHistoryRepository).should().save(any(OrderHistory.class));
+        // 주문/주문 상품/주문 이력 모두 merge 없이 persist 경로로 저장
+        then(orderWriter).should().insert(mockOrder);
+        then(orderWriter).should(times(1)).insertItems(anyList());
+        then(orderWriter).should().appendHistory(mockOrder, OrderStatus.PENDING);
+        then(orderItemRepository).shouldHaveNoInteractions();
         then(itemRepository).should(times(1)).findAllByItemIdIn(any(List.class));
     }
 
+    @Test
+    @DisplayName("createOrder : 결제 요청 실패 시 주문 저장은 유지하고 주문 취소로 전이")
+    void createOrderPaymentFailed() {
+        UUID orderId = UUID.randomUUID();
+        UUID shopId = UUID.randomUUID();
+
+        final int expectedTotalPrice = 35000;
+        Order mockOrder = OrderTestMocks.mockOrder(orderId, mockCustomer, expectedTotalPrice);
+
+        CreateOrderRequest request = new CreateOrderRequest(
+            shopId,
+            UUID.randomUUID(),
+            "010-1234-5678",
+            "단무지 빼주세요.",
+            "문 앞에 놓아주세요",
+            OrderStubData.MockData.getMockOrderItemsDto(),
+            expectedTotalPrice
+        );
+
+        Address mockAddress = mock(Address.class);
+        given(mockAddress.getAddress()).willReturn("서울시 종로구 사직로 125길 00빌딩");
+        given(addressRepository.findByUser_IdAndIsDefaultTrue(USER_ID)).willReturn(Optional.of(mockAddress));
+        given(itemRepository.findAllByItemIdIn(any(List.class)))
+            .willReturn(List.of(OrderTestMocks.mockItem(UUID.randomUUID(), 15000), OrderTestMocks.mockItem(UUID.randomUUID(), 20000)));
+        given(shopRepository.findById(shopId)).willReturn(Optional.of(OrderTestMocks.mockShop(shopId)));
+        given(orderFactory.create(any(User.class), any(Shop.class), anyString(), any(CreateOrderRequest.class), anyMap()))
+            .willReturn(mockOrder);
+        given(orderFactory.getOrderItems(any(Order.class), anyList(), anyMap()))
+            .willReturn(Collections.emptyList());
+        given(paymentService.requestPayment(any(PaymentRequest.class)))
+            .willReturn(new PaymentFailResponse(orderId, "PAY_PROCESS_REJECTED", "결제 승인이 거절되었습니다."));
+
+        // when
+        PaymentResponse response = orderService.createOrder(request, mockCustomer);
+
+        // then
+        assertThat(response).isInstanceOf(PaymentFailResponse.class);
+        // 주문 저장 트랜잭션이 커밋된 뒤 결제를 요청하고, 실패하면 별도 트랜잭션에서 취소
+        InOrder inOrder = inOrder(transactionTemplate, paymentService, orderStatusTransitioner);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(paymentService).requestPayment(any(PaymentRequest.class));
+        // 고객 취소 가능 시간 제한이 없는 시스템 취소
+        inOrder.verify(orderStatusTransitioner).cancelUnpaid(orderId, USER_ID);
+        then(orderStatusTransitioner).should(never()).transition(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("createOrder : 결제 요청 중 예외 발생 시 결제 대기 중인 주문을 취소하고 예외 전파")
+    void createOrderPaymentException() {
+        UUID orderId = UUID.randomUUID();
+        CreateOrderRequest request = givenPlacedOrder(orderId);
+        IllegalStateException failure = new IllegalStateException("payment failed");
+        given(paymentService.requestPayment(any(PaymentRequest.class))).willThrow(failure);
+
+        assertThatThrownBy(() -> orderService.createOrder(request, mockCustomer)).isSameAs(failure);
+
+        then(orderStatusTransitioner).should().cancelUnpaid(orderId, USER_ID);
+    }
+
+    @Test
+    @DisplayName("createOrder : 결제 요청 예외 후 주문 취소가 실패해도 원래 예외 전파 (결제 정리 작업에서 취소)")
+    void createOrderPaymentExceptionCancelFailed() {
+        UUID orderId = UUID.randomUUID();
+        CreateOrderRequest request = givenPlacedOrder(orderId);
+        IllegalStateException failure = new IllegalStateException("payment failed");
+        given(paymentService.requestPayment(any(PaymentRequest.class))).willThrow(failure);
+        given(orderStatusTransitioner.cancelUnpaid(orderId, USER_ID))
+            .willThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> orderService.createOrder(request, mockCustomer)).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("createOrder : PG 처리 결과 미확인 시 주문은 취소하지 않고 PENDING 유지")
+    void createOrderPaymentPending() {
+        UUID orderId = UUID.randomUUID();
+        CreateOrderRequest request = givenPlacedOrder(orderId);
+        given(paymentService.requestPayment(any(PaymentRequest.class)))
+            .willReturn(new PaymentPendingResponse(orderId, UUID.randomUUID(), "PAY_GATEWAY_TIMEOUT", "결제 대행사 응답 시간이 초과되었습니다."));
+
+        PaymentResponse response = orderService.createOrder(request, mockCustomer);
+
+        assertThat(response).isInstanceOf(PaymentPendingResponse.class);
+        then(orderStatusTransitioner).shouldHaveNoInteractions();
+    }
+
+    // 주문 저장까지 성공하는 요청 (결제 요청 결과는 각 테스트에서 지정)
+    private CreateOrderRequest givenPlacedOrder(UUID orderId) {
+        UUID shopId = UUID.randomUUID();
+        final int expectedTotalPrice = 35000;
+        Order mockOrder = OrderTestMocks.mockOrder(orderId, mockCustomer, expectedTotalPrice);
+
+        Address mockAddress = mock(Address.class);
+        given(mockAddress.getAddress()).willReturn("서울시 종로구 사직로 125길 00빌딩");
+        given(addressRepository.findByUser_IdAndIsDefaultTrue(USER_ID)).willReturn(Optional.of(mockAddress));
+        given(itemRepository.findAllByItemIdIn(any(List.class)))
+            .willReturn(List.of(OrderTestMocks.mockItem(UUID.randomUUID(), 15000), OrderTestMocks.mockItem(UUID.randomUUID(), 20000)));
+        given(shopRepository.findById(shopId)).willReturn(Optional.of(OrderTestMocks.mockShop(shopId)));
+        given(orderFactory.create(any(User.class), any(Shop.class), anyString(), any(CreateOrderRequest.class), anyMap()))
+            .willReturn(mockOrder);
+        given(orderFactory.getOrderItems(any(Order.class), anyList(), anyMap()))
+            .willReturn(Collections.emptyList());
+
+        return new CreateOrderRequest(
+            shopId,
+            UUID.randomUUID(),
+            "010-1234-5678",
+            "단무지 빼주세요.",
+            "문 앞에 놓아주세요",
+            OrderStubData.MockData.getMockOrderItemsDto(),
+            expectedTotalPrice
+        );
+    }
+
     @Test
     @DisplayName("createOrder : 주문 생성 에러 (유저 권한이 CUSTOMER가 아닐 경우 - FORBIDDEN_ACCESS)")
     void createOrderFromOwner() {
@@ -271,7 +426,7 @@ class OrderServiceTest {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortBy));
 
         // 레포지토리 스터빙
-        given(orderRepository.findAll(any(Pageable.class)))
+        given(orderRepository.findAllByCustomer_Id(eq(USER_ID), any(Pageable.class)))
             .willReturn(new PageImpl<>(orderList, pageable, 1));
 
         Page<CustomerOrderResponse> result =
@@ -283,7 +438,8 @@ class OrderServiceTest {
         assertEquals(1, result.getContent().size());
 
         // 호출 횟수 검증
-        then(orderRepository).should(times(1)).findAll(pageable);
+        // 로그인한 고객의 주문만 조회
+        then(orderRepository).should(times(1)).findAllByCustomer_Id(USER_ID, pageable);
     }
 
     @Test
@@ -299,7 +455,55 @@ class OrderServiceTest {
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
 
         // 호출 검증
-        then(orderRepository).should(times(0)).findAll(any(Pageable.class));
+        then(orderRepository).should(times(0)).findAllByCustomer_Id(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("scrollCustomerOrders : 커서 없이 첫 목록 조회 (size + 1 건 조회 후 다음 커서 생성)")
+    void scrollCustomerOrdersFirst() {
+        final int size = 2;
+        Order first = OrderTestMocks.mockOrder(UUID.randomUUID(), mockCustomer, 10000);
+        Order second = OrderTestMocks.mockOrder(UUID.randomUUID(), mockCustomer, 20000);
+        Order third = OrderTestMocks.mockOrder(UUID.randomUUID(), mockCustomer, 30000);
+        LocalDateTime secondCreatedAt = LocalDateTime.of(2025, 10, 13, 16, 0, 0);
+        lenient().doReturn(secondCreatedAt).when(second).getCreatedAt();
+
+        given(orderRepository.findFirstCustomerOrders(eq(USER_ID), any(Limit.class)))
+            .willReturn(List.of(first, second, third));
+
+        CustomerOrderScrollResponse result = orderService.scrollCustomerOrders(null, size, mockCustomer);
+
+        assertThat(result.content()).hasSize(size);
+        assertTrue(result.hasNext());
+        // 다음 커서는 마지막으로 반환한 주문(second) 기준
+        OrderCursor nextCursor = OrderCursor.decode(result.nextCursor());
+        assertEquals(secondCreatedAt, nextCursor.createdAt());
+        assertEquals(second.getId(), nextCursor.orderId());
+    }
+
+    @Test
+    @DisplayName("scrollCustomerOrders : 커서 이후 목록 조회 (마지막 목록이면 nextCursor 없음)")
+    void scrollCustomerOrdersAfterCursor() {
+        final int size = 10;
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 10, 13, 16, 0, 0), UUID.randomUUID());
+        Order last = OrderTestMocks.mockOrder(UUID.randomUUID(), mockCustomer, 10000);
+
+        given(orderRepository.findCustomerOrdersAfter(eq(USER_ID), eq(cursor.createdAt()), eq(cursor.orderId()), any(Limit.class)))
+            .willReturn(List.of(last));
+
+        CustomerOrderScrollResponse result = orderService.scrollCustomerOrders(cursor.encode(), size, mockCustomer);
+
+        assertThat(result.content()).hasSize(1);
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("scrollCustomerOrders : 잘못된 커서 (INVALID_CURSOR)")
+    void scrollCustomerOrdersInvalidCursor() {
+        assertThatThrownBy(() -> orderService.scrollCustomerOrders("not-a-cursor", 10, mockCustomer))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
     }
 
     /**
@@ -352,6 +556,56 @@ class OrderServiceTest {
         then(orderItemRepository).should(times(0)).findAllByOrder(any(Order.class));
     }
 
+    /**
+     * 주문 상태 실시간 구독
+     */
+    @Test
+    @DisplayName("subscribeOrderStatus : 권한 확인 후 최신 상태를 첫 이벤트로 구독 등록")
+    void subscribeOrderStatus() {
+        UUID orderId = UUID.randomUUID();
+        Order mockOrder = OrderTestMocks.mockOrder(orderId, mockCustomer, 25000);
+        OrderHistory latest = OrderTestMocks.mockOrderHistory(mockOrder, OrderStatus.ORDER_ACCEPTED);
+        SseEmitter emitter = new SseEmitter();
+
+        given(orderHistoryRepository.findTopByOrder_IdOrderByCreatedAtDesc(orderId)).willReturn(Optional.of(latest));
+        given(orderStatusStreamRegistry.subscribe(eq(orderId), any())).willReturn(emitter);
+
+        SseEmitter result = orderService.subscribeOrderStatus(orderId, mockCustomer);
+
+        assertThat(result).isSameAs(emitter);
+        // 최신 상태는 구독 등록 시점에 registry 가 조회
+        ArgumentCaptor<Supplier<OrderStatusMessage>> current = ArgumentCaptor.captor();
+        then(orderStatusStreamRegistry).should().subscribe(eq(orderId), current.capture());
+        then(orderHistoryRepository).should(times(0)).findTopByOrder_IdOrderByCreatedAtDesc(orderId);
+        assertThat(current.getValue().get().status()).isEqualTo(OrderStatus.ORDER_ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("subscribeOrderStatus : 상태 이력이 없는 주문은 구독 시 ORDER_STATUS_NOT_FOUND")
+    void subscribeOrderStatusNotFound() {
+        UUID orderId = UUID.randomUUID();
+        given(orderHistoryRepository.findTopByOrder_IdOrderByCreatedAtDesc(orderId)).willReturn(Optional.empty());
+        given(orderStatusStreamRegistry.subscribe(eq(orderId), any()))
+            .willAnswer(invocation -> invocation.<Supplier<OrderStatusMessage>>getArgument(1).get());
+
+        assertThatThrownBy(() -> orderService.subscribeOrderStatus(orderId, mockCustomer))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("subscribeOrderStatus : 본인 주문이 아닐 경우 구독 불가 (FORBIDDEN_ACCESS)")
+    void subscribeOrderStatusForbidden() {
+        UUID orderId = UUID.randomUUID();
+        willThrow(new CustomException(ErrorCode.FORBIDDEN_ACCESS))
+            .given(orderAccessAuthorizer).authorize(orderId, mockCustomer);
+
+        assertThatThrownBy(() -> orderService.subscribeOrderStatus(orderId, mockCustomer))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
+        then(orderStatusStreamRegistry).shouldHaveNoInteractions();
+    }
+
     /**
      * 주문 상태 변경
      */
@@ -365,20 +619,25 @@ class OrderServiceTest {
             NEW_STATUS.name()
         );
 
-        final int totalPrice = 50000;
-        Order mockOrder = OrderTestMocks.mockOrder(orderId, mockOwner, totalPrice);
+        orderService.updateOrderStatus(orderId, request, mockOwner);
 
-        // 주문 조회
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(mockOrder));
+        // 조건부 UPDATE 로 상태 변경 (주문 엔티티를 조회하지 않음)
+        then(orderStatusTransitioner).should(times(1)).transition(orderId, NEW_STATUS, 2L);
+        then(orderRepository).should(times(0)).findById(any(UUID.class));
+    }
 
-        orderService.updateOrderStatus(orderId, request, mockOwner);
+    @Test
+    @DisplayName("updateOrderStatus : 주문 상태 변경 실패 (동시 요청으로 상태가 이미 변경된 경우 - ORDER_STATUS_CONFLICT)")
+    void updateOrderStatusConflict() {
+        UUID orderId = UUID.randomUUID();
+        UpdateOrderStatusRequest request = new UpdateOrderStatusRequest(OrderStatus.ORDER_ACCEPTED.name());
 
-        // 호출 검증
-        then(mockOrder).should(times(1)).updateCurrentStatus(NEW_STATUS);
-        then(orderRepository).should(times(1)).findById(orderId);
+        doThrow(new CustomException(ErrorCode.ORDER_STATUS_CONFLICT))
+            .when(orderStatusTransitioner).transition(orderId, OrderStatus.ORDER_ACCEPTED, 2L);
 
-        // 저장 검증
-        then(orderHistoryRepository).should(times(1)).save(any(OrderHistory.class));
+        assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, request, mockOwner))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_CONFLICT);
     }
 
     @Test
@@ -401,9 +660,7 @@ class OrderServiceTest {
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
 
         // 호출 검증
-        then(mockOrder).should(times(0)).updateCurrentStatus(any(OrderStatus.class));
-        then(orderRepository).should(times(0)).findById(any(UUID.class));
-        then(orderHistoryRepository).should(times(0)).save(any());
+        then(orderStatusTransitioner).should(times(0)).transition(any(UUID.class), any(OrderStatus.class), anyLong());
     }
 
 
@@ -427,9 +684,6 @@ class OrderServiceTest {
 
         given(orderHistoryRepository.findAllByOrder_IdOrderByCreatedAtDesc(orderId)).willReturn(
             mockOrderHistories);
-        given(orderRepository.existsByIdAndCustomer_Id(eq(orderId), eq(USER_ID)))
-            .willReturn(true);
-
         GetOrderStatusResponse response = orderService.getOrderStatusHistories(orderId, mockCustomer);
 
         // then
@@ -437,7 +691,7 @@ class OrderServiceTest {
         assertThat(response.history().getFirst().status()).isEqualTo(OrderStatus.PENDING.name());
 
         // 호출 검증
-        then(orderRepository).should(times(1)).existsByIdAndCustomer_Id(eq(orderId), eq(USER_ID));
+        then(orderAccessAuthorizer).should(times(1)).authorize(orderId, mockCustomer);
         then(orderHistoryRepository).should(times(1)).findAllByOrder_IdOrderByCreatedAtDesc(orderId);
     }
 
@@ -446,9 +700,6 @@ class OrderServiceTest {
     void getOrderStatusHistoriesOrderNotFound() {
         UUID orderId = UUID.randomUUID();
 
-        // 권한 확인
-        given(orderRepository.existsByIdAndCustomer_Id(eq(orderId), eq(USER_ID)))
-            .willReturn(true);
         // 비어있는 리스트를 반환 설정
         given(orderHistoryRepository.findAllByOrder_IdOrderByCreatedAtDesc(orderId))
             .willReturn(Collections.emptyList());
@@ -459,7 +710,7 @@ class OrderServiceTest {
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_NOT_FOUND);
 
         // 호출 검증
-        then(orderRepository).should(times(1)).existsByIdAndCustomer_Id(eq(orderId), eq(USER_ID));
+        then(orderAccessAuthorizer).should(times(1)).authorize(orderId, mockCustomer);
         then(orderHistoryRepository).should(times(1)).findAllByOrder_IdOrderByCreatedAtDesc(orderId);
     }
 
@@ -481,10 +732,12 @@ class OrderServiceTest {
             );
 
         Order mockOrder = OrderTestMocks.mockOrder(orderId, mockCustomer, totalPrice);
+        stubPaymentDone(orderId);
 
         given(orderRepository.findByIdWithCustomer(eq(orderId)))
             .willReturn(Optional.of(mockOrder));
-        given(mockOrder.getCurrentStatus()).willReturn(OrderStatus.ORDER_CANCELLED);
+        given(paymentService.cancelPayment(any(PaymentCancelRequest.class)))
+            .willReturn(PaymentCancelResponse.builder().status(PaymentStatus.CANCELED).build());
 
         OrderCancelResponse response = orderService.cancelOrder(request, orderId, mockCustomer);
 
@@ -493,11 +746,17 @@ class OrderServiceTest {
         assertThat(response.orderId()).isEqualTo(orderId);
         assertEquals(response.orderStatus(), OrderStatus.ORDER_CANCELLED.name());
 
-        // 호출 검증
-        then(mockOrder).should(times(1)).updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
-        then(orderHistoryRepository).should(times(1)).save(any(OrderHistory.class));
+        // 호출 검증 : 상태 변경(조건부 UPDATE + 이력) 후 결제 취소
+        InOrder inOrder = inOrder(orderStatusTransitioner, paymentService);
+        inOrder.verify(orderStatusTransitioner).transition(orderId, OrderStatus.ORDER_CANCELLED, USER_ID);
+        inOrder.verify(paymentService).cancelPayment(any(PaymentCancelRequest.class));
         then(orderRepository).should(times(1)).findByIdWithCustomer(orderId);
-        then(orderHistoryRepository).should(times(1)).save(any(OrderHistory.class));
+    }
+
+    private void stubPaymentDone(UUID orderId) {
+        Payment payment = mock(Payment.class);
+        given(payment.getStatus()).willReturn(PaymentStatus.DONE);
+        given(paymentService.getPaymentByOrderId(orderId)).willReturn(payment);
     }
 
     @Test
@@ -516,22 +775,22 @@ class OrderServiceTest {
             );
 
         Order mockOrder = OrderTestMocks.mockOrder(orderId, mockCustomer, totalPrice);
+        stubPaymentDone(orderId);
 
         given(orderRepository.findByIdWithCustomer(eq(orderId)))
             .willReturn(Optional.of(mockOrder));
 
-        // Order 엔티티의 상태 변경 메서드가 예외를 던지도록 설정
+        // 조건부 UPDATE 결과 현재 상태가 PENDING 이 아니어서 실패
         doThrow(new CustomException(ErrorCode.ORDER_STATUS_CANCEL_NOT_ALLOWED))
-            .when(mockOrder).updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
+            .when(orderStatusTransitioner).transition(orderId, OrderStatus.ORDER_CANCELLED, USER_ID);
 
         // 예외 코드 검증
         assertThatThrownBy(() -> orderService.cancelOrder(request, orderId, mockCustomer))
             .isInstanceOf(CustomException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_CANCEL_NOT_ALLOWED);
 
-        // 호출 검증
-        then(orderHistoryRepository).should(times(0)).save(any(OrderHistory.class));
-        then(mockOrder).should(times(1)).updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
+        // 호출 검증 : 상태 변경 실패 시 결제 취소 요청하지 않음
+        then(paymentService).should(times(0)).cancelPayment(any(PaymentCancelRequest.class));
     }
 
     @Test
@@ -555,19 +814,19 @@ class OrderServiceTest {
         LocalDateTime pastTime = LocalDateTime.now().minusMinutes(10);
         lenient().doReturn(pastTime).when(mockOrder).getCreatedAt();
 
+        stubPaymentDone(orderId);
         given(orderRepository.findByIdWithCustomer(eq(orderId)))
             .willReturn(Optional.of(mockOrder));
 
         doThrow(new CustomException(ErrorCode.ORDER_CANCEL_TIME_EXCEEDED))
-            .when(mockOrder).updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
+            .when(orderStatusTransitioner).transition(orderId, OrderStatus.ORDER_CANCELLED, USER_ID);
 
         // 예외 코드 검증
         assertThatThrownBy(() -> orderService.cancelOrder(request, orderId, mockCustomer))
             .isInstanceOf(CustomException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_CANCEL_TIME_EXCEEDED);
 
-        // 호출 검증
-        then(orderHistoryRepository).should(times(0)).save(any(OrderHistory.class));
-        then(mockOrder).should(times(1)).updateCurrentStatus(OrderStatus.ORDER_CANCELLED);
+        // 호출 검증 : 상태 변경 실패 시 결제 취소 요청하지 않음
+        then(paymentService).should(times(0)).cancelPayment(any(PaymentCancelRequest.class));
     }
 }
\ No newline at end of file
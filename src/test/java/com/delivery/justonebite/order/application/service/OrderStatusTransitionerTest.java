@@ -0,0 +1,131 @@
+package com.delivery.justonebite.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.entity.Order;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.domain.repository.OrderRepository;
+import com.delivery.justonebite.order.domain.repository.OrderWriter;
+import com.delivery.justonebite.order.projection.OrderStatusProjection;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusTransitionerTest {
+
+    private static final Long OWNER_ID = 2L;
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderWriter orderWriter;
+
+    @InjectMocks
+    private OrderStatusTransitioner transitioner;
+
+    private final UUID orderId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("transition : 조건부 UPDATE 성공 시 이력 추가")
+    void transition() {
+        Order order = mock(Order.class);
+        given(orderRepository.updateStatusIfCurrentIn(
+            eq(orderId), anyCollection(), eq(OrderStatus.PREPARING), any(LocalDateTime.class), eq(OWNER_ID)))
+            .willReturn(1);
+        given(orderRepository.getReferenceById(orderId)).willReturn(order);
+
+        transitioner.transition(orderId, OrderStatus.PREPARING, OWNER_ID);
+
+        then(orderWriter).should().appendHistory(order, OrderStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("transition : 현재 상태에서 전이할 수 없는 상태면 INVALID_ORDER_STATUS (PENDING → DELIVERING)")
+    void transitionInvalid() {
+        givenNotUpdated(OrderStatus.DELIVERING, OrderStatus.PENDING);
+
+        assertThatThrownBy(() -> transitioner.transition(orderId, OrderStatus.DELIVERING, OWNER_ID))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ORDER_STATUS);
+        then(orderWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("transition : 유효한 이전 상태인데 변경되지 않았으면 동시 변경으로 ORDER_STATUS_CONFLICT")
+    void transitionConflict() {
+        givenNotUpdated(OrderStatus.PREPARING, OrderStatus.ORDER_ACCEPTED);
+
+        assertThatThrownBy(() -> transitioner.transition(orderId, OrderStatus.PREPARING, OWNER_ID))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("transition : 주문이 없으면 ORDER_NOT_FOUND")
+    void transitionNotFound() {
+        given(orderRepository.updateStatusIfCurrentIn(
+            eq(orderId), anyCollection(), eq(OrderStatus.PREPARING), any(LocalDateTime.class), anyLong()))
+            .willReturn(0);
+        given(orderRepository.findStatusById(orderId)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> transitioner.transition(orderId, OrderStatus.PREPARING, OWNER_ID))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("cancelUnpaid : 결제 실패 시스템 취소는 취소 가능 시간 조건 없이 PENDING 주문만 취소 후 이력 추가")
+    void cancelUnpaid() {
+        Order order = mock(Order.class);
+        given(orderRepository.updateStatusIfCurrentIn(
+            eq(orderId), eq(Set.of(OrderStatus.PENDING)), eq(OrderStatus.ORDER_CANCELLED), any(LocalDateTime.class), eq(OWNER_ID)))
+            .willReturn(1);
+        given(orderRepository.getReferenceById(orderId)).willReturn(order);
+
+        assertThat(transitioner.cancelUnpaid(orderId, OWNER_ID)).isTrue();
+
+        then(orderRepository).should(never()).updateStatusIfCurrentInAndCreatedAfter(
+            any(), anyCollection(), any(), any(), any(), any());
+        then(orderWriter).should().appendHistory(order, OrderStatus.ORDER_CANCELLED);
+    }
+
+    @Test
+    @DisplayName("cancelUnpaid : 이미 취소되었거나 결제 대기 중이 아니면 변경 없이 false")
+    void cancelUnpaidAlreadyClosed() {
+        given(orderRepository.updateStatusIfCurrentIn(
+            eq(orderId), anyCollection(), eq(OrderStatus.ORDER_CANCELLED), any(LocalDateTime.class), eq(OWNER_ID)))
+            .willReturn(0);
+
+        assertThat(transitioner.cancelUnpaid(orderId, OWNER_ID)).isFalse();
+
+        then(orderWriter).shouldHaveNoInteractions();
+    }
+
+    private void givenNotUpdated(OrderStatus nextStatus, OrderStatus currentStatus) {
+        OrderStatusProjection current = mock(OrderStatusProjection.class);
+        given(current.getCurrentStatus()).willReturn(currentStatus);
+        given(orderRepository.updateStatusIfCurrentIn(
+            eq(orderId), anyCollection(), eq(nextStatus), any(LocalDateTime.class), anyLong()))
+            .willReturn(0);
+        given(orderRepository.findStatusById(orderId)).willReturn(Optional.of(current));
+    }
+}
@@ -0,0 +1,142 @@
+package com.delivery.justonebite.order.application.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderStatusStreamRegistryTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    private OrderStatusStreamRegistry registry;
+    private final UUID orderId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new OrderStatusStreamRegistry(BUFFER_SIZE, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("subscribe : 현재 상태 조회 전에 구독을 등록하여 조회 중 발행된 상태 변경도 전달")
+    void subscribeRegistersBeforeReadingCurrent() {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        OrderStatusMessage accepted = message(OrderStatus.ORDER_ACCEPTED);
+
+        // 현재 상태 조회 시점에 이미 구독 중이어야 함 (조회 직전 발행된 변경은 중복 전송 허용)
+        registry.register(orderId, emitter, () -> {
+            assertThat(registry.countConnections(orderId)).isEqualTo(1);
+            registry.broadcast(accepted);
+            return accepted;
+        });
+
+        waitUntil(() -> emitter.sent.size() == 2);
+        assertThat(registry.countConnections(orderId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("subscribe : 현재 상태 조회 실패 시 구독 해제 후 예외 전달")
+    void subscribeRemovesConnectionWhenCurrentFails() {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+
+        assertThatThrownBy(() -> registry.register(orderId, emitter, () -> {
+            throw new CustomException(ErrorCode.ORDER_STATUS_NOT_FOUND);
+        }))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_STATUS_NOT_FOUND);
+        assertThat(registry.countConnections(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("broadcast : 최종 상태 전송 후 스트림 종료")
+    void broadcastCompletesOnFinalStatus() {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        registry.register(orderId, emitter, () -> message(OrderStatus.ORDER_ACCEPTED));
+
+        registry.broadcast(message(OrderStatus.ORDER_CANCELLED));
+
+        waitUntil(() -> emitter.completed);
+        assertThat(emitter.sent).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("broadcast : 전송이 밀린 연결이 있어도 호출 스레드는 대기하지 않고 다른 연결에 전달")
+    void broadcastDoesNotBlockOnSlowConnection() {
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter fast = new RecordingEmitter(new CountDownLatch(0));
+        registry.register(orderId, slow, () -> message(OrderStatus.PENDING));
+        registry.register(orderId, fast, () -> message(OrderStatus.PENDING));
+
+        // 느린 연결은 첫 이벤트 전송에서 멈춰 있으므로 이후 메시지는 버퍼에 쌓이다가 가득 차면 종료
+        for (int i = 0; i < BUFFER_SIZE + 2; i++) {
+            registry.broadcast(message(OrderStatus.ORDER_ACCEPTED));
+            int expected = i + 2;
+            waitUntil(() -> fast.sent.size() == expected);
+        }
+
+        assertThat(registry.countConnections(orderId)).isEqualTo(1);
+        assertThat(slow.sent).isEmpty();
+        stuck.countDown();
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private OrderStatusMessage message(OrderStatus status) {
+        return new OrderStatusMessage(orderId, UUID.randomUUID(), status, status.getDescription(), LocalDateTime.now());
+    }
+
+    // 실제 응답 대신 전송 내용을 기록하며, latch 가 열릴 때까지 전송을 지연시키는 emitter
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch latch;
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.delivery.justonebite.order.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 주문 상태 이력 테이블 : 단일 테이블 vs created_at 월 파티션 테이블의 INSERT / 주문별 최신순 조회 지연 시간 비교
+ * <p>
+ * 주문당 이력 4건, bench.months 개월에 고르게 분포한 bench.rows 건을 채운 뒤
+ * 이번 달 이력 bench.inserts 건 batch INSERT, 최근 주문(상위 5%) bench.lookups 건 조회를 측정한다.
+ * 파티션 테이블 조회에는 OrderHistoryRepository 와 같이 주문 생성 시각 하한을 함께 조건으로 넣는다.
+ * 실행 : ./gradlew benchmark --tests "*OrderHistoryPartitionBenchmark" -Dbench.rows=100000000
+ */
+@Tag("benchmark")
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderHistoryPartitionBenchmark {
+
+    private static final long SEED_ROWS = Long.getLong("bench.rows", 1_000_000L);
+    private static final int MONTHS = Integer.getInteger("bench.months", 24);
+    private static final int INSERT_ROWS = Integer.getInteger("bench.inserts", 50_000);
+    private static final int LOOKUPS = Integer.getInteger("bench.lookups", 2_000);
+    private static final int HISTORIES_PER_ORDER = 4;
+    private static final long SEED_CHUNK = 5_000_000L;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String PLAIN = "bench_history_plain";
+    private static final String PARTITIONED = "bench_history_part";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final YearMonth firstMonth = YearMonth.now().minusMonths(MONTHS - 1);
+    private final LocalDateTime seedStart = firstMonth.atDay(1).atStartOfDay();
+    private final long orders = SEED_ROWS / HISTORIES_PER_ORDER;
+    // 주문 생성 간격 (seedStart ~ 현재)
+    private final double orderStepMillis =
+        (double) Duration.between(seedStart, LocalDateTime.now().minusHours(1)).toMillis() / orders;
+
+    @Test
+    @DisplayName("단일 테이블 vs 월 파티션 테이블 INSERT / 주문별 이력 조회")
+    void partitionedHistory() {
+        createTables();
+        seed(PLAIN);
+        seed(PARTITIONED);
+        jdbcTemplate.execute("ANALYZE " + PLAIN);
+        jdbcTemplate.execute("ANALYZE " + PARTITIONED);
+
+        long plainInsertNanos = insert(PLAIN);
+        long partitionedInsertNanos = insert(PARTITIONED);
+
+        long[] sampleOrders = sampleRecentOrders();
+        long[] plainLookups = lookup(sampleOrders, false);
+        long[] partitionedLookups = lookup(sampleOrders, true);
+
+        print("single table", plainInsertNanos, plainLookups);
+        print("monthly partitions", partitionedInsertNanos, partitionedLookups);
+
+        // 주문 생성 시각 하한으로 최근 파티션만 읽음 (월 경계에 걸친 주문은 2개)
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "EXPLAIN SELECT status, created_at FROM " + PARTITIONED
+                + " WHERE order_id = ? AND created_at >= ? ORDER BY created_at DESC",
+            String.class, orderId(sampleOrders[0]), Timestamp.valueOf(orderCreatedAt(sampleOrders[0]))));
+        long scannedPartitions = Arrays.stream(plan.split("\n"))
+            .filter(line -> line.contains(" on " + PARTITIONED + "_p"))
+            .count();
+        assertThat(scannedPartitions).isBetween(1L, 2L);
+    }
+
+    private void createTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PLAIN);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PARTITIONED);
+
+        jdbcTemplate.execute("CREATE TEMP TABLE " + PLAIN
+            + " (order_history_id uuid PRIMARY KEY, order_id uuid NOT NULL, status varchar(30) NOT NULL, created_at timestamp NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX ON " + PLAIN + " (order_id, created_at DESC)");
+
+        jdbcTemplate.execute("CREATE TEMP TABLE " + PARTITIONED
+            + " (order_history_id uuid NOT NULL, order_id uuid NOT NULL, status varchar(30) NOT NULL, created_at timestamp NOT NULL,"
+            + " PRIMARY KEY (order_history_id, created_at)) PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("CREATE INDEX ON " + PARTITIONED + " (order_id, created_at DESC)");
+        for (int i = 0; i <= MONTHS; i++) {
+            YearMonth month = firstMonth.plusMonths(i);
+            jdbcTemplate.execute(String.format("CREATE TEMP TABLE %s_p%d%02d PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                PARTITIONED, month.getYear(), month.getMonthValue(), PARTITIONED,
+                month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    // 서버에서 generate_series 로 생성 (주문 n 의 이력 4건은 주문 생성 시각부터 1분 간격)
+    private void seed(String table) {
+        for (long offset = 0; offset < SEED_ROWS; offset += SEED_CHUNK) {
+            long end = Math.min(offset + SEED_CHUNK, SEED_ROWS) - 1;
+            jdbcTemplate.update("INSERT INTO " + table + " (order_history_id, order_id, status, created_at)"
+                    + " SELECT gen_random_uuid(), lpad(to_hex(g / ?), 32, '0')::uuid, 'PENDING',"
+                    + "        ?::timestamp + (g / ?) * ? * interval '1 millisecond' + (g % ?) * interval '1 minute'"
+                    + " FROM generate_series(?::bigint, ?::bigint) g",
+                HISTORIES_PER_ORDER, Timestamp.valueOf(seedStart), HISTORIES_PER_ORDER, orderStepMillis,
+                HISTORIES_PER_ORDER, offset, end);
+        }
+    }
+
+    private long insert(String table) {
+        String sql = "INSERT INTO " + table + " (order_history_id, order_id, status, created_at) VALUES (?, ?, ?, ?)";
+        long start = System.nanoTime();
+        for (int offset = 0; offset < INSERT_ROWS; offset += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, INSERT_ROWS - offset);
+            List<Integer> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(offset + i);
+            }
+            jdbcTemplate.batchUpdate(sql, rows, size, (PreparedStatement ps, Integer row) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, orderId(orders + row));
+                ps.setString(3, "PENDING");
+                ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            });
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long[] sampleRecentOrders() {
+        long hotFrom = (long) (orders * 0.95);
+        return ThreadLocalRandom.current().longs(LOOKUPS, hotFrom, orders).toArray();
+    }
+
+    private long[] lookup(long[] sampleOrders, boolean lowerBound) {
+        String table = lowerBound ? PARTITIONED : PLAIN;
+        String sql = "SELECT status, created_at FROM " + table + " WHERE order_id = ?"
+            + (lowerBound ? " AND created_at >= ?" : "") + " ORDER BY created_at DESC";
+
+        long[] elapsed = new long[sampleOrders.length];
+        for (int i = 0; i < sampleOrders.length; i++) {
+            long order = sampleOrders[i];
+            long start = System.nanoTime();
+            List<?> rows = lowerBound
+                ? jdbcTemplate.queryForList(sql, orderId(order), Timestamp.valueOf(orderCreatedAt(order)))
+                : jdbcTemplate.queryForList(sql, orderId(order));
+            elapsed[i] = System.nanoTime() - start;
+            assertThat(rows).hasSize(HISTORIES_PER_ORDER);
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private UUID orderId(long order) {
+        return UUID.fromString(String.format("%08x-%04x-%04x-%04x-%012x",
+            0, 0, 0, 0, order));
+    }
+
+    // 주문 생성 시각 (OrderHistory.createdAtLowerBound 와 같이 1분 여유)
+    private LocalDateTime orderCreatedAt(long order) {
+        return seedStart.plusNanos((long) (order * orderStepMillis) * 1_000_000L).minusMinutes(1);
+    }
+
+    private void print(String label, long insertNanos, long[] lookups) {
+        double insertSeconds = insertNanos / 1_000_000_000.0;
+        System.out.printf("[OrderHistoryPartitionBenchmark] %-18s rows=%d, insert %d rows %.0f rows/s, lookup p50=%.3fms p99=%.3fms%n",
+            label, SEED_ROWS, INSERT_ROWS, INSERT_ROWS / insertSeconds,
+            lookups[lookups.length / 2] / 1_000_000.0, lookups[(int) (lookups.length * 0.99)] / 1_000_000.0);
+    }
+}
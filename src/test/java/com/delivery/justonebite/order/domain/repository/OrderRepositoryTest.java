@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.delivery.justonebite.order.domain.entity.Order;
 import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.order.projection.OrderSummaryProjection;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import com.delivery.justonebite.user.domain.repository.UserRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -175,6 +178,72 @@ class OrderRepositoryTest {
         assertThat(orders.getContent().get(0).getOrderName()).contains("테스트 주문 10");
     }
 
+    @Test
+    @DisplayName("findSummariesByShopId : 가게 ID로 주문 요약(현재 상태 포함)을 페이징하여 조회")
+    void findSummariesByShopId() {
+        testOrder.updateCurrentStatus(OrderStatus.ORDER_ACCEPTED);
+        orderRepository.saveAndFlush(testOrder);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+        Page<OrderSummaryProjection> summaries = orderRepository.findSummariesByShopId(shopId, pageable);
+
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        OrderSummaryProjection summary = summaries.getContent().get(0);
+        assertEquals(TEST_ORDER_ID, summary.getOrderId());
+        // 주문 이력이 아닌 Order.currentStatus 기준
+        assertEquals(OrderStatus.ORDER_ACCEPTED, summary.getCurrentStatus());
+        assertEquals(55000, summary.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("findCustomerOrdersAfter : 커서 이후의 고객 주문을 (createdAt, id) 내림차순으로 limit 건 조회")
+    void findCustomerOrdersAfter() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(Order.create(
+                customer,
+                shop,
+                shop.getAddress(),
+                customer.getPhoneNumber(),
+                "테스트 주문 " + (i + 1),
+                55000,
+                OrderStatus.PENDING,
+                "단무지 빼주세요",
+                "문 앞에 놓아주세요"
+            ));
+        }
+        orderRepository.flush();
+
+        // 첫 목록 (testOrder 포함 6건 중 3건)
+        List<Order> first = orderRepository.findFirstCustomerOrders(userId, Limit.of(3));
+        assertThat(first).hasSize(3);
+
+        // 마지막 주문 이후 목록 : 중복 없이 나머지 3건
+        Order last = first.get(2);
+        List<Order> next = orderRepository.findCustomerOrdersAfter(userId, last.getCreatedAt(), last.getId(), Limit.of(10));
+        assertThat(next).hasSize(3);
+        assertThat(next).doesNotContainAnyElementsOf(first);
+        assertThat(next.get(0).getCreatedAt()).isBeforeOrEqualTo(last.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("updateStatusIfCurrentIn : 현재 상태가 유효한 이전 상태일 때만 변경 (먼저 반영된 요청만 성공)")
+    void updateStatusIfCurrentIn() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 사장님 주문 접수 (PENDING -> ORDER_ACCEPTED)
+        int accepted = orderRepository.updateStatusIfCurrentIn(TEST_ORDER_ID,
+            OrderStatus.predecessorsOf(OrderStatus.ORDER_ACCEPTED), OrderStatus.ORDER_ACCEPTED, now, OWNER_ID);
+        // 동시에 들어온 고객 취소 : 이미 PENDING 이 아니므로 변경되지 않음
+        int cancelled = orderRepository.updateStatusIfCurrentInAndCreatedAfter(TEST_ORDER_ID,
+            OrderStatus.predecessorsOf(OrderStatus.ORDER_CANCELLED), OrderStatus.ORDER_CANCELLED,
+            now.minus(Order.CANCEL_LIMIT), now, userId);
+
+        assertEquals(1, accepted);
+        assertEquals(0, cancelled);
+        assertEquals(OrderStatus.ORDER_ACCEPTED,
+            orderRepository.findStatusById(TEST_ORDER_ID).orElseThrow().getCurrentStatus());
+    }
+
     @Test
     @DisplayName("findByIdWithCustomer : Customer와 JOIN FETCH하여 N+1 없이 주문 상세 조회")
     void findByIdWithCustomer() {
@@ -0,0 +1,167 @@
+package com.delivery.justonebite.order.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.delivery.justonebite.global.config.JpaConfig;
+import com.delivery.justonebite.item.domain.entity.Item;
+import com.delivery.justonebite.item.domain.repository.ItemRepository;
+import com.delivery.justonebite.order.domain.entity.Order;
+import com.delivery.justonebite.order.domain.entity.OrderHistory;
+import com.delivery.justonebite.order.domain.entity.OrderItem;
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.shop.domain.repository.ShopRepository;
+import com.delivery.justonebite.user.domain.entity.User;
+import com.delivery.justonebite.user.domain.entity.UserRole;
+import com.delivery.justonebite.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 주문 1건 저장 시 실행되는 SQL statement 수 비교 (기존 saveAll 경로 vs OrderWriter 경로)
+ * <p>
+ * 실행 : ./gradlew benchmark --tests "*OrderWriterBenchmark" -Dbench.orders=200
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderWriter.class, JpaConfig.class})
+class OrderWriterBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("bench.orders", 100);
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ShopRepository shopRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+    @Autowired
+    private OrderWriter orderWriter;
+
+    private Statistics statistics;
+    private User customer;
+    private Shop shop;
+    private List<UUID> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        customer = userRepository.save(User.builder()
+            .name("홍길동")
+            .email("bench-" + UUID.randomUUID() + "@gmail.com")
+            .password("Qwerty1234@")
+            .phoneNumber("010-2222-2222")
+            .userRole(UserRole.CUSTOMER)
+            .build());
+
+        shop = shopRepository.save(Shop.builder()
+            .ownerId(2L)
+            .name("Bench Shop")
+            .registrationNumber(UUID.randomUUID().toString().substring(0, 15))
+            .province("서울특별시")
+            .city("서울특별시")
+            .district("종로구")
+            .address("종로구 사직로 133-25")
+            .phoneNumber("010-0000-0000")
+            .operatingHour("13:00 ~ 21:00")
+            .createdAt(LocalDateTime.now())
+            .createdBy(2L)
+            .updatedAt(LocalDateTime.now())
+            .updatedBy(2L)
+            .build());
+
+        itemIds = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Item item = itemRepository.save(Item.builder()
+                .shop(shop)
+                .name("상품" + i)
+                .price(10000 + i * 1000)
+                .aiGenerated(false)
+                .isHidden(false)
+                .build());
+            itemIds.add(item.getItemId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문 저장 경로별 주문 1건당 statement 수")
+    void statementsPerOrder() {
+        double legacy = measure("saveAll (merge)", (order, items) -> {
+            orderRepository.save(order);
+            orderItemRepository.saveAll(toOrderItems(order, items));
+            orderHistoryRepository.save(OrderHistory.create(order, OrderStatus.PENDING));
+        });
+
+        double writer = measure("OrderWriter (persist + batch)", (order, items) -> {
+            orderWriter.insert(order);
+            orderWriter.insertItems(toOrderItems(order, items));
+            orderWriter.appendHistory(order, OrderStatus.PENDING);
+        });
+
+        // 기존 경로 : INSERT 3회 이상 + OrderItem 개수만큼 SELECT
+        // OrderWriter 경로 : 테이블별 batch INSERT 1회씩 (order, order_item, order_history)
+        assertThat(legacy).isGreaterThanOrEqualTo(3 + ITEMS_PER_ORDER);
+        assertThat(writer).isLessThanOrEqualTo(3);
+    }
+
+    private double measure(String label, BiConsumer<Order, List<Item>> write) {
+        long statements = 0;
+        long elapsedNanos = 0;
+
+        for (int i = 0; i < ORDERS; i++) {
+            // 상품 조회는 측정 대상에서 제외 (실제 주문 생성에서도 저장 이전에 수행됨)
+            List<Item> items = itemRepository.findAllByItemIdIn(itemIds);
+            Order order = Order.create(customer, shop, shop.getAddress(), customer.getPhoneNumber(),
+                "상품0 외 " + (ITEMS_PER_ORDER - 1) + "건", 60000, OrderStatus.PENDING, null, null);
+
+            statistics.clear();
+            long start = System.nanoTime();
+            write.accept(order, items);
+            entityManager.flush();
+            elapsedNanos += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+
+            entityManager.clear();
+        }
+
+        double perOrder = (double) statements / ORDERS;
+        System.out.printf("[OrderWriterBenchmark] %-30s orders=%d, statements/order=%.2f, avg=%.3fms%n",
+            label, ORDERS, perOrder, elapsedNanos / 1_000_000.0 / ORDERS);
+        return perOrder;
+    }
+
+    private List<OrderItem> toOrderItems(Order order, List<Item> items) {
+        return items.stream()
+            .map(item -> OrderItem.create(order, item, 1))
+            .toList();
+    }
+}
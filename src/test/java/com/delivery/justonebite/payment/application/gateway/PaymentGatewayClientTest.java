@@ -0,0 +1,85 @@
+package com.delivery.justonebite.payment.application.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayResult.Outcome;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentGatewayClientTest {
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    private PaymentGatewayClient client;
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        client = new PaymentGatewayClient(paymentGateway);
+        ReflectionTestUtils.setField(client, "timeoutMillis", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("requestPayment : 응답 시간 초과는 거절이 아닌 결과 미확인(UNKNOWN)")
+    void requestPaymentTimeout() {
+        given(paymentGateway.requestPayment(any())).willAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return PaymentGatewayResult.approve();
+        });
+
+        PaymentGatewayResult result = client.requestPayment(request());
+
+        assertThat(result.outcome()).isEqualTo(Outcome.UNKNOWN);
+        assertThat(result.code()).isEqualTo("PAY_GATEWAY_TIMEOUT");
+        assertThat(result.approved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("requestPayment : PG 가 오류로 응답하면 거절(DECLINED)")
+    void requestPaymentError() {
+        given(paymentGateway.requestPayment(any())).willThrow(new IllegalStateException("connection refused"));
+
+        PaymentGatewayResult result = client.requestPayment(request());
+
+        assertThat(result.outcome()).isEqualTo(Outcome.DECLINED);
+    }
+
+    @Test
+    @DisplayName("inquirePayment : 상태 조회 실패는 결과를 알 수 없으므로 UNKNOWN 유지")
+    void inquirePaymentError() {
+        given(paymentGateway.inquirePayment(paymentId)).willThrow(new IllegalStateException("connection refused"));
+
+        PaymentGatewayResult result = client.inquirePayment(paymentId);
+
+        assertThat(result.outcome()).isEqualTo(Outcome.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("inquirePayment : PG 처리 결과를 그대로 반환")
+    void inquirePaymentApproved() {
+        given(paymentGateway.inquirePayment(paymentId)).willReturn(PaymentGatewayResult.approve());
+
+        assertThat(client.inquirePayment(paymentId).approved()).isTrue();
+    }
+
+    private PaymentGatewayRequest request() {
+        return new PaymentGatewayRequest(paymentId, UUID.randomUUID(), "페퍼로니 피자", 20000);
+    }
+}
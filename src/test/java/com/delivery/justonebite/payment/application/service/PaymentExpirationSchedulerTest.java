@@ -0,0 +1,134 @@
+package com.delivery.justonebite.payment.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
+import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
+import com.delivery.justonebite.payment.projection.PaymentExpirationProjection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentExpirationSchedulerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentExpirationWriter paymentExpirationWriter;
+    @Mock
+    private PaymentExpirationQueue paymentExpirationQueue;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ClusterJobRunner clusterJobRunner;
+
+    private PaymentExpirationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PaymentExpirationScheduler(
+            paymentRepository, paymentExpirationWriter, paymentExpirationQueue, transactionTemplate, clusterJobRunner);
+        // 잠금 선점에 성공한 것으로 보고 작업 본문 바로 실행
+        lenient().when(clusterJobRunner.run(anyString(), any(Duration.class), any(LongSupplier.class)))
+            .thenAnswer(invocation -> {
+                ((LongSupplier) invocation.getArgument(2)).getAsLong();
+                return true;
+            });
+    }
+
+    @Test
+    @DisplayName("expireDuePayments : 큐에서 꺼낸 결제를 한 번에 만료 (주문 취소/이력 포함)")
+    void expireDuePayments() {
+        List<UUID> dueIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(paymentExpirationQueue.popDue(any(LocalDateTime.class), anyInt())).willReturn(dueIds);
+        givenTransactionExecutes();
+
+        scheduler.expireDuePayments();
+
+        then(paymentExpirationWriter).should().expire(eq(dueIds), any(LocalDateTime.class));
+        then(paymentExpirationQueue).should(never()).retry(any(), any());
+    }
+
+    @Test
+    @DisplayName("expireDuePayments : 만료 대상이 없으면 DB 사용 없음 (작업 잠금 / 실행 기록 포함)")
+    void expireDuePaymentsEmpty() {
+        given(paymentExpirationQueue.popDue(any(LocalDateTime.class), anyInt())).willReturn(List.of());
+
+        scheduler.expireDuePayments();
+
+        then(paymentExpirationWriter).shouldHaveNoInteractions();
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(clusterJobRunner).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("expireDuePayments : DB 처리 실패 시 꺼낸 항목 재등록")
+    void expireDuePaymentsRetryOnFailure() {
+        List<UUID> dueIds = List.of(UUID.randomUUID());
+        given(paymentExpirationQueue.popDue(any(LocalDateTime.class), anyInt())).willReturn(dueIds);
+        given(transactionTemplate.execute(any())).willThrow(new QueryTimeoutException("timeout"));
+
+        scheduler.expireDuePayments();
+
+        then(paymentExpirationQueue).should().retry(eq(dueIds), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("recoverQueue : 만료 시각이 지난 결제는 chunk 단위로 만료 후 만료 전 결제만 재등록")
+    void recoverQueue() {
+        UUID paymentId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(3);
+        PaymentExpirationProjection pending = new PaymentExpirationProjection() {
+            @Override
+            public UUID getPaymentId() {
+                return paymentId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+        givenTransactionExecutes();
+        // 첫 chunk 는 가득 차서 한 번 더 실행, 두 번째 chunk 에서 종료
+        given(paymentExpirationWriter.expireStale(any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+            .willReturn(500, 12);
+        given(paymentRepository.findAllByStatusAndCreatedAtGreaterThanEqual(eq(PaymentStatus.SUCCESS), any(LocalDateTime.class)))
+            .willReturn(List.of(pending));
+
+        scheduler.recoverQueue();
+
+        then(paymentExpirationWriter).should(times(2))
+            .expireStale(any(LocalDateTime.class), anyInt(), any(LocalDateTime.class));
+        then(paymentExpirationQueue).should().scheduleIfAbsent(paymentId, createdAt.plus(Payment.EXPIRATION));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionExecutes() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+            ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.delivery.justonebite.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.payment.domain.entity.PaymentDiscrepancyType;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentDiscrepancy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentLedgerTest {
+
+    private final UUID PAYMENT_ID = UUID.randomUUID();
+    private final LocalDateTime APPROVED_AT = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private final LocalDateTime CANCELED_AT = APPROVED_AT.plusHours(1);
+
+    @Test
+    @DisplayName("verify : 승인 후 부분 취소 내역과 잔액 / 마지막 거래가 일치하면 불일치 없음")
+    void verifyConsistent() {
+        UUID approval = UuidV7.generate();
+        UUID cancel = UuidV7.generate();
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 25000, PaymentStatus.PARTIAL_CANCELED, cancel);
+
+        ledger.addTransaction(approval, APPROVED_AT, 30000, false);
+        ledger.addTransaction(cancel, CANCELED_AT, 5000, true);
+
+        assertThat(ledger.verify()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify : 취소 거래 합계와 잔액이 다르면 BALANCE_MISMATCH")
+    void verifyBalanceMismatch() {
+        UUID approval = UuidV7.generate();
+        UUID cancel = UuidV7.generate();
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 20000, PaymentStatus.PARTIAL_CANCELED, cancel);
+
+        ledger.addTransaction(approval, APPROVED_AT, 30000, false);
+        ledger.addTransaction(cancel, CANCELED_AT, 5000, true);
+
+        List<PaymentDiscrepancy> discrepancies = ledger.verify();
+        assertThat(discrepancies).extracting(PaymentDiscrepancy::type)
+            .containsExactly(PaymentDiscrepancyType.BALANCE_MISMATCH);
+        assertThat(discrepancies.get(0).expectedValue()).isEqualTo("25000");
+        assertThat(discrepancies.get(0).actualValue()).isEqualTo("20000");
+    }
+
+    @Test
+    @DisplayName("verify : 마지막 거래 ID 가 가장 최근 거래가 아니면 LAST_TRANSACTION_MISMATCH")
+    void verifyLastTransactionMismatch() {
+        UUID approval = UuidV7.generate();
+        UUID cancel = UuidV7.generate();
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 25000, PaymentStatus.PARTIAL_CANCELED, approval);
+
+        ledger.addTransaction(approval, APPROVED_AT, 30000, false);
+        ledger.addTransaction(cancel, CANCELED_AT, 5000, true);
+
+        assertThat(ledger.verify()).extracting(PaymentDiscrepancy::type)
+            .containsExactly(PaymentDiscrepancyType.LAST_TRANSACTION_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("verify : 최근 거래는 거래 ID 순서가 아닌 거래 시각 기준 (UUIDv7 이전의 랜덤 거래 ID 포함)")
+    void verifyLatestByTransactionAt() {
+        // 랜덤(v4) ID 가 이후의 v7 ID 보다 크게 정렬되는 경우
+        UUID legacyApproval = UUID.fromString("ffffffff-ffff-4fff-bfff-ffffffffffff");
+        UUID cancel = UuidV7.generate();
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 25000, PaymentStatus.PARTIAL_CANCELED, cancel);
+
+        ledger.addTransaction(cancel, CANCELED_AT, 5000, true);
+        ledger.addTransaction(legacyApproval, APPROVED_AT, 30000, false);
+
+        assertThat(ledger.verify()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify : 전액 취소 상태인데 잔액이 남아 있으면 STATUS_MISMATCH")
+    void verifyStatusMismatch() {
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 30000, PaymentStatus.CANCELED, null);
+
+        assertThat(ledger.verify()).extracting(PaymentDiscrepancy::type)
+            .containsExactly(PaymentDiscrepancyType.STATUS_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("verify : 거래가 없는 승인 대기 결제는 잔액 = 결제 금액, 마지막 거래 없음")
+    void verifyWithoutTransactions() {
+        PaymentLedger ledger = new PaymentLedger(PAYMENT_ID, 30000, 30000, PaymentStatus.SUCCESS, null);
+
+        assertThat(ledger.verify()).isEmpty();
+    }
+}
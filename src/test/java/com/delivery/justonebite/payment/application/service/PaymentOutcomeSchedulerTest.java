@@ -0,0 +1,146 @@
+package com.delivery.justonebite.payment.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.delivery.justonebite.global.scheduling.ClusterJobRunner;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayClient;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayResult;
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
+import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
+import com.delivery.justonebite.payment.projection.PaymentExpirationProjection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutcomeSchedulerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentExpirationWriter paymentExpirationWriter;
+    @Mock
+    private PaymentExpirationQueue paymentExpirationQueue;
+    @Mock
+    private PaymentGatewayClient paymentGatewayClient;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ClusterJobRunner clusterJobRunner;
+
+    private PaymentOutcomeScheduler scheduler;
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PaymentOutcomeScheduler(paymentRepository, paymentExpirationWriter, paymentExpirationQueue,
+            paymentGatewayClient, transactionTemplate, clusterJobRunner);
+        // 잠금 선점에 성공한 것으로 보고 작업 본문 바로 실행
+        lenient().when(clusterJobRunner.run(anyString(), any(Duration.class), any(LongSupplier.class)))
+            .thenAnswer(invocation -> {
+                ((LongSupplier) invocation.getArgument(2)).getAsLong();
+                return true;
+            });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(paymentGatewayClient.getTimeoutMillis()).thenReturn(5_000L);
+    }
+
+    @Test
+    @DisplayName("resolvePayments : PG 응답 대기 시간이 지난 READY 결제는 chunk 단위로 실패 처리 (주문 취소 포함)")
+    void failStaleReady() {
+        given(paymentExpirationWriter.failStaleReady(any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+            .willReturn(100, 3);
+        given(paymentRepository.findByStatusOrderByCreatedAt(eq(PaymentStatus.UNKNOWN), any(Limit.class)))
+            .willReturn(List.of());
+
+        scheduler.resolvePayments();
+
+        then(paymentExpirationWriter).should(times(2))
+            .failStaleReady(any(LocalDateTime.class), anyInt(), any(LocalDateTime.class));
+        then(paymentGatewayClient).should(never()).inquirePayment(any());
+    }
+
+    @Test
+    @DisplayName("resolvePayments : 결과 미확인 결제가 PG 에서 승인되었으면 승인 대기로 전이 후 만료 대기열 등록")
+    void resolveUnknownApproved() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+        givenUnknown(createdAt);
+        given(paymentGatewayClient.inquirePayment(paymentId)).willReturn(PaymentGatewayResult.approve());
+        given(paymentRepository.updateStatusIfCurrentIn(paymentId, List.of(PaymentStatus.UNKNOWN), PaymentStatus.SUCCESS))
+            .willReturn(1);
+
+        scheduler.resolvePayments();
+
+        then(paymentExpirationQueue).should().schedule(paymentId, createdAt.plus(Payment.EXPIRATION));
+        then(paymentExpirationWriter).should(never()).close(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("resolvePayments : 결과 미확인 결제가 PG 에서 처리되지 않았으면 실패 처리 (주문 취소 포함)")
+    void resolveUnknownDeclined() {
+        givenUnknown(LocalDateTime.now().minusMinutes(1));
+        given(paymentGatewayClient.inquirePayment(paymentId))
+            .willReturn(PaymentGatewayResult.decline("PAY_NOT_FOUND", "결제 요청 내역이 없습니다."));
+
+        scheduler.resolvePayments();
+
+        then(paymentExpirationWriter).should().close(
+            eq(paymentId), eq(List.of(PaymentStatus.UNKNOWN)), eq(PaymentStatus.FAIL), any(LocalDateTime.class));
+        then(paymentExpirationQueue).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("resolvePayments : 상태 조회로도 확인 불가하면 승인 대기 시간 전까지 유지, 이후 만료")
+    void resolveUnknownStillUnknown() {
+        PaymentGatewayResult unknown = PaymentGatewayResult.unknown("PAY_GATEWAY_TIMEOUT", "결제 대행사 응답 시간이 초과되었습니다.");
+        given(paymentGatewayClient.inquirePayment(paymentId)).willReturn(unknown);
+
+        givenUnknown(LocalDateTime.now().minusMinutes(1));
+        scheduler.resolvePayments();
+        then(paymentExpirationWriter).should(never()).close(any(), any(), any(), any());
+
+        givenUnknown(LocalDateTime.now().minus(Payment.EXPIRATION).minusMinutes(1));
+        scheduler.resolvePayments();
+        then(paymentExpirationWriter).should().close(
+            eq(paymentId), eq(List.of(PaymentStatus.UNKNOWN)), eq(PaymentStatus.EXPIRED), any(LocalDateTime.class));
+    }
+
+    private void givenUnknown(LocalDateTime createdAt) {
+        PaymentExpirationProjection payment = new PaymentExpirationProjection() {
+            @Override
+            public UUID getPaymentId() {
+                return paymentId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+        given(paymentRepository.findByStatusOrderByCreatedAt(eq(PaymentStatus.UNKNOWN), any(Limit.class)))
+            .willReturn(List.of(payment));
+    }
+}
@@ -0,0 +1,158 @@
+package com.delivery.justonebite.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.delivery.justonebite.global.common.id.UuidV7;
+import com.delivery.justonebite.payment.domain.entity.PaymentDiscrepancyType;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.repository.PaymentReconciliationRepository;
+import com.delivery.justonebite.payment.projection.PaymentDiscrepancy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final LocalDateTime APPROVED_AT = LocalDateTime.of(2025, 9, 1, 12, 0);
+    private static final LocalDateTime CANCELED_AT = APPROVED_AT.plusDays(1);
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private PaymentReconciliationRepository reconciliationRepository;
+
+    private PaymentReconciliationService service;
+
+    // 조회 결과 행 (DB 정렬 순서 그대로)
+    private final List<Map<String, Object>> rows = new ArrayList<>();
+    // 기록된 불일치 (기록 후 목록이 비워지므로 호출 시점에 복사)
+    private final List<PaymentDiscrepancy> reported = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new PaymentReconciliationService(dataSource, reconciliationRepository);
+        ReflectionTestUtils.setField(service, "fetchSize", 1000);
+        ReflectionTestUtils.setField(service, "progressIntervalRows", 100_000L);
+
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(anyString(), anyInt(), anyInt())).willReturn(statement);
+        given(statement.executeQuery()).willAnswer(invocation -> resultSet());
+        lenient().doAnswer(invocation -> {
+            reported.addAll(invocation.getArgument(1));
+            return null;
+        }).when(reconciliationRepository).insertDiscrepancies(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("reconcile : UUIDv7 이전(랜덤 v4) 거래 ID 가 섞여 있어도 거래 시각 기준 최근 거래로 검사")
+    void reconcileMixedTransactionIds() throws Exception {
+        // 기존 결제 : 승인 거래는 v4 (v7 보다 크게 정렬됨), 이후 부분 취소 거래는 v7
+        UUID legacyPayment = UUID.randomUUID();
+        UUID legacyApproval = UUID.fromString("ffffffff-ffff-4fff-bfff-ffffffffffff");
+        UUID newCancel = UuidV7.generate();
+        payment(legacyPayment, 30000, 25000, PaymentStatus.PARTIAL_CANCELED, newCancel);
+        transaction(legacyPayment, legacyApproval, APPROVED_AT, 30000, false);
+        transaction(legacyPayment, newCancel, CANCELED_AT, 5000, true);
+
+        // 기존 결제 : 승인 / 취소 모두 v4 이고 취소 거래 ID 가 더 작게 정렬됨
+        UUID legacyCanceled = UUID.randomUUID();
+        UUID legacyApproval2 = UUID.fromString("80000000-0000-4000-8000-000000000000");
+        UUID legacyCancel2 = UUID.fromString("00000000-0000-4000-8000-000000000001");
+        payment(legacyCanceled, 20000, 0, PaymentStatus.CANCELED, legacyCancel2);
+        transaction(legacyCanceled, legacyApproval2, APPROVED_AT, 20000, false);
+        transaction(legacyCanceled, legacyCancel2, CANCELED_AT, 20000, true);
+
+        // 실제 불일치 : 마지막 거래 ID 가 취소 이전의 승인 거래로 남아 있음
+        UUID stalePayment = UUID.randomUUID();
+        UUID approval = UuidV7.generate();
+        UUID cancel = UuidV7.generate();
+        payment(stalePayment, 10000, 7000, PaymentStatus.PARTIAL_CANCELED, approval);
+        transaction(stalePayment, approval, APPROVED_AT, 10000, false);
+        transaction(stalePayment, cancel, CANCELED_AT, 3000, true);
+
+        long discrepancies = service.reconcile();
+
+        assertThat(discrepancies).isEqualTo(1);
+        assertThat(reported).singleElement().satisfies(discrepancy -> {
+            assertThat(discrepancy.paymentId()).isEqualTo(stalePayment);
+            assertThat(discrepancy.type()).isEqualTo(PaymentDiscrepancyType.LAST_TRANSACTION_MISMATCH);
+            assertThat(discrepancy.expectedValue()).isEqualTo(cancel.toString());
+        });
+
+        // 거래 ID 가 아닌 거래 시각 순으로 정렬하여 조회
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        then(connection).should().prepareStatement(sql.capture(), anyInt(), anyInt());
+        assertThat(sql.getValue()).contains("ORDER BY p.payment_id, t.transaction_at, t.transaction_id");
+        then(reconciliationRepository).should()
+            .finishRun(any(), any(LocalDateTime.class), eq("SUCCESS"), eq(null));
+    }
+
+    private void payment(UUID paymentId, int total, int balance, PaymentStatus status, UUID lastTransactionId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("payment_id", paymentId);
+        row.put("total_amount", total);
+        row.put("balance_amount", balance);
+        row.put("last_status", status.name());
+        row.put("last_transaction_id", lastTransactionId);
+        rows.add(row);
+    }
+
+    // 직전 행과 같은 결제의 거래 : 첫 거래는 결제 행에 채우고, 이후 거래는 결제 컬럼을 복사한 새 행으로 추가
+    private void transaction(UUID paymentId, UUID transactionId, LocalDateTime transactionAt, int amount, boolean cancel) {
+        Map<String, Object> row = rows.get(rows.size() - 1);
+        if (row.containsKey("transaction_id")) {
+            row = new HashMap<>(row);
+            rows.add(row);
+        }
+        assertThat(row.get("payment_id")).isEqualTo(paymentId);
+        row.put("transaction_id", transactionId);
+        row.put("transaction_at", transactionAt);
+        row.put("amount", amount);
+        row.put("cancel_status", cancel ? "DONE" : null);
+    }
+
+    private ResultSet resultSet() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        int[] cursor = {-1};
+        given(rs.next()).willAnswer(invocation -> ++cursor[0] < rows.size());
+        willAnswer(invocation -> rows.get(cursor[0]).get(invocation.<String>getArgument(0)))
+            .given(rs).getObject(anyString(), any(Class.class));
+        willAnswer(invocation -> rows.get(cursor[0]).get(invocation.<String>getArgument(0)))
+            .given(rs).getObject(anyString());
+        willAnswer(invocation -> rows.get(cursor[0]).get(invocation.<String>getArgument(0)))
+            .given(rs).getString(anyString());
+        willAnswer(invocation -> (Integer) rows.get(cursor[0]).get(invocation.<String>getArgument(0)))
+            .given(rs).getInt(anyString());
+        return rs;
+    }
+}
@@ -0,0 +1,250 @@
+package com.delivery.justonebite.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayClient;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayRequest;
+import com.delivery.justonebite.payment.application.gateway.PaymentGatewayResult;
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.domain.entity.Transaction;
+import com.delivery.justonebite.payment.domain.repository.PaymentExpirationWriter;
+import com.delivery.justonebite.payment.domain.repository.PaymentRepository;
+import com.delivery.justonebite.payment.domain.repository.TransactionRepository;
+import com.delivery.justonebite.payment.presentation.dto.request.PaymentConfirmRequest;
+import com.delivery.justonebite.payment.presentation.dto.request.PaymentRequest;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentBatchConfirmResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentBatchConfirmResult;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentPendingResponse;
+import com.delivery.justonebite.payment.presentation.dto.response.PaymentResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private PaymentExpirationWriter paymentExpirationWriter;
+    @Mock
+    private PaymentExpirationQueue paymentExpirationQueue;
+    @Mock
+    private PaymentGatewayClient paymentGatewayClient;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 트랜잭션 경계 없이 콜백 바로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        // saveAll 시점에 식별자 할당 (persist 흉내)
+        lenient().when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction ->
+                ReflectionTestUtils.setField(transaction, "transactionId", UUID.randomUUID()));
+            return transactions;
+        });
+    }
+
+    @Test
+    @DisplayName("confirmPayments : 건별로 검증하여 성공 건만 승인하고 요청 순서대로 결과 반환")
+    void confirmPaymentsMixed() {
+        Payment pending = payment(PaymentStatus.SUCCESS, 20000);
+        Payment expired = payment(PaymentStatus.EXPIRED, 20000);
+        Payment amountMismatch = payment(PaymentStatus.SUCCESS, 30000);
+        UUID missingId = UUID.randomUUID();
+
+        given(paymentRepository.findAllForUpdateByPaymentIdIn(anyCollection()))
+            .willReturn(List.of(pending, expired, amountMismatch));
+
+        PaymentBatchConfirmResponse response = paymentService.confirmPayments(List.of(
+            request(pending, 20000),
+            request(expired, 20000),
+            request(amountMismatch, 20000),
+            new PaymentConfirmRequest(missingId, UUID.randomUUID(), 20000),
+            request(pending, 20000)
+        ));
+
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failCount()).isEqualTo(4);
+        assertThat(response.results()).extracting(PaymentBatchConfirmResult::errorCode).containsExactly(
+            null,
+            ErrorCode.PAYMENT_EXPIRED.name(),
+            ErrorCode.PAYMENT_AMOUNT_NOT_MATCH.name(),
+            ErrorCode.PAYMENT_NOT_FOUND.name(),
+            // 같은 요청 안에서 중복된 결제
+            ErrorCode.INVALID_PAYMENT_STATUS.name()
+        );
+
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(pending.getApprovedAt()).isNotNull();
+        assertThat(pending.getLastTransactionId()).isNotNull();
+        assertThat(response.results().get(0).payment().lastTransactionKey()).isEqualTo(pending.getLastTransactionId());
+        assertThat(expired.getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("confirmPayments : 100건 단위 chunk 마다 결제 조회 1회, 거래 저장 1회")
+    void confirmPaymentsChunked() {
+        List<Payment> payments = IntStream.range(0, 250)
+            .mapToObj(i -> payment(PaymentStatus.SUCCESS, 20000))
+            .toList();
+        given(paymentRepository.findAllForUpdateByPaymentIdIn(anyCollection()))
+            .willReturn(payments.subList(0, 100), payments.subList(100, 200), payments.subList(200, 250));
+
+        PaymentBatchConfirmResponse response = paymentService.confirmPayments(
+            payments.stream().map(payment -> request(payment, 20000)).toList());
+
+        assertThat(response.successCount()).isEqualTo(250);
+        then(paymentRepository).should(times(3)).findAllForUpdateByPaymentIdIn(anyCollection());
+        then(transactionRepository).should(times(3)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("confirmPayments : chunk 처리 중 예외가 발생하면 해당 chunk 전체를 실패로 응답")
+    void confirmPaymentsChunkFailed() {
+        Payment pending = payment(PaymentStatus.SUCCESS, 20000);
+        given(transactionTemplate.execute(any())).willThrow(new QueryTimeoutException("timeout"));
+
+        PaymentBatchConfirmResponse response = paymentService.confirmPayments(List.of(request(pending, 20000)));
+
+        assertThat(response.failCount()).isEqualTo(1);
+        assertThat(response.results().get(0).errorCode()).isEqualTo(ErrorCode.PAYMENT_CONFIRM_FAILED.name());
+    }
+
+    @Test
+    @DisplayName("confirmPayment : 잠금 조회한 결제가 이미 만료되었으면 승인하지 않고 만료 예외")
+    void confirmPaymentExpiredUnderLock() {
+        Payment expired = payment(PaymentStatus.EXPIRED, 20000);
+        given(paymentRepository.findForUpdateByPaymentId(expired.getPaymentId())).willReturn(Optional.of(expired));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(request(expired, 20000)))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_EXPIRED);
+
+        assertThat(expired.getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+        then(paymentRepository).should(never()).findByPaymentId(any());
+        then(transactionRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("requestPayment : PG 응답 시간 초과 시 결제는 결과 미확인(UNKNOWN), 만료 대기열 등록 없이 확인 중 응답")
+    void requestPaymentTimeout() {
+        Payment ready = givenReadyPayment();
+        given(paymentGatewayClient.requestPayment(any(PaymentGatewayRequest.class)))
+            .willReturn(PaymentGatewayResult.unknown("PAY_GATEWAY_TIMEOUT", "결제 대행사 응답 시간이 초과되었습니다."));
+
+        PaymentResponse response = paymentService.requestPayment(paymentRequest(ready));
+
+        assertThat(response).isInstanceOf(PaymentPendingResponse.class);
+        assertThat(((PaymentPendingResponse) response).paymentId()).isEqualTo(ready.getPaymentId());
+        assertThat(ready.getStatus()).isEqualTo(PaymentStatus.UNKNOWN);
+        then(paymentExpirationQueue).should(never()).schedule(any(), any());
+        // 거절로 확정하지 않으므로 주문 취소 없음
+        then(paymentExpirationWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("requestPayment : PG 요청 중 예외 발생 시 READY 결제 실패 처리(주문 취소 포함) 후 예외 전파")
+    void requestPaymentGatewayException() {
+        Payment ready = givenReadyPayment();
+        IllegalStateException failure = new IllegalStateException("executor shutdown");
+        given(paymentGatewayClient.requestPayment(any(PaymentGatewayRequest.class))).willThrow(failure);
+
+        assertThatThrownBy(() -> paymentService.requestPayment(paymentRequest(ready))).isSameAs(failure);
+
+        then(paymentExpirationWriter).should().close(
+            eq(ready.getPaymentId()), eq(List.of(PaymentStatus.READY)), eq(PaymentStatus.FAIL), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("requestPayment : PG 승인 후 결과 반영 트랜잭션 실패 시에도 READY 결제 실패 처리 후 예외 전파")
+    void requestPaymentStatusUpdateFailed() {
+        Payment ready = givenReadyPayment();
+        given(paymentGatewayClient.requestPayment(any(PaymentGatewayRequest.class)))
+            .willReturn(PaymentGatewayResult.approve());
+        given(paymentRepository.findByPaymentId(ready.getPaymentId()))
+            .willThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> paymentService.requestPayment(paymentRequest(ready)))
+            .isInstanceOf(QueryTimeoutException.class);
+
+        then(paymentExpirationWriter).should().close(
+            eq(ready.getPaymentId()), eq(List.of(PaymentStatus.READY)), eq(PaymentStatus.FAIL), any(LocalDateTime.class));
+        then(paymentExpirationQueue).should(never()).schedule(any(), any());
+    }
+
+    // 결제 생성 트랜잭션 : 저장 시점에 식별자 할당, 결과 반영 트랜잭션에서 같은 엔티티 조회
+    private Payment givenReadyPayment() {
+        Payment ready = payment(PaymentStatus.READY, 20000);
+        given(paymentRepository.save(any(Payment.class))).willReturn(ready);
+        lenient().when(paymentRepository.findByPaymentId(ready.getPaymentId())).thenReturn(Optional.of(ready));
+        return ready;
+    }
+
+    private PaymentRequest paymentRequest(Payment payment) {
+        return PaymentRequest.builder()
+            .orderId(payment.getOrderId())
+            .orderName(payment.getOrderName())
+            .amount(payment.getTotalAmount())
+            .status(true)
+            .build();
+    }
+
+    private Payment payment(PaymentStatus status, int amount) {
+        return Payment.builder()
+            .paymentId(UUID.randomUUID())
+            .orderId(UUID.randomUUID())
+            .orderName("페퍼로니 피자")
+            .totalAmount(amount)
+            .balanceAmount(amount)
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    private PaymentConfirmRequest request(Payment payment, int amount) {
+        return new PaymentConfirmRequest(payment.getPaymentId(), payment.getOrderId(), amount);
+    }
+}
@@ -0,0 +1,144 @@
+package com.delivery.justonebite.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.delivery.justonebite.payment.domain.entity.Payment;
+import com.delivery.justonebite.payment.domain.entity.PaymentStatus;
+import com.delivery.justonebite.payment.projection.PaymentCancelProjection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동시 부분 취소 시 잔액 정합성 검증
+ * <p>
+ * 요청마다 별도 트랜잭션(커밋 포함)으로 실행해야 하므로 테스트 메서드 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PaymentCancelWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentCancelWriterTest {
+
+    private static final int TOTAL_AMOUNT = 30_000;
+    private static final int CANCEL_AMOUNT = 100;
+    private static final int REQUESTS = 500;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private PaymentCancelWriter paymentCancelWriter;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID paymentId;
+
+    @BeforeEach
+    void setUp() {
+        Payment payment = Payment.builder()
+            .orderId(UUID.randomUUID())
+            .orderName("동시 취소 테스트 주문")
+            .totalAmount(TOTAL_AMOUNT)
+            .balanceAmount(TOTAL_AMOUNT)
+            .status(PaymentStatus.DONE)
+            .createdAt(LocalDateTime.now())
+            .approvedAt(LocalDateTime.now())
+            .build();
+        paymentId = paymentRepository.saveAndFlush(payment).getPaymentId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("UPDATE h_payment SET last_transaction_id = NULL WHERE payment_id = ?", paymentId);
+        jdbcTemplate.update("DELETE FROM h_transaction WHERE payment_id = ?", paymentId);
+        jdbcTemplate.update("DELETE FROM h_payment WHERE payment_id = ?", paymentId);
+    }
+
+    @Test
+    @DisplayName("cancel : 잔액보다 많은 부분 취소가 동시에 들어와도 잔액만큼만 성공하고 거래 내역과 일치")
+    void concurrentPartialCancel() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Optional<PaymentCancelProjection>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> paymentCancelWriter.cancel(
+                        paymentId, CANCEL_AMOUNT, "부분 취소", LocalDateTime.now()));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int canceled = 0;
+            for (Future<Optional<PaymentCancelProjection>> future : futures) {
+                Optional<PaymentCancelProjection> result = future.get();
+                if (result.isPresent()) {
+                    succeeded++;
+                    if (result.get().status() == PaymentStatus.CANCELED) {
+                        canceled++;
+                    }
+                }
+            }
+
+            int expectedSucceeded = TOTAL_AMOUNT / CANCEL_AMOUNT;
+            assertThat(succeeded).isEqualTo(expectedSucceeded);
+            // 잔액을 0 으로 만든 마지막 요청 한 건만 전액 취소 상태
+            assertThat(canceled).isEqualTo(1);
+
+            Payment payment = paymentRepository.findByPaymentId(paymentId).orElseThrow();
+            assertThat(payment.getBalanceAmount()).isZero();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+
+            Integer cancelledSum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM h_transaction WHERE payment_id = ?", Integer.class, paymentId);
+            Integer transactionCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM h_transaction WHERE payment_id = ?", Integer.class, paymentId);
+            assertThat(cancelledSum).isEqualTo(TOTAL_AMOUNT);
+            assertThat(transactionCount).isEqualTo(expectedSucceeded);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("cancel : 잔액보다 큰 금액은 차감하지 않음")
+    void cancelAmountExceeded() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Optional<PaymentCancelProjection> result = transactionTemplate.execute(status ->
+            paymentCancelWriter.cancel(paymentId, TOTAL_AMOUNT + CANCEL_AMOUNT, "초과 취소", LocalDateTime.now()));
+
+        assertThat(result).isEmpty();
+        assertThat(paymentRepository.findByPaymentId(paymentId).orElseThrow().getBalanceAmount())
+            .isEqualTo(TOTAL_AMOUNT);
+    }
+}
@@ -0,0 +1,162 @@
+package com.delivery.justonebite.settlement.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.delivery.justonebite.settlement.domain.repository.SettlementCheckpointRepository;
+import com.delivery.justonebite.settlement.domain.repository.SettlementWriter;
+import com.delivery.justonebite.settlement.projection.SettlementUnit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementServiceTest {
+
+    private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private SettlementWriter settlementWriter;
+
+    @Mock
+    private SettlementCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(settlementService, "unitSize", 2);
+        ReflectionTestUtils.setField(settlementService, "parallelism", 2);
+        ReflectionTestUtils.setField(settlementService, "maxBackfillDays", 31);
+        lenient().when(transactionTemplate.execute(any()))
+            .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("정산 : 작업 단위가 없으면 하루치 거래 집계 / 단위 생성 후 모든 단위를 정산하고 집계 삭제")
+    void settleCreatesUnits() {
+        SettlementUnit first = unit(1);
+        SettlementUnit second = unit(2);
+        given(checkpointRepository.existsUnits(SETTLEMENT_DATE)).willReturn(false);
+        given(checkpointRepository.findUnfinishedUnits(SETTLEMENT_DATE)).willReturn(List.of(first, second));
+        given(settlementWriter.settleUnit(eq(SETTLEMENT_DATE), any(), any())).willReturn(2);
+
+        long settled = settlementService.settle(SETTLEMENT_DATE);
+
+        assertThat(settled).isEqualTo(4);
+        then(settlementWriter).should().aggregateDay(SETTLEMENT_DATE);
+        then(checkpointRepository).should().createUnits(eq(SETTLEMENT_DATE), eq(2), any(LocalDateTime.class));
+        then(checkpointRepository).should().markDone(eq(SETTLEMENT_DATE), eq(1), eq(2), any());
+        then(checkpointRepository).should().markDone(eq(SETTLEMENT_DATE), eq(2), eq(2), any());
+        then(settlementWriter).should().clearDay(SETTLEMENT_DATE);
+    }
+
+    @Test
+    @DisplayName("정산 재실행 : 이미 작업 단위가 있으면 완료되지 않은 단위만 정산")
+    void settleResumesUnfinishedUnits() {
+        SettlementUnit remaining = unit(2);
+        given(checkpointRepository.existsUnits(SETTLEMENT_DATE)).willReturn(true);
+        given(checkpointRepository.findUnfinishedUnits(SETTLEMENT_DATE)).willReturn(List.of(remaining));
+        given(settlementWriter.settleUnit(eq(SETTLEMENT_DATE), eq(remaining), any())).willReturn(1);
+
+        long settled = settlementService.settle(SETTLEMENT_DATE);
+
+        assertThat(settled).isEqualTo(1);
+        then(settlementWriter).should(never()).aggregateDay(any());
+        then(checkpointRepository).should(never()).createUnits(any(), anyInt(), any());
+        then(settlementWriter).should().settleUnit(eq(SETTLEMENT_DATE), eq(remaining), any());
+    }
+
+    @Test
+    @DisplayName("정산 실패 : 실패한 단위는 FAILED 로 기록하고 나머지 단위는 계속 처리한 뒤 예외")
+    void settleUnitFailed() {
+        SettlementUnit failing = unit(1);
+        SettlementUnit succeeding = unit(2);
+        given(checkpointRepository.existsUnits(SETTLEMENT_DATE)).willReturn(true);
+        given(checkpointRepository.findUnfinishedUnits(SETTLEMENT_DATE)).willReturn(List.of(failing, succeeding));
+        given(settlementWriter.settleUnit(eq(SETTLEMENT_DATE), eq(failing), any()))
+            .willThrow(new IllegalStateException("deadlock"));
+        given(settlementWriter.settleUnit(eq(SETTLEMENT_DATE), eq(succeeding), any())).willReturn(2);
+
+        assertThatThrownBy(() -> settlementService.settle(SETTLEMENT_DATE))
+            .isInstanceOf(IllegalStateException.class);
+
+        then(checkpointRepository).should().markFailed(eq(SETTLEMENT_DATE), eq(1), anyString(), any());
+        then(checkpointRepository).should().markDone(eq(SETTLEMENT_DATE), eq(2), eq(2), any());
+        then(checkpointRepository).should(never()).markDone(eq(SETTLEMENT_DATE), eq(1), anyInt(), any());
+        then(settlementWriter).should(never()).clearDay(any());
+    }
+
+    @Test
+    @DisplayName("정산일까지 정산 : 완료되지 않은 정산일을 먼저 처리하고, 마지막 완료일 다음 날부터 누락된 정산일 정산")
+    void settleUntilResumesAndBackfills() {
+        LocalDate unfinished = SETTLEMENT_DATE.minusDays(5);
+        given(checkpointRepository.findUnfinishedDates()).willReturn(List.of(unfinished));
+        given(checkpointRepository.findLastCompletedDate()).willReturn(Optional.of(SETTLEMENT_DATE.minusDays(3)));
+        given(checkpointRepository.existsUnits(any())).willReturn(true);
+        given(checkpointRepository.findUnfinishedUnits(any())).willReturn(List.of());
+
+        settlementService.settleUntil(SETTLEMENT_DATE);
+
+        InOrder inOrder = inOrder(checkpointRepository);
+        for (LocalDate date : List.of(unfinished, SETTLEMENT_DATE.minusDays(2), SETTLEMENT_DATE.minusDays(1), SETTLEMENT_DATE)) {
+            inOrder.verify(checkpointRepository).findUnfinishedUnits(date);
+        }
+        then(checkpointRepository).should(never()).findUnfinishedUnits(SETTLEMENT_DATE.minusDays(3));
+    }
+
+    @Test
+    @DisplayName("정산일까지 정산 : 한 정산일이 실패해도 나머지 정산일은 처리한 뒤 예외, 누락 구간은 최대 일수까지만")
+    void settleUntilContinuesAfterFailedDate() {
+        ReflectionTestUtils.setField(settlementService, "maxBackfillDays", 2);
+        LocalDate failing = SETTLEMENT_DATE.minusDays(1);
+        given(checkpointRepository.findUnfinishedDates()).willReturn(List.of());
+        given(checkpointRepository.findLastCompletedDate()).willReturn(Optional.of(SETTLEMENT_DATE.minusDays(10)));
+        given(checkpointRepository.existsUnits(any())).willReturn(true);
+        given(checkpointRepository.findUnfinishedUnits(failing)).willThrow(new IllegalStateException("timeout"));
+        given(checkpointRepository.findUnfinishedUnits(SETTLEMENT_DATE)).willReturn(List.of());
+
+        assertThatThrownBy(() -> settlementService.settleUntil(SETTLEMENT_DATE))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(failing.toString());
+
+        then(checkpointRepository).should().findUnfinishedUnits(SETTLEMENT_DATE);
+        then(checkpointRepository).should(never()).findUnfinishedUnits(SETTLEMENT_DATE.minusDays(2));
+    }
+
+    private SettlementUnit unit(int unitNo) {
+        return new SettlementUnit(unitNo, UUID.randomUUID(), UUID.randomUUID());
+    }
+}
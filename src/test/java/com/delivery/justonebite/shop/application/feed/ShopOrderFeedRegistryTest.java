@@ -0,0 +1,103 @@
+package com.delivery.justonebite.shop.application.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.delivery.justonebite.order.domain.enums.OrderStatus;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class ShopOrderFeedRegistryTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    private ShopOrderFeedRegistry registry;
+    private final UUID shopId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new ShopOrderFeedRegistry(BUFFER_SIZE, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("broadcast : 구독 중인 가게의 연결에 순서대로 전송")
+    void broadcast() {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        registry.register(shopId, emitter);
+
+        registry.broadcast(message(shopId, OrderStatus.PENDING));
+        registry.broadcast(message(shopId, OrderStatus.ORDER_ACCEPTED));
+        registry.broadcast(message(UUID.randomUUID(), OrderStatus.PENDING));
+
+        waitUntil(() -> emitter.sent.size() == 2);
+        assertThat(registry.countConnections(shopId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("broadcast : 전송이 밀려 버퍼가 가득 찬 연결만 종료하고 다른 연결은 유지")
+    void broadcastDisconnectsSlowConnection() {
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter fast = new RecordingEmitter(new CountDownLatch(0));
+        registry.register(shopId, slow);
+        registry.register(shopId, fast);
+
+        // 느린 연결은 첫 메시지 전송에서 멈춰 있으므로 이후 메시지는 버퍼에 쌓임
+        for (int i = 0; i < BUFFER_SIZE + 2; i++) {
+            registry.broadcast(message(shopId, OrderStatus.PENDING));
+            int expected = i + 1;
+            waitUntil(() -> fast.sent.size() == expected);
+        }
+
+        assertThat(registry.countConnections(shopId)).isEqualTo(1);
+        assertThat(slow.sent).isEmpty();
+        stuck.countDown();
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private ShopOrderFeedMessage message(UUID targetShopId, OrderStatus status) {
+        return new ShopOrderFeedMessage(targetShopId, ShopOrderFeedEventType.of(status), UUID.randomUUID(), status, null);
+    }
+
+    // 실제 응답 대신 전송 내용을 기록하며, latch 가 열릴 때까지 전송을 지연시키는 emitter
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch latch;
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder);
+        }
+    }
+}
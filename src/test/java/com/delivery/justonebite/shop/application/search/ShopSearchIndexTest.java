@@ -0,0 +1,100 @@
+package com.delivery.justonebite.shop.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.delivery.justonebite.shop.projection.ShopSearchDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShopSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final UUID chickenShopId = UUID.randomUUID();
+    private final UUID pizzaShopId = UUID.randomUUID();
+    private final UUID bunsikShopId = UUID.randomUUID();
+
+    private ShopSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ShopSearchIndex();
+        index.upsert(new ShopSearchDocument(chickenShopId, "BBQ 황금올리브 치킨", "바삭한 후라이드 전문점",
+            List.of("치킨"), List.of("황금올리브", "양념치킨"), NOW.minusDays(2)));
+        index.upsert(new ShopSearchDocument(pizzaShopId, "피자나라 치킨공주", "피자와 치킨을 한번에",
+            List.of("피자", "치킨"), List.of("페퍼로니 피자"), NOW.minusDays(1)));
+        index.upsert(new ShopSearchDocument(bunsikShopId, "엄마손 분식", "떡볶이 튀김 순대",
+            List.of("분식"), List.of("치즈떡볶이"), NOW));
+    }
+
+    @Test
+    @DisplayName("검색 : 가게명 / 카테고리 / 상품명 / 설명에서 부분 일치, 가중치 순 정렬")
+    void searchRanking() {
+        ShopSearchIndex.Hits hits = index.search("피자", 0, 10);
+
+        // 피자가 포함된 필드가 있는 가게만 일치
+        assertThat(hits.total()).isEqualTo(1);
+        assertThat(hits.shopIds()).containsExactly(pizzaShopId);
+
+        // 두 가게 모두 가게명에 치킨 포함 -> 최근 등록 순
+        assertThat(index.search("치킨", 0, 10).shopIds()).containsExactly(pizzaShopId, chickenShopId);
+        // 상품명만 일치
+        assertThat(index.search("떡볶이", 0, 10).shopIds()).containsExactly(bunsikShopId);
+    }
+
+    @Test
+    @DisplayName("검색 : 초성으로 검색 (ㅊㅋ -> 치킨, 부분 입력 치ㅋ 포함)")
+    void searchChoseong() {
+        assertThat(index.search("ㅊㅋ", 0, 10).shopIds()).containsExactly(pizzaShopId, chickenShopId);
+        assertThat(index.search("치ㅋ", 0, 10).shopIds()).containsExactly(pizzaShopId, chickenShopId);
+        assertThat(index.search("ㅂㅅ", 0, 10).shopIds()).containsExactly(bunsikShopId);
+    }
+
+    @Test
+    @DisplayName("검색 : 대소문자 무시, 여러 단어는 모두 일치하는 가게만")
+    void searchMultipleTerms() {
+        assertThat(index.search("bbq", 0, 10).shopIds()).containsExactly(chickenShopId);
+        assertThat(index.search("치킨 피자", 0, 10).shopIds()).containsExactly(pizzaShopId);
+        assertThat(index.search("치킨 순대", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 : 전체 일치 건수와 offset / limit 페이지")
+    void searchPaging() {
+        ShopSearchIndex.Hits hits = index.search("ㅊㅋ", 1, 1);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.shopIds()).containsExactly(chickenShopId);
+    }
+
+    @Test
+    @DisplayName("갱신 / 삭제 : 변경된 문서로만 검색되고 삭제된 가게는 제외")
+    void upsertAndRemove() {
+        index.upsert(new ShopSearchDocument(chickenShopId, "BBQ 황금올리브", "바삭한 후라이드 전문점",
+            List.of("치킨"), List.of(), NOW.minusDays(2)));
+        index.remove(pizzaShopId);
+
+        assertThat(index.search("올리브", 0, 10).shopIds()).containsExactly(chickenShopId);
+        assertThat(index.search("양념", 0, 10).total()).isZero();
+        assertThat(index.search("치킨", 0, 10).shopIds()).containsExactly(chickenShopId);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.deletedRatio()).isEqualTo(2.0 / 4);
+    }
+
+    @Test
+    @DisplayName("카테고리별 가게 수 : 검색과 같은 일치 조건으로 집계하고 삭제된 가게는 제외")
+    void countCategories() {
+        assertThat(index.countCategories("치킨")).containsExactlyInAnyOrderEntriesOf(Map.of("치킨", 2L, "피자", 1L));
+        assertThat(index.countCategories("떡볶이")).containsExactlyInAnyOrderEntriesOf(Map.of("분식", 1L));
+
+        index.remove(pizzaShopId);
+
+        assertThat(index.countCategories("ㅊㅋ")).containsExactlyInAnyOrderEntriesOf(Map.of("치킨", 1L));
+        assertThat(index.countCategories("순대 피자")).isEmpty();
+    }
+}
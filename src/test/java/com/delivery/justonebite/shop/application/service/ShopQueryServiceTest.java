@@ -1,20 +1,35 @@
 package com.delivery.justonebite.shop.application.service;
 
 import com.delivery.justonebite.global.exception.custom.CustomException;
+import com.delivery.justonebite.global.exception.response.ErrorCode;
 import com.delivery.justonebite.review.application.service.ReviewAggregationService;
+import com.delivery.justonebite.shop.application.cache.ShopCatalogCache;
+import com.delivery.justonebite.shop.application.cache.ShopCategoryFacetCache;
+import com.delivery.justonebite.shop.application.cache.ShopDetailCache;
+import com.delivery.justonebite.shop.application.region.ShopRegionCache;
+import com.delivery.justonebite.shop.application.search.ShopSearchIndex;
+import com.delivery.justonebite.shop.application.search.ShopSearchIndexer;
 import com.delivery.justonebite.shop.domain.entity.Shop;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.shop.presentation.dto.request.ShopSearchRequest;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopCategoryFacetResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopDetailResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopSearchResponse;
+import com.delivery.justonebite.shop.projection.CategoryCountProjection;
 import com.delivery.justonebite.shop.projection.ShopAvgProjection;
+import com.delivery.justonebite.shop.projection.ShopRegion;
+import com.delivery.justonebite.user.domain.entity.Address;
+import com.delivery.justonebite.user.domain.repository.AddressRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -29,6 +44,13 @@ class ShopQueryServiceTest {
 
     private ShopRepository shopRepository;
     private ReviewAggregationService reviewAggregationService;
+    private ShopSearchIndexer shopSearchIndexer;
+    private AddressRepository addressRepository;
+    private ShopRegionCache shopRegionCache;
+    private ShopCatalogCache shopCatalogCache;
+    private ShopCategoryFacetCache shopCategoryFacetCache;
+    private ShopDetailCache shopDetailCache;
+    private TransactionTemplate transactionTemplate;
     private ShopQueryService shopQueryService;
 
     private UUID shopId;
@@ -37,20 +59,52 @@ class ShopQueryServiceTest {
     void setUp() {
         shopRepository = mock(ShopRepository.class);
         reviewAggregationService = mock(ReviewAggregationService.class);
-        shopQueryService = new ShopQueryService(shopRepository, reviewAggregationService);
+        shopSearchIndexer = mock(ShopSearchIndexer.class);
+        addressRepository = mock(AddressRepository.class);
+        shopRegionCache = mock(ShopRegionCache.class);
+        shopCatalogCache = mock(ShopCatalogCache.class);
+        shopCategoryFacetCache = mock(ShopCategoryFacetCache.class);
+        shopDetailCache = mock(ShopDetailCache.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        // 트랜잭션 경계 없이 콜백 바로 실행
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        shopQueryService = new ShopQueryService(shopRepository, reviewAggregationService, shopSearchIndexer,
+                addressRepository, shopRegionCache, shopCatalogCache, shopCategoryFacetCache, shopDetailCache,
+                transactionTemplate);
         shopId = UUID.randomUUID();
     }
 
 
     @Test
-    @DisplayName("검색어가 있을 때 가게 이름/설명으로 검색")
+    @DisplayName("검색 인덱스가 준비된 경우 인덱스 결과 순서대로 가게 조회")
+    void searchShops_withIndex_success() {
+        ShopSearchRequest request = ShopSearchRequest.of("ㅊㅋ", 1, 10, "createdAt", "DESC");
+
+        Shop s1 = Shop.builder().id(UUID.randomUUID()).name("치킨 명가").build();
+        Shop s2 = Shop.builder().id(UUID.randomUUID()).name("바삭 치킨").build();
+        UUID deletedShopId = UUID.randomUUID();
+
+        given(shopSearchIndexer.search("ㅊㅋ", 10, 10))
+                .willReturn(Optional.of(new ShopSearchIndex.Hits(13, List.of(s2.getId(), deletedShopId, s1.getId()))));
+        given(shopRepository.findAllByIdInAndDeletedAtIsNull(List.of(s2.getId(), deletedShopId, s1.getId())))
+                .willReturn(List.of(s1, s2));
+        given(shopRepository.findAvgByIds(any())).willReturn(List.of());
+
+        Page<ShopSearchResponse> result = shopQueryService.searchShops(request);
+
+        assertThat(result.getTotalElements()).isEqualTo(13);
+        assertThat(result.getContent()).extracting(ShopSearchResponse::shopId)
+                .containsExactly(s2.getId(), s1.getId());
+        verify(shopRepository, never()).searchByKeyword(any(), any());
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 준비 전에는 DB 에서 가게 이름/설명/카테고리명으로 검색")
     void searchShops_withQuery_success() {
         ShopSearchRequest request = ShopSearchRequest.of("치킨", 0, 10, "createdAt", "DESC");
-        Pageable pageable = PageRequest.of(
-                request.page(),
-                request.size(),
-                Sort.by(Sort.Direction.fromString(request.direction()), request.sortBy())
-        );
+        // 검색은 관련도 순으로 정렬하므로 정렬 조건 없이 조회
+        Pageable pageable = PageRequest.of(request.page(), request.size());
 
         Shop s1 = Shop.builder()
                 .id(UUID.randomUUID())
@@ -67,7 +121,7 @@ class ShopQueryServiceTest {
         Page<Shop> shopPage = new PageImpl<>(List.of(s1, s2), pageable, 2);
 
 
-        given(shopRepository.searchByNameOrDescription(request.q(), pageable))
+        given(shopRepository.searchByKeyword(request.q(), pageable))
                 .willReturn(shopPage);
 
         ShopAvgProjection p1 = mock(ShopAvgProjection.class);
@@ -87,7 +141,7 @@ class ShopQueryServiceTest {
         assertThat(result.getContent().get(0).averageRating()).isEqualTo(4.5);
 
 
-        verify(shopRepository).searchByNameOrDescription(request.q(), pageable);
+        verify(shopRepository).searchByKeyword(request.q(), pageable);
         verify(shopRepository).findAvgByIds(any());
     }
 
@@ -129,46 +183,229 @@ class ShopQueryServiceTest {
     }
 
     @Test
-    @DisplayName("가게 상세조회")
+    @DisplayName("가게 목록 캐시 : 현재 버전에 캐시된 페이지가 있으면 DB 조회 없이 반환")
+    void searchShops_catalogCacheHit() {
+        ShopSearchRequest request = ShopSearchRequest.of(null, 0, 10, "createdAt", "DESC");
+        ShopSearchResponse cached = ShopSearchResponse.from(
+                Shop.builder().id(UUID.randomUUID()).name("피자천국").build(), 4.5);
+
+        given(shopCatalogCache.isCacheable(request)).willReturn(true);
+        given(shopCatalogCache.currentVersion()).willReturn("7");
+        given(shopCatalogCache.find(request, "7"))
+                .willReturn(Optional.of(new ShopCatalogCache.CachedPage(List.of(cached), 31)));
+
+        Page<ShopSearchResponse> result = shopQueryService.searchShops(request);
+
+        assertThat(result.getTotalElements()).isEqualTo(31);
+        assertThat(result.getContent()).containsExactly(cached);
+        verify(shopRepository, never()).findAll(any(Pageable.class));
+        verify(shopCatalogCache, never()).put(any(), any(), any());
+        // 캐시 적중 시 트랜잭션(DB 커넥션) 미사용
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("가게 목록 캐시 : 캐시에 없으면 DB 조회 후 조회 전에 읽은 버전으로 저장")
+    void searchShops_catalogCacheMiss() {
+        ShopSearchRequest request = ShopSearchRequest.of(null, 0, 10, "createdAt", "DESC");
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Shop s1 = Shop.builder().id(UUID.randomUUID()).name("피자천국").build();
+
+        given(shopCatalogCache.isCacheable(request)).willReturn(true);
+        given(shopCatalogCache.currentVersion()).willReturn("7");
+        given(shopCatalogCache.find(request, "7")).willReturn(Optional.empty());
+        given(shopRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(s1), pageable, 1));
+        given(shopRepository.findAvgByIds(any())).willReturn(List.of());
+
+        Page<ShopSearchResponse> result = shopQueryService.searchShops(request);
+
+        assertThat(result.getContent()).extracting(ShopSearchResponse::shopId).containsExactly(s1.getId());
+        verify(shopCatalogCache).put(eq(request), eq("7"),
+                eq(new ShopCatalogCache.CachedPage(result.getContent(), 1)));
+    }
+
+    @Test
+    @DisplayName("slice 모드 : 검색 인덱스 준비 전에는 COUNT 없이 DB 검색")
+    void searchShopSlice_withQuery() {
+        ShopSearchRequest request = ShopSearchRequest.of("치킨", 0, 10, "createdAt", "DESC");
+        Pageable pageable = PageRequest.of(0, 10);
+        Shop s1 = Shop.builder().id(UUID.randomUUID()).name("맛있는 치킨집").build();
+
+        given(shopSearchIndexer.search("치킨", 0, 10)).willReturn(Optional.empty());
+        given(shopRepository.searchSliceByKeyword("치킨", pageable))
+                .willReturn(new SliceImpl<>(List.of(s1), pageable, true));
+        given(shopRepository.findAvgByIds(any())).willReturn(List.of());
+
+        Slice<ShopSearchResponse> result = shopQueryService.searchShopSlice(request);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(ShopSearchResponse::shopId).containsExactly(s1.getId());
+        verify(shopRepository, never()).searchByKeyword(any(), any());
+    }
+
+    @Test
+    @DisplayName("slice 모드 : 검색 인덱스 결과도 전체 개수 없이 응답")
+    void searchShopSlice_withIndex() {
+        ShopSearchRequest request = ShopSearchRequest.of("치킨", 0, 10, "createdAt", "DESC");
+        Shop s1 = Shop.builder().id(UUID.randomUUID()).name("맛있는 치킨집").build();
+
+        given(shopSearchIndexer.search("치킨", 0, 10))
+                .willReturn(Optional.of(new ShopSearchIndex.Hits(11, List.of(s1.getId()))));
+        given(shopRepository.findAllByIdInAndDeletedAtIsNull(List.of(s1.getId()))).willReturn(List.of(s1));
+        given(shopRepository.findAvgByIds(any())).willReturn(List.of());
+
+        Slice<ShopSearchResponse> result = shopQueryService.searchShopSlice(request);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(shopRepository, never()).searchSliceByKeyword(any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리별 가게 수 : 검색어가 없으면 전체 가게 기준 캐시 사용")
+    void searchCategoryFacets_noQuery() {
+        List<ShopCategoryFacetResponse> cached = List.of(new ShopCategoryFacetResponse("치킨", 42));
+        given(shopCategoryFacetCache.findAll()).willReturn(cached);
+
+        List<ShopCategoryFacetResponse> result = shopQueryService.searchCategoryFacets(" ");
+
+        assertThat(result).isEqualTo(cached);
+        verify(shopRepository, never()).countCategoriesByKeyword(any());
+    }
+
+    @Test
+    @DisplayName("카테고리별 가게 수 : 검색어가 있으면 목록 검색과 같은 검색 인덱스 결과로 집계")
+    void searchCategoryFacets_withQuery() {
+        given(shopSearchIndexer.countCategories("바삭"))
+                .willReturn(Optional.of(Map.of("피자", 1L, "치킨", 3L, "분식", 1L)));
+
+        List<ShopCategoryFacetResponse> result = shopQueryService.searchCategoryFacets("바삭");
+
+        assertThat(result).containsExactly(
+                new ShopCategoryFacetResponse("치킨", 3),
+                new ShopCategoryFacetResponse("분식", 1),
+                new ShopCategoryFacetResponse("피자", 1));
+        verify(shopRepository, never()).countCategoriesByKeyword(any());
+        verify(shopCategoryFacetCache, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("카테고리별 가게 수 : 검색 인덱스가 준비되기 전에는 DB 집계 쿼리 한 번으로 조회")
+    void searchCategoryFacets_indexNotReady() {
+        given(shopSearchIndexer.countCategories("바삭")).willReturn(Optional.empty());
+        CategoryCountProjection chicken = mock(CategoryCountProjection.class);
+        given(chicken.getCategoryName()).willReturn("치킨");
+        given(chicken.getShopCount()).willReturn(3L);
+        given(shopRepository.countCategoriesByKeyword("바삭")).willReturn(List.of(chicken));
+
+        List<ShopCategoryFacetResponse> result = shopQueryService.searchCategoryFacets("바삭");
+
+        assertThat(result).containsExactly(new ShopCategoryFacetResponse("치킨", 3));
+        verify(shopCategoryFacetCache, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("배달 지역 가게 목록 : 기본 배송지 지역의 캐시된 가게 ID 순서대로 조회")
+    void searchNearbyShops_success() {
+        Long userId = 1L;
+        Address address = Address.create(null, "서울특별시", "종로구", "낙원동", "종로 1길 23", true);
+        given(addressRepository.findByUser_IdAndIsDefaultTrue(userId)).willReturn(Optional.of(address));
+
+        Shop s1 = Shop.builder().id(UUID.randomUUID()).name("낙원 치킨").build();
+        Shop s2 = Shop.builder().id(UUID.randomUUID()).name("낙원 분식").build();
+        ShopRegion region = new ShopRegion("서울특별시", "종로구", "낙원동");
+        given(shopRegionCache.findPage(region, 10, 10))
+                .willReturn(new ShopRegionCache.RegionPage(12, List.of(s2.getId(), s1.getId())));
+        given(shopRepository.findAllByIdInAndDeletedAtIsNull(List.of(s2.getId(), s1.getId()))).willReturn(List.of(s1, s2));
+        given(shopRepository.findAvgByIds(any())).willReturn(List.of());
+
+        Page<ShopSearchResponse> result = shopQueryService.searchNearbyShops(userId, 1, 10);
+
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result.getContent()).extracting(ShopSearchResponse::shopId)
+                .containsExactly(s2.getId(), s1.getId());
+        verify(shopRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("배달 지역 가게 목록 : 기본 배송지가 없으면 예외")
+    void searchNearbyShops_addressNotFound() {
+        given(addressRepository.findByUser_IdAndIsDefaultTrue(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> shopQueryService.searchNearbyShops(1L, 0, 10))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ADDRESS_NOT_FOUND);
+
+        verify(shopRegionCache, never()).findPage(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("가게 상세조회 - 캐시 미스 시 가게 + 카테고리를 한 번에 조회하고 엔티티의 평균 평점 사용")
     void getShopDetail_success() {
 
         Shop shop = Shop.builder()
                 .id(shopId)
                 .name("치킨스토리")
                 .description("국내산 닭 사용")
+                .averageRating(BigDecimal.valueOf(4.6))
                 .build();
 
-        given(shopRepository.findById(shopId)).willReturn(Optional.of(shop));
-
-        ShopAvgProjection p1 = mock(ShopAvgProjection.class);
-        given(p1.getShopId()).willReturn(shopId);
-        given(p1.getAverageRating()).willReturn(BigDecimal.valueOf(4.6));
-
-        lenient().when(shopRepository.findAvgByIds(anyList()))
-                .thenReturn(List.of(p1));
+        given(shopDetailCache.currentVersion(shopId)).willReturn("3");
+        given(shopDetailCache.find(shopId, "3")).willReturn(Optional.empty());
+        given(shopRepository.findDetailById(shopId)).willReturn(Optional.of(shop));
+        given(shopDetailCache.put(any(), eq("3"))).willAnswer(invocation ->
+                new ShopDetailCache.CachedDetail("\"1-a\"", invocation.getArgument(0)));
+
+        ShopDetailCache.CachedDetail response = shopQueryService.getShopDetail(shopId);
+
+        // 버전은 DB 조회 전에 읽고, 저장은 조회 전에 읽은 버전 키에
+        InOrder inOrder = inOrder(shopDetailCache, shopRepository);
+        inOrder.verify(shopDetailCache).currentVersion(shopId);
+        inOrder.verify(shopRepository).findDetailById(shopId);
+        inOrder.verify(shopDetailCache).put(any(), eq("3"));
+
+        assertThat(response.eTag()).isEqualTo("\"1-a\"");
+        assertThat(response.detail().name()).isEqualTo("치킨스토리");
+        assertThat(response.detail().averageRating().doubleValue()).isEqualTo(4.6);
+        verify(shopRepository).findDetailById(shopId);
+        verify(shopRepository, never()).findById(any());
+        verify(shopRepository, never()).findAvgByIds(any());
+    }
 
-        ShopDetailResponse response = shopQueryService.getShopDetail(shopId);
+    @Test
+    @DisplayName("가게 상세조회 - 캐시 히트 시 DB 조회 없음")
+    void getShopDetail_cacheHit() {
+        ShopDetailResponse detail = ShopDetailResponse.builder()
+                .shopId(shopId)
+                .name("치킨스토리")
+                .averageRating(BigDecimal.valueOf(4.6))
+                .build();
+        given(shopDetailCache.currentVersion(shopId)).willReturn("3");
+        given(shopDetailCache.find(shopId, "3"))
+                .willReturn(Optional.of(new ShopDetailCache.CachedDetail("\"1-a\"", detail)));
 
+        ShopDetailCache.CachedDetail response = shopQueryService.getShopDetail(shopId);
 
-        assertThat(response).isNotNull();
-        assertThat(response.name()).isEqualTo("치킨스토리");
-        assertThat(response.averageRating().doubleValue()).isEqualTo(4.6);
-        verify(shopRepository).findById(shopId);
-        verify(shopRepository).findAvgByIds(List.of(shopId));
+        assertThat(response.detail()).isEqualTo(detail);
+        verifyNoInteractions(shopRepository);
+        verify(shopDetailCache, never()).put(any(), any());
     }
 
 
     @Test
     @DisplayName("가게 상세조회 - 존재하지 않는 가게 ID로 요청")
     void getShopDetail_notFound() {
-        given(shopRepository.findById(shopId)).willReturn(Optional.empty());
+        given(shopDetailCache.currentVersion(shopId)).willReturn("3");
+        given(shopDetailCache.find(shopId, "3")).willReturn(Optional.empty());
+        given(shopRepository.findDetailById(shopId)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> shopQueryService.getShopDetail(shopId))
                 .isInstanceOf(CustomException.class)
                 .hasMessageContaining("존재하지 않는 가게");
 
 
-        verify(shopRepository).findById(shopId);
-        verify(shopRepository, never()).findAvgByIds(any());
+        verify(shopRepository).findDetailById(shopId);
+        verify(shopDetailCache, never()).put(any(), any());
     }
 }
@@ -69,7 +69,7 @@ class ShopReviewServiceTest {
         given(reviewService.getByShop(shopId, pageable))
                 .willReturn(new PageImpl<>(List.of(r1, r2), pageable, 2L));
 
-        ShopReviewResponse response = shopReviewService.getReviewsByShop(shopId, pageable);
+        ShopReviewResponse response = shopReviewService.getReviewsByShop(shopId, pageable, false);
 
         assertThat(response).isNotNull();
         assertThat(response.content()).hasSize(2);
@@ -78,6 +78,35 @@ class ShopReviewServiceTest {
         verify(reviewService).getByShop(shopId, pageable);
     }
 
+    @Test
+    @DisplayName("slice 모드에서는 전체 개수 없이 다음 페이지 존재 여부만 응답")
+    void getReviewsByShop_slice() {
+        Pageable pageable = PageRequest.of(0, 1);
+        ReviewResponse r1 = new ReviewResponse(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                1L,
+                shopId,
+                "후라이드 치킨 정말 맛있어요!",
+                5,
+                LocalDateTime.parse("2025-10-14T12:00:00"),
+                LocalDateTime.parse("2025-10-14T12:10:00"),
+                1L
+        );
+
+        given(shopRepository.existsById(shopId)).willReturn(true);
+        given(reviewService.getSliceByShop(shopId, pageable))
+                .willReturn(new SliceImpl<>(List.of(r1), pageable, true));
+
+        ShopReviewResponse response = shopReviewService.getReviewsByShop(shopId, pageable, true);
+
+        assertThat(response.totalElements()).isNull();
+        assertThat(response.totalPages()).isNull();
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.content()).containsExactly(r1);
+        verify(reviewService, never()).getByShop(any(), any());
+    }
+
 
 
     @Test
@@ -86,7 +115,7 @@ class ShopReviewServiceTest {
         Pageable pageable = PageRequest.of(0, 5);
         given(shopRepository.existsById(shopId)).willReturn(false);
 
-        assertThatThrownBy(() -> shopReviewService.getReviewsByShop(shopId, pageable))
+        assertThatThrownBy(() -> shopReviewService.getReviewsByShop(shopId, pageable, false))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SHOP_NOT_FOUND);
 
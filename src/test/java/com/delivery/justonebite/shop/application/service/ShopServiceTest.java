@@ -8,14 +8,20 @@ import com.delivery.justonebite.order.domain.repository.OrderHistoryRepository;
 import com.delivery.justonebite.order.domain.repository.OrderItemRepository;
 import com.delivery.justonebite.order.domain.repository.OrderRepository;
 import com.delivery.justonebite.review.repository.ReviewRepository;
+import com.delivery.justonebite.shop.application.feed.ShopOrderFeedRegistry;
 import com.delivery.justonebite.shop.domain.entity.Category;
 import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.shop.domain.event.ShopCatalogChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopCategoriesChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopRegionChangedEvent;
+import com.delivery.justonebite.shop.domain.event.ShopSearchDocumentChangedEvent;
 import com.delivery.justonebite.shop.domain.repository.CategoryRepository;
 import com.delivery.justonebite.shop.domain.repository.ShopRepository;
 import com.delivery.justonebite.shop.presentation.dto.request.ShopCreateRequest;
 import com.delivery.justonebite.shop.presentation.dto.request.ShopUpdateRequest;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopDeleteResponse;
 import com.delivery.justonebite.shop.presentation.dto.response.ShopUpdateResponse;
+import com.delivery.justonebite.shop.projection.ShopRegion;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +29,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +54,8 @@ class ShopServiceTest {
     private OrderHistoryRepository orderHistoryRepository;
     private OrderItemRepository orderItemRepository;
     private ReviewRepository reviewRepository;
+    private ShopOrderFeedRegistry shopOrderFeedRegistry;
+    private ApplicationEventPublisher eventPublisher;
 
     private ShopService shopService;
 
@@ -59,8 +71,10 @@ class ShopServiceTest {
         orderHistoryRepository = mock(OrderHistoryRepository.class);
         orderItemRepository = mock(OrderItemRepository.class);
         reviewRepository = mock(ReviewRepository.class);
+        shopOrderFeedRegistry = mock(ShopOrderFeedRegistry.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
 
-        shopService = new ShopService(shopRepository, categoryRepository, orderRepository, orderHistoryRepository, orderItemRepository);
+        shopService = new ShopService(shopRepository, categoryRepository, orderRepository, orderHistoryRepository, orderItemRepository, shopOrderFeedRegistry, eventPublisher);
 
         // 기본 유저 & 샵 세팅
         customer = User.builder()
@@ -121,6 +135,35 @@ class ShopServiceTest {
         verify(shopRepository).save(any(Shop.class));
     }
 
+    @Test
+    @DisplayName("가게 등록 시 연결된 카테고리로 카테고리 변경 이벤트 발행")
+    void createShop_publishesCategoriesChanged() {
+        List<String> categories = List.of("치킨", "피자");
+        ShopCreateRequest req = ShopCreateRequest.builder()
+                .name("새로운 가게")
+                .registrationNumber("999-88-7777")
+                .province("서울")
+                .city("강남구")
+                .district("역삼동")
+                .address("테헤란로 123")
+                .phoneNumber("02-9876-5432")
+                .description("신규 오픈!")
+                .operatingHour("09:00 - 21:00")
+                .categories(categories)
+                .build();
+
+        Category chicken = Category.builder().categoryName("치킨").build();
+        Category pizza = Category.builder().categoryName("피자").build();
+        ReflectionTestUtils.setField(chicken, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(pizza, "id", UUID.randomUUID());
+        given(categoryRepository.findAllByCategoryNameIn(categories)).willReturn(List.of(chicken, pizza));
+        given(shopRepository.save(any(Shop.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        shopService.createShop(req, owner.getId(), UserRole.OWNER);
+
+        verify(eventPublisher).publishEvent(new ShopCategoriesChangedEvent(Set.of("치킨", "피자"), Set.of()));
+    }
+
     @Test
     @DisplayName("CUSTOMER는 가게 등록이 불가능")
     void createShop_invalidRole() {
@@ -176,6 +219,8 @@ class ShopServiceTest {
         assertThat(updated).isNotNull();
         assertThat(updated.updatedBy()).isEqualTo(owner.getId());
         verify(shopRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new ShopSearchDocumentChangedEvent(shop.getId()));
+        verify(eventPublisher).publishEvent(new ShopCatalogChangedEvent(shop.getId()));
     }
 
     @Test
@@ -212,5 +257,55 @@ class ShopServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.deleteAcceptStatus()).isNotNull();
         verify(shopRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new ShopSearchDocumentChangedEvent(shop.getId()));
+        verify(eventPublisher).publishEvent(new ShopCatalogChangedEvent(shop.getId()));
+        verify(eventPublisher).publishEvent(new ShopRegionChangedEvent(ShopRegion.of(shop)));
+    }
+
+    @Test
+    @DisplayName("가게 삭제 시 연결된 카테고리를 제거 대상으로 카테고리 변경 이벤트 발행")
+    void deleteShop_publishesCategoriesRemoved() {
+        Category chicken = Category.builder().categoryName("치킨").build();
+        Category pizza = Category.builder().categoryName("피자").build();
+        ReflectionTestUtils.setField(chicken, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(pizza, "id", UUID.randomUUID());
+        shop.addCategory(chicken);
+        shop.addCategory(pizza);
+        given(shopRepository.findByIdAndDeletedAtIsNull(shop.getId())).willReturn(Optional.of(shop));
+        given(orderHistoryRepository.existsByOrder_Shop_IdAndStatusNot(shop.getId(), OrderStatus.COMPLETED))
+                .willReturn(false);
+
+        shopService.deleteShop(shop.getId(), owner.getId(), UserRole.OWNER);
+
+        verify(eventPublisher).publishEvent(new ShopCategoriesChangedEvent(Set.of(), Set.of("치킨", "피자")));
+    }
+
+    @Test
+    @DisplayName("OWNER가 본인 가게 주문 피드 구독")
+    void subscribeOrderFeed_success() {
+        SseEmitter emitter = new SseEmitter();
+        given(shopRepository.findById(shop.getId())).willReturn(Optional.of(shop));
+        given(shopOrderFeedRegistry.subscribe(shop.getId())).willReturn(emitter);
+
+        SseEmitter result = shopService.subscribeOrderFeed(shop.getId(), owner);
+
+        assertThat(result).isSameAs(emitter);
+    }
+
+    @Test
+    @DisplayName("OWNER가 다른 가게 주문 피드 구독 시 예외 발생")
+    void subscribeOrderFeed_notOwner() {
+        User otherOwner = User.builder()
+                .id(3L)
+                .email("other@gmail.com")
+                .name("다른 사장님")
+                .userRole(UserRole.OWNER)
+                .build();
+        given(shopRepository.findById(shop.getId())).willReturn(Optional.of(shop));
+
+        assertThatThrownBy(() -> shopService.subscribeOrderFeed(shop.getId(), otherOwner))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
+        verify(shopOrderFeedRegistry, never()).subscribe(any());
     }
 }
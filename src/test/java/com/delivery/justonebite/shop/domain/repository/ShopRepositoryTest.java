@@ -1,6 +1,8 @@
 package com.delivery.justonebite.shop.domain.repository;
 
+import com.delivery.justonebite.shop.domain.entity.Category;
 import com.delivery.justonebite.shop.domain.entity.Shop;
+import com.delivery.justonebite.shop.projection.CategoryCountProjection;
 import com.delivery.justonebite.shop.projection.ShopAvgProjection;
 import com.delivery.justonebite.user.domain.entity.User;
 import com.delivery.justonebite.user.domain.entity.UserRole;
@@ -13,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Commit;
 
 import java.math.BigDecimal;
@@ -21,6 +24,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 
 @DataJpaTest
@@ -33,6 +37,9 @@ class ShopRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     private User owner;
 
     @BeforeEach
@@ -52,22 +59,7 @@ class ShopRepositoryTest {
 
 
         //테스트용 가게 저장
-        shopRepository.save(
-                Shop.builder()
-                        .ownerId(owner.getId())
-                        .name("맛있는 치킨집")
-                        .registrationNumber("123-45-6789")
-                        .province("서울특별시")
-                        .city("종로구")
-                        .district("낙원동")
-                        .address("종로 1길 23")
-                        .phoneNumber("02-1234-1234")
-                        .description("바삭한 후라이드")
-                        .operatingHour("10:00 - 22:00")
-                        .createdBy(owner.getId())
-                        .updatedBy(owner.getId())
-                        .build()
-        );
+        shopRepository.save(shop("맛있는 치킨집", "바삭한 후라이드"));
 
 
     }
@@ -101,8 +93,8 @@ class ShopRepositoryTest {
 
     @Test
     @DisplayName("이름, 설명으로 가게 검색")
-    void findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase() {
-        Page<Shop> page = shopRepository.searchByNameOrDescription(
+    void searchByKeyword() {
+        Page<Shop> page = shopRepository.searchByKeyword(
                 "치킨",
                 PageRequest.of(0, 10)
         );
@@ -111,6 +103,69 @@ class ShopRepositoryTest {
         assertThat(page.getContent().get(0).getName()).contains("치킨");
     }
 
+    @Test
+    @DisplayName("가게 검색 (Slice) - 전체 개수 없이 다음 페이지 존재 여부 확인")
+    void searchSliceByKeyword() {
+        shopRepository.save(shop("테스트슬라이스 치킨", "후라이드 전문"));
+        shopRepository.saveAndFlush(shop("테스트슬라이스 피자", "화덕 피자"));
+
+        Slice<Shop> first = shopRepository.searchSliceByKeyword("테스트슬라이스", PageRequest.of(0, 1));
+        Slice<Shop> second = shopRepository.searchSliceByKeyword("테스트슬라이스", PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리명으로 가게 검색 - 가게명 일치가 카테고리 일치보다 먼저 정렬")
+    void searchByKeywordCategory() {
+        Category category = categoryRepository.save(Category.builder().categoryName("테스트족발보쌈").build());
+        Shop categoryShop = shopRepository.save(shop("장충동 왕할매", "직접 삶은 수육"));
+        categoryShop.addCategory(category);
+        shopRepository.saveAndFlush(categoryShop);
+        Shop nameShop = shopRepository.saveAndFlush(shop("테스트족발보쌈", "야식 전문"));
+
+        Page<Shop> page = shopRepository.searchByKeyword("테스트족발", PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Shop::getId)
+                .containsExactly(nameShop.getId(), categoryShop.getId());
+    }
+
+    @Test
+    @DisplayName("검색 결과의 카테고리별 가게 수 집계")
+    void countCategoriesByKeyword() {
+        Category chicken = categoryRepository.save(Category.builder().categoryName("테스트패싯치킨").build());
+        Category pizza = categoryRepository.save(Category.builder().categoryName("테스트패싯피자").build());
+        Shop first = shopRepository.save(shop("테스트패싯 가게 1", null));
+        Shop second = shopRepository.save(shop("테스트패싯 가게 2", null));
+        first.addCategory(chicken);
+        first.addCategory(pizza);
+        second.addCategory(chicken);
+        shopRepository.saveAll(List.of(first, second));
+        shopRepository.flush();
+
+        List<CategoryCountProjection> result = shopRepository.countCategoriesByKeyword("테스트패싯");
+
+        assertThat(result).extracting(CategoryCountProjection::getCategoryName, CategoryCountProjection::getShopCount)
+                .containsExactly(tuple("테스트패싯치킨", 2L), tuple("테스트패싯피자", 1L));
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 특수문자는 일반 문자로 검색")
+    void searchByKeywordEscapesWildcard() {
+        Shop discounted = shopRepository.save(shop("전품목 100% 국내산 치킨", null));
+        Shop other = shopRepository.saveAndFlush(shop("전품목 1000원 할인 치킨", null));
+
+        Page<Shop> page = shopRepository.searchByKeyword("전품목 100%", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Shop::getId)
+                .contains(discounted.getId())
+                .doesNotContain(other.getId());
+    }
+
     @Test
     @DisplayName("삭제되지 않은 가게 조회")
     void findByIdAndDeletedAtIsNull() {
@@ -121,4 +176,21 @@ class ShopRepositoryTest {
         assertThat(notDeleted).isPresent();
         assertThat(notDeleted.get().getName()).isEqualTo(shop.getName());
     }
+
+    private Shop shop(String name, String description) {
+        return Shop.builder()
+                .ownerId(owner.getId())
+                .name(name)
+                .registrationNumber("123-45-6789")
+                .province("서울특별시")
+                .city("종로구")
+                .district("낙원동")
+                .address("종로 1길 23")
+                .phoneNumber("02-1234-1234")
+                .description(description)
+                .operatingHour("10:00 - 22:00")
+                .createdBy(owner.getId())
+                .updatedBy(owner.getId())
+                .build();
+    }
 }
@@ -0,0 +1,184 @@
+package com.delivery.justonebite.shop.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 가게 검색 : 기존 LIKE UNION 검색(순차 스캔) vs trigram GIN 인덱스 검색(ShopRepository.searchByKeyword)의 지연 시간 비교
+ * <p>
+ * bench.shops 건의 가게(가게명 = 지역 + 메뉴 + 번호, 설명 = 메뉴 문구)와 카테고리를 채운 뒤
+ * 검색어별로 목록(20건) + 전체 건수 조회를 bench.repeats 번씩 측정한다.
+ * 실행 : ./gradlew benchmark --tests "*ShopSearchBenchmark" -Dbench.shops=1000000
+ */
+@Tag("benchmark")
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ShopSearchBenchmark {
+
+    private static final int SHOPS = Integer.getInteger("bench.shops", 1_000_000);
+    private static final int REPEATS = Integer.getInteger("bench.repeats", 50);
+    private static final int PAGE_SIZE = 20;
+
+    // 흔한 검색어 / 드문 검색어(가게 번호) / 카테고리명
+    private static final List<String> KEYWORDS = List.of("불고기", "마라탕", "수제버거", "가게 12345", "족발보쌈");
+
+    private static final String LEGACY_LIST = """
+        SELECT * FROM (
+            SELECT * FROM bench_shop WHERE LOWER(name) LIKE LOWER(CONCAT('%', ?, '%'))
+            UNION
+            SELECT * FROM bench_shop WHERE LOWER(description) LIKE LOWER(CONCAT('%', ?, '%'))
+        ) AS shop_union
+        ORDER BY shop_union.created_at DESC
+        LIMIT ?
+        """;
+    private static final String LEGACY_COUNT = """
+        SELECT COUNT(*) FROM (
+            SELECT shop_id FROM bench_shop WHERE LOWER(name) LIKE LOWER(CONCAT('%', ?, '%'))
+            UNION
+            SELECT shop_id FROM bench_shop WHERE LOWER(description) LIKE LOWER(CONCAT('%', ?, '%'))
+        ) AS count_query
+        """;
+
+    // ShopRepository.searchByPattern 과 같은 형태
+    private static final String MATCHED = """
+        SELECT shop_id, false AS category_hit FROM bench_shop
+         WHERE lower(name) LIKE ? OR lower(description) LIKE ?
+        UNION ALL
+        SELECT sc.shop_id, true FROM bench_category c
+          JOIN bench_shop_category sc ON sc.category_id = c.category_id
+         WHERE lower(c.category_name) LIKE ?
+        """;
+    private static final String TRIGRAM_LIST = "WITH matched AS (" + MATCHED + """
+        ), hits AS (
+            SELECT shop_id, bool_or(category_hit) AS category_hit FROM matched GROUP BY shop_id
+        )
+        SELECT s.* FROM bench_shop s JOIN hits h ON h.shop_id = s.shop_id
+         ORDER BY (CASE WHEN lower(s.name) = ? THEN 4 WHEN lower(s.name) LIKE ? THEN 3
+                        WHEN lower(s.name) LIKE ? THEN 2 ELSE 0 END
+                 + CASE WHEN h.category_hit THEN 2 ELSE 0 END
+                 + CASE WHEN lower(s.description) LIKE ? THEN 1 ELSE 0 END) DESC,
+                  s.created_at DESC, s.shop_id DESC
+         LIMIT ?
+        """;
+    private static final String TRIGRAM_COUNT = "SELECT COUNT(DISTINCT shop_id) FROM (" + MATCHED + ") AS matched";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("LIKE UNION 순차 스캔 vs trigram GIN 인덱스 가게 검색")
+    void search() {
+        createTables();
+        seed();
+
+        // 인덱스 생성 전 : 기존 검색 (가게명 / 설명 각각 순차 스캔, 건수 조회에서 한 번 더 스캔)
+        for (String keyword : KEYWORDS) {
+            print(keyword, "LIKE UNION", measure(() -> legacy(keyword)));
+        }
+
+        createIndexes();
+        for (String keyword : KEYWORDS) {
+            print(keyword, "trigram GIN", measure(() -> trigram(keyword)));
+        }
+
+        // 선택도가 높은(드문) 검색어는 가게명 / 설명 trigram 인덱스의 BitmapOr 로 조회
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "EXPLAIN SELECT shop_id FROM bench_shop WHERE lower(name) LIKE '%가게 12345%' OR lower(description) LIKE '%가게 12345%'",
+            String.class));
+        assertThat(plan).contains("bench_shop_name_trgm").contains("bench_shop_description_trgm");
+    }
+
+    private void createTables() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_shop_category");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_category");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_shop");
+
+        jdbcTemplate.execute("CREATE TEMP TABLE bench_shop (shop_id uuid PRIMARY KEY, name varchar(50) NOT NULL,"
+            + " description text, created_at timestamp NOT NULL)");
+        jdbcTemplate.execute("CREATE TEMP TABLE bench_category (category_id uuid PRIMARY KEY, category_name varchar(50) NOT NULL)");
+        jdbcTemplate.execute("CREATE TEMP TABLE bench_shop_category (shop_id uuid NOT NULL, category_id uuid NOT NULL,"
+            + " PRIMARY KEY (shop_id, category_id))");
+    }
+
+    // 서버에서 generate_series 로 생성 (메뉴 20종, 지역 10종, 가게당 카테고리 1개)
+    private void seed() {
+        jdbcTemplate.execute("""
+            INSERT INTO bench_category (category_id, category_name)
+            SELECT gen_random_uuid(), c
+              FROM unnest(ARRAY['한식','중식','일식','양식','분식','치킨','피자','족발보쌈','카페디저트','야식']) c
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO bench_shop (shop_id, name, description, created_at)
+            SELECT lpad(to_hex(g), 32, '0')::uuid,
+                   (ARRAY['강남','홍대','잠실','신촌','종로','건대','성수','판교','분당','일산'])[g % 10 + 1]
+                       || ' ' || m.menu || ' 가게 ' || g,
+                   '정성으로 만든 ' || m.menu || ' 전문점, 매일 아침 재료를 손질합니다',
+                   now() - g * interval '1 second'
+              FROM generate_series(1, ?) g
+             CROSS JOIN LATERAL (SELECT (ARRAY['불고기','김치찌개','짜장면','짬뽕','초밥','돈가스','파스타','스테이크',
+                   '떡볶이','김밥','후라이드','양념치킨','페퍼로니','족발','보쌈','아메리카노','마라탕','쌀국수',
+                   '수제버거','샐러드'])[g % 20 + 1] AS menu) m
+            """, SHOPS);
+        jdbcTemplate.execute("""
+            INSERT INTO bench_shop_category (shop_id, category_id)
+            SELECT s.shop_id, c.category_id
+              FROM bench_shop s
+              JOIN (SELECT category_id, row_number() OVER (ORDER BY category_name) - 1 AS n FROM bench_category) c
+                ON c.n = ('x' || right(s.shop_id::text, 8))::bit(32)::int % 10
+            """);
+        jdbcTemplate.execute("ANALYZE bench_shop");
+        jdbcTemplate.execute("ANALYZE bench_category");
+        jdbcTemplate.execute("ANALYZE bench_shop_category");
+    }
+
+    // db/patch/007_shop_search.sql 과 같은 인덱스
+    private void createIndexes() {
+        jdbcTemplate.execute("CREATE INDEX bench_shop_name_trgm ON bench_shop USING gin (lower(name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX bench_shop_description_trgm ON bench_shop USING gin (lower(description) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON bench_category USING gin (lower(category_name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON bench_shop_category (category_id, shop_id)");
+        jdbcTemplate.execute("ANALYZE bench_shop");
+        jdbcTemplate.execute("ANALYZE bench_category");
+        jdbcTemplate.execute("ANALYZE bench_shop_category");
+    }
+
+    private void legacy(String keyword) {
+        jdbcTemplate.queryForList(LEGACY_LIST, keyword, keyword, PAGE_SIZE);
+        jdbcTemplate.queryForObject(LEGACY_COUNT, Long.class, keyword, keyword);
+    }
+
+    private void trigram(String keyword) {
+        String pattern = "%" + keyword + "%";
+        jdbcTemplate.queryForList(TRIGRAM_LIST, pattern, pattern, pattern,
+            keyword, keyword + "%", pattern, pattern, PAGE_SIZE);
+        jdbcTemplate.queryForObject(TRIGRAM_COUNT, Long.class, pattern, pattern, pattern);
+    }
+
+    private long[] measure(Runnable search) {
+        search.run();
+        long[] elapsed = new long[REPEATS];
+        for (int i = 0; i < REPEATS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private void print(String keyword, String label, long[] elapsed) {
+        System.out.printf("[ShopSearchBenchmark] shops=%d, q=%-10s %-12s p50=%.1fms p99=%.1fms%n",
+            SHOPS, keyword, label,
+            elapsed[elapsed.length / 2] / 1_000_000.0, elapsed[(int) (elapsed.length * 0.99)] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.delivery.justonebite.shop.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 목록 조회 : Page(목록 + COUNT) vs Slice(목록 size + 1 건) DB 시간 비교
+ * <p>
+ * bench.shops 건의 가게를 채운 뒤 가게 검색(ShopRepository.searchByPattern / searchSliceByPattern 과 같은 형태)과
+ * 전체 가게 목록(최신 등록 순)을 각각 bench.repeats 번씩 측정하여, slice 모드에서 생략되는 COUNT 쿼리 시간을 확인한다.
+ * 실행 : ./gradlew benchmark --tests "*ShopSliceBenchmark" -Dbench.shops=1000000
+ */
+@Tag("benchmark")
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ShopSliceBenchmark {
+
+    private static final int SHOPS = Integer.getInteger("bench.shops", 1_000_000);
+    private static final int REPEATS = Integer.getInteger("bench.repeats", 50);
+    private static final int PAGE_SIZE = 20;
+
+    // 흔한 검색어 / 드문 검색어(가게 번호)
+    private static final List<String> KEYWORDS = List.of("불고기", "마라탕", "가게 12345");
+
+    private static final String MATCHED = """
+        SELECT shop_id FROM bench_shop
+         WHERE lower(name) LIKE ? OR lower(description) LIKE ?
+        """;
+    private static final String SEARCH_LIST = "WITH hits AS (SELECT DISTINCT shop_id FROM (" + MATCHED + ") m)" + """
+        SELECT s.* FROM bench_shop s JOIN hits h ON h.shop_id = s.shop_id
+         ORDER BY (CASE WHEN lower(s.name) LIKE ? THEN 2 ELSE 0 END
+                 + CASE WHEN lower(s.description) LIKE ? THEN 1 ELSE 0 END) DESC,
+                  s.created_at DESC, s.shop_id DESC
+         LIMIT ?
+        """;
+    private static final String SEARCH_COUNT = "SELECT COUNT(DISTINCT shop_id) FROM (" + MATCHED + ") AS matched";
+
+    private static final String LIST = "SELECT * FROM bench_shop ORDER BY created_at DESC LIMIT ?";
+    private static final String LIST_COUNT = "SELECT COUNT(*) FROM bench_shop";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Page(목록 + COUNT) vs Slice(size + 1 건) 가게 검색 / 전체 목록")
+    void pageVsSlice() {
+        createTable();
+        seed();
+
+        for (String keyword : KEYWORDS) {
+            String pattern = "%" + keyword + "%";
+            long[] page = measure(() -> {
+                jdbcTemplate.queryForList(SEARCH_LIST, pattern, pattern, pattern, pattern, PAGE_SIZE);
+                jdbcTemplate.queryForObject(SEARCH_COUNT, Long.class, pattern, pattern);
+            });
+            long[] slice = measure(() ->
+                jdbcTemplate.queryForList(SEARCH_LIST, pattern, pattern, pattern, pattern, PAGE_SIZE + 1));
+            print("search q=" + keyword, page, slice);
+        }
+
+        long[] page = measure(() -> {
+            jdbcTemplate.queryForList(LIST, PAGE_SIZE);
+            jdbcTemplate.queryForObject(LIST_COUNT, Long.class);
+        });
+        long[] slice = measure(() -> jdbcTemplate.queryForList(LIST, PAGE_SIZE + 1));
+        print("list", page, slice);
+
+        // 전체 목록의 COUNT 는 테이블 전체를 읽어야 하므로 slice 가 항상 빠르다
+        assertThat(p50(slice)).isLessThan(p50(page));
+    }
+
+    private void createTable() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_shop");
+        jdbcTemplate.execute("CREATE TEMP TABLE bench_shop (shop_id uuid PRIMARY KEY, name varchar(50) NOT NULL,"
+            + " description text, created_at timestamp NOT NULL)");
+    }
+
+    // db/patch/007_shop_search.sql 과 같은 trigram 인덱스 + 최신 등록 순 인덱스
+    private void seed() {
+        jdbcTemplate.update("""
+            INSERT INTO bench_shop (shop_id, name, description, created_at)
+            SELECT lpad(to_hex(g), 32, '0')::uuid,
+                   (ARRAY['강남','홍대','잠실','신촌','종로'])[g % 5 + 1] || ' ' || m.menu || ' 가게 ' || g,
+                   '정성으로 만든 ' || m.menu || ' 전문점',
+                   now() - g * interval '1 second'
+              FROM generate_series(1, ?) g
+             CROSS JOIN LATERAL (SELECT (ARRAY['불고기','김치찌개','짜장면','초밥','돈가스','떡볶이','후라이드',
+                   '족발','마라탕','수제버거'])[g % 10 + 1] AS menu) m
+            """, SHOPS);
+        jdbcTemplate.execute("CREATE INDEX ON bench_shop USING gin (lower(name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON bench_shop USING gin (lower(description) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON bench_shop (created_at DESC)");
+        jdbcTemplate.execute("ANALYZE bench_shop");
+    }
+
+    private long[] measure(Runnable query) {
+        query.run();
+        long[] elapsed = new long[REPEATS];
+        for (int i = 0; i < REPEATS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private double p50(long[] elapsed) {
+        return elapsed[elapsed.length / 2] / 1_000_000.0;
+    }
+
+    private void print(String label, long[] page, long[] slice) {
+        System.out.printf("[ShopSliceBenchmark] shops=%d, %-18s page p50=%.1fms, slice p50=%.1fms, saved=%.1fms%n",
+            SHOPS, label, p50(page), p50(slice), p50(page) - p50(slice));
+    }
+}
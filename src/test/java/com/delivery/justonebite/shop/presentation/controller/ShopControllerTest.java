@@ -0,0 +1,117 @@
+package com.delivery.justonebite.shop.presentation.controller;
+
+import com.delivery.justonebite.global.common.idempotency.IdempotencyStore;
+import com.delivery.justonebite.global.common.jwt.JwtUtil;
+import com.delivery.justonebite.global.config.redis.service.RedisService;
+import com.delivery.justonebite.global.config.security.UserDetailsImpl;
+import com.delivery.justonebite.global.config.security.UserDetailsServiceImpl;
+import com.delivery.justonebite.shop.application.cache.ShopDetailCache;
+import com.delivery.justonebite.shop.application.service.ShopQueryService;
+import com.delivery.justonebite.shop.application.service.ShopReviewService;
+import com.delivery.justonebite.shop.application.service.ShopService;
+import com.delivery.justonebite.shop.presentation.dto.response.ShopDetailResponse;
+import com.delivery.justonebite.user.domain.entity.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ShopController.class)
+@AutoConfigureMockMvc
+class ShopControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockitoBean
+    JwtUtil jwtUtil;
+
+    @MockitoBean
+    UserDetailsServiceImpl userDetailsService;
+
+    @MockitoBean
+    RedisService redisService;
+
+    @MockitoBean
+    IdempotencyStore idempotencyStore;
+
+    @MockitoBean
+    ShopService shopService;
+
+    @MockitoBean
+    ShopQueryService shopQueryService;
+
+    @MockitoBean
+    ShopReviewService shopReviewService;
+
+    @MockitoBean
+    JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    private final UUID SHOP_ID = UUID.randomUUID();
+    private final String ETAG = "\"1760000000000-1a2b3c\"";
+
+    private UsernamePasswordAuthenticationToken auth(UserRole userRole) {
+        UserDetailsImpl principal = Mockito.mock(UserDetailsImpl.class, Mockito.RETURNS_DEEP_STUBS);
+        given(principal.getUserId()).willReturn(1L);
+        given(principal.getUserRole()).willReturn(userRole);
+        given(principal.getUser().getUserRole()).willReturn(userRole);
+
+        String role = userRole.getRole();
+        if (!role.startsWith("ROLE_")) role = "ROLE_" + role;
+
+        return new UsernamePasswordAuthenticationToken(
+            principal, "N/A", List.of(new SimpleGrantedAuthority(role))
+        );
+    }
+
+    private void givenDetail() {
+        ShopDetailResponse detail = ShopDetailResponse.builder()
+            .shopId(SHOP_ID)
+            .name("치킨스토리")
+            .averageRating(BigDecimal.valueOf(4.6))
+            .categories(List.of("치킨"))
+            .build();
+        given(shopQueryService.getShopDetail(SHOP_ID)).willReturn(new ShopDetailCache.CachedDetail(ETAG, detail));
+    }
+
+    @Test
+    @DisplayName("GET /v1/shops/{id} - 200 OK + ETag 헤더")
+    void getShopDetail() throws Exception {
+        givenDetail();
+
+        mvc.perform(get("/v1/shops/{id}", SHOP_ID)
+                .with(authentication(auth(UserRole.CUSTOMER))))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(jsonPath("$.name").value("치킨스토리"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/shops/{id} - If-None-Match 가 ETag 와 같으면 본문 없이 304")
+    void getShopDetailNotModified() throws Exception {
+        givenDetail();
+
+        mvc.perform(get("/v1/shops/{id}", SHOP_ID)
+                .with(authentication(auth(UserRole.CUSTOMER)))
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+}